@@ -0,0 +1,23 @@
+package kr.sparta.livechat.archive;
+
+import java.time.LocalDateTime;
+
+import kr.sparta.livechat.domain.role.MessageType;
+
+/**
+ * 보관 세그먼트에 저장되는 메시지입니다.
+ * <p>
+ * 메시지 목록 조회에 필요한 값만 보관하며, 채팅방 식별자는 세그먼트 파일 단위로 구분됩니다.
+ * </p>
+ *
+ * @param id       메시지 식별자
+ * @param writerId 작성자 식별자
+ * @param type     메시지 유형
+ * @param content  메시지 내용
+ * @param sentAt   전송 시각
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public record ArchivedMessage(Long id, Long writerId, MessageType type, String content, LocalDateTime sentAt) {
+}
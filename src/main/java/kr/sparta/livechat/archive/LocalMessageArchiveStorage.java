@@ -0,0 +1,101 @@
+package kr.sparta.livechat.archive;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import kr.sparta.livechat.config.MessageArchiveProperties;
+
+/**
+ * 로컬 디스크에 메시지 보관 세그먼트를 저장하는 저장소입니다.
+ * <p>
+ * 단일 노드 또는 공유 볼륨 환경에서 사용합니다. 임시 파일에 쓴 뒤 원자적으로 이동하므로 읽는 쪽은 완성된 파일만 봅니다.
+ *
+ * 범위 읽기는 파일을 {@link FileChannel#map}으로 매핑한 영역의 slice 를 돌려주므로 힙으로 복사하지 않으며,
+ * 실제로 접근한 페이지만 디스크에서 읽습니다. 매핑은 최근 사용한 {@code MAPPED_FILES}개 파일만 유지하고,
+ * 제외된 매핑은 GC 시점에 해제됩니다. 같은 키를 다시 쓰면 해당 매핑을 버립니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Component
+@ConditionalOnProperty(prefix = "chatroom.archive", name = "storage", havingValue = "local", matchIfMissing = true)
+public class LocalMessageArchiveStorage implements MessageArchiveStorage {
+
+	private static final int MAPPED_FILES = 256;
+
+	private final Path directory;
+	private final Map<String, MappedByteBuffer> mapped = Collections.synchronizedMap(
+		new LinkedHashMap<>(MAPPED_FILES, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<String, MappedByteBuffer> eldest) {
+				return size() > MAPPED_FILES;
+			}
+		});
+
+	public LocalMessageArchiveStorage(MessageArchiveProperties properties) {
+		this.directory = Paths.get(properties.getDir());
+	}
+
+	@Override
+	public void write(String key, byte[] data) {
+		Path target = directory.resolve(key);
+		Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+		try {
+			Files.createDirectories(target.getParent());
+			Files.write(temp, data);
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			throw new UncheckedIOException("메시지 보관 파일 저장 실패: " + target, e);
+		}
+		mapped.remove(key);
+	}
+
+	@Override
+	public byte[] read(String key) {
+		try {
+			return Files.readAllBytes(directory.resolve(key));
+		} catch (IOException e) {
+			throw new UncheckedIOException("메시지 보관 파일 읽기 실패: " + key, e);
+		}
+	}
+
+	@Override
+	public ByteBuffer read(String key, long offset, int length) {
+		MappedByteBuffer buffer = mapped.get(key);
+		if (buffer == null) {
+			buffer = map(key);
+			mapped.put(key, buffer);
+		}
+		if (offset + length > buffer.capacity()) {
+			throw new UncheckedIOException(new IOException("메시지 보관 파일 범위를 벗어났습니다: " + key));
+		}
+		return buffer.slice((int)offset, length).asReadOnlyBuffer();
+	}
+
+	private MappedByteBuffer map(String key) {
+		try (FileChannel channel = FileChannel.open(directory.resolve(key), StandardOpenOption.READ)) {
+			if (channel.size() > Integer.MAX_VALUE) {
+				throw new IOException("매핑할 수 없는 크기의 파일입니다: " + channel.size());
+			}
+			return channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+		} catch (IOException e) {
+			throw new UncheckedIOException("메시지 보관 파일 읽기 실패: " + key, e);
+		}
+	}
+}
@@ -0,0 +1,32 @@
+package kr.sparta.livechat.archive;
+
+import java.nio.ByteBuffer;
+
+/**
+ * 메시지 보관 세그먼트를 저장하는 저장소입니다.
+ * <p>
+ * 키는 {@link MessageSegment#dataKey(Long)}, {@link MessageSegment#indexKey(Long)}로 정해지며,
+ * 같은 키로 다시 쓰면 기존 파일을 교체합니다. 보관 작업이 DB 반영 전에 중단되어 다시 실행되어도 같은 결과가 됩니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public interface MessageArchiveStorage {
+
+	void write(String key, byte[] data);
+
+	byte[] read(String key);
+
+	/**
+	 * 파일의 일부 범위만 읽습니다.
+	 * 반환된 버퍼는 읽기 전용이며, 구현에 따라 파일을 memory-mapped 한 영역을 복사 없이 가리킬 수 있습니다.
+	 *
+	 * @param key    저장 키
+	 * @param offset 시작 위치
+	 * @param length 읽을 크기
+	 * @return 읽은 범위 (position 0, limit {@code length})
+	 */
+	ByteBuffer read(String key, long offset, int length);
+}
@@ -0,0 +1,290 @@
+package kr.sparta.livechat.archive;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+
+import kr.sparta.livechat.domain.role.MessageType;
+
+/**
+ * 채팅방별 메시지 보관 세그먼트의 파일 형식을 정의하는 클래스입니다.
+ * <p>
+ * 세그먼트 데이터 파일은 메시지 식별자 오름차순으로 {@code blockMessages}개씩 묶어 deflate 압축한 블록을 이어 붙인 append-only 파일이며,
+ * 별도의 인덱스 파일에 블록마다 첫/마지막 메시지 식별자, 파일 내 위치, 메시지 수를 기록합니다(sparse id index).
+ * 조회 시에는 인덱스로 필요한 블록만 찾아 해당 범위만 읽고 압축을 풉니다.
+ * 압축은 저장소가 돌려준 {@link ByteBuffer}(로컬 저장소는 memory-mapped 영역)에서 바로 풀며,
+ * 풀린 블록은 {@link BlockView}로 감싸 메시지마다 객체를 만들지 않고 필요한 메시지만 {@link ArchivedMessage}로 읽습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public final class MessageSegment {
+
+	private static final int INDEX_MAGIC = 0x4C434D41;
+	private static final int VERSION = 2;
+	private static final int FIXED_RECORD_BYTES = Long.BYTES * 3 + Integer.BYTES * 2 + Byte.BYTES;
+
+	private MessageSegment() {
+	}
+
+	public static String dataKey(Long roomId) {
+		return "rooms/" + (roomId % 1000) + "/" + roomId + ".seg";
+	}
+
+	public static String indexKey(Long roomId) {
+		return "rooms/" + (roomId % 1000) + "/" + roomId + ".idx";
+	}
+
+	/**
+	 * 압축된 블록의 압축을 풉니다. 압축된 데이터는 복사하지 않고 버퍼에서 바로 읽습니다.
+	 *
+	 * @param compressed 압축된 블록 (position 부터 limit 까지)
+	 * @param block      블록 위치 정보 (압축 전 크기 포함)
+	 * @return 블록 보기
+	 */
+	public static BlockView decodeBlock(ByteBuffer compressed, Block block) {
+		Inflater inflater = new Inflater();
+		try {
+			inflater.setInput(compressed);
+			byte[] raw = new byte[block.rawLength()];
+			int length = 0;
+			while (!inflater.finished()) {
+				if (length == raw.length) {
+					throw new IllegalStateException("보관 메시지 블록이 손상되었습니다.");
+				}
+				int inflated = inflater.inflate(raw, length, raw.length - length);
+				if (inflated == 0 && (inflater.needsInput() || inflater.needsDictionary())) {
+					throw new IllegalStateException("보관 메시지 블록이 손상되었습니다.");
+				}
+				length += inflated;
+			}
+			return new BlockView(ByteBuffer.wrap(raw, 0, length).slice());
+		} catch (DataFormatException e) {
+			throw new IllegalStateException("보관 메시지 블록 복원 실패", e);
+		} finally {
+			inflater.end();
+		}
+	}
+
+	static EncodedBlock encodeBlock(List<ArchivedMessage> messages) {
+		ByteArrayOutputStream raw = new ByteArrayOutputStream();
+		try (DataOutputStream out = new DataOutputStream(raw)) {
+			out.writeInt(messages.size());
+			for (ArchivedMessage message : messages) {
+				byte[] content = message.content().getBytes(StandardCharsets.UTF_8);
+				out.writeLong(message.id());
+				out.writeLong(message.writerId());
+				out.writeByte(message.type().ordinal());
+				out.writeInt(content.length);
+				out.write(content);
+				out.writeLong(message.sentAt().toEpochSecond(ZoneOffset.UTC));
+				out.writeInt(message.sentAt().getNano());
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("보관 메시지 블록 압축 실패", e);
+		}
+
+		byte[] input = raw.toByteArray();
+		Deflater deflater = new Deflater();
+		try {
+			deflater.setInput(input);
+			deflater.finish();
+			ByteArrayOutputStream compressed = new ByteArrayOutputStream(input.length / 2 + 64);
+			byte[] chunk = new byte[8192];
+			while (!deflater.finished()) {
+				compressed.write(chunk, 0, deflater.deflate(chunk));
+			}
+			return new EncodedBlock(compressed.toByteArray(), input.length);
+		} finally {
+			deflater.end();
+		}
+	}
+
+	record EncodedBlock(byte[] compressed, int rawLength) {
+	}
+
+	/**
+	 * 압축을 푼 블록을 메시지 단위로 읽는 보기입니다.
+	 * <p>
+	 * 생성 시 메시지 시작 위치만 계산하며, 식별자는 버퍼에서 바로 읽고 본문은 {@link #message(int)} 호출 시에만 문자열로 만듭니다.
+	 * </p>
+	 */
+	public static final class BlockView {
+		private final ByteBuffer buffer;
+		private final int[] offsets;
+
+		private BlockView(ByteBuffer buffer) {
+			this.buffer = buffer;
+			int count = buffer.getInt(0);
+			this.offsets = new int[count];
+			int position = Integer.BYTES;
+			for (int i = 0; i < count; i++) {
+				offsets[i] = position;
+				int contentLength = buffer.getInt(position + Long.BYTES * 2 + Byte.BYTES);
+				position += FIXED_RECORD_BYTES + contentLength;
+			}
+		}
+
+		public int size() {
+			return offsets.length;
+		}
+
+		public long id(int index) {
+			return buffer.getLong(offsets[index]);
+		}
+
+		public ArchivedMessage message(int index) {
+			int position = offsets[index];
+			long id = buffer.getLong(position);
+			long writerId = buffer.getLong(position + Long.BYTES);
+			MessageType type = MessageType.values()[buffer.get(position + Long.BYTES * 2)];
+			int contentOffset = position + Long.BYTES * 2 + Byte.BYTES + Integer.BYTES;
+			int contentLength = buffer.getInt(contentOffset - Integer.BYTES);
+			String content = new String(buffer.array(), buffer.arrayOffset() + contentOffset, contentLength,
+				StandardCharsets.UTF_8);
+			int timeOffset = contentOffset + contentLength;
+			LocalDateTime sentAt = LocalDateTime.ofEpochSecond(buffer.getLong(timeOffset),
+				buffer.getInt(timeOffset + Long.BYTES), ZoneOffset.UTC);
+			return new ArchivedMessage(id, writerId, type, content, sentAt);
+		}
+	}
+
+	/**
+	 * 세그먼트의 블록 위치 인덱스입니다. 블록은 메시지 식별자 오름차순입니다.
+	 *
+	 * @param blocks 블록 목록
+	 */
+	public record Index(List<Block> blocks) {
+
+		/**
+		 * {@code beforeId}보다 작은 메시지를 가진 마지막 블록의 위치를 찾습니다. 없으면 -1 입니다.
+		 */
+		public int lastBlockBefore(long beforeId) {
+			int low = 0;
+			int high = blocks.size() - 1;
+			int found = -1;
+			while (low <= high) {
+				int mid = (low + high) >>> 1;
+				if (blocks.get(mid).firstId() < beforeId) {
+					found = mid;
+					low = mid + 1;
+				} else {
+					high = mid - 1;
+				}
+			}
+			return found;
+		}
+
+		public long messageCount() {
+			return blocks.stream().mapToLong(Block::count).sum();
+		}
+
+		public byte[] toBytes() {
+			ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+			try (DataOutputStream out = new DataOutputStream(bytes)) {
+				out.writeInt(INDEX_MAGIC);
+				out.writeInt(VERSION);
+				out.writeInt(blocks.size());
+				for (Block block : blocks) {
+					out.writeLong(block.firstId());
+					out.writeLong(block.lastId());
+					out.writeLong(block.offset());
+					out.writeInt(block.length());
+					out.writeInt(block.count());
+					out.writeInt(block.rawLength());
+				}
+			} catch (IOException e) {
+				throw new UncheckedIOException("보관 세그먼트 인덱스 저장 실패", e);
+			}
+			return bytes.toByteArray();
+		}
+
+		public static Index from(byte[] bytes) {
+			try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+				int magic = in.readInt();
+				int version = in.readInt();
+				if (magic != INDEX_MAGIC || version != VERSION) {
+					throw new IllegalStateException("보관 세그먼트 인덱스 형식이 올바르지 않습니다.");
+				}
+				int size = in.readInt();
+				List<Block> blocks = new ArrayList<>(size);
+				for (int i = 0; i < size; i++) {
+					blocks.add(new Block(in.readLong(), in.readLong(), in.readLong(), in.readInt(), in.readInt(),
+						in.readInt()));
+				}
+				return new Index(List.copyOf(blocks));
+			} catch (IOException e) {
+				throw new UncheckedIOException("보관 세그먼트 인덱스 읽기 실패", e);
+			}
+		}
+	}
+
+	/**
+	 * 압축 블록 하나의 위치와 범위입니다.
+	 *
+	 * @param firstId   블록의 첫 메시지 식별자
+	 * @param lastId    블록의 마지막 메시지 식별자
+	 * @param offset    데이터 파일 내 시작 위치
+	 * @param length    압축된 블록 크기
+	 * @param count     블록의 메시지 수
+	 * @param rawLength 압축 전 블록 크기
+	 */
+	public record Block(long firstId, long lastId, long offset, int length, int count, int rawLength) {
+	}
+
+	/**
+	 * 메시지를 식별자 오름차순으로 받아 블록 단위로 압축하는 세그먼트 작성기입니다.
+	 */
+	public static final class Writer {
+		private final int blockMessages;
+		private final ByteArrayOutputStream data = new ByteArrayOutputStream();
+		private final List<Block> blocks = new ArrayList<>();
+		private final List<ArchivedMessage> pending = new ArrayList<>();
+
+		public Writer(int blockMessages) {
+			this.blockMessages = blockMessages;
+		}
+
+		public void add(ArchivedMessage message) {
+			pending.add(message);
+			if (pending.size() >= blockMessages) {
+				flushBlock();
+			}
+		}
+
+		public byte[] data() {
+			flushBlock();
+			return data.toByteArray();
+		}
+
+		public Index index() {
+			flushBlock();
+			return new Index(List.copyOf(blocks));
+		}
+
+		private void flushBlock() {
+			if (pending.isEmpty()) {
+				return;
+			}
+			EncodedBlock block = encodeBlock(pending);
+			blocks.add(new Block(pending.get(0).id(), pending.get(pending.size() - 1).id(), data.size(),
+				block.compressed().length, pending.size(), block.rawLength()));
+			data.writeBytes(block.compressed());
+			pending.clear();
+		}
+	}
+}
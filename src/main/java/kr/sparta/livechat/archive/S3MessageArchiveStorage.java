@@ -0,0 +1,61 @@
+package kr.sparta.livechat.archive;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import kr.sparta.livechat.config.MessageArchiveProperties;
+import lombok.RequiredArgsConstructor;
+import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.GetObjectRequest;
+import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+
+/**
+ * S3 호환 저장소에 메시지 보관 세그먼트를 저장하는 저장소입니다.
+ * <p>
+ * 여러 노드가 같은 보관 이력을 읽어야 하는 환경에서 사용하며, 블록 조회는 Range 요청으로 필요한 범위만 읽습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chatroom.archive", name = "storage", havingValue = "s3")
+public class S3MessageArchiveStorage implements MessageArchiveStorage {
+
+	private final S3Client s3Client;
+	private final MessageArchiveProperties properties;
+
+	@Override
+	public void write(String key, byte[] data) {
+		s3Client.putObject(PutObjectRequest.builder()
+				.bucket(properties.getBucket())
+				.key(properties.getPrefix() + key)
+				.contentType("application/octet-stream")
+				.build(),
+			RequestBody.fromBytes(data));
+	}
+
+	@Override
+	public byte[] read(String key) {
+		return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+				.bucket(properties.getBucket())
+				.key(properties.getPrefix() + key)
+				.build())
+			.asByteArray();
+	}
+
+	@Override
+	public ByteBuffer read(String key, long offset, int length) {
+		return s3Client.getObjectAsBytes(GetObjectRequest.builder()
+				.bucket(properties.getBucket())
+				.key(properties.getPrefix() + key)
+				.range("bytes=" + offset + "-" + (offset + length - 1))
+				.build())
+			.asByteBuffer();
+	}
+}
@@ -0,0 +1,27 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 실시간 모니터링(SSE) 설정 값을 관리하는 클래스입니다.
+ * yml 파일에서 admin.monitor 로 정의된 속성을 주입 받아 사용합니다.
+ * <p>
+ * {@code replayBufferSize}: 새 구독자에게 재전송하기 위해 보관하는 최근 이벤트 수
+ * {@code emitterTimeoutMs}: SSE 연결 유지 시간
+ * {@code heartbeatIntervalMs}: 연결 유지를 위한 heartbeat 전송 주기
+ * </p>
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = "admin.monitor")
+@Getter
+@RequiredArgsConstructor
+public class AdminMonitorProperties {
+	private final int replayBufferSize;
+	private final long emitterTimeoutMs;
+	private final long heartbeatIntervalMs;
+}
@@ -0,0 +1,30 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상담 지표 집계 설정 값을 관리하는 클래스입니다.
+ * yml 파일에서 chatroom.analytics 로 정의된 속성을 주입 받아 사용합니다.
+ * <p>
+ * {@code windowDays}: 지표 계산에 포함하는 최근 종료 채팅방의 기간(일)
+ * {@code maxSamples}: 판매자/상품 하나당 메모리에 보관하는 최근 종료 채팅방 수
+ * {@code snapshotIntervalMs}: 변경된 지표를 스냅샷 테이블에 저장하는 주기
+ * {@code warmupChunkSize}: 기동 시 요약 테이블에서 최근 기간을 읽어 올 때 한 번에 조회하는 행 수
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = "chatroom.analytics")
+@Getter
+@RequiredArgsConstructor
+public class ChatAnalyticsProperties {
+	private final int windowDays;
+	private final int maxSamples;
+	private final long snapshotIntervalMs;
+	private final int warmupChunkSize;
+}
@@ -0,0 +1,32 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 장기간 대화가 없는 채팅방 자동 종료 설정 값을 관리하는 클래스입니다.
+ * yml 파일에서 chatroom.auto-close 로 정의된 속성을 주입 받아 사용합니다.
+ * <p>
+ * {@code enabled}: 자동 종료 작업 실행 여부
+ * {@code idleMinutes}: 마지막 메시지 이후 이 시간(분)이 지난 OPEN 채팅방을 종료
+ * {@code intervalMs}: 자동 종료 작업 실행 주기
+ * {@code chunkSize}: UPDATE 한 번에 종료하는 최대 채팅방 수
+ * {@code leaseTtlMs}: 여러 노드 중 한 노드만 실행하기 위한 lease 유효 시간 (묶음마다 연장)
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = "chatroom.auto-close")
+@Getter
+@RequiredArgsConstructor
+public class ChatRoomAutoCloseProperties {
+	private final boolean enabled;
+	private final long idleMinutes;
+	private final long intervalMs;
+	private final int chunkSize;
+	private final long leaseTtlMs;
+}
@@ -0,0 +1,28 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방 통계 보정 설정 값을 관리하는 클래스입니다.
+ * yml 파일에서 chatroom.stats 로 정의된 속성을 주입 받아 사용합니다.
+ * <p>
+ * {@code reconcileCron}: 통계 보정 작업 실행 주기 (cron)
+ * {@code chunkSize}: 한 트랜잭션에서 보정하는 최대 채팅방 수
+ * {@code leaseTtlMs}: 여러 노드 중 한 노드만 실행하기 위한 lease 유효 시간 (묶음마다 연장)
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = "chatroom.stats")
+@Getter
+@RequiredArgsConstructor
+public class ChatRoomStatsProperties {
+	private final String reconcileCron;
+	private final int chunkSize;
+	private final long leaseTtlMs;
+}
@@ -0,0 +1,34 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Redis Streams 메시지 저장소 설정 값을 관리하는 클래스입니다.
+ * yml 파일에서 chatroom.stream 으로 정의된 속성을 주입 받아 사용합니다.
+ * <p>
+ * {@code enabled}: 메시지를 Redis Stream 에 먼저 기록하고 DB 에는 비동기로 저장할지 여부
+ * {@code partitions}: 채팅방 식별자로 나누는 Stream 수 (Stream 안에서 채팅방별 순서 보장)
+ * {@code batchSize}: 한 번에 읽어 전송/저장하는 최대 항목 수
+ * {@code blockMs}: 새 항목이 없을 때 읽기 대기 시간
+ * {@code nodeName}: 저장 consumer group 에서 이 노드의 consumer 이름 (재기동 후 미확인 항목을 이어서 처리하도록 고정)
+ * {@code claimIdleMs}: 다른 consumer 의 미확인 항목을 가져와 저장하는 기준 시간이자, 회수와 Stream 정리를 수행하는 주기
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = "chatroom.stream")
+@Getter
+@RequiredArgsConstructor
+public class ChatStreamProperties {
+	private final boolean enabled;
+	private final int partitions;
+	private final int batchSize;
+	private final long blockMs;
+	private final String nodeName;
+	private final long claimIdleMs;
+}
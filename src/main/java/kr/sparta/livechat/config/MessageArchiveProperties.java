@@ -0,0 +1,42 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 종료된 채팅방 메시지 보관 설정 값을 관리하는 클래스입니다.
+ * yml 파일에서 chatroom.archive 로 정의된 속성을 주입 받아 사용합니다.
+ * <p>
+ * {@code enabled}: 보관 작업 실행 여부 (보관된 메시지는 메시지 테이블에서 삭제됨)
+ * {@code closedDays}: 종료 후 이 기간이 지난 채팅방의 메시지를 보관
+ * {@code storage}: 보관 저장소 (local: 로컬 디스크, s3: S3 호환 저장소, 여러 노드면 s3 사용)
+ * {@code dir}: local 저장소 디렉터리
+ * {@code bucket}: s3 저장소 버킷
+ * {@code prefix}: s3 저장소 키 접두어
+ * {@code blockMessages}: 압축 블록 하나에 담는 메시지 수 (인덱스 항목 간격)
+ * {@code chunkSize}: 한 번에 조회하는 보관 대상 채팅방 수
+ * {@code intervalMs}: 보관 작업 실행 주기
+ * {@code leaseTtlMs}: 보관 작업 lease 유지 시간
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = "chatroom.archive")
+@Getter
+@RequiredArgsConstructor
+public class MessageArchiveProperties {
+	private final boolean enabled;
+	private final int closedDays;
+	private final String storage;
+	private final String dir;
+	private final String bucket;
+	private final String prefix;
+	private final int blockMessages;
+	private final int chunkSize;
+	private final long intervalMs;
+	private final long leaseTtlMs;
+}
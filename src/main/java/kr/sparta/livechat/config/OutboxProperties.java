@@ -0,0 +1,30 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 이벤트 아웃박스 전송 설정 값을 관리하는 클래스입니다.
+ * yml 파일에서 chatroom.outbox 로 정의된 속성을 주입 받아 사용합니다.
+ * <p>
+ * {@code partitions}: 채팅방 식별자로 나누는 파티션 수 (파티션 내에서 순서 보장, 줄이기 전에는 아웃박스를 모두 비워야 함)
+ * {@code workers}: 노드마다 파티션을 나누어 전송하는 스레드 수
+ * {@code batchSize}: 파티션 잠금 한 번에 전송하는 최대 이벤트 수
+ * {@code pollIntervalMs}: 커밋 알림이 없을 때 파티션을 확인하는 주기 (다른 노드에서 기록된 이벤트 처리용)
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = "chatroom.outbox")
+@Getter
+@RequiredArgsConstructor
+public class OutboxProperties {
+	private final int partitions;
+	private final int workers;
+	private final int batchSize;
+	private final long pollIntervalMs;
+}
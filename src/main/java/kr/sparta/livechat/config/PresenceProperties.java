@@ -0,0 +1,31 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자 접속 상태(presence) 설정 값을 관리하는 클래스입니다.
+ * yml 파일에서 websocket.presence 로 정의된 속성을 주입 받아 사용합니다.
+ * <p>
+ * {@code gracePeriodMs}: 마지막 연결 종료 후 오프라인으로 확정하기까지 기다리는 시간
+ * {@code flushIntervalMs}: 접속 상태 변경을 모아 채팅방별로 전송하는 주기
+ * {@code redisEnabled}: 다중 노드 환경에서 Redis 로 접속 상태를 집계할지 여부
+ * {@code heartbeatIntervalMs}: Redis 에 접속 사용자 heartbeat 를 갱신하는 주기
+ * {@code heartbeatTtlMs}: heartbeat 가 갱신되지 않으면 오프라인으로 판단하는 시간
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = "websocket.presence")
+@Getter
+@RequiredArgsConstructor
+public class PresenceProperties {
+	private final long gracePeriodMs;
+	private final long flushIntervalMs;
+	private final boolean redisEnabled;
+	private final long heartbeatIntervalMs;
+	private final long heartbeatTtlMs;
+}
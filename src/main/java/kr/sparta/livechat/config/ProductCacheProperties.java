@@ -0,0 +1,36 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 조회 캐시 설정 값을 관리하는 클래스입니다.
+ * yml 파일에서 product.cache 로 정의된 속성을 주입 받아 사용합니다.
+ * <p>
+ * {@code enabled}: 상품 상세/목록 조회 결과를 캐시할지 여부
+ * {@code localTtlMs}: 노드 로컬 캐시 유지 시간 (다른 노드의 무효화 알림을 놓친 경우의 최대 지연)
+ * {@code localMaxEntries}: 노드 로컬 캐시 최대 항목 수 (LRU)
+ * {@code detailTtlMs}: Redis 에 저장한 상품 상세 유지 시간
+ * {@code listTtlMs}: Redis 에 저장한 상품 목록 페이지 유지 시간
+ * {@code listPages}: 캐시하는 목록 앞쪽 페이지 수
+ * {@code listMaxSize}: 캐시하는 목록 페이지 크기의 최대값
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = "product.cache")
+@Getter
+@RequiredArgsConstructor
+public class ProductCacheProperties {
+	private final boolean enabled;
+	private final long localTtlMs;
+	private final int localMaxEntries;
+	private final long detailTtlMs;
+	private final long listTtlMs;
+	private final int listPages;
+	private final int listMaxSize;
+}
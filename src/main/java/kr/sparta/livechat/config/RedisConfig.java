@@ -1,11 +1,15 @@
 package kr.sparta.livechat.config;
 
+import java.util.concurrent.Executors;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 /**
@@ -56,4 +60,27 @@ public class RedisConfig {
 
 		return template;
 	}
+
+	/**
+	 * Redis Pub/Sub 메시지 수신을 위한 리스너 컨테이너를 생성합니다.
+	 * 리스너가 등록된 경우에만 구독 연결을 맺습니다.
+	 * 채팅방 이벤트가 발행 순서대로 구독자에게 전달되도록 수신한 메시지를 하나의 스레드에서 차례로 리스너에 전달합니다.
+	 * 리스너는 오래 걸리는 작업을 별도 스레드로 넘겨야 합니다.
+	 * @param connectionFactory Redis 연결 정보
+	 * @return Redis 메시지 리스너 컨테이너
+	 */
+	@Bean
+	public RedisMessageListenerContainer redisMessageListenerContainer(
+		RedisConnectionFactory connectionFactory
+	) {
+		RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+		container.setConnectionFactory(connectionFactory);
+		container.setSubscriptionExecutor(new SimpleAsyncTaskExecutor("redis-pubsub-subscription-"));
+		container.setTaskExecutor(Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "redis-pubsub-dispatcher");
+			thread.setDaemon(true);
+			return thread;
+		}));
+		return container;
+	}
 }
@@ -0,0 +1,50 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.task.ThreadPoolTaskSchedulerBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+
+/**
+ * 스케줄링 설정 클래스입니다.
+ * <p>
+ * 접속 상태 전송, heartbeat 갱신 등 주기 작업을 위해 {@code @EnableScheduling}을 활성화합니다.
+ *
+ * 수 초 이하 주기로 실행되는 짧은 작업(입력 중/접속 상태 전송, heartbeat, 채팅방 상태 캐시 정리)은 기본 스케줄러
+ * ({@code spring.task.scheduling.pool.size})에서 실행하고, 메시지 보관, 자동 종료, 통계 보정, 지표 스냅샷처럼
+ * 수 분까지 걸릴 수 있는 배치 작업은 {@link #BATCH_SCHEDULER} 스케줄러를 지정하여 별도 스레드에서 실행합니다.
+ * 배치 작업이 길어져도 짧은 작업의 실행이 밀리지 않습니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+
+	public static final String BATCH_SCHEDULER = "batchTaskScheduler";
+
+	private static final int BATCH_POOL_SIZE = 4;
+
+	/**
+	 * 짧은 주기 작업용 기본 스케줄러입니다. 배치 스케줄러 빈이 있어도 기본 스케줄러로 사용되도록 이름을 지정합니다.
+	 */
+	@Bean(name = "taskScheduler")
+	public ThreadPoolTaskScheduler taskScheduler(ThreadPoolTaskSchedulerBuilder builder) {
+		return builder.build();
+	}
+
+	/**
+	 * 배치 작업용 스케줄러입니다. 배치 작업마다 스레드가 하나씩 돌아가도록 작업 수만큼 스레드를 둡니다.
+	 */
+	@Bean(name = BATCH_SCHEDULER)
+	public ThreadPoolTaskScheduler batchTaskScheduler() {
+		ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
+		scheduler.setPoolSize(BATCH_POOL_SIZE);
+		scheduler.setThreadNamePrefix("batch-scheduling-");
+		return scheduler;
+	}
+}
@@ -0,0 +1,36 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 메시지 검색 색인 설정 값을 관리하는 클래스입니다.
+ * yml 파일에서 chatroom.search 로 정의된 속성을 주입 받아 사용합니다.
+ * <p>
+ * {@code indexDir}: 세그먼트 파일을 저장하는 로컬 디렉터리 (노드마다 별도 색인)
+ * {@code flushDocs}: 메모리 버퍼를 세그먼트로 저장하는 메시지 수
+ * {@code flushIntervalMs}: 버퍼가 차지 않아도 세그먼트로 저장하는 주기 (검색 반영 지연의 상한)
+ * {@code maxSegments}: 병합 없이 유지하는 최대 세그먼트 수
+ * {@code mergeFactor}: 한 번에 병합하는 세그먼트 수 (작은 세그먼트부터)
+ * {@code queueCapacity}: 색인 대기 메시지 수 상한 (초과분은 DB 에서 다시 읽어 색인)
+ * {@code batchSize}: 색인할 메시지를 한 번에 조회하는 수
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = "chatroom.search")
+@Getter
+@RequiredArgsConstructor
+public class SearchProperties {
+	private final String indexDir;
+	private final int flushDocs;
+	private final long flushIntervalMs;
+	private final int maxSegments;
+	private final int mergeFactor;
+	private final int queueCapacity;
+	private final int batchSize;
+}
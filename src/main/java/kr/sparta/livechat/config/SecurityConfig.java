@@ -11,6 +11,7 @@ import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import org.springframework.web.servlet.HandlerExceptionResolver;
 
+import jakarta.servlet.DispatcherType;
 import kr.sparta.livechat.security.JwtAuthenticationFilter;
 import kr.sparta.livechat.security.JwtExceptionFilter;
 
@@ -52,6 +53,8 @@ public class SecurityConfig {
 				session.sessionCreationPolicy(SessionCreationPolicy.STATELESS)
 			)
 			.authorizeHttpRequests(auth -> auth
+				// SSE 스트림의 비동기 디스패치는 최초 요청에서 이미 인가되었으므로 다시 검사하지 않습니다.
+				.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
 				.requestMatchers("/api/auth/register", "/api/auth/login").permitAll()
 				.requestMatchers(
 					HttpMethod.GET, "/api/products", "/api/products/*", "/api/products/**").permitAll()
@@ -0,0 +1,25 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 입력중 표시(typing) 이벤트 설정 값을 관리하는 클래스입니다.
+ * yml 파일에서 websocket.typing 으로 정의된 속성을 주입 받아 사용합니다.
+ * <p>
+ * {@code intervalMs}: 사용자/채팅방 단위로 입력중 이벤트를 전송하는 최소 간격
+ * {@code flushIntervalMs}: 간격 안에 들어온 마지막 이벤트(trailing)를 확인하여 전송하는 주기
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = "websocket.typing")
+@Getter
+@RequiredArgsConstructor
+public class TypingProperties {
+	private final long intervalMs;
+	private final long flushIntervalMs;
+}
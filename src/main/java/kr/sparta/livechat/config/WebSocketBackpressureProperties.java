@@ -0,0 +1,31 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import kr.sparta.livechat.socket.SlowConsumerPolicy;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 세션별 outbound 전송 지연(느린 소비자) 대응 설정 값을 관리하는 클래스입니다.
+ * yml 파일에서 websocket.backpressure 로 정의된 속성을 주입 받아 사용합니다.
+ * <p>
+ * {@code highWatermark}: 세션이 지연 상태로 판단되는 미전송 프레임 수
+ * {@code lowWatermark}: 지연 상태에서 정상 상태로 복구되는 미전송 프레임 수
+ * {@code policy}: 지연 상태 세션에 적용할 정책 {@link SlowConsumerPolicy}
+ * {@code sendTimeLimitMs}, {@code sendBufferSizeLimit}: Spring 세션 버퍼의 최종 한계값
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = "websocket.backpressure")
+@Getter
+@RequiredArgsConstructor
+public class WebSocketBackpressureProperties {
+	private final int highWatermark;
+	private final int lowWatermark;
+	private final SlowConsumerPolicy policy;
+	private final int sendTimeLimitMs;
+	private final int sendBufferSizeLimit;
+}
@@ -1,7 +1,11 @@
 package kr.sparta.livechat.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import kr.sparta.livechat.global.exception.GlobalStompErrorHandler;
+import kr.sparta.livechat.socket.CompressionHandshakeHandler;
+import kr.sparta.livechat.socket.OutboundBackpressureMonitor;
 import kr.sparta.livechat.socket.StompChannelInterceptor;
+import kr.sparta.livechat.socket.StompFrameMetricsInterceptor;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.messaging.simp.config.ChannelRegistration;
@@ -13,6 +17,9 @@ import org.springframework.web.socket.config.annotation.*;
  * 클라이언트가 WebSocke 연결을 시도하는 엔드포인트를 등록합니다. (/ws/chat)
  * /pub: 클라이언트 -> 서버로 보내는 목적지 prefix
  * /sub: 서버 -> 클라이언트로 보내는 목적지 prefix
+ * 핸드셰이크 시 permessage-deflate 협상 여부를 설정으로 제어하고,
+ * inbound/outbound 채널의 프레임 크기와 압축률을 측정합니다.
+ * 세션별 outbound 미전송 프레임을 추적하여 느린 소비자에게 정책을 적용합니다.
  *
  * @author 오정빈
  * @since 2025. 12. 17.
@@ -24,10 +31,16 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 	private final StompChannelInterceptor stompCannelInterceptor;
 	private final GlobalStompErrorHandler globalStompErrorHandler;
+	private final CompressionHandshakeHandler compressionHandshakeHandler;
+	private final WebSocketTransportProperties transportProperties;
+	private final WebSocketBackpressureProperties backpressureProperties;
+	private final OutboundBackpressureMonitor outboundBackpressureMonitor;
+	private final MeterRegistry meterRegistry;
 
 	@Override
 	public void registerStompEndpoints(StompEndpointRegistry registry) {
 		registry.addEndpoint("/ws/chat")
+			.setHandshakeHandler(compressionHandshakeHandler)
 			.setAllowedOriginPatterns("*")
 			.withSockJS();
 		registry.setErrorHandler(globalStompErrorHandler);
@@ -41,7 +54,27 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
 		@Override
 		public void configureClientInboundChannel(ChannelRegistration registration) {
-			registration.interceptors(stompCannelInterceptor);
+			registration.interceptors(
+				stompCannelInterceptor,
+				new StompFrameMetricsInterceptor(
+					StompFrameMetricsInterceptor.INBOUND, meterRegistry, transportProperties)
+			);
+		}
+
+		@Override
+		public void configureClientOutboundChannel(ChannelRegistration registration) {
+			registration.interceptors(
+				outboundBackpressureMonitor,
+				new StompFrameMetricsInterceptor(
+					StompFrameMetricsInterceptor.OUTBOUND, meterRegistry, transportProperties)
+			);
+		}
+
+		@Override
+		public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+			registration.setSendTimeLimit(backpressureProperties.getSendTimeLimitMs())
+				.setSendBufferSizeLimit(backpressureProperties.getSendBufferSizeLimit())
+				.addDecoratorFactory(outboundBackpressureMonitor::decorate);
 		}
 
 	}
@@ -0,0 +1,27 @@
+package kr.sparta.livechat.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * WebSocket 전송 계층 설정 값을 관리하는 클래스입니다.
+ * yml 파일에서 websocket.transport 로 정의된 속성을 주입 받아 사용합니다.
+ * <p>
+ * {@code compressionEnabled}: permessage-deflate 확장 협상 허용 여부
+ * {@code compressionMinSize}: 압축 대상이 되는 최소 프레임 크기(byte)
+ * {@code compressionSampleRate}: 압축률 측정을 위해 샘플링할 프레임 비율(0.0 ~ 1.0)
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ConfigurationProperties(prefix = "websocket.transport")
+@Getter
+@RequiredArgsConstructor
+public class WebSocketTransportProperties {
+	private final boolean compressionEnabled;
+	private final int compressionMinSize;
+	private final double compressionSampleRate;
+}
@@ -0,0 +1,94 @@
+package kr.sparta.livechat.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import kr.sparta.livechat.domain.role.AnalyticsDimension;
+import kr.sparta.livechat.dto.admin.AdminAnalyticsListResponse;
+import kr.sparta.livechat.dto.admin.AdminAnalyticsResponse;
+import kr.sparta.livechat.service.AdminAnalyticsService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 전용 상담 지표 컨트롤러
+ * 판매자/상품 단위 상담 지표와 종료 채팅방 수 기준 순위를 조회합니다.
+ * 모든 요청은 관리자 권한이 필요합니다.
+ * AdminAnalyticsController.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@RestController
+@RequestMapping("/api/admin/analytics")
+@RequiredArgsConstructor
+public class AdminAnalyticsController {
+	private final AdminAnalyticsService adminAnalyticsService;
+
+	/**
+	 * 판매자 상담 지표 순위 조회
+	 *
+	 * @param limit 반환할 최대 개수 (기본 20)
+	 * @return 상담 지표 순위 응답 엔티티
+	 */
+	@GetMapping("/sellers")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<AdminAnalyticsListResponse> getTopSellers(
+		@RequestParam(defaultValue = "20") int limit) {
+
+		AdminAnalyticsListResponse response = adminAnalyticsService.getTop(AnalyticsDimension.SELLER, limit);
+
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
+	/**
+	 * 판매자 상담 지표 조회
+	 *
+	 * @param sellerId 조회할 판매자 ID
+	 * @return 상담 지표 응답 엔티티
+	 */
+	@GetMapping("/sellers/{sellerId}")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<AdminAnalyticsResponse> getSellerMetrics(@PathVariable Long sellerId) {
+
+		AdminAnalyticsResponse response = adminAnalyticsService.getMetrics(AnalyticsDimension.SELLER, sellerId);
+
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
+	/**
+	 * 상품 상담 지표 순위 조회
+	 *
+	 * @param limit 반환할 최대 개수 (기본 20)
+	 * @return 상담 지표 순위 응답 엔티티
+	 */
+	@GetMapping("/products")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<AdminAnalyticsListResponse> getTopProducts(
+		@RequestParam(defaultValue = "20") int limit) {
+
+		AdminAnalyticsListResponse response = adminAnalyticsService.getTop(AnalyticsDimension.PRODUCT, limit);
+
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
+	/**
+	 * 상품 상담 지표 조회
+	 *
+	 * @param productId 조회할 상품 ID
+	 * @return 상담 지표 응답 엔티티
+	 */
+	@GetMapping("/products/{productId}")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<AdminAnalyticsResponse> getProductMetrics(@PathVariable Long productId) {
+
+		AdminAnalyticsResponse response = adminAnalyticsService.getMetrics(AnalyticsDimension.PRODUCT, productId);
+
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+}
@@ -1,5 +1,11 @@
 package kr.sparta.livechat.controller;
 
+import java.util.List;
+import java.util.Locale;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -7,15 +13,20 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import kr.sparta.livechat.dto.admin.AdminChatDetailResponse;
+import kr.sparta.livechat.dto.admin.AdminChatMessageListResponse;
 import kr.sparta.livechat.dto.admin.AdminChatRoomListResponse;
 import kr.sparta.livechat.dto.admin.AdminChatStatusRequest;
 import kr.sparta.livechat.dto.admin.AdminChatStatusResponse;
+import kr.sparta.livechat.domain.role.TranscriptFormat;
 import kr.sparta.livechat.service.AdminChatService;
+import kr.sparta.livechat.service.AdminTranscriptExportService;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -32,6 +43,7 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class AdminChatController {
 	private final AdminChatService adminChatService;
+	private final AdminTranscriptExportService adminTranscriptExportService;
 
 	/**
 	 * 전체 채팅방 목록 조회
@@ -73,6 +85,27 @@ public class AdminChatController {
 		return ResponseEntity.status(HttpStatus.OK).body(response);
 	}
 
+	/**
+	 * 특정 채팅방의 메시지 송수신 내역을 커서 기반으로 조회한다.
+	 * 메시지 식별자 keyset 으로 조회하므로 깊이 스크롤해도 조회 비용이 일정하다.
+	 *
+	 * @param chatRoomId 조회할 채팅방의 고유 식별자
+	 * @param cursor 이전 응답의 nextCursor (없으면 최신 메시지부터)
+	 * @param size 조회할 메시지 개수 (최대 200)
+	 * @return 채팅방 상태와 최신순 메시지 목록, 다음 커서를 포함한 응답 엔티티
+	 */
+	@GetMapping("/chat-rooms/{chatRoomId}/messages")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<AdminChatMessageListResponse> getAdminChatMessages(
+		@PathVariable Long chatRoomId,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(defaultValue = "50") int size) {
+
+		AdminChatMessageListResponse response = adminChatService.getChatRoomMessages(chatRoomId, cursor, size);
+
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
 	/**
 	 * 관리자가 채팅방 상태를 CLOSED로 변환한다.
 	 * @param chatRoomId 상태를 변경할 채팅방 ID
@@ -89,4 +122,112 @@ public class AdminChatController {
 
 		return ResponseEntity.status(HttpStatus.OK).body(response);
 	}
+
+	/**
+	 * 특정 채팅방의 전체 대화 내역을 파일로 내려받는다.
+	 * 메시지를 묶음 단위로 읽어 바로 응답에 쓰므로 채팅방 크기와 무관하게 일정한 메모리로 동작한다.
+	 * 클라이언트가 gzip 을 받을 수 있으면(Accept-Encoding 의 gzip 또는 * 의 q 값이 0보다 크면) 압축해서 보낸다.
+	 *
+	 * @param chatRoomId 내보낼 채팅방 ID
+	 * @param format 내보내기 형식 (jsonl, csv)
+	 * @param acceptEncoding 클라이언트의 Accept-Encoding 헤더
+	 * @return 대화 내역을 스트리밍하는 응답 엔티티
+	 */
+	@GetMapping("/chat-rooms/{chatRoomId}/export")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<StreamingResponseBody> exportChatRoom(
+		@PathVariable Long chatRoomId,
+		@RequestParam(defaultValue = "jsonl") String format,
+		@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+
+		TranscriptFormat transcriptFormat = TranscriptFormat.from(format);
+		adminTranscriptExportService.validateRooms(List.of(chatRoomId));
+		boolean gzip = acceptsGzip(acceptEncoding);
+
+		StreamingResponseBody body = out -> {
+			if (!gzip) {
+				adminTranscriptExportService.writeTranscript(chatRoomId, transcriptFormat, out);
+				return;
+			}
+			GZIPOutputStream gzipOut = new GZIPOutputStream(out, true);
+			adminTranscriptExportService.writeTranscript(chatRoomId, transcriptFormat, gzipOut);
+			gzipOut.finish();
+		};
+
+		ResponseEntity.BodyBuilder response = ResponseEntity.status(HttpStatus.OK)
+			.header(HttpHeaders.CONTENT_TYPE, transcriptFormat.getContentType() + ";charset=UTF-8")
+			.header(HttpHeaders.CONTENT_DISPOSITION, attachment(
+				"chat-room-" + chatRoomId + "." + transcriptFormat.getExtension()))
+			.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (gzip) {
+			response.header(HttpHeaders.CONTENT_ENCODING, "gzip");
+		}
+		return response.body(body);
+	}
+
+	/**
+	 * 여러 채팅방의 전체 대화 내역을 채팅방별 파일로 묶은 zip 으로 내려받는다.
+	 *
+	 * @param ids 내보낼 채팅방 ID 목록 (최대 1000개)
+	 * @param format 내보내기 형식 (jsonl, csv)
+	 * @return zip 을 스트리밍하는 응답 엔티티
+	 */
+	@GetMapping("/chat-rooms/export")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<StreamingResponseBody> exportChatRooms(
+		@RequestParam List<Long> ids,
+		@RequestParam(defaultValue = "jsonl") String format) {
+
+		TranscriptFormat transcriptFormat = TranscriptFormat.from(format);
+		List<Long> roomIds = adminTranscriptExportService.validateRooms(ids);
+
+		StreamingResponseBody body = out -> adminTranscriptExportService.writeZip(roomIds, transcriptFormat, out);
+
+		return ResponseEntity.status(HttpStatus.OK)
+			.header(HttpHeaders.CONTENT_TYPE, "application/zip")
+			.header(HttpHeaders.CONTENT_DISPOSITION, attachment("chat-rooms." + transcriptFormat.getExtension() + ".zip"))
+			.body(body);
+	}
+
+	/**
+	 * Accept-Encoding 헤더에서 gzip 의 q 값을 확인한다.
+	 * gzip 이 명시되어 있으면 그 q 값을, 없으면 * 의 q 값을 따르며 q=0 은 거부로 본다.
+	 */
+	private boolean acceptsGzip(String acceptEncoding) {
+		if (acceptEncoding == null) {
+			return false;
+		}
+		Double gzipQuality = null;
+		Double wildcardQuality = null;
+		for (String coding : acceptEncoding.split(",")) {
+			String[] parts = coding.split(";");
+			String name = parts[0].trim().toLowerCase(Locale.ROOT);
+			double quality = quality(parts);
+			if (name.equals("gzip") || name.equals("x-gzip")) {
+				gzipQuality = quality;
+			} else if (name.equals("*")) {
+				wildcardQuality = quality;
+			}
+		}
+		Double resolved = gzipQuality != null ? gzipQuality : wildcardQuality;
+		return resolved != null && resolved > 0;
+	}
+
+	private double quality(String[] parts) {
+		for (int i = 1; i < parts.length; i++) {
+			String parameter = parts[i].trim();
+			if (parameter.regionMatches(true, 0, "q=", 0, 2)) {
+				try {
+					return Double.parseDouble(parameter.substring(2).trim());
+				} catch (NumberFormatException e) {
+					return 0;
+				}
+			}
+		}
+		return 1;
+	}
+
+	private String attachment(String filename) {
+		return ContentDisposition.attachment().filename(filename).build().toString();
+	}
 }
@@ -0,0 +1,50 @@
+package kr.sparta.livechat.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import kr.sparta.livechat.service.AdminMonitorService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 전용 실시간 모니터링 컨트롤러
+ * 채팅방 개설/종료, 메시지 전송 이벤트를 SSE 스트림으로 제공하여 목록 polling 을 대체합니다.
+ * 모든 요청은 관리자 권한이 필요합니다.
+ * AdminMonitorController.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@RestController
+@RequestMapping("/api/admin/monitor")
+@RequiredArgsConstructor
+public class AdminMonitorController {
+	private final AdminMonitorService adminMonitorService;
+
+	/**
+	 * 실시간 채팅 활동 스트림 구독
+	 * 재연결 시 브라우저가 보내는 Last-Event-ID 헤더 이후의 이벤트부터 이어서 전달한다.
+	 *
+	 * @param status 채팅방 상태 필터 (OPEN, CLOSED)
+	 * @param productId 상품 ID 필터
+	 * @param replay 최초 구독 시 재전송할 최근 이벤트 개수 (기본 50)
+	 * @param lastEventId 마지막으로 수신한 이벤트 ID
+	 * @return SSE 스트림
+	 */
+	@GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	@PreAuthorize("hasRole('ADMIN')")
+	public SseEmitter stream(
+		@RequestParam(required = false) String status,
+		@RequestParam(required = false) Long productId,
+		@RequestParam(defaultValue = "50") int replay,
+		@RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId) {
+
+		return adminMonitorService.subscribe(status, productId, lastEventId, replay);
+	}
+}
@@ -0,0 +1,62 @@
+package kr.sparta.livechat.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import kr.sparta.livechat.dto.admin.AdminRoomSessionListResponse;
+import kr.sparta.livechat.dto.admin.AdminSocketStatusResponse;
+import kr.sparta.livechat.service.AdminSocketService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 전용 WebSocket 연결 현황 컨트롤러
+ * 현재 연결/구독 현황과 느린 소비자 정보를 조회합니다.
+ * 모든 요청은 관리자 권한이 필요합니다.
+ * AdminSocketController.java
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@RestController
+@RequestMapping("/api/admin/ws")
+@RequiredArgsConstructor
+public class AdminSocketController {
+	private final AdminSocketService adminSocketService;
+
+	/**
+	 * 전체 연결 현황 조회
+	 *
+	 * @param limit 반환할 outbound 세션 최대 개수 (기본 20)
+	 * @return 연결 현황 응답 엔티티
+	 */
+	@GetMapping("/sessions")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<AdminSocketStatusResponse> getSocketStatus(
+		@RequestParam(defaultValue = "20") int limit) {
+
+		AdminSocketStatusResponse response = adminSocketService.getSocketStatus(limit);
+
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
+	/**
+	 * 특정 채팅방을 구독 중인 세션 목록 조회
+	 *
+	 * @param chatRoomId 조회할 채팅방 ID
+	 * @return 채팅방 구독 세션 목록 응답 엔티티
+	 */
+	@GetMapping("/chat-rooms/{chatRoomId}/sessions")
+	@PreAuthorize("hasRole('ADMIN')")
+	public ResponseEntity<AdminRoomSessionListResponse> getRoomSessions(@PathVariable Long chatRoomId) {
+
+		AdminRoomSessionListResponse response = adminSocketService.getRoomSessions(chatRoomId);
+
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+}
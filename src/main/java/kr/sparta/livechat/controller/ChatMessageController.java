@@ -1,9 +1,11 @@
 package kr.sparta.livechat.controller;
 
 import kr.sparta.livechat.dto.socket.MessageSendRequest;
+import kr.sparta.livechat.dto.socket.TypingRequest;
 import kr.sparta.livechat.global.exception.CustomException;
 import kr.sparta.livechat.global.exception.ErrorCode;
 import kr.sparta.livechat.service.ChatMessageService;
+import kr.sparta.livechat.service.TypingService;
 import kr.sparta.livechat.socket.CustomPrincipal;
 import lombok.RequiredArgsConstructor;
 import org.springframework.messaging.handler.annotation.MessageMapping;
@@ -25,6 +27,7 @@ import java.security.Principal;
 public class ChatMessageController {
 
 	private final ChatMessageService chatMessageService;
+	private final TypingService typingService;
 
 	/**
 	 * {@code /pub/chat/message}로 전송한 STOMP 메세지를 수신하고
@@ -40,6 +43,19 @@ public class ChatMessageController {
 		Long writerId = customPrincipal.getUserId();
 		chatMessageService.sendMessage(writerId, request);
 	}
+
+	/**
+	 * {@code /pub/chat/typing}으로 전송한 입력중 표시를 수신합니다.
+	 * 메시지와 달리 저장하지 않고 채팅방 구독자에게 일회성 이벤트로만 전달합니다.
+	 */
+	@MessageMapping("/chat/typing")
+	public void typing(TypingRequest request, Principal principal) {
+		if (!(principal instanceof CustomPrincipal customPrincipal)) {
+			throw new CustomException(ErrorCode.AUTH_INVALID_TOKEN_FORMAT);
+		}
+
+		typingService.typing(customPrincipal.getUserId(), request);
+	}
 }
 
 
@@ -1,5 +1,9 @@
 package kr.sparta.livechat.controller;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -11,6 +15,7 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
 import kr.sparta.livechat.dto.chatroom.CreateChatRoomRequest;
@@ -90,22 +95,34 @@ public class ChatRoomController {
 	 * 특정 채팅방의 상세 정보를 조회합니다.
 	 * <p>
 	 * 요청한 사용자가 해당 채팅방의 참여자가 아닌 경우 403 에러를 반환합니다.
+	 * 채팅방, 상품, 참여자의 수정 시각으로 ETag/Last-Modified 를 만들고,
+	 * 변경이 없으면 채팅방과 연관 엔티티를 조회하지 않고 304를 반환합니다.
 	 * </p>
 	 *
 	 * @param userDetails 인증된 사용자 정보
 	 * @param chatRoomId  조회할 채팅방 식별자
-	 * @return 채팅방 상세 조회 응답 DTO
+	 * @param webRequest  조건부 요청 헤더(If-None-Match, If-Modified-Since) 확인용 요청
+	 * @return 채팅방 상세 조회 응답 DTO (변경이 없으면 304)
 	 */
 	@GetMapping("/chat-rooms/{chatRoomId}")
 	public ResponseEntity<GetChatRoomDetailResponse> getChatRoomDetail(
 		@AuthenticationPrincipal CustomUserDetails userDetails,
-		@PathVariable Long chatRoomId
+		@PathVariable Long chatRoomId,
+		WebRequest webRequest
 	) {
+		LocalDateTime lastModified = chatRoomService.findChatRoomLastModified(chatRoomId, userDetails.getUserId());
+		if (lastModified != null && webRequest.checkNotModified(
+			"chat-room-" + chatRoomId + "-" + toEpochMilli(lastModified), toEpochMilli(lastModified))) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+				.cacheControl(CacheControl.noCache().cachePrivate())
+				.build();
+		}
+
 		GetChatRoomDetailResponse response = chatRoomService.getChatRoomDetail(
 			chatRoomId,
 			userDetails.getUserId()
 		);
-		return ResponseEntity.status(HttpStatus.OK).body(response);
+		return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache().cachePrivate()).body(response);
 	}
 
 	/**
@@ -128,4 +145,8 @@ public class ChatRoomController {
 
 		return ResponseEntity.status(HttpStatus.OK).body(response);
 	}
+
+	private long toEpochMilli(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
 }
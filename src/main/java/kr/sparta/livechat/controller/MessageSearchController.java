@@ -0,0 +1,53 @@
+package kr.sparta.livechat.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import kr.sparta.livechat.dto.message.MessageSearchResponse;
+import kr.sparta.livechat.security.CustomUserDetails;
+import kr.sparta.livechat.service.MessageSearchService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 메시지 검색 API 요청을 처리하는 컨트롤러 클래스입니다.
+ * <p>
+ * 인증된 사용자가 참여한 채팅방의 메시지만 검색하며, 결과는 커서(cursor) 기반으로 최신순 제공됩니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/messages")
+public class MessageSearchController {
+
+	private final MessageSearchService messageSearchService;
+
+	/**
+	 * 참여 중인 채팅방의 메시지를 검색합니다.
+	 *
+	 * @param userDetails 인증된 사용자 정보
+	 * @param q           검색어
+	 * @param cursor      조회 시작 커서(없으면 최신부터 조회)
+	 * @param size        조회 개수
+	 * @return 메시지 검색 응답 DTO
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<MessageSearchResponse> searchMessages(
+		@AuthenticationPrincipal CustomUserDetails userDetails,
+		@RequestParam String q,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(required = false) Integer size
+	) {
+		MessageSearchResponse response = messageSearchService.search(q, cursor, size, userDetails.getUserId());
+
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+}
@@ -0,0 +1,77 @@
+package kr.sparta.livechat.controller;
+
+import java.io.InputStream;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.annotation.AuthenticationPrincipal;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import jakarta.validation.Valid;
+import kr.sparta.livechat.domain.role.ProductImportFormat;
+import kr.sparta.livechat.dto.product.BulkProductImportResponse;
+import kr.sparta.livechat.dto.product.BulkProductStatusRequest;
+import kr.sparta.livechat.dto.product.BulkProductStatusResponse;
+import kr.sparta.livechat.security.CustomUserDetails;
+import kr.sparta.livechat.service.ProductBulkService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 판매자의 상품 일괄 등록/상태 변경 API 요청을 처리하는 컨트롤러 클래스입니다.
+ * <p>
+ * 일괄 등록은 요청 본문을 그대로 스트림으로 읽으므로 파일 전체를 메모리에 올리지 않습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/products/bulk")
+public class ProductBulkController {
+
+	private final ProductBulkService productBulkService;
+
+	/**
+	 * 상품을 일괄 등록합니다.
+	 *
+	 * @param format      본문 형식 (json, csv)
+	 * @param body        상품 목록 본문 (JSON 배열/JSON Lines 또는 CSV)
+	 * @param userDetails 인증된 사용자 정보
+	 * @return 행마다의 등록 결과
+	 */
+	@PostMapping
+	public ResponseEntity<BulkProductImportResponse> importProducts(
+		@RequestParam(defaultValue = "json") String format,
+		InputStream body,
+		@AuthenticationPrincipal CustomUserDetails userDetails
+	) {
+		BulkProductImportResponse response = productBulkService.importProducts(
+			body, ProductImportFormat.from(format), userDetails.getUserId());
+
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+
+	/**
+	 * 판매자가 소유한 여러 상품의 상태를 한 번에 변경합니다.
+	 *
+	 * @param request     상태 일괄 변경 요청
+	 * @param userDetails 인증된 사용자 정보
+	 * @return 변경된 상품과 변경하지 못한 상품 목록
+	 */
+	@PatchMapping("/status")
+	public ResponseEntity<BulkProductStatusResponse> updateStatus(
+		@Valid @RequestBody BulkProductStatusRequest request,
+		@AuthenticationPrincipal CustomUserDetails userDetails
+	) {
+		BulkProductStatusResponse response = productBulkService.updateStatus(request, userDetails.getUserId());
+
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+}
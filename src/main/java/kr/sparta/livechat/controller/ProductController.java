@@ -1,5 +1,9 @@
 package kr.sparta.livechat.controller;
 
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.annotation.AuthenticationPrincipal;
@@ -12,14 +16,18 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import jakarta.validation.Valid;
+import kr.sparta.livechat.domain.role.ProductStatus;
 import kr.sparta.livechat.dto.product.CreateProductRequest;
 import kr.sparta.livechat.dto.product.CreateProductResponse;
 import kr.sparta.livechat.dto.product.GetProductDetailResponse;
+import kr.sparta.livechat.dto.product.GetProductFeedResponse;
 import kr.sparta.livechat.dto.product.GetProductListResponse;
 import kr.sparta.livechat.dto.product.PatchProductRequest;
 import kr.sparta.livechat.dto.product.PatchProductResponse;
+import kr.sparta.livechat.dto.product.ProductFeedCondition;
 import kr.sparta.livechat.security.CustomUserDetails;
 import kr.sparta.livechat.service.ProductService;
 import lombok.RequiredArgsConstructor;
@@ -64,16 +72,58 @@ public class ProductController {
 	 * 등록된 상품 리스트를 조회합니다.
 	 * 조회 시에는 모든 사용자들이 조회할 수 있습니다.
 	 *
-	 * @param page 상품 목록 조회 페이지 (기본 0페이지)
-	 * @param size 상품 목록 조회 개수 (기본 20개 단위)
-	 * @return 등록된 상품 목록 반환
+	 * 응답에 담긴 목록 조회 시점의 전체 상품 최근 수정 시각으로 ETag/Last-Modified 를 만들고, 변경이 없으면 304를 반환합니다.
+	 * 캐시된 응답도 자신의 수정 시각을 함께 가지므로 ETag 는 항상 실제로 전송하는 본문의 버전을 가리킵니다.
+	 *
+	 * @param page       상품 목록 조회 페이지 (기본 0페이지)
+	 * @param size       상품 목록 조회 개수 (기본 20개 단위)
+	 * @param webRequest 조건부 요청 헤더(If-None-Match, If-Modified-Since) 확인용 요청
+	 * @return 등록된 상품 목록 반환 (변경이 없으면 304)
 	 */
 	@GetMapping
 	public ResponseEntity<GetProductListResponse> getProductList(
 		@RequestParam(defaultValue = "0") int page,
-		@RequestParam(defaultValue = "20") int size
+		@RequestParam(defaultValue = "20") int size,
+		WebRequest webRequest
 	) {
 		GetProductListResponse response = productService.getProductList(page, size);
+		LocalDateTime lastModified = response.getLastModifiedAt();
+		if (lastModified != null && webRequest.checkNotModified(
+			"products-" + page + "-" + size + "-" + toEpochMilli(lastModified), toEpochMilli(lastModified))) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).build();
+		}
+
+		return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache()).body(response);
+	}
+
+	/**
+	 * 상품 피드를 커서 기반으로 조회합니다.
+	 * 로그인 여부와 상관없이 모든 사용자가 조회할 수 있습니다.
+	 *
+	 * 페이지 번호 대신 이전 응답의 nextCursor 로 다음 상품을 조회하므로 깊은 페이지도 일정한 비용으로 조회합니다.
+	 *
+	 * @param cursor       이전 응답의 nextCursor (없으면 최신부터 조회)
+	 * @param size         조회할 상품 개수 (기본 20개, 최대 100개)
+	 * @param status       상품 상태 조건
+	 * @param sellerId     판매자 조건
+	 * @param minPrice     최소 가격 조건
+	 * @param maxPrice     최대 가격 조건
+	 * @param includeTotal 전체 개수 포함 여부 (기본 false)
+	 * @return 상품 피드 조회 응답
+	 */
+	@GetMapping("/feed")
+	public ResponseEntity<GetProductFeedResponse> getProductFeed(
+		@RequestParam(required = false) String cursor,
+		@RequestParam(required = false) Integer size,
+		@RequestParam(required = false) ProductStatus status,
+		@RequestParam(required = false) Long sellerId,
+		@RequestParam(required = false) Integer minPrice,
+		@RequestParam(required = false) Integer maxPrice,
+		@RequestParam(defaultValue = "false") boolean includeTotal
+	) {
+		GetProductFeedResponse response = productService.getProductFeed(
+			new ProductFeedCondition(status, sellerId, minPrice, maxPrice), cursor, size, includeTotal);
+
 		return ResponseEntity.status(HttpStatus.OK).body(response);
 	}
 
@@ -81,15 +131,26 @@ public class ProductController {
 	 * 특정 상품의 상세 정보를 조회합니다.
 	 * 로그인 여부와 상관없이 모든 사용자가 조회할 수 있습니다.
 	 *
-	 * @param productId 조회할 상품 식별자
-	 * @return 상품 상세 조회 응답
+	 * 응답에 담긴 상품의 수정 시각으로 ETag/Last-Modified 를 만들고, 변경이 없으면 304를 반환합니다.
+	 * 캐시된 응답도 자신의 수정 시각을 함께 가지므로 ETag 는 항상 실제로 전송하는 본문의 버전을 가리킵니다.
+	 *
+	 * @param productId  조회할 상품 식별자
+	 * @param webRequest 조건부 요청 헤더(If-None-Match, If-Modified-Since) 확인용 요청
+	 * @return 상품 상세 조회 응답 (변경이 없으면 304)
 	 */
 	@GetMapping("/{productId}")
 	public ResponseEntity<GetProductDetailResponse> getProductDetail(
-		@PathVariable Long productId
+		@PathVariable Long productId,
+		WebRequest webRequest
 	) {
 		GetProductDetailResponse response = productService.getProductDetail(productId);
-		return ResponseEntity.status(HttpStatus.OK).body(response);
+		LocalDateTime lastModified = response.getUpdatedAt();
+		if (lastModified != null && webRequest.checkNotModified(
+			"product-" + productId + "-" + toEpochMilli(lastModified), toEpochMilli(lastModified))) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(CacheControl.noCache()).build();
+		}
+
+		return ResponseEntity.status(HttpStatus.OK).cacheControl(CacheControl.noCache()).body(response);
 	}
 
 	/**
@@ -130,4 +191,8 @@ public class ProductController {
 		productService.deleteProduct(productId, userDetails.getUserId());
 		return ResponseEntity.noContent().build();
 	}
+
+	private long toEpochMilli(LocalDateTime dateTime) {
+		return dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+	}
 }
@@ -0,0 +1,54 @@
+package kr.sparta.livechat.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+import kr.sparta.livechat.dto.product.ProductSearchResponse;
+import kr.sparta.livechat.service.ProductSearchService;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 검색 API 요청을 처리하는 컨트롤러 클래스입니다.
+ * <p>
+ * 로그인 여부와 상관없이 모든 사용자가 상품명과 설명으로 상품을 검색할 수 있으며,
+ * 결과는 커서(cursor) 기반으로 최신순 제공됩니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/products")
+public class ProductSearchController {
+
+	private final ProductSearchService productSearchService;
+
+	/**
+	 * 상품명과 설명으로 상품을 검색합니다.
+	 *
+	 * @param q        검색어
+	 * @param minPrice 최소 가격
+	 * @param maxPrice 최대 가격
+	 * @param cursor   조회 시작 커서(없으면 최신부터 조회)
+	 * @param size     조회 개수
+	 * @return 상품 검색 응답 DTO
+	 */
+	@GetMapping("/search")
+	public ResponseEntity<ProductSearchResponse> searchProducts(
+		@RequestParam String q,
+		@RequestParam(required = false) Integer minPrice,
+		@RequestParam(required = false) Integer maxPrice,
+		@RequestParam(required = false) Long cursor,
+		@RequestParam(required = false) Integer size
+	) {
+		ProductSearchResponse response = productSearchService.search(q, minPrice, maxPrice, cursor, size);
+
+		return ResponseEntity.status(HttpStatus.OK).body(response);
+	}
+}
@@ -0,0 +1,104 @@
+package kr.sparta.livechat.domain.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import jakarta.persistence.UniqueConstraint;
+import kr.sparta.livechat.domain.role.AnalyticsDimension;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ChatAnalyticsSnapshot 클래스입니다.
+ * <p>
+ * 판매자/상품 단위로 메모리에서 집계한 상담 지표를 주기적으로 저장하기 위한 엔티티입니다.
+ * 집계 기준과 대상 식별자마다 한 행을 유지하며, 스냅샷 시점마다 값을 덮어씁니다.
+ * 응답 시간 지표는 판매자 응답이 있는 채팅방만으로 계산하므로 응답이 한 건도 없으면 {@code null}입니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "chat_analytics_snapshots",
+	uniqueConstraints = {
+		@UniqueConstraint(name = "uk_chat_analytics_snapshots_target", columnNames = {"dimension", "target_id"})
+	}
+)
+public class ChatAnalyticsSnapshot {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 20)
+	private AnalyticsDimension dimension;
+
+	@Column(name = "target_id", nullable = false)
+	private Long targetId;
+
+	private long roomsClosed;
+	private long medianDurationSeconds;
+	private long p95DurationSeconds;
+	private double avgMessagesPerRoom;
+	private Long medianFirstResponseSeconds;
+	private Long p95FirstResponseSeconds;
+
+	@Column(name = "window_started_at", nullable = false)
+	private LocalDateTime windowStartedAt;
+
+	@Column(name = "snapshot_at", nullable = false)
+	private LocalDateTime snapshotAt;
+
+	/**
+	 * 집계 기준과 대상에 대한 빈 스냅샷을 생성합니다.
+	 *
+	 * @param dimension 집계 기준
+	 * @param targetId  판매자 또는 상품 식별자
+	 * @return 생성된 {@link ChatAnalyticsSnapshot} 엔티티
+	 */
+	public static ChatAnalyticsSnapshot of(AnalyticsDimension dimension, Long targetId) {
+		ChatAnalyticsSnapshot snapshot = new ChatAnalyticsSnapshot();
+		snapshot.dimension = dimension;
+		snapshot.targetId = targetId;
+		return snapshot;
+	}
+
+	/**
+	 * 스냅샷 값을 최신 집계 결과로 덮어씁니다.
+	 *
+	 * @param roomsClosed                종료된 채팅방 수
+	 * @param medianDurationSeconds      상담 지속 시간 중앙값(초)
+	 * @param p95DurationSeconds         상담 지속 시간 95번째 백분위수(초)
+	 * @param avgMessagesPerRoom         채팅방당 평균 메시지 수
+	 * @param medianFirstResponseSeconds 첫 응답 시간 중앙값(초)
+	 * @param p95FirstResponseSeconds    첫 응답 시간 95번째 백분위수(초)
+	 * @param windowStartedAt            집계 기간 시작 시각
+	 * @param snapshotAt                 스냅샷 시각
+	 */
+	public void update(long roomsClosed, long medianDurationSeconds, long p95DurationSeconds,
+		double avgMessagesPerRoom, Long medianFirstResponseSeconds, Long p95FirstResponseSeconds,
+		LocalDateTime windowStartedAt, LocalDateTime snapshotAt) {
+		this.roomsClosed = roomsClosed;
+		this.medianDurationSeconds = medianDurationSeconds;
+		this.p95DurationSeconds = p95DurationSeconds;
+		this.avgMessagesPerRoom = avgMessagesPerRoom;
+		this.medianFirstResponseSeconds = medianFirstResponseSeconds;
+		this.p95FirstResponseSeconds = p95FirstResponseSeconds;
+		this.windowStartedAt = windowStartedAt;
+		this.snapshotAt = snapshotAt;
+	}
+}
@@ -13,6 +13,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.OneToMany;
@@ -33,7 +34,13 @@ import lombok.Getter;
  */
 @Entity
 @Getter
-@Table(name = "chat_rooms")
+@Table(
+	name = "chat_rooms",
+	indexes = {
+		@Index(name = "idx_chat_rooms_status_created_at", columnList = "status, created_at"),
+		@Index(name = "idx_chat_rooms_product_status", columnList = "product_id, status")
+	}
+)
 public class ChatRoom extends BaseTimeEntity {
 
 	@Id
@@ -0,0 +1,60 @@
+package kr.sparta.livechat.domain.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ChatRoomArchive 클래스입니다.
+ * <p>
+ * 메시지가 보관 세그먼트로 옮겨진 채팅방을 나타내는 엔티티입니다.
+ * 이 행이 있는 채팅방의 메시지는 메시지 테이블에서 삭제되었으므로 메시지 조회 시 보관 세그먼트에서 읽습니다.
+ * 행은 메시지 삭제와 같은 트랜잭션에서 저장되므로, 조회하는 쪽은 항상 둘 중 한 곳에서 전체 이력을 읽습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_room_archives")
+public class ChatRoomArchive {
+
+	@Id
+	@Column(name = "room_id")
+	private Long roomId;
+
+	@Column(name = "message_count", nullable = false)
+	private long messageCount;
+
+	@Column(name = "block_count", nullable = false)
+	private int blockCount;
+
+	@Column(name = "archived_at", nullable = false)
+	private LocalDateTime archivedAt;
+
+	/**
+	 * 채팅방 메시지 보관 기록을 생성합니다.
+	 *
+	 * @param roomId       채팅방 식별자
+	 * @param messageCount 보관한 메시지 수
+	 * @param blockCount   보관 세그먼트의 블록 수
+	 * @return 생성된 보관 기록
+	 */
+	public static ChatRoomArchive of(Long roomId, long messageCount, int blockCount) {
+		ChatRoomArchive archive = new ChatRoomArchive();
+		archive.roomId = roomId;
+		archive.messageCount = messageCount;
+		archive.blockCount = blockCount;
+		archive.archivedAt = LocalDateTime.now();
+		return archive;
+	}
+}
@@ -0,0 +1,131 @@
+package kr.sparta.livechat.domain.entity;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * ChatRoomStats 클래스입니다.
+ * <p>
+ * 상담 채팅방의 메시지 통계를 메시지 전송 시점마다 증분으로 관리하기 위한 엔티티입니다.
+ * 채팅방 종료 시 메시지 수를 COUNT 로 집계하지 않고 이 값을 {@link ChatRoomSummary}로 옮겨 저장합니다.
+ * 값 갱신은 엔티티 변경 감지가 아니라 원자적 UPDATE 쿼리로 처리하여 동시 전송 시에도 누락되지 않도록 합니다.
+ * 마지막 메시지 시각은 장기간 대화가 없는 채팅방의 자동 종료 대상 조회에 사용합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "chat_room_stats",
+	indexes = {
+		@Index(name = "idx_chat_room_stats_last_message_at", columnList = "last_message_at")
+	}
+)
+public class ChatRoomStats {
+
+	@Id
+	@Column(name = "room_id")
+	private Long roomId;
+
+	private long messageCount;
+	private long buyerMessageCount;
+	private long sellerMessageCount;
+
+	@Column(name = "first_message_at")
+	private LocalDateTime firstMessageAt;
+
+	@Column(name = "first_response_at")
+	private LocalDateTime firstResponseAt;
+
+	@Column(name = "last_message_at")
+	private LocalDateTime lastMessageAt;
+
+	@Column(name = "reconciled_at")
+	private LocalDateTime reconciledAt;
+
+	/**
+	 * 채팅방 생성 시점의 통계를 생성합니다.
+	 * 채팅방은 구매자의 첫 메시지와 함께 생성되므로 구매자 메시지 1건으로 시작합니다.
+	 *
+	 * @param roomId         상담 채팅방 식별자
+	 * @param firstMessageAt 첫 메시지 전송 시각
+	 * @return 생성된 {@link ChatRoomStats} 엔티티
+	 */
+	public static ChatRoomStats open(Long roomId, LocalDateTime firstMessageAt) {
+		ChatRoomStats stats = new ChatRoomStats();
+		stats.roomId = roomId;
+		stats.messageCount = 1;
+		stats.buyerMessageCount = 1;
+		stats.firstMessageAt = firstMessageAt;
+		stats.lastMessageAt = firstMessageAt;
+		return stats;
+	}
+
+	/**
+	 * 통계가 없는 기존 채팅방을 보정하기 위해 비어 있는 통계를 생성합니다.
+	 *
+	 * @param roomId 상담 채팅방 식별자
+	 * @return 값이 비어 있는 {@link ChatRoomStats} 엔티티
+	 */
+	public static ChatRoomStats empty(Long roomId) {
+		ChatRoomStats stats = new ChatRoomStats();
+		stats.roomId = roomId;
+		return stats;
+	}
+
+	/**
+	 * 메시지 테이블 기준으로 다시 계산한 값이 다르면 통계를 덮어씁니다.
+	 * 값이 같으면 변경하지 않으므로 UPDATE 가 발생하지 않습니다.
+	 *
+	 * @param buyerMessageCount  구매자 메시지 수
+	 * @param sellerMessageCount 판매자 메시지 수
+	 * @param firstMessageAt     첫 구매자 메시지 시각
+	 * @param firstResponseAt    첫 판매자 메시지 시각
+	 * @param lastMessageAt      마지막 메시지 시각
+	 * @return 값이 변경되었으면 {@code true}
+	 */
+	public boolean reconcile(long buyerMessageCount, long sellerMessageCount, LocalDateTime firstMessageAt,
+		LocalDateTime firstResponseAt, LocalDateTime lastMessageAt) {
+		if (this.buyerMessageCount == buyerMessageCount
+			&& this.sellerMessageCount == sellerMessageCount
+			&& Objects.equals(this.firstMessageAt, firstMessageAt)
+			&& Objects.equals(this.firstResponseAt, firstResponseAt)
+			&& Objects.equals(this.lastMessageAt, lastMessageAt)) {
+			return false;
+		}
+		this.buyerMessageCount = buyerMessageCount;
+		this.sellerMessageCount = sellerMessageCount;
+		this.messageCount = buyerMessageCount + sellerMessageCount;
+		this.firstMessageAt = firstMessageAt;
+		this.firstResponseAt = firstResponseAt;
+		this.lastMessageAt = lastMessageAt;
+		this.reconciledAt = LocalDateTime.now();
+		return true;
+	}
+
+	/**
+	 * 첫 구매자 메시지부터 첫 판매자 응답까지 걸린 시간(초)을 반환합니다.
+	 *
+	 * @return 첫 응답 시간(초), 판매자 응답이 없으면 {@code null}
+	 */
+	public Long getFirstResponseSeconds() {
+		if (firstMessageAt == null || firstResponseAt == null) {
+			return null;
+		}
+		return Duration.between(firstMessageAt, firstResponseAt).getSeconds();
+	}
+}
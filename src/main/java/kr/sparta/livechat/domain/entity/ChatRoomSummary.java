@@ -7,6 +7,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import lombok.AccessLevel;
 import lombok.Getter;
@@ -25,7 +26,12 @@ import lombok.NoArgsConstructor;
 @Entity
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
-@Table(name = "chat_rooms_summaries")
+@Table(
+	name = "chat_rooms_summaries",
+	indexes = {
+		@Index(name = "idx_chat_rooms_summaries_closed_at", columnList = "closed_at")
+	}
+)
 public class ChatRoomSummary {
 
 	@Id
@@ -35,24 +41,42 @@ public class ChatRoomSummary {
 	@Column(name = "room_id", nullable = false, unique = true)
 	private Long roomId;
 
+	@Column(name = "product_id")
+	private Long productId;
+
+	@Column(name = "seller_id")
+	private Long sellerId;
+
 	private long totalMessageCount;
+	private long buyerMessageCount;
+	private long sellerMessageCount;
+	private Long firstResponseSeconds;
 	private long durationSeconds;
 	private LocalDateTime closedAt;
 
 	/**
 	 * 상담 종료 시점의 요약 정보를 담는 {@link ChatRoomSummary} 엔티티를 생성합니다.
 	 *
-	 * @param roomId            상담 채팅방 식별자
-	 * @param totalMessageCount 총 메시지 수
-	 * @param durationSeconds   상담 지속 시간(초)
-	 * @param closedAt          상담 종료 시각
+	 * @param roomId               상담 채팅방 식별자
+	 * @param productId            상담 대상 상품 식별자
+	 * @param sellerId             상품 판매자 식별자
+	 * @param buyerMessageCount    구매자 메시지 수
+	 * @param sellerMessageCount   판매자 메시지 수
+	 * @param firstResponseSeconds 첫 판매자 응답까지 걸린 시간(초), 응답이 없으면 {@code null}
+	 * @param durationSeconds      상담 지속 시간(초)
+	 * @param closedAt             상담 종료 시각
 	 * @return 생성된 {@link ChatRoomSummary} 엔티티
 	 */
-	public static ChatRoomSummary of(Long roomId, long totalMessageCount, long durationSeconds,
-		LocalDateTime closedAt) {
+	public static ChatRoomSummary of(Long roomId, Long productId, Long sellerId, long buyerMessageCount,
+		long sellerMessageCount, Long firstResponseSeconds, long durationSeconds, LocalDateTime closedAt) {
 		ChatRoomSummary summary = new ChatRoomSummary();
 		summary.roomId = roomId;
-		summary.totalMessageCount = totalMessageCount;
+		summary.productId = productId;
+		summary.sellerId = sellerId;
+		summary.totalMessageCount = buyerMessageCount + sellerMessageCount;
+		summary.buyerMessageCount = buyerMessageCount;
+		summary.sellerMessageCount = sellerMessageCount;
+		summary.firstResponseSeconds = firstResponseSeconds;
 		summary.durationSeconds = durationSeconds;
 		summary.closedAt = closedAt;
 		return summary;
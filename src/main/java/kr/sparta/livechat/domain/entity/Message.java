@@ -38,7 +38,9 @@ import lombok.NoArgsConstructor;
 @Table(
 	name = "messages",
 	indexes = {
-		@Index(name = "idx_messages_room_sent_at", columnList = "room_id, sent_at")
+		@Index(name = "idx_messages_room_sent_at", columnList = "room_id, sent_at"),
+		@Index(name = "idx_messages_room_id", columnList = "room_id, id"),
+		@Index(name = "uk_messages_stream_id", columnList = "stream_id", unique = true)
 	}
 )
 public class Message {
@@ -58,6 +60,9 @@ public class Message {
 	@Column(name = "sent_at", nullable = false)
 	private LocalDateTime sentAt;
 
+	@Column(name = "stream_id", length = 64)
+	private String streamId;
+
 	@ManyToOne(fetch = FetchType.LAZY, optional = false)
 	@JoinColumn(name = "writer_id", nullable = false)
 	private User writer;
@@ -84,4 +89,28 @@ public class Message {
 		message.sentAt = LocalDateTime.now();
 		return message;
 	}
+
+	/**
+	 * Redis Stream 에 먼저 기록된 메시지를 저장용으로 생성합니다.
+	 * 전송 시각은 Stream 에 기록된 값을 그대로 사용하고, Stream 항목 식별자로 중복 저장을 막습니다.
+	 *
+	 * @param room     메시지가 속한 채팅방
+	 * @param writer   메시지 작성자
+	 * @param content  메시지 내용
+	 * @param type     메시지 유형
+	 * @param sentAt   메시지 전송 시각
+	 * @param streamId Stream 항목 식별자
+	 * @return 생성된 메시지
+	 */
+	public static Message streamed(ChatRoom room, User writer, String content, MessageType type,
+		LocalDateTime sentAt, String streamId) {
+		Message message = new Message();
+		message.room = room;
+		message.writer = writer;
+		message.content = content;
+		message.type = type;
+		message.sentAt = sentAt;
+		message.streamId = streamId;
+		return message;
+	}
 }
@@ -0,0 +1,80 @@
+package kr.sparta.livechat.domain.entity;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import kr.sparta.livechat.domain.role.OutboxEventType;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * OutboxEvent 클래스입니다.
+ * <p>
+ * 메시지 저장과 같은 트랜잭션에서 기록되어, 커밋된 이벤트만 전송되도록 보장하기 위한 아웃박스 엔티티입니다.
+ * 채팅방 식별자로 정해지는 파티션 단위로 식별자 순서대로 전송되며, 전송이 끝난 이벤트는 삭제됩니다.
+ * {@code payload}는 구독자에게 전송할 JSON 본문을 그대로 저장하여 전송 시 다시 직렬화하지 않습니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(
+	name = "outbox_events",
+	indexes = {
+		@Index(name = "idx_outbox_events_partition_id", columnList = "partition_no, id")
+	}
+)
+public class OutboxEvent {
+
+	@Id
+	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	private Long id;
+
+	@Column(name = "partition_no", nullable = false)
+	private int partitionNo;
+
+	@Column(name = "room_id", nullable = false)
+	private Long roomId;
+
+	@Enumerated(EnumType.STRING)
+	@Column(name = "event_type", nullable = false, length = 32)
+	private OutboxEventType eventType;
+
+	@Column(nullable = false, columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(name = "created_at", nullable = false)
+	private LocalDateTime createdAt;
+
+	/**
+	 * 아웃박스 이벤트를 생성합니다.
+	 *
+	 * @param partitionNo 전송 순서를 보장하는 파티션 번호
+	 * @param roomId      채팅방 식별자
+	 * @param eventType   이벤트 유형
+	 * @param payload     전송할 JSON 본문
+	 * @return 생성된 아웃박스 이벤트
+	 */
+	public static OutboxEvent of(int partitionNo, Long roomId, OutboxEventType eventType, String payload) {
+		OutboxEvent event = new OutboxEvent();
+		event.partitionNo = partitionNo;
+		event.roomId = roomId;
+		event.eventType = eventType;
+		event.payload = payload;
+		event.createdAt = LocalDateTime.now();
+		return event;
+	}
+}
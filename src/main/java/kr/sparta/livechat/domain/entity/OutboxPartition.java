@@ -0,0 +1,38 @@
+package kr.sparta.livechat.domain.entity;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * OutboxPartition 클래스입니다.
+ * <p>
+ * 아웃박스 파티션마다 하나의 행을 두어, 전송 작업이 이 행을 {@code FOR UPDATE SKIP LOCKED}로 잠근 경우에만
+ * 해당 파티션의 이벤트를 전송하도록 하기 위한 엔티티입니다.
+ * 한 파티션은 여러 노드/스레드 중 하나만 처리하므로 같은 채팅방의 이벤트는 항상 기록 순서대로 전송됩니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "outbox_partitions")
+public class OutboxPartition {
+
+	@Id
+	@Column(name = "partition_no")
+	private Integer partitionNo;
+
+	public static OutboxPartition of(int partitionNo) {
+		OutboxPartition partition = new OutboxPartition();
+		partition.partitionNo = partitionNo;
+		return partition;
+	}
+}
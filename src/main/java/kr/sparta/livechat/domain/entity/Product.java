@@ -8,6 +8,7 @@ import jakarta.persistence.FetchType;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
 import jakarta.persistence.Table;
@@ -37,7 +38,15 @@ import lombok.NoArgsConstructor;
 @Builder
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor(access = AccessLevel.PRIVATE)
-@Table(name = "products")
+@Table(
+	name = "products",
+	indexes = {
+		@Index(name = "idx_products_updated_at", columnList = "updated_at"),
+		@Index(name = "idx_products_created_at_id", columnList = "created_at, id"),
+		@Index(name = "idx_products_status_created_at_id", columnList = "status, created_at, id"),
+		@Index(name = "idx_products_seller_created_at_id", columnList = "seller_id, created_at, id")
+	}
+)
 public class Product extends BaseTimeEntity {
 
 	@Id
@@ -0,0 +1,30 @@
+package kr.sparta.livechat.domain.event;
+
+import java.time.LocalDateTime;
+
+import kr.sparta.livechat.domain.role.ChatRoomStatus;
+import kr.sparta.livechat.domain.role.MessageType;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 메시지가 저장되었을 때 발행되는 도메인 이벤트입니다.
+ * <p>
+ * 메시지 본문은 포함하지 않고 식별자와 메타 정보만 전달합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatMessageSentEvent {
+	private final Long roomId;
+	private final Long productId;
+	private final ChatRoomStatus roomStatus;
+	private final Long messageId;
+	private final Long writerId;
+	private final MessageType type;
+	private final LocalDateTime sentAt;
+}
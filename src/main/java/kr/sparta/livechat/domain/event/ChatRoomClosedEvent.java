@@ -0,0 +1,27 @@
+package kr.sparta.livechat.domain.event;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방이 종료되었을 때 발행되는 도메인 이벤트입니다.
+ * <p>
+ * 판매자 종료, 관리자 종료 등 모든 종료 경로에서 발행되며 리스너는 커밋 이후에 처리합니다.
+ * {@code closedBy}는 종료를 요청한 사용자 식별자이며, 시스템에 의한 종료인 경우 {@code null}입니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatRoomClosedEvent {
+	private final Long roomId;
+	private final Long productId;
+	private final Long closedBy;
+	private final String reason;
+	private final LocalDateTime closedAt;
+}
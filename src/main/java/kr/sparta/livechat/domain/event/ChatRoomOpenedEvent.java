@@ -0,0 +1,26 @@
+package kr.sparta.livechat.domain.event;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방이 개설되었을 때 발행되는 도메인 이벤트입니다.
+ * <p>
+ * 채팅방 생성 트랜잭션 안에서 발행되며, 리스너는 커밋 이후에 처리합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatRoomOpenedEvent {
+	private final Long roomId;
+	private final Long productId;
+	private final Long buyerId;
+	private final Long sellerId;
+	private final LocalDateTime openedAt;
+}
@@ -0,0 +1,29 @@
+package kr.sparta.livechat.domain.event;
+
+import java.time.LocalDateTime;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 종료된 채팅방의 요약 정보가 저장되었을 때 발행되는 도메인 이벤트입니다.
+ * <p>
+ * 요약 저장은 채팅방 종료 경로마다 한 번만 일어나므로, 리스너는 이 이벤트로 판매자/상품 단위 지표를 누적합니다.
+ * {@code firstResponseSeconds}는 판매자 응답이 없으면 {@code null}입니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatRoomSummarizedEvent {
+	private final Long roomId;
+	private final Long productId;
+	private final Long sellerId;
+	private final long messageCount;
+	private final Long firstResponseSeconds;
+	private final long durationSeconds;
+	private final LocalDateTime closedAt;
+}
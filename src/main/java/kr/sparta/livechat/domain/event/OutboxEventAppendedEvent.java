@@ -0,0 +1,20 @@
+package kr.sparta.livechat.domain.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 아웃박스에 이벤트가 기록되었을 때 발행되는 이벤트입니다.
+ * <p>
+ * 커밋 이후 해당 파티션의 전송 스레드를 깨워 주기적인 확인을 기다리지 않고 바로 전송하도록 합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@RequiredArgsConstructor
+public class OutboxEventAppendedEvent {
+	private final int partitionNo;
+}
@@ -0,0 +1,23 @@
+package kr.sparta.livechat.domain.event;
+
+import kr.sparta.livechat.domain.role.ProductStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품이 등록, 수정, 삭제되었을 때 발행되는 도메인 이벤트입니다.
+ * <p>
+ * 상품 변경 트랜잭션 안에서 발행되며, 리스너는 커밋 이후에 처리합니다.
+ * {@code status}는 변경이 반영된 후의 상품 상태입니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductChangedEvent {
+	private final Long productId;
+	private final ProductStatus status;
+}
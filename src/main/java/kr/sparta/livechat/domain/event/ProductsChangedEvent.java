@@ -0,0 +1,25 @@
+package kr.sparta.livechat.domain.event;
+
+import java.util.List;
+
+import kr.sparta.livechat.domain.role.ProductStatus;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 상품이 한 번에 등록되거나 상태가 변경되었을 때 발행되는 도메인 이벤트입니다.
+ * <p>
+ * 일괄 등록/상태 변경 묶음마다 한 번 발행하므로, 리스너는 상품마다가 아니라 묶음 단위로 캐시와 검색 색인을 갱신합니다.
+ * {@code status}는 변경이 반영된 후의 상품 상태입니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ProductsChangedEvent {
+	private final List<Long> productIds;
+	private final ProductStatus status;
+}
@@ -0,0 +1,17 @@
+package kr.sparta.livechat.domain.role;
+
+/**
+ * 상담 지표를 집계하는 기준을 나타내는 enum 클래스입니다.
+ * <p>
+ * SELLER : 판매자 단위 집계
+ * PRODUCT : 상품 단위 집계
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public enum AnalyticsDimension {
+	SELLER,
+	PRODUCT
+}
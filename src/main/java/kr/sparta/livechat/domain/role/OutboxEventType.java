@@ -0,0 +1,16 @@
+package kr.sparta.livechat.domain.role;
+
+/**
+ * 아웃박스에 기록되는 이벤트 유형입니다.
+ * <p>
+ * {@code MESSAGE}: 채팅 메시지 전송 이벤트 (채팅방 토픽으로 전송)
+ * {@code ROOM_CLOSED}: 채팅방 종료 이벤트 (채팅방 토픽으로 전송한 뒤 채팅방 구독 해제)
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+public enum OutboxEventType {
+	MESSAGE,
+	ROOM_CLOSED
+}
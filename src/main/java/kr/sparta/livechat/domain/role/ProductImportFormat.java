@@ -0,0 +1,44 @@
+package kr.sparta.livechat.domain.role;
+
+import java.util.Locale;
+
+import kr.sparta.livechat.global.exception.CustomException;
+import kr.sparta.livechat.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 일괄 등록 파일 형식입니다.
+ * <p>
+ * {@code JSON}: 상품 객체의 JSON 배열 또는 한 줄에 하나의 JSON 객체 (JSON Lines)
+ * {@code CSV}: {@code name,price,description} 헤더가 포함된 CSV (UTF-8, BOM 허용)
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum ProductImportFormat {
+	JSON("json"),
+	CSV("csv");
+
+	private final String value;
+
+	/**
+	 * 요청 파라미터 값을 등록 파일 형식으로 변환합니다.
+	 *
+	 * @param value 형식 이름 (대소문자 무시)
+	 * @return 등록 파일 형식
+	 * @throws CustomException 400(지원하지 않는 형식)
+	 */
+	public static ProductImportFormat from(String value) {
+		for (ProductImportFormat format : values()) {
+			if (format.value.equals(value == null ? null : value.toLowerCase(Locale.ROOT))) {
+				return format;
+			}
+		}
+		throw new CustomException(ErrorCode.PRODUCT_IMPORT_INVALID_FORMAT);
+	}
+}
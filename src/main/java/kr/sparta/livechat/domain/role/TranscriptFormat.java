@@ -0,0 +1,44 @@
+package kr.sparta.livechat.domain.role;
+
+import java.util.Locale;
+
+import kr.sparta.livechat.global.exception.CustomException;
+import kr.sparta.livechat.global.exception.ErrorCode;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방 대화 내역 내보내기 형식입니다.
+ * <p>
+ * {@code JSONL}: 메시지마다 한 줄의 JSON 객체 (JSON Lines)
+ * {@code CSV}: 헤더가 포함된 CSV (엑셀 호환을 위해 UTF-8 BOM 포함)
+ * </p>
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@Getter
+@RequiredArgsConstructor
+public enum TranscriptFormat {
+	JSONL("jsonl", "application/x-ndjson"),
+	CSV("csv", "text/csv");
+
+	private final String extension;
+	private final String contentType;
+
+	/**
+	 * 요청 파라미터 값을 내보내기 형식으로 변환합니다.
+	 *
+	 * @param value 형식 이름 (대소문자 무시)
+	 * @return 내보내기 형식
+	 * @throws CustomException 400(지원하지 않는 형식)
+	 */
+	public static TranscriptFormat from(String value) {
+		for (TranscriptFormat format : values()) {
+			if (format.extension.equals(value == null ? null : value.toLowerCase(Locale.ROOT))) {
+				return format;
+			}
+		}
+		throw new CustomException(ErrorCode.EXPORT_INVALID_FORMAT);
+	}
+}
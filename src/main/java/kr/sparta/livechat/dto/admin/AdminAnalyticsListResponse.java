@@ -0,0 +1,24 @@
+package kr.sparta.livechat.dto.admin;
+
+import java.util.List;
+
+import kr.sparta.livechat.domain.role.AnalyticsDimension;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 관리자용 상담 지표 순위 응답 DTO
+ * 종료된 채팅방 수가 많은 순으로 판매자 또는 상품의 지표 목록을 제공합니다.
+ * AdminAnalyticsListResponse.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AdminAnalyticsListResponse {
+	private AnalyticsDimension dimension;
+	private List<AdminAnalyticsResponse> items;
+}
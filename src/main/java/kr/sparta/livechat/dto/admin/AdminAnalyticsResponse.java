@@ -0,0 +1,33 @@
+package kr.sparta.livechat.dto.admin;
+
+import java.time.LocalDateTime;
+
+import kr.sparta.livechat.domain.role.AnalyticsDimension;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 관리자용 판매자/상품 상담 지표 응답 DTO
+ * 최근 기간 종료 채팅방 수, 상담 지속 시간과 첫 응답 시간의 중앙값/95번째 백분위수, 채팅방당 평균 메시지 수를 포함합니다.
+ * {@code source}는 메모리 집계 값이면 LIVE, 초기 적재 전이라 스냅샷 테이블 값이면 SNAPSHOT 입니다.
+ * AdminAnalyticsResponse.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AdminAnalyticsResponse {
+	private AnalyticsDimension dimension;
+	private Long targetId;
+	private long roomsClosed;
+	private long medianDurationSeconds;
+	private long p95DurationSeconds;
+	private double avgMessagesPerRoom;
+	private Long medianFirstResponseSeconds;
+	private Long p95FirstResponseSeconds;
+	private LocalDateTime windowStartedAt;
+	private String source;
+}
@@ -0,0 +1,29 @@
+package kr.sparta.livechat.dto.admin;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 관리자용 채팅방 메시지 커서 조회 응답 DTO 클래스
+ * 메시지는 최신순으로 담기며, 다음 조회에는 nextCursor 를 cursor 로 전달한다.
+ * AdminChatMessageListResponse.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AdminChatMessageListResponse {
+	private Long chatRoomId;
+	private String chatRoomStatus;
+
+	private int size;
+	private boolean hasNext;
+	private Long nextCursor;
+
+	private List<AdminChatMessageResponse> messagesList;
+}
@@ -2,6 +2,7 @@ package kr.sparta.livechat.dto.admin;
 
 import java.time.LocalDateTime;
 
+import kr.sparta.livechat.domain.role.MessageType;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -24,4 +25,18 @@ public class AdminChatMessageResponse {
 	private Long writerId;
 	private String writerName;
 	private LocalDateTime sentAt;
+
+	/**
+	 * JPQL 생성자 projection 에서 사용하는 생성자입니다.
+	 * 메시지 유형을 enum 으로 받아 이름 문자열로 변환합니다.
+	 */
+	public AdminChatMessageResponse(Long messageId, String content, MessageType type, Long writerId,
+		String writerName, LocalDateTime sentAt) {
+		this.messageId = messageId;
+		this.content = content;
+		this.type = type.name();
+		this.writerId = writerId;
+		this.writerName = writerName;
+		this.sentAt = sentAt;
+	}
 }
@@ -2,6 +2,7 @@ package kr.sparta.livechat.dto.admin;
 
 import java.time.LocalDateTime;
 
+import kr.sparta.livechat.domain.role.ChatRoomStatus;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Getter;
@@ -27,4 +28,21 @@ public class AdminChatRoomResponse {
 	private String sellerName;
 	private String buyerName;
 	private LocalDateTime lastMessageSentAt;
+
+	/**
+	 * JPQL 생성자 projection 에서 사용하는 생성자입니다.
+	 * 채팅방 상태를 enum 으로 받아 이름 문자열로 변환합니다.
+	 */
+	public AdminChatRoomResponse(Long chatRoomId, ChatRoomStatus status, LocalDateTime openedAt,
+		LocalDateTime closedAt, String productName, String sellerName, String buyerName,
+		LocalDateTime lastMessageSentAt) {
+		this.chatRoomId = chatRoomId;
+		this.status = status.name();
+		this.openedAt = openedAt;
+		this.closedAt = closedAt;
+		this.productName = productName;
+		this.sellerName = sellerName;
+		this.buyerName = buyerName;
+		this.lastMessageSentAt = lastMessageSentAt;
+	}
 }
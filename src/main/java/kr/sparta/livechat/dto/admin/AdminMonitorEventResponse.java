@@ -0,0 +1,36 @@
+package kr.sparta.livechat.dto.admin;
+
+import java.time.LocalDateTime;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 관리자 실시간 모니터링 이벤트 DTO
+ * 채팅방 개설/종료, 메시지 전송 이벤트를 SSE 로 전달할 때 사용합니다.
+ * {@code eventId}는 Redis 시퀀스로 발급되어 모든 노드에서 같은 값으로 단조 증가하며, 재연결 시 Last-Event-ID 로 사용됩니다.
+ * 이벤트는 노드 사이에 JSON 으로 전달되므로 역직렬화용 기본 생성자를 둡니다.
+ * AdminMonitorEventResponse.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder(toBuilder = true)
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class AdminMonitorEventResponse {
+	private long eventId;
+	private String type;
+	private Long chatRoomId;
+	private Long productId;
+	private String status;
+	private Long actorId;
+	private Long messageId;
+	private String messageType;
+	private String reason;
+	private LocalDateTime occurredAt;
+}
@@ -0,0 +1,25 @@
+package kr.sparta.livechat.dto.admin;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 관리자용 채팅방 구독 세션 목록 응답 DTO
+ * 특정 채팅방을 현재 구독 중인 세션 목록을 제공합니다.
+ * AdminRoomSessionListResponse.java
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AdminRoomSessionListResponse {
+	private Long chatRoomId;
+	private int sessionCount;
+
+	private List<AdminSocketSessionResponse> sessions;
+}
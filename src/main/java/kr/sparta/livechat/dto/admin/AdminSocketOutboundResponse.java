@@ -0,0 +1,24 @@
+package kr.sparta.livechat.dto.admin;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 관리자용 세션별 outbound 적체 정보 DTO
+ * 미전송 프레임 수, 지연 여부, 병합 대기 중인 이벤트 수를 포함합니다.
+ * AdminSocketOutboundResponse.java
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AdminSocketOutboundResponse {
+	private String sessionId;
+	private Long userId;
+	private int pending;
+	private boolean lagging;
+	private int coalesced;
+}
@@ -0,0 +1,25 @@
+package kr.sparta.livechat.dto.admin;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 관리자용 STOMP 세션 정보 DTO
+ * 세션 식별자, 사용자 식별자, 연결 시각, 구독 수를 포함합니다.
+ * AdminSocketSessionResponse.java
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AdminSocketSessionResponse {
+	private String sessionId;
+	private Long userId;
+	private LocalDateTime connectedAt;
+	private int subscriptionCount;
+}
@@ -0,0 +1,27 @@
+package kr.sparta.livechat.dto.admin;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 관리자용 WebSocket 연결 현황 응답 DTO
+ * 현재 연결 수, 접속 사용자 수, 구독 현황과 outbound 적체가 큰 세션 목록을 제공합니다.
+ * AdminSocketStatusResponse.java
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AdminSocketStatusResponse {
+	private int sessionCount;
+	private int userCount;
+	private int subscribedRoomCount;
+	private int subscriptionCount;
+
+	private List<AdminSocketOutboundResponse> outboundSessions;
+}
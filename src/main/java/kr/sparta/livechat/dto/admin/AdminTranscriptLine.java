@@ -0,0 +1,41 @@
+package kr.sparta.livechat.dto.admin;
+
+import java.time.LocalDateTime;
+
+import kr.sparta.livechat.archive.ArchivedMessage;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 관리자 대화 내역 내보내기의 한 줄(메시지 하나)을 담는 DTO
+ * JSON Lines 에서는 한 줄의 JSON 객체, CSV 에서는 한 행이 된다
+ * AdminTranscriptLine.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class AdminTranscriptLine {
+	private Long messageId;
+	private Long chatRoomId;
+	private Long writerId;
+	private String writerName;
+	private String type;
+	private LocalDateTime sentAt;
+	private String content;
+
+	public static AdminTranscriptLine of(Long chatRoomId, ArchivedMessage message, String writerName) {
+		return AdminTranscriptLine.builder()
+			.messageId(message.id())
+			.chatRoomId(chatRoomId)
+			.writerId(message.writerId())
+			.writerName(writerName)
+			.type(message.type().name())
+			.sentAt(message.sentAt())
+			.content(message.content())
+			.build();
+	}
+}
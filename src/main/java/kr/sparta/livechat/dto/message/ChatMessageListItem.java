@@ -2,6 +2,7 @@ package kr.sparta.livechat.dto.message;
 
 import java.time.LocalDateTime;
 
+import kr.sparta.livechat.archive.ArchivedMessage;
 import kr.sparta.livechat.domain.entity.Message;
 import kr.sparta.livechat.domain.role.MessageType;
 import lombok.Getter;
@@ -35,6 +36,14 @@ public class ChatMessageListItem {
 		this.sentAt = message.getSentAt();
 	}
 
+	private ChatMessageListItem(ArchivedMessage message) {
+		this.messageId = message.id();
+		this.writerId = message.writerId();
+		this.content = message.content();
+		this.messageType = message.type();
+		this.sentAt = message.sentAt();
+	}
+
 	/**
 	 * 엔티티를 메시지 목록 조회용 DTO로 변환합니다.
 	 *
@@ -44,4 +53,14 @@ public class ChatMessageListItem {
 	public static ChatMessageListItem from(Message message) {
 		return new ChatMessageListItem(message);
 	}
+
+	/**
+	 * 보관 메시지를 메시지 목록 조회용 DTO로 변환합니다.
+	 *
+	 * @param message 변환할 보관 메시지
+	 * @return 메시지 목록 조회에서 사용할 단일 메시지 정보
+	 */
+	public static ChatMessageListItem from(ArchivedMessage message) {
+		return new ChatMessageListItem(message);
+	}
 }
@@ -0,0 +1,47 @@
+package kr.sparta.livechat.dto.message;
+
+import java.time.LocalDateTime;
+
+import kr.sparta.livechat.domain.role.MessageType;
+import kr.sparta.livechat.repository.MessageRepository.MessageDocument;
+import lombok.Getter;
+
+/**
+ * 메시지 검색 결과의 단일 메시지 정보를 담는 DTO 클래스입니다.
+ * <p>
+ * 여러 채팅방의 메시지가 함께 조회되므로 메시지가 속한 채팅방 식별자를 포함합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+public class MessageSearchItem {
+
+	private final Long messageId;
+	private final Long chatRoomId;
+	private final Long writerId;
+	private final String content;
+	private final MessageType messageType;
+	private final LocalDateTime sentAt;
+
+	private MessageSearchItem(MessageDocument document) {
+		this.messageId = document.getId();
+		this.chatRoomId = document.getRoomId();
+		this.writerId = document.getWriterId();
+		this.content = document.getContent();
+		this.messageType = document.getType();
+		this.sentAt = document.getSentAt();
+	}
+
+	/**
+	 * 메시지 projection 을 검색 결과 DTO로 변환합니다.
+	 *
+	 * @param document 변환할 메시지 projection
+	 * @return 검색 결과 단일 메시지 정보
+	 */
+	public static MessageSearchItem from(MessageDocument document) {
+		return new MessageSearchItem(document);
+	}
+}
@@ -0,0 +1,26 @@
+package kr.sparta.livechat.dto.message;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 메시지 검색 API 응답 DTO 클래스입니다.
+ * <p>
+ * 검색 결과는 최신 메시지부터 반환되며, 커서(cursor) 기반으로 이전 결과를 이어서 조회합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+public class MessageSearchResponse {
+	private final String query;
+	private final int size;
+	private final boolean hasNext;
+	private final Long nextCursor;
+	private final List<MessageSearchItem> messageList;
+}
@@ -0,0 +1,27 @@
+package kr.sparta.livechat.dto.product;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 일괄 등록 API 응답 DTO 클래스입니다.
+ * <p>
+ * 읽은 행마다 처리 결과를 행 번호 순으로 반환합니다.
+ * 최대 행 수를 넘었거나 파일 중간에 형식 오류가 있으면 그 이전 행까지만 처리하고 {@code completed}를 false 로 반환합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+public class BulkProductImportResponse {
+	private final int total;
+	private final int created;
+	private final int failed;
+	private final boolean completed;
+	private final List<BulkProductRowResult> results;
+}
@@ -0,0 +1,52 @@
+package kr.sparta.livechat.dto.product;
+
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 일괄 등록 시 행 하나의 처리 결과를 담는 DTO입니다.
+ * <p>
+ * 등록에 성공하면 {@code productId}가, 실패하면 {@code errorCode}가 채워집니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class BulkProductRowResult {
+	private final int row;
+	private final String name;
+	private final Long productId;
+	private final String errorCode;
+
+	/**
+	 * 등록에 성공한 행의 결과를 생성합니다.
+	 *
+	 * @param row       파일 내 행 번호 (1부터, CSV 헤더 제외)
+	 * @param name      상품명
+	 * @param productId 생성된 상품 식별자
+	 * @return 행 처리 결과
+	 */
+	public static BulkProductRowResult created(int row, String name, Long productId) {
+		return new BulkProductRowResult(row, name, productId, null);
+	}
+
+	/**
+	 * 등록에 실패한 행의 결과를 생성합니다.
+	 *
+	 * @param row       파일 내 행 번호 (1부터, CSV 헤더 제외)
+	 * @param name      상품명 (읽을 수 없으면 null)
+	 * @param errorCode 실패 사유 에러코드
+	 * @return 행 처리 결과
+	 */
+	public static BulkProductRowResult failed(int row, String name, String errorCode) {
+		return new BulkProductRowResult(row, name, null, errorCode);
+	}
+
+	public boolean isCreated() {
+		return productId != null;
+	}
+}
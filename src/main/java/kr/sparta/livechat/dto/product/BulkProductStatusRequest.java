@@ -0,0 +1,34 @@
+package kr.sparta.livechat.dto.product;
+
+import java.util.List;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+import kr.sparta.livechat.domain.role.ProductStatus;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 상품 상태 일괄 변경 요청 DTO 클래스입니다.
+ * <p>
+ * 판매자가 소유한 여러 상품의 상태를 한 번에 변경합니다. 삭제는 상품 삭제 API 를 사용합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkProductStatusRequest {
+
+	@NotEmpty
+	@Size(max = 1000)
+	private List<Long> productIds;
+
+	@NotNull
+	private ProductStatus status;
+}
@@ -0,0 +1,26 @@
+package kr.sparta.livechat.dto.product;
+
+import java.util.List;
+
+import kr.sparta.livechat.domain.role.ProductStatus;
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 상태 일괄 변경 API 응답 DTO 클래스입니다.
+ * <p>
+ * 상태를 변경한 상품과 변경하지 못한 상품(존재하지 않거나, 삭제되었거나, 다른 판매자의 상품)을 나누어 반환합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+public class BulkProductStatusResponse {
+	private final ProductStatus status;
+	private final int updated;
+	private final List<Long> updatedIds;
+	private final List<Long> notFoundIds;
+}
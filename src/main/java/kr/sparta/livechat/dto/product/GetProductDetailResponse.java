@@ -2,6 +2,9 @@ package kr.sparta.livechat.dto.product;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import kr.sparta.livechat.domain.entity.Product;
 import kr.sparta.livechat.domain.role.ProductStatus;
 import lombok.Getter;
@@ -10,6 +13,7 @@ import lombok.Getter;
  * 특정 상품의 상세 정보를 조회할 수 있는 DTO 클래스입니다.
  * <p>
  * 로그인 여부와 관계없이 상품을 조회할 수 있습니다.
+ * 상품 캐시에 함께 저장되는 {@code updatedAt}으로 응답 본문과 같은 버전의 ETag/Last-Modified 를 만듭니다.
  * </p>
  *
  * @author 재원
@@ -26,9 +30,11 @@ public class GetProductDetailResponse {
 	private final Long sellerId;
 	private final ProductStatus status;
 	private final LocalDateTime createdAt;
+	private final LocalDateTime updatedAt;
 
 	/**
 	 * 상품 상세 조회 응답 DTO의 필드를 초기화하는 생성자입니다.
+	 * 상품 캐시에 저장한 JSON 을 다시 읽을 때도 사용합니다.
 	 *
 	 * @param productId   상품 고유 식별자
 	 * @param name        상품명
@@ -37,9 +43,18 @@ public class GetProductDetailResponse {
 	 * @param sellerId    판매자 ID
 	 * @param status      상품의 판매상태(ONSALE / SOLDOUT)
 	 * @param createdAt   상품의 등록일시
+	 * @param updatedAt   상품의 수정일시
 	 */
-	private GetProductDetailResponse(Long productId, String name, int price, String description, Long sellerId,
-		ProductStatus status, LocalDateTime createdAt) {
+	@JsonCreator
+	private GetProductDetailResponse(
+		@JsonProperty("productId") Long productId,
+		@JsonProperty("name") String name,
+		@JsonProperty("price") int price,
+		@JsonProperty("description") String description,
+		@JsonProperty("sellerId") Long sellerId,
+		@JsonProperty("status") ProductStatus status,
+		@JsonProperty("createdAt") LocalDateTime createdAt,
+		@JsonProperty("updatedAt") LocalDateTime updatedAt) {
 		this.productId = productId;
 		this.name = name;
 		this.price = price;
@@ -47,6 +62,7 @@ public class GetProductDetailResponse {
 		this.sellerId = sellerId;
 		this.status = status;
 		this.createdAt = createdAt;
+		this.updatedAt = updatedAt;
 	}
 
 	/**
@@ -63,7 +79,8 @@ public class GetProductDetailResponse {
 			product.getDescription(),
 			product.getSeller().getId(),
 			product.getStatus(),
-			product.getCreatedAt()
+			product.getCreatedAt(),
+			product.getUpdatedAt()
 		);
 	}
 }
@@ -0,0 +1,50 @@
+package kr.sparta.livechat.dto.product;
+
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 상품 피드 조회 API 응답 DTO 클래스입니다.
+ * <p>
+ * 최신 등록 상품부터 커서(cursor) 기반으로 조회한 결과를 반환합니다.
+ * 전체 개수는 별도의 COUNT 쿼리가 필요하므로 요청한 경우에만 포함합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+public class GetProductFeedResponse {
+	private final int size;
+	private final boolean hasNext;
+	private final String nextCursor;
+	private final Long totalElements;
+	private final List<ProductListItem> productList;
+
+	/**
+	 * 상품 피드 조회 응답 DTO를 생성합니다.
+	 *
+	 * @param size          조회에 사용된 페이지 크기
+	 * @param hasNext       추가 조회할 상품의 존재 여부
+	 * @param nextCursor    다음 조회에 사용할 커서. 추가 조회가 없으면 null
+	 * @param totalElements 조건에 맞는 전체 상품 개수. 요청하지 않았으면 null
+	 * @param productList   조회된 상품 목록
+	 */
+	public GetProductFeedResponse(
+		int size,
+		boolean hasNext,
+		String nextCursor,
+		Long totalElements,
+		List<ProductListItem> productList
+	) {
+		this.size = size;
+		this.hasNext = hasNext;
+		this.nextCursor = nextCursor;
+		this.totalElements = totalElements;
+		this.productList = productList;
+	}
+}
@@ -1,13 +1,19 @@
 package kr.sparta.livechat.dto.product;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import lombok.Getter;
 
 /**
  * 상품 목록 조회 API 응답 DTO 클래스입니다.
  * <p>
  * 페이징 정보와 상품 목록을 함께 반환합니다.
+ * {@code lastModifiedAt}은 목록을 조회할 때 읽은 전체 상품의 최근 수정 시각이며,
+ * 상품 캐시에 함께 저장되어 응답 본문과 같은 버전의 ETag/Last-Modified 를 만듭니다.
  * </p>
  *
  * @author 재원
@@ -22,9 +28,11 @@ public class GetProductListResponse {
 	private final int totalPages;
 	private final boolean hasNext;
 	private final List<ProductListItem> productList;
+	private final LocalDateTime lastModifiedAt;
 
 	/**
 	 * 상품 목록 조회 응답 DTO를 생성합니다.
+	 * 상품 캐시에 저장한 JSON 을 다시 읽을 때도 사용합니다.
 	 *
 	 * @param page          요청 페이지 번호
 	 * @param size          요청 페이지 크기
@@ -32,14 +40,23 @@ public class GetProductListResponse {
 	 * @param totalPages    전체 페이지 수
 	 * @param hasNext       다음 페이지 존재 여부
 	 * @param productList   상품 목록
+	 * @param lastModifiedAt 목록 조회 시점의 전체 상품 최근 수정 시각 (상품이 없으면 null)
 	 */
+	@JsonCreator
 	public GetProductListResponse(
-		int page, int size, Long totalElements, int totalPages, boolean hasNext, List<ProductListItem> productList) {
+		@JsonProperty("page") int page,
+		@JsonProperty("size") int size,
+		@JsonProperty("totalElements") Long totalElements,
+		@JsonProperty("totalPages") int totalPages,
+		@JsonProperty("hasNext") boolean hasNext,
+		@JsonProperty("productList") List<ProductListItem> productList,
+		@JsonProperty("lastModifiedAt") LocalDateTime lastModifiedAt) {
 		this.page = page;
 		this.size = size;
 		this.totalElements = totalElements;
 		this.totalPages = totalPages;
 		this.hasNext = hasNext;
 		this.productList = productList;
+		this.lastModifiedAt = lastModifiedAt;
 	}
 }
@@ -0,0 +1,21 @@
+package kr.sparta.livechat.dto.product;
+
+import kr.sparta.livechat.domain.role.ProductStatus;
+
+/**
+ * 상품 피드 조회 조건입니다.
+ * <p>
+ * 모든 조건은 선택이며 null 인 조건은 적용하지 않습니다.
+ * 삭제된 상품은 조건과 관계없이 조회하지 않습니다.
+ * </p>
+ *
+ * @param status   상품 상태 (ONSALE, SOLDOUT)
+ * @param sellerId 판매자 식별자
+ * @param minPrice 최소 가격 (포함)
+ * @param maxPrice 최대 가격 (포함)
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public record ProductFeedCondition(ProductStatus status, Long sellerId, Integer minPrice, Integer maxPrice) {
+}
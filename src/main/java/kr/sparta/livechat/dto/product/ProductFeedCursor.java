@@ -0,0 +1,73 @@
+package kr.sparta.livechat.dto.product;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+import kr.sparta.livechat.domain.entity.Product;
+import kr.sparta.livechat.global.exception.CustomException;
+import kr.sparta.livechat.global.exception.ErrorCode;
+
+/**
+ * 상품 피드 커서입니다.
+ * <p>
+ * 피드는 (createdAt, id) 내림차순으로 정렬되므로 마지막으로 조회한 상품의 등록 시각과 식별자를 함께 담습니다.
+ * 클라이언트에는 {@code "등록시각|식별자"} 를 URL-safe Base64 로 인코딩한 문자열로 전달합니다.
+ * </p>
+ *
+ * @param createdAt 마지막으로 조회한 상품의 등록 시각
+ * @param id        마지막으로 조회한 상품 식별자
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public record ProductFeedCursor(LocalDateTime createdAt, Long id) {
+
+	private static final String SEPARATOR = "|";
+
+	/**
+	 * 상품을 기준으로 다음 조회에 사용할 커서를 생성합니다.
+	 *
+	 * @param product 마지막으로 조회한 상품
+	 * @return 상품 피드 커서
+	 */
+	public static ProductFeedCursor from(Product product) {
+		return new ProductFeedCursor(product.getCreatedAt(), product.getId());
+	}
+
+	/**
+	 * 클라이언트가 전달한 커서 문자열을 해석합니다.
+	 *
+	 * @param encoded 이전 응답의 {@code nextCursor}
+	 * @return 상품 피드 커서
+	 * @throws CustomException 커서 형식이 올바르지 않은 경우
+	 */
+	public static ProductFeedCursor decode(String encoded) {
+		try {
+			String decoded = new String(Base64.getUrlDecoder().decode(encoded), StandardCharsets.UTF_8);
+			int separator = decoded.indexOf(SEPARATOR);
+			if (separator < 0) {
+				throw new CustomException(ErrorCode.COMMON_BAD_PAGINATION);
+			}
+			LocalDateTime createdAt = LocalDateTime.parse(decoded.substring(0, separator));
+			long id = Long.parseLong(decoded.substring(separator + 1));
+			if (id <= 0) {
+				throw new CustomException(ErrorCode.COMMON_BAD_PAGINATION);
+			}
+			return new ProductFeedCursor(createdAt, id);
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new CustomException(ErrorCode.COMMON_BAD_PAGINATION);
+		}
+	}
+
+	/**
+	 * 커서를 클라이언트에 전달할 문자열로 인코딩합니다.
+	 *
+	 * @return URL-safe Base64 커서 문자열
+	 */
+	public String encode() {
+		String raw = createdAt + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+}
@@ -2,6 +2,9 @@ package kr.sparta.livechat.dto.product;
 
 import java.time.LocalDateTime;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
 import kr.sparta.livechat.domain.entity.Product;
 import kr.sparta.livechat.domain.role.ProductStatus;
 import lombok.Getter;
@@ -44,6 +47,27 @@ public class ProductListItem {
 		this.createdAt = product.getCreatedAt();
 	}
 
+	/**
+	 * 상품 캐시에 저장한 JSON 을 다시 읽을 때 사용하는 생성자입니다.
+	 */
+	@JsonCreator
+	private ProductListItem(
+		@JsonProperty("productId") Long productId,
+		@JsonProperty("name") String name,
+		@JsonProperty("price") int price,
+		@JsonProperty("description") String description,
+		@JsonProperty("sellerId") Long sellerId,
+		@JsonProperty("status") ProductStatus status,
+		@JsonProperty("createdAt") LocalDateTime createdAt) {
+		this.productId = productId;
+		this.name = name;
+		this.price = price;
+		this.description = description;
+		this.sellerId = sellerId;
+		this.status = status;
+		this.createdAt = createdAt;
+	}
+
 	/**
 	 * Product 엔티티를 ProductListItem DTO로 변환하는 정적 팩토리 메서드입니다.
 	 * <p>
@@ -9,6 +9,8 @@ import lombok.Getter;
  *
  * 메시지가 DB에 저장된 이후 {@code /sub/chat/room/{roomId}} 구독자들에게
  * 전달되는 데이터 구조를 정의합니다.
+ * Redis Stream 저장소를 사용하는 경우 DB 저장 전에 전달되므로 {@code id}는 비어 있고
+ * {@code streamId}로 메시지를 식별합니다.
  *
  * @author 오정빈
  * @version 1.0
@@ -18,6 +20,7 @@ import lombok.Getter;
 @Builder
 public class MessageResponse {
 	private Long id;
+	private String streamId;
 	private Long roomId;
 	private Long writerId;
 	private String type;
@@ -0,0 +1,27 @@
+package kr.sparta.livechat.dto.socket;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 접속 상태 이벤트 응답 DTO입니다.
+ * 일정 주기 동안 모인 참여자의 접속/종료 변경분을 채팅방 단위로 묶어 브로드캐스트합니다.
+ * {@code snapshot}이 {@code true}이면 변경분이 아니라 현재 접속 중인 참여자 전체 목록입니다.
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+public class PresenceEventResponse {
+
+	private String event;
+	private Long roomId;
+	private List<Long> online;
+	private List<Long> offline;
+	private boolean snapshot;
+	private LocalDateTime sentAt;
+}
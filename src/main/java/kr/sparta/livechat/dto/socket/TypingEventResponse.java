@@ -0,0 +1,24 @@
+package kr.sparta.livechat.dto.socket;
+
+import java.time.LocalDateTime;
+
+import lombok.Builder;
+import lombok.Getter;
+
+/**
+ * 입력중 표시 이벤트 응답 DTO입니다.
+ * 저장되지 않는 일회성 이벤트로, 채팅방 구독자에게 사용자의 입력 상태를 브로드캐스트합니다.
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@Getter
+@Builder
+public class TypingEventResponse {
+
+	private String event;
+	private Long roomId;
+	private Long userId;
+	private boolean typing;
+	private LocalDateTime sentAt;
+}
@@ -0,0 +1,22 @@
+package kr.sparta.livechat.dto.socket;
+
+import jakarta.validation.constraints.NotNull;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * 입력중 표시 요청 DTO입니다.
+ * 클라이언트가 입력을 시작하거나 멈췄을 때 {@code /pub/chat/typing}으로 전송하는 요청 객체입니다.
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@Getter
+@NoArgsConstructor
+public class TypingRequest {
+
+	@NotNull(message = "roomId는 필수입니다.")
+	private Long roomId;
+
+	private boolean typing;
+}
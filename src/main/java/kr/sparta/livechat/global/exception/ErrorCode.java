@@ -92,6 +92,27 @@ public enum ErrorCode {
 	PRODUCT_NOT_AVAILABLE_FOR_CHAT(
 		HttpStatus.CONFLICT, "PRODCUT_NOT_AVAILABLE_FOR_CHAT", "판매중인 상품만 상담방을 생성할 수 있습니다."),
 
+	// 메시지 검색에서 사용할 에러코드
+	MESSAGE_SEARCH_INVALID_QUERY(
+		HttpStatus.BAD_REQUEST, "MESSAGE_SEARCH_INVALID_QUERY",
+		"검색어는 두 글자 이상 이어진 문자 또는 숫자를 포함하여 100자 이하로 입력해주세요."),
+
+	// 상품 검색에서 사용할 에러코드
+	PRODUCT_SEARCH_INVALID_QUERY(
+		HttpStatus.BAD_REQUEST, "PRODUCT_SEARCH_INVALID_QUERY", "검색어는 문자 또는 숫자를 포함하여 100자 이하로 입력해주세요."),
+
+	// 상품 일괄 등록에서 사용할 에러코드
+	PRODUCT_IMPORT_INVALID_FORMAT(
+		HttpStatus.BAD_REQUEST, "PRODUCT_IMPORT_INVALID_FORMAT", "지원하지 않는 등록 파일 형식입니다.(json, csv)"),
+	PRODUCT_IMPORT_INVALID_FILE(
+		HttpStatus.BAD_REQUEST, "PRODUCT_IMPORT_INVALID_FILE", "등록 파일을 읽을 수 없습니다. CSV 는 name,price,description 헤더가 필요합니다."),
+
+	// 관리자 대화 내역 내보내기에서 사용할 에러코드
+	EXPORT_INVALID_FORMAT(
+		HttpStatus.BAD_REQUEST, "EXPORT_INVALID_FORMAT", "지원하지 않는 내보내기 형식입니다.(jsonl, csv)"),
+	EXPORT_INVALID_ROOMS(
+		HttpStatus.BAD_REQUEST, "EXPORT_INVALID_ROOMS", "내보낼 채팅방은 1개 이상 1000개 이하로 지정해주세요."),
+
 	// 프로필 이미지 수정에서 사용할 에러코드
 	PROFILE_INVALID_FORMAT(
 		HttpStatus.BAD_REQUEST, "PROFILE_INVALID_FORMAT", "이미지 파일만 업로드 가능합니다.(jpg, jpeg, png, gif)"),
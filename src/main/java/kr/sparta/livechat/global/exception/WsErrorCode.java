@@ -23,7 +23,9 @@ public enum WsErrorCode {
 	FORBIDDEN(4002, "WS_FORBIDDEN", "권한 없음"),
 	INVALID_MESSAGE(4003, "WS_INVALID_MESSAGE", "type/content 형식 오류"),
 	CHAT_ROOM_NOT_FOUND(4004, "WS_CHAT_ROOM_NOT_FOUND", "해당 채팅방이 존재하지 않습니다."),
-	INTERNAL_ERROR(4005, "WS_INTERNAL_ERROR", "서버에 문제가 있습니다.");
+	INTERNAL_ERROR(4005, "WS_INTERNAL_ERROR", "서버에 문제가 있습니다."),
+	SLOW_CONSUMER(4006, "WS_SLOW_CONSUMER", "메시지 수신이 지연되어 연결을 종료합니다."),
+	CHAT_ROOM_CLOSED(4007, "WS_CHAT_ROOM_CLOSED", "종료된 채팅방입니다.");
 
 	private final int status;
 	private final String code;
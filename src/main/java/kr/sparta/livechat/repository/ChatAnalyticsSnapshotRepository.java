@@ -0,0 +1,30 @@
+package kr.sparta.livechat.repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import kr.sparta.livechat.domain.entity.ChatAnalyticsSnapshot;
+import kr.sparta.livechat.domain.role.AnalyticsDimension;
+
+/**
+ * ChatAnalyticsSnapshotRepository 인터페이스입니다.
+ * <p>
+ * 판매자/상품 단위 상담 지표 스냅샷에 대한 데이터 접근을 담당하는 레포지토리 인터페이스입니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public interface ChatAnalyticsSnapshotRepository extends JpaRepository<ChatAnalyticsSnapshot, Long> {
+
+	Optional<ChatAnalyticsSnapshot> findByDimensionAndTargetId(AnalyticsDimension dimension, Long targetId);
+
+	List<ChatAnalyticsSnapshot> findByDimensionAndTargetIdIn(AnalyticsDimension dimension, Collection<Long> targetIds);
+
+	List<ChatAnalyticsSnapshot> findByDimensionOrderByRoomsClosedDesc(AnalyticsDimension dimension, Pageable pageable);
+}
@@ -0,0 +1,18 @@
+package kr.sparta.livechat.repository;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import kr.sparta.livechat.domain.entity.ChatRoomArchive;
+
+/**
+ * ChatRoomArchiveRepository 인터페이스입니다.
+ * <p>
+ * 메시지가 보관 세그먼트로 옮겨진 채팅방 기록에 대한 데이터 접근을 담당합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public interface ChatRoomArchiveRepository extends JpaRepository<ChatRoomArchive, Long> {
+}
@@ -1,8 +1,14 @@
 package kr.sparta.livechat.repository;
 
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import kr.sparta.livechat.domain.entity.ChatRoomParticipant;
+import kr.sparta.livechat.domain.role.ChatRoomStatus;
 
 /**
  * ChatRoomParticipant 엔티티에 대한 데이터 접근을 담당하는 Repository 인터페이스입니다.
@@ -18,4 +24,50 @@ public interface ChatRoomParticipantRepository extends JpaRepository<ChatRoomPar
 
 	boolean existsByRoomIdAndUserId(Long roomId, Long userId);
 
+	/**
+	 * 사용자들이 참여 중인 특정 상태의 채팅방 식별자를 (채팅방, 사용자) 쌍으로 조회합니다.
+	 * 엔티티를 로딩하지 않고 식별자만 조회하므로 접속 상태 브로드캐스트 대상 계산에 사용합니다.
+	 *
+	 * @param userIds 사용자 식별자 목록
+	 * @param status  조회할 채팅방 상태
+	 * @return 채팅방 식별자와 사용자 식별자 쌍 목록
+	 */
+	@Query("""
+			select p.room.id as roomId, p.user.id as userId
+			from ChatRoomParticipant p
+			where p.user.id in :userIds
+			  and p.room.status = :status
+		""")
+	List<RoomMember> findRoomMembersByUserIds(
+		@Param("userIds") Collection<Long> userIds,
+		@Param("status") ChatRoomStatus status
+	);
+
+	/**
+	 * 채팅방 참여자의 사용자 식별자 목록을 조회합니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @return 참여자 사용자 식별자 목록
+	 */
+	@Query("select p.user.id from ChatRoomParticipant p where p.room.id = :roomId")
+	List<Long> findUserIdsByRoomId(@Param("roomId") Long roomId);
+
+	/**
+	 * 사용자가 참여한 채팅방 식별자 목록을 조회합니다.
+	 * 메시지 검색 범위를 참여 중인 채팅방으로 제한할 때 사용합니다.
+	 *
+	 * @param userId 사용자 식별자
+	 * @return 참여 채팅방 식별자 목록
+	 */
+	@Query("select p.room.id from ChatRoomParticipant p where p.user.id = :userId")
+	List<Long> findRoomIdsByUserId(@Param("userId") Long userId);
+
+	/**
+	 * 채팅방 식별자와 참여 사용자 식별자 projection 입니다.
+	 */
+	interface RoomMember {
+		Long getRoomId();
+
+		Long getUserId();
+	}
 }
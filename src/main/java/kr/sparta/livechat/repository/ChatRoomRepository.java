@@ -1,17 +1,25 @@
 package kr.sparta.livechat.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Objects;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import kr.sparta.livechat.domain.entity.ChatRoom;
 import kr.sparta.livechat.domain.role.ChatRoomStatus;
 import kr.sparta.livechat.domain.role.RoleInRoom;
+import kr.sparta.livechat.dto.admin.AdminChatRoomResponse;
 
 /**
  * ChatRoom 엔티티에 대한 데이터 접근을 담당하는 Repository 인터페이스입니다.
@@ -55,5 +63,320 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
 	@EntityGraph(attributePaths = {"participants", "participants.user", "product"})
 	Optional<ChatRoom> findById(Long chatRoomId);
-}
 
+	/**
+	 * 채팅방 상세 응답의 마지막 수정 시각을 계산하는 데 필요한 값만 조회합니다.
+	 * 채팅방, 상품, 참여자의 수정 시각만 읽으므로 조건부 요청(If-None-Match)을 연관 엔티티 로딩 없이 판단할 수 있습니다.
+	 * 요청 사용자가 참여자가 아니면 결과가 없습니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @param userId 요청 사용자 식별자
+	 * @return 수정 시각 projection (채팅방이 없거나 참여자가 아니면 empty)
+	 */
+	@Query("""
+			select r.updatedAt as roomUpdatedAt, pr.updatedAt as productUpdatedAt,
+			       (select max(u.updatedAt) from ChatRoomParticipant cp join cp.user u
+			        where cp.room.id = r.id) as participantsUpdatedAt
+			from ChatRoom r
+			join r.product pr
+			where r.id = :roomId
+			  and exists (
+			      select me.id from ChatRoomParticipant me
+			      where me.room.id = r.id and me.user.id = :userId
+			  )
+		""")
+	Optional<RoomVersionRow> findRoomVersion(@Param("roomId") Long roomId, @Param("userId") Long userId);
+
+	/**
+	 * 식별자 목록 중 존재하는 채팅방 식별자만 조회합니다.
+	 *
+	 * @param roomIds 채팅방 식별자 목록
+	 * @return 존재하는 채팅방 식별자 목록
+	 */
+	@Query("select r.id from ChatRoom r where r.id in :roomIds")
+	List<Long> findExistingIds(@Param("roomIds") Collection<Long> roomIds);
+
+	/**
+	 * 메시지 전송 검증에 필요한 채팅방 상태와 참여자 역할을 참여자 단위 projection 으로 조회합니다.
+	 * 상품과 사용자는 외래 키 값만 읽으므로 채팅방과 참여자 테이블만 조회합니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @return 참여자별 채팅방 상태 목록 (채팅방이 없으면 빈 목록)
+	 */
+	@Query("""
+			select r.id as roomId, r.product.id as productId, r.status as status,
+			       p.user.id as userId, p.roleInRoom as roleInRoom
+			from ChatRoomParticipant p
+			join p.room r
+			where r.id = :roomId
+		""")
+	List<RoomStateRow> findRoomStateRows(@Param("roomId") Long roomId);
+
+	/**
+	 * 관리자 채팅방 목록을 DTO projection 으로 조회합니다.
+	 * 상품, 판매자, 구매자를 한 번에 join 하여 채팅방마다 연관 엔티티를 지연 로딩하지 않도록 합니다.
+	 * 정렬은 전달된 {@link Pageable}의 정렬 조건(status, createdAt)을 따르며
+	 * {@code idx_chat_rooms_status_created_at} 인덱스를 사용합니다.
+	 *
+	 * @param pageable 페이지 및 정렬 정보
+	 * @return 관리자 채팅방 목록 페이지
+	 */
+	@Query(
+		value = """
+				select new kr.sparta.livechat.dto.admin.AdminChatRoomResponse(
+					r.id, r.status, r.createdAt, r.closedAt, pr.name,
+					coalesce(su.name, 'Unknown'), coalesce(bu.name, 'Unknown'), r.lastMessageSentAt)
+				from ChatRoom r
+				join r.product pr
+				left join r.participants sp on sp.roleInRoom = kr.sparta.livechat.domain.role.RoleInRoom.SELLER
+				left join sp.user su
+				left join r.participants bp on bp.roleInRoom = kr.sparta.livechat.domain.role.RoleInRoom.BUYER
+				left join bp.user bu
+			""",
+		countQuery = "select count(r) from ChatRoom r"
+	)
+	Page<AdminChatRoomResponse> findAdminChatRooms(Pageable pageable);
+
+	/**
+	 * 채팅방 상태만 조회합니다. 참여자와 상품을 함께 읽지 않으므로 상태 확인만 필요한 곳에서 사용합니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @return 채팅방 상태, 채팅방이 없으면 빈 값
+	 */
+	@Query("select r.status from ChatRoom r where r.id = :roomId")
+	Optional<ChatRoomStatus> findStatusById(@Param("roomId") Long roomId);
+
+	/**
+	 * 채팅방 행을 트랜잭션이 끝날 때까지 배타적으로 잠급니다.
+	 * 종료 이벤트를 저장 중인 메시지 뒤에 기록할 때 사용합니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @return 잠근 채팅방 식별자, 채팅방이 없으면 빈 값
+	 */
+	@Query(value = "select id from chat_rooms where id = :roomId for update", nativeQuery = true)
+	Optional<Long> lockById(@Param("roomId") Long roomId);
+
+	/**
+	 * 채팅방 행을 트랜잭션이 끝날 때까지 배타적으로 잠그고 상태를 조회합니다.
+	 * 메시지 저장 전에 호출하여 같은 채팅방의 저장과 종료를 직렬화하고, 잠근 행의 최신 상태로 종료 여부를 확인합니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @return 채팅방 상태 이름, 채팅방이 없으면 빈 값
+	 */
+	@Query(value = "select status from chat_rooms where id = :roomId for update", nativeQuery = true)
+	Optional<String> lockStatusById(@Param("roomId") Long roomId);
+
+	/**
+	 * 특정 상태의 채팅방 식별자를 식별자 순으로 keyset 조회합니다.
+	 * 배치 작업에서 채팅방을 일정 크기로 나누어 처리할 때 사용합니다.
+	 *
+	 * @param status   조회할 채팅방 상태
+	 * @param afterId  이전 묶음의 마지막 채팅방 식별자 (처음이면 0)
+	 * @param pageable 조회 크기
+	 * @return 채팅방 식별자 목록
+	 */
+	@Query("select r.id from ChatRoom r where r.status = :status and r.id > :afterId order by r.id")
+	List<Long> findIdsByStatusAfter(
+		@Param("status") ChatRoomStatus status,
+		@Param("afterId") Long afterId,
+		Pageable pageable
+	);
+
+	/**
+	 * 대상 상품들의 OPEN 채팅방 식별자를 식별자 순으로 keyset 조회합니다.
+	 * 상품이 판매 완료되거나 삭제되었을 때 남은 채팅방을 묶음 단위로 종료하는 데 사용합니다.
+	 *
+	 * @param productIds 상품 식별자 목록
+	 * @param afterId    이전 묶음의 마지막 채팅방 식별자 (처음이면 0)
+	 * @param pageable   조회 크기
+	 * @return 채팅방 식별자 목록
+	 */
+	@Query("""
+			select r.id
+			from ChatRoom r
+			where r.product.id in :productIds
+			  and r.status = kr.sparta.livechat.domain.role.ChatRoomStatus.OPEN
+			  and r.id > :afterId
+			order by r.id
+		""")
+	List<Long> findOpenRoomIdsByProductIdIn(
+		@Param("productIds") Collection<Long> productIds,
+		@Param("afterId") Long afterId,
+		Pageable pageable
+	);
+
+	/**
+	 * 마지막 메시지 이후 {@code idleBefore}까지 대화가 없는 OPEN 채팅방 식별자를 식별자 순으로 keyset 조회합니다.
+	 * 마지막 메시지 시각은 채팅방 통계에서 읽으며, 통계가 없는 채팅방은 보정 작업에서 통계가 생성된 뒤 대상이 됩니다.
+	 *
+	 * @param idleBefore 이 시각 이전이 마지막 메시지인 채팅방이 대상
+	 * @param afterId    이전 묶음의 마지막 채팅방 식별자 (처음이면 0)
+	 * @param pageable   조회 크기
+	 * @return 채팅방 식별자 목록
+	 */
+	@Query("""
+			select r.id
+			from ChatRoom r
+			join ChatRoomStats s on s.roomId = r.id
+			where r.status = kr.sparta.livechat.domain.role.ChatRoomStatus.OPEN
+			  and coalesce(s.lastMessageAt, r.openedAt) < :idleBefore
+			  and r.id > :afterId
+			order by r.id
+		""")
+	List<Long> findIdleRoomIds(
+		@Param("idleBefore") LocalDateTime idleBefore,
+		@Param("afterId") Long afterId,
+		Pageable pageable
+	);
+
+	/**
+	 * 종료 후 {@code closedBefore}가 지났고 아직 메시지를 보관하지 않은 채팅방 식별자를 식별자 순으로 keyset 조회합니다.
+	 *
+	 * @param closedBefore 이 시각 이전에 종료된 채팅방이 대상
+	 * @param afterId      이전 묶음의 마지막 채팅방 식별자 (처음이면 0)
+	 * @param pageable     조회 크기
+	 * @return 채팅방 식별자 목록
+	 */
+	@Query("""
+			select r.id
+			from ChatRoom r
+			where r.status = kr.sparta.livechat.domain.role.ChatRoomStatus.CLOSED
+			  and r.closedAt < :closedBefore
+			  and r.id > :afterId
+			  and not exists (select a.roomId from ChatRoomArchive a where a.roomId = r.id)
+			order by r.id
+		""")
+	List<Long> findArchivableRoomIds(
+		@Param("closedBefore") LocalDateTime closedBefore,
+		@Param("afterId") Long afterId,
+		Pageable pageable
+	);
+
+	/**
+	 * 대상 채팅방 중 여전히 OPEN 이고 대화가 없는 채팅방만 한 번의 UPDATE 로 종료합니다.
+	 * 조회 이후 메시지가 전송된 채팅방은 조건을 다시 확인하여 종료하지 않습니다.
+	 *
+	 * @param roomIds    종료 대상 후보 채팅방 식별자 목록
+	 * @param idleBefore 이 시각 이전이 마지막 메시지인 채팅방이 대상
+	 * @param closedAt   종료 시각
+	 * @param reason     종료 사유
+	 * @return 종료된 채팅방 수
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("""
+			update ChatRoom r
+			set r.status = kr.sparta.livechat.domain.role.ChatRoomStatus.CLOSED,
+			    r.closedAt = :closedAt,
+			    r.reason = :reason,
+			    r.updatedAt = :closedAt
+			where r.id in :roomIds
+			  and r.status = kr.sparta.livechat.domain.role.ChatRoomStatus.OPEN
+			  and exists (
+			      select s.roomId from ChatRoomStats s
+			      where s.roomId = r.id and coalesce(s.lastMessageAt, r.openedAt) < :idleBefore
+			  )
+		""")
+	int closeIdleRooms(
+		@Param("roomIds") Collection<Long> roomIds,
+		@Param("idleBefore") LocalDateTime idleBefore,
+		@Param("closedAt") LocalDateTime closedAt,
+		@Param("reason") String reason
+	);
+
+	/**
+	 * 대상 채팅방 중 OPEN 인 채팅방을 한 번의 UPDATE 로 종료합니다.
+	 *
+	 * @param roomIds  종료 대상 채팅방 식별자 목록
+	 * @param closedAt 종료 시각
+	 * @param reason   종료 사유
+	 * @return 종료된 채팅방 수
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("""
+			update ChatRoom r
+			set r.status = kr.sparta.livechat.domain.role.ChatRoomStatus.CLOSED,
+			    r.closedAt = :closedAt,
+			    r.reason = :reason,
+			    r.updatedAt = :closedAt
+			where r.id in :roomIds
+			  and r.status = kr.sparta.livechat.domain.role.ChatRoomStatus.OPEN
+		""")
+	int closeOpenRooms(
+		@Param("roomIds") Collection<Long> roomIds,
+		@Param("closedAt") LocalDateTime closedAt,
+		@Param("reason") String reason
+	);
+
+	/**
+	 * 일괄 종료 UPDATE 로 종료된 채팅방의 요약 생성에 필요한 값을 조회합니다.
+	 * 같은 종료 시각으로 종료된 채팅방만 반환하므로 다른 경로에서 먼저 종료된 채팅방은 제외됩니다.
+	 *
+	 * @param roomIds  종료 대상 후보 채팅방 식별자 목록
+	 * @param closedAt 일괄 종료 시각
+	 * @return 종료된 채팅방 목록
+	 */
+	@Query("""
+			select r.id as roomId, pr.id as productId, pr.seller.id as sellerId,
+			       r.openedAt as openedAt, r.closedAt as closedAt
+			from ChatRoom r
+			join r.product pr
+			where r.id in :roomIds
+			  and r.status = kr.sparta.livechat.domain.role.ChatRoomStatus.CLOSED
+			  and r.closedAt = :closedAt
+		""")
+	List<ClosedRoomRow> findClosedRooms(
+		@Param("roomIds") Collection<Long> roomIds,
+		@Param("closedAt") LocalDateTime closedAt
+	);
+
+	/**
+	 * 일괄 종료된 채팅방 projection 입니다.
+	 */
+	interface ClosedRoomRow {
+		Long getRoomId();
+
+		Long getProductId();
+
+		Long getSellerId();
+
+		LocalDateTime getOpenedAt();
+
+		LocalDateTime getClosedAt();
+	}
+
+	/**
+	 * 채팅방 상태 캐시 적재용 projection 입니다.
+	 */
+	interface RoomStateRow {
+		Long getRoomId();
+
+		Long getProductId();
+
+		ChatRoomStatus getStatus();
+
+		Long getUserId();
+
+		RoleInRoom getRoleInRoom();
+	}
+
+	/**
+	 * 채팅방 상세 응답의 수정 시각 projection 입니다.
+	 */
+	interface RoomVersionRow {
+		LocalDateTime getRoomUpdatedAt();
+
+		LocalDateTime getProductUpdatedAt();
+
+		LocalDateTime getParticipantsUpdatedAt();
+
+		/**
+		 * 채팅방, 상품, 참여자 중 가장 최근 수정 시각을 반환합니다.
+		 */
+		default LocalDateTime getLastModifiedAt() {
+			return Stream.of(getRoomUpdatedAt(), getProductUpdatedAt(), getParticipantsUpdatedAt())
+				.filter(Objects::nonNull)
+				.max(Comparator.naturalOrder())
+				.orElse(null);
+		}
+	}
+}
@@ -0,0 +1,75 @@
+package kr.sparta.livechat.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import jakarta.persistence.LockModeType;
+import kr.sparta.livechat.domain.entity.ChatRoomStats;
+
+/**
+ * ChatRoomStatsRepository 인터페이스입니다.
+ * <p>
+ * 채팅방 메시지 통계에 대한 데이터 접근을 담당하는 레포지토리 인터페이스입니다.
+ * 메시지 전송 시 통계 갱신은 읽기 없이 단일 UPDATE 로 처리합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public interface ChatRoomStatsRepository extends JpaRepository<ChatRoomStats, Long> {
+
+	/**
+	 * 메시지 1건을 통계에 원자적으로 반영합니다.
+	 * 첫 판매자 메시지인 경우 첫 응답 시각을 함께 기록하고, 마지막 메시지 시각을 갱신합니다.
+	 *
+	 * @param roomId          채팅방 식별자
+	 * @param buyerIncrement  구매자 메시지이면 1, 아니면 0
+	 * @param sellerIncrement 판매자 메시지이면 1, 아니면 0
+	 * @param sentAt          메시지 전송 시각
+	 * @return 갱신된 행 수 (통계가 없는 채팅방이면 0)
+	 */
+	@Transactional
+	@Modifying
+	@Query("""
+			update ChatRoomStats s
+			set s.messageCount = s.messageCount + 1,
+			    s.buyerMessageCount = s.buyerMessageCount + :buyerIncrement,
+			    s.sellerMessageCount = s.sellerMessageCount + :sellerIncrement,
+			    s.firstMessageAt = coalesce(s.firstMessageAt, :sentAt),
+			    s.lastMessageAt = case
+			        when s.lastMessageAt is null or s.lastMessageAt < :sentAt then :sentAt
+			        else s.lastMessageAt
+			    end,
+			    s.firstResponseAt = case
+			        when s.firstResponseAt is null and :sellerIncrement = 1 then :sentAt
+			        else s.firstResponseAt
+			    end
+			where s.roomId = :roomId
+		""")
+	int increment(
+		@Param("roomId") Long roomId,
+		@Param("buyerIncrement") long buyerIncrement,
+		@Param("sellerIncrement") long sellerIncrement,
+		@Param("sentAt") LocalDateTime sentAt
+	);
+
+	/**
+	 * 채팅방 통계를 트랜잭션이 끝날 때까지 배타적으로 잠그고 조회합니다.
+	 * 잠긴 동안 같은 채팅방의 증분 갱신은 대기하므로, 보정 값을 덮어써도 증분이 유실되지 않습니다.
+	 *
+	 * @param roomIds 채팅방 식별자 목록
+	 * @return 잠근 통계 목록 (통계가 없는 채팅방은 제외)
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select s from ChatRoomStats s where s.roomId in :roomIds order by s.roomId")
+	List<ChatRoomStats> findAllForUpdate(@Param("roomIds") Collection<Long> roomIds);
+}
@@ -1,6 +1,13 @@
 package kr.sparta.livechat.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import kr.sparta.livechat.domain.entity.ChatRoomSummary;
 
@@ -16,4 +23,29 @@ import kr.sparta.livechat.domain.entity.ChatRoomSummary;
  */
 public interface ChatRoomSummaryRepository extends JpaRepository<ChatRoomSummary, Long> {
 	boolean existsByRoomId(Long roomId);
+
+	@Query("select s.roomId from ChatRoomSummary s where s.roomId in :roomIds")
+	List<Long> findRoomIdsByRoomIdIn(@Param("roomIds") Collection<Long> roomIds);
+
+	/**
+	 * 지정한 기간에 종료된 요약 정보를 식별자 순으로 나누어 조회합니다.
+	 *
+	 * @param from     조회 시작 시각 (포함)
+	 * @param to       조회 종료 시각 (미포함)
+	 * @param afterId  이전 묶음의 마지막 요약 식별자 (처음이면 0)
+	 * @param pageable 조회할 행 수
+	 * @return 요약 정보 목록
+	 */
+	@Query("""
+			select s from ChatRoomSummary s
+			where s.closedAt >= :from and s.closedAt < :to
+			  and s.id > :afterId
+			order by s.id asc
+		""")
+	List<ChatRoomSummary> findClosedBetween(
+		@Param("from") LocalDateTime from,
+		@Param("to") LocalDateTime to,
+		@Param("afterId") Long afterId,
+		Pageable pageable
+	);
 }
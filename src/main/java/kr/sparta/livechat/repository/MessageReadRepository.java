@@ -1,6 +1,9 @@
 package kr.sparta.livechat.repository;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import kr.sparta.livechat.domain.entity.MessageRead;
 
@@ -21,4 +24,18 @@ import kr.sparta.livechat.domain.entity.MessageRead;
  * @since 2025. 12. 19.
  */
 public interface MessageReadRepository extends JpaRepository<MessageRead, Long> {
+
+	/**
+	 * 채팅방 메시지의 읽음 기록을 한 번의 DELETE 로 삭제합니다.
+	 * 메시지를 보관 세그먼트로 옮긴 뒤 메시지 행을 삭제하기 전에 사용합니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @return 삭제된 읽음 기록 수
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("""
+			delete from MessageRead r
+			where r.message.id in (select m.id from Message m where m.room.id = :roomId)
+		""")
+	int deleteByRoomId(@Param("roomId") Long roomId);
 }
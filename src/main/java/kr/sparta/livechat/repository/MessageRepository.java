@@ -1,11 +1,21 @@
 package kr.sparta.livechat.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import kr.sparta.livechat.domain.entity.Message;
+import kr.sparta.livechat.domain.role.MessageType;
+import kr.sparta.livechat.domain.role.RoleInRoom;
+import kr.sparta.livechat.dto.admin.AdminChatMessageResponse;
 
 /**
  * Message 엔티티에 대한 데이터 접근을 담당하는 레포지토리 인터페이스입니다.
@@ -39,4 +49,166 @@ public interface MessageRepository extends JpaRepository<Message, Long> {
 	Slice<Message> findByRoom_Id(Long chatRoomId, Pageable pageable);
 
 	Slice<Message> findByRoom_IdAndIdLessThan(Long roomId, Long beforeMessageId, Pageable pageable);
+
+	/**
+	 * 채팅방별, 작성자 역할별 메시지 수와 첫/마지막 메시지 시각을 집계합니다.
+	 * 증분 통계의 보정과 통계가 없는 채팅방의 요약 생성에 사용합니다.
+	 *
+	 * @param roomIds 집계할 채팅방 식별자 목록
+	 * @return 채팅방/역할 단위 집계 결과
+	 */
+	@Query("""
+			select m.room.id as roomId, p.roleInRoom as role, count(m) as messageCount,
+			       min(m.sentAt) as firstSentAt, max(m.sentAt) as lastSentAt
+			from Message m
+			join ChatRoomParticipant p on p.room = m.room and p.user = m.writer
+			where m.room.id in :roomIds
+			group by m.room.id, p.roleInRoom
+		""")
+	List<RoomRoleMessageCount> countByRoomIdsGroupByRole(@Param("roomIds") Collection<Long> roomIds);
+
+	/**
+	 * 이미 저장된 Redis Stream 항목 식별자를 조회합니다.
+	 * Stream 저장 작업이 확인(ACK) 전에 중단되어 같은 항목을 다시 읽은 경우 중복 저장을 막는 데 사용합니다.
+	 *
+	 * @param streamIds Stream 항목 식별자 목록
+	 * @return 저장된 Stream 항목 식별자 목록
+	 */
+	@Query("select m.streamId from Message m where m.streamId in :streamIds")
+	List<String> findStreamIdsIn(@Param("streamIds") Collection<String> streamIds);
+
+	/**
+	 * 검색 색인과 검색 결과에 필요한 메시지 값을 식별자 목록으로 조회합니다.
+	 * 채팅방과 작성자는 외래 키 값만 읽으므로 메시지 테이블만 조회합니다.
+	 *
+	 * @param ids 메시지 식별자 목록
+	 * @return 메시지 projection 목록
+	 */
+	@Query("""
+			select m.id as id, m.room.id as roomId, m.writer.id as writerId,
+			       m.type as type, m.content as content, m.sentAt as sentAt
+			from Message m
+			where m.id in :ids
+		""")
+	List<MessageDocument> findDocumentsByIdIn(@Param("ids") Collection<Long> ids);
+
+	/**
+	 * 특정 식별자 이후의 메시지 식별자만 식별자 순으로 keyset 조회합니다.
+	 * 검색 색인이 아직 색인하지 않은 메시지와 빈 번호를 찾을 때 본문을 읽지 않고 사용합니다.
+	 *
+	 * @param afterId  이 식별자보다 큰 메시지가 대상
+	 * @param pageable 조회 개수
+	 * @return 메시지 식별자 목록 (식별자 오름차순)
+	 */
+	@Query("select m.id from Message m where m.id > :afterId order by m.id")
+	List<Long> findIdsAfter(@Param("afterId") Long afterId, Pageable pageable);
+
+	/**
+	 * 관리자 상세 조회용 메시지 목록을 DTO projection 으로 조회합니다.
+	 * 작성자를 join 하여 메시지마다 작성자를 지연 로딩하지 않도록 합니다.
+	 * 정렬은 전달된 {@link Pageable}의 정렬 조건을 따릅니다.
+	 *
+	 * @param roomId   채팅방 식별자
+	 * @param pageable 페이지 및 정렬 정보
+	 * @return 메시지 목록 slice
+	 */
+	@Query("""
+			select new kr.sparta.livechat.dto.admin.AdminChatMessageResponse(
+				m.id, m.content, m.type, w.id, w.name, m.sentAt)
+			from Message m
+			join m.writer w
+			where m.room.id = :roomId
+		""")
+	Slice<AdminChatMessageResponse> findAdminMessagesByRoomId(@Param("roomId") Long roomId, Pageable pageable);
+
+	/**
+	 * 관리자 상세 조회용 메시지 목록을 식별자 역순으로 keyset 조회합니다.
+	 * OFFSET 없이 {@code beforeId}보다 작은 메시지부터 읽으므로 깊은 위치도 첫 페이지와 같은 비용으로 조회합니다.
+	 * 작성자를 join 하여 작성자 이름을 함께 읽습니다.
+	 * {@code idx_messages_room_id (room_id, id)} 인덱스를 역순으로 읽어 정렬 없이 {@code size}건에서 멈춥니다.
+	 *
+	 * @param roomId   채팅방 식별자
+	 * @param beforeId 이 식별자보다 작은 메시지가 대상
+	 * @param pageable 조회 크기
+	 * @return 메시지 목록 (최신순)
+	 */
+	@Query("""
+			select new kr.sparta.livechat.dto.admin.AdminChatMessageResponse(
+				m.id, m.content, m.type, w.id, w.name, m.sentAt)
+			from Message m
+			join m.writer w
+			where m.room.id = :roomId
+			  and m.id < :beforeId
+			order by m.id desc
+		""")
+	List<AdminChatMessageResponse> findAdminMessagesBefore(
+		@Param("roomId") Long roomId,
+		@Param("beforeId") Long beforeId,
+		Pageable pageable
+	);
+
+	/**
+	 * 채팅방의 메시지를 식별자 순으로 keyset 조회합니다.
+	 * 종료된 채팅방의 메시지를 보관 세그먼트로 옮길 때 사용합니다.
+	 *
+	 * @param roomId   채팅방 식별자
+	 * @param afterId  이전 묶음의 마지막 메시지 식별자 (처음이면 0)
+	 * @param pageable 조회 크기
+	 * @return 메시지 projection 목록
+	 */
+	@Query("""
+			select m.id as id, m.room.id as roomId, m.writer.id as writerId,
+			       m.type as type, m.content as content, m.sentAt as sentAt
+			from Message m
+			where m.room.id = :roomId
+			  and m.id > :afterId
+			order by m.id
+		""")
+	List<MessageDocument> findDocumentsByRoomIdAfter(
+		@Param("roomId") Long roomId,
+		@Param("afterId") Long afterId,
+		Pageable pageable
+	);
+
+	/**
+	 * 보관 세그먼트로 옮겨진 채팅방의 메시지를 한 번의 DELETE 로 삭제합니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @return 삭제된 메시지 수
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("delete from Message m where m.room.id = :roomId")
+	int deleteByRoomId(@Param("roomId") Long roomId);
+
+	/**
+	 * 채팅방/작성자 역할 단위 메시지 집계 projection 입니다.
+	 */
+	interface RoomRoleMessageCount {
+		Long getRoomId();
+
+		RoleInRoom getRole();
+
+		Long getMessageCount();
+
+		LocalDateTime getFirstSentAt();
+
+		LocalDateTime getLastSentAt();
+	}
+
+	/**
+	 * 검색 색인/결과용 메시지 projection 입니다.
+	 */
+	interface MessageDocument {
+		Long getId();
+
+		Long getRoomId();
+
+		Long getWriterId();
+
+		MessageType getType();
+
+		String getContent();
+
+		LocalDateTime getSentAt();
+	}
 }
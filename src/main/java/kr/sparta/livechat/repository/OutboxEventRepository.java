@@ -0,0 +1,31 @@
+package kr.sparta.livechat.repository;
+
+import java.util.List;
+
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import kr.sparta.livechat.domain.entity.OutboxEvent;
+
+/**
+ * OutboxEvent 엔티티에 대한 데이터 접근을 담당하는 Repository 인터페이스입니다.
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+	/**
+	 * 파티션의 미전송 이벤트를 식별자 순으로 조회합니다.
+	 * 파티션 잠금을 보유한 트랜잭션에서만 호출하므로 이벤트 행은 잠그지 않습니다.
+	 *
+	 * @param partitionNo 파티션 번호
+	 * @param pageable    조회 크기
+	 * @return 식별자 순 이벤트 목록
+	 */
+	@Query("select e from OutboxEvent e where e.partitionNo = :partitionNo order by e.id")
+	List<OutboxEvent> findBatch(@Param("partitionNo") int partitionNo, Pageable pageable);
+}
@@ -0,0 +1,32 @@
+package kr.sparta.livechat.repository;
+
+import java.util.Optional;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import kr.sparta.livechat.domain.entity.OutboxPartition;
+
+/**
+ * OutboxPartition 엔티티에 대한 데이터 접근을 담당하는 Repository 인터페이스입니다.
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public interface OutboxPartitionRepository extends JpaRepository<OutboxPartition, Integer> {
+
+	/**
+	 * 파티션 행을 잠급니다. 다른 트랜잭션이 잠근 경우 대기하지 않고 빈 값을 반환합니다.
+	 * 잠금은 호출한 트랜잭션이 끝날 때 해제됩니다.
+	 *
+	 * @param partitionNo 파티션 번호
+	 * @return 잠금에 성공하면 파티션 번호, 다른 트랜잭션이 보유 중이면 빈 값
+	 */
+	@Query(
+		value = "select partition_no from outbox_partitions where partition_no = :partitionNo for update skip locked",
+		nativeQuery = true
+	)
+	Optional<Integer> tryLock(@Param("partitionNo") int partitionNo);
+}
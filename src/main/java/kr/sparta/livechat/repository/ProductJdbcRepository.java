@@ -0,0 +1,64 @@
+package kr.sparta.livechat.repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import kr.sparta.livechat.domain.role.ProductStatus;
+import kr.sparta.livechat.dto.product.CreateProductRequest;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 일괄 등록용 JDBC Repository 클래스입니다.
+ * <p>
+ * 상품 식별자는 IDENTITY 전략이므로 JPA 로 저장하면 상품마다 INSERT 가 한 번씩 실행됩니다.
+ * 일괄 등록은 묶음 전체를 하나의 multi-row INSERT 로 저장하며, 생성 시각과 수정 시각은 호출자가 전달한 값으로 채웁니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ProductJdbcRepository {
+
+	private static final String INSERT_PREFIX =
+		"insert into products (name, price, status, description, seller_id, created_at, updated_at) values ";
+	private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, ?, ?)";
+
+	private final JdbcTemplate jdbcTemplate;
+
+	/**
+	 * 판매 중 상태의 상품 여러 개를 한 번의 INSERT 로 저장합니다.
+	 *
+	 * @param sellerId  판매자 식별자
+	 * @param rows      저장할 상품 목록
+	 * @param createdAt 생성 시각
+	 * @return 저장된 행 수
+	 */
+	public int insertAll(Long sellerId, List<CreateProductRequest> rows, LocalDateTime createdAt) {
+		if (rows.isEmpty()) {
+			return 0;
+		}
+		Timestamp timestamp = Timestamp.valueOf(createdAt);
+		StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+		List<Object> args = new ArrayList<>(rows.size() * 7);
+		for (int i = 0; i < rows.size(); i++) {
+			CreateProductRequest row = rows.get(i);
+			sql.append(i == 0 ? "" : ", ").append(ROW_PLACEHOLDER);
+			args.add(row.getName());
+			args.add(row.getPrice());
+			args.add(ProductStatus.ONSALE.name());
+			args.add(row.getDescription());
+			args.add(sellerId);
+			args.add(timestamp);
+			args.add(timestamp);
+		}
+		return jdbcTemplate.update(sql.toString(), args.toArray());
+	}
+}
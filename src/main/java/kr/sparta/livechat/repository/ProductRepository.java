@@ -1,10 +1,17 @@
 package kr.sparta.livechat.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import kr.sparta.livechat.domain.entity.Product;
 import kr.sparta.livechat.domain.role.ProductStatus;
@@ -26,4 +33,247 @@ public interface ProductRepository extends JpaRepository<Product, Long> {
 	Page<Product> findAllByStatusNot(ProductStatus status, Pageable pageable);
 
 	Optional<Product> findByIdAndStatusNot(Long id, ProductStatus status);
+
+	/**
+	 * 전체 상품 중 가장 최근 수정 시각을 조회합니다.
+	 * 상품 등록, 수정, 삭제(soft delete)가 모두 수정 시각을 갱신하므로 상품 목록의 버전으로 사용하며,
+	 * {@code idx_products_updated_at} 인덱스로 한 행만 읽습니다.
+	 *
+	 * @return 가장 최근 수정 시각 (상품이 없으면 null)
+	 */
+	@Query("select max(p.updatedAt) from Product p")
+	LocalDateTime findLastUpdatedAt();
+
+	/**
+	 * 상품 피드의 첫 페이지를 (createdAt, id) 내림차순으로 조회합니다.
+	 * null 인 조건은 적용하지 않습니다.
+	 *
+	 * @param excluded 제외할 상품 상태 (DELETED)
+	 * @param status   상품 상태 조건
+	 * @param sellerId 판매자 조건
+	 * @param minPrice 최소 가격 조건
+	 * @param maxPrice 최대 가격 조건
+	 * @param pageable 조회 크기
+	 * @return 상품 Slice
+	 */
+	@Query("""
+		select p from Product p
+		where p.status <> :excluded
+		  and (:status is null or p.status = :status)
+		  and (:sellerId is null or p.seller.id = :sellerId)
+		  and (:minPrice is null or p.price >= :minPrice)
+		  and (:maxPrice is null or p.price <= :maxPrice)
+		order by p.createdAt desc, p.id desc
+		""")
+	Slice<Product> findFeed(
+		@Param("excluded") ProductStatus excluded,
+		@Param("status") ProductStatus status,
+		@Param("sellerId") Long sellerId,
+		@Param("minPrice") Integer minPrice,
+		@Param("maxPrice") Integer maxPrice,
+		Pageable pageable
+	);
+
+	/**
+	 * 커서 이후의 상품 피드를 (createdAt, id) 내림차순으로 조회합니다.
+	 * OFFSET 없이 커서 위치부터 인덱스를 읽으므로 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회합니다.
+	 *
+	 * @param excluded  제외할 상품 상태 (DELETED)
+	 * @param status    상품 상태 조건
+	 * @param sellerId  판매자 조건
+	 * @param minPrice  최소 가격 조건
+	 * @param maxPrice  최대 가격 조건
+	 * @param createdAt 커서 상품의 등록 시각
+	 * @param id        커서 상품 식별자
+	 * @param pageable  조회 크기
+	 * @return 상품 Slice
+	 */
+	@Query("""
+		select p from Product p
+		where p.status <> :excluded
+		  and (:status is null or p.status = :status)
+		  and (:sellerId is null or p.seller.id = :sellerId)
+		  and (:minPrice is null or p.price >= :minPrice)
+		  and (:maxPrice is null or p.price <= :maxPrice)
+		  and (p.createdAt < :createdAt or (p.createdAt = :createdAt and p.id < :id))
+		order by p.createdAt desc, p.id desc
+		""")
+	Slice<Product> findFeedAfter(
+		@Param("excluded") ProductStatus excluded,
+		@Param("status") ProductStatus status,
+		@Param("sellerId") Long sellerId,
+		@Param("minPrice") Integer minPrice,
+		@Param("maxPrice") Integer maxPrice,
+		@Param("createdAt") LocalDateTime createdAt,
+		@Param("id") Long id,
+		Pageable pageable
+	);
+
+	/**
+	 * 상품 피드 조건에 맞는 전체 상품 개수를 조회합니다.
+	 * 피드 요청에서 전체 개수를 요청한 경우에만 사용합니다.
+	 *
+	 * @param excluded 제외할 상품 상태 (DELETED)
+	 * @param status   상품 상태 조건
+	 * @param sellerId 판매자 조건
+	 * @param minPrice 최소 가격 조건
+	 * @param maxPrice 최대 가격 조건
+	 * @return 전체 상품 개수
+	 */
+	@Query("""
+		select count(p) from Product p
+		where p.status <> :excluded
+		  and (:status is null or p.status = :status)
+		  and (:sellerId is null or p.seller.id = :sellerId)
+		  and (:minPrice is null or p.price >= :minPrice)
+		  and (:maxPrice is null or p.price <= :maxPrice)
+		""")
+	long countFeed(
+		@Param("excluded") ProductStatus excluded,
+		@Param("status") ProductStatus status,
+		@Param("sellerId") Long sellerId,
+		@Param("minPrice") Integer minPrice,
+		@Param("maxPrice") Integer maxPrice
+	);
+
+	/**
+	 * 특정 식별자 이후의 삭제되지 않은 상품을 식별자 순으로 keyset 조회합니다.
+	 * 기동 시 상품 검색 색인을 묶음 단위로 구성할 때 사용합니다.
+	 *
+	 * @param afterId  이전 묶음의 마지막 상품 식별자 (처음이면 0)
+	 * @param excluded 제외할 상품 상태 (DELETED)
+	 * @param pageable 조회 크기
+	 * @return 상품 projection 목록
+	 */
+	@Query("""
+		select p.id as id, p.name as name, p.description as description, p.price as price
+		from Product p
+		where p.id > :afterId and p.status <> :excluded
+		order by p.id asc
+		""")
+	List<ProductDocument> findDocumentsAfter(
+		@Param("afterId") Long afterId,
+		@Param("excluded") ProductStatus excluded,
+		Pageable pageable
+	);
+
+	/**
+	 * 삭제되지 않은 상품 하나를 검색 색인용 projection 으로 조회합니다.
+	 *
+	 * @param id       상품 식별자
+	 * @param excluded 제외할 상품 상태 (DELETED)
+	 * @return 상품 projection (상품이 없으면 empty)
+	 */
+	@Query("""
+		select p.id as id, p.name as name, p.description as description, p.price as price
+		from Product p
+		where p.id = :id and p.status <> :excluded
+		""")
+	Optional<ProductDocument> findDocumentById(@Param("id") Long id, @Param("excluded") ProductStatus excluded);
+
+	List<Product> findAllByIdInAndStatusNot(Collection<Long> ids, ProductStatus status);
+
+	/**
+	 * 삭제되지 않은 상품 여러 개를 검색 색인용 projection 으로 조회합니다.
+	 *
+	 * @param ids      상품 식별자 목록
+	 * @param excluded 제외할 상품 상태 (DELETED)
+	 * @return 상품 projection 목록
+	 */
+	@Query("""
+		select p.id as id, p.name as name, p.description as description, p.price as price
+		from Product p
+		where p.id in :ids and p.status <> :excluded
+		""")
+	List<ProductDocument> findDocumentsByIdIn(
+		@Param("ids") Collection<Long> ids,
+		@Param("excluded") ProductStatus excluded
+	);
+
+	/**
+	 * 판매자가 이미 등록한 상품명 중 주어진 이름과 같은 것을 조회합니다.
+	 * 일괄 등록 시 중복 검사를 묶음마다 한 번의 쿼리로 처리합니다.
+	 *
+	 * @param sellerId 판매자 식별자
+	 * @param names    확인할 상품명 목록
+	 * @return 이미 등록된 상품명 목록
+	 */
+	@Query("select p.name from Product p where p.seller.id = :sellerId and p.name in :names")
+	List<String> findNamesBySellerIdAndNameIn(@Param("sellerId") Long sellerId, @Param("names") Collection<String> names);
+
+	/**
+	 * 판매자의 상품 중 주어진 이름의 상품 식별자를 조회합니다.
+	 * 일괄 등록 후 생성된 상품 식별자를 확인할 때 사용합니다.
+	 *
+	 * @param sellerId 판매자 식별자
+	 * @param names    상품명 목록
+	 * @return 상품 식별자와 이름 projection 목록
+	 */
+	@Query("select p.id as id, p.name as name from Product p where p.seller.id = :sellerId and p.name in :names")
+	List<ProductIdName> findIdsBySellerIdAndNameIn(
+		@Param("sellerId") Long sellerId,
+		@Param("names") Collection<String> names
+	);
+
+	/**
+	 * 판매자가 소유한 삭제되지 않은 상품 식별자만 조회합니다.
+	 *
+	 * @param sellerId 판매자 식별자
+	 * @param ids      상품 식별자 목록
+	 * @param excluded 제외할 상품 상태 (DELETED)
+	 * @return 판매자가 소유한 상품 식별자 목록
+	 */
+	@Query("select p.id from Product p where p.seller.id = :sellerId and p.id in :ids and p.status <> :excluded")
+	List<Long> findOwnedIds(
+		@Param("sellerId") Long sellerId,
+		@Param("ids") Collection<Long> ids,
+		@Param("excluded") ProductStatus excluded
+	);
+
+	/**
+	 * 여러 상품의 상태를 엔티티 로딩 없이 한 번의 UPDATE 로 변경합니다.
+	 * 조건부 요청과 캐시 버전을 위해 수정 시각도 함께 갱신합니다.
+	 *
+	 * @param ids       상품 식별자 목록
+	 * @param status    변경할 상품 상태
+	 * @param updatedAt 수정 시각
+	 * @param excluded  변경하지 않을 상품 상태 (DELETED)
+	 * @return 변경된 상품 수
+	 */
+	@Modifying(clearAutomatically = true)
+	@Query("""
+		update Product p
+		set p.status = :status,
+		    p.updatedAt = :updatedAt
+		where p.id in :ids
+		  and p.status <> :excluded
+		""")
+	int updateStatusByIdIn(
+		@Param("ids") Collection<Long> ids,
+		@Param("status") ProductStatus status,
+		@Param("updatedAt") LocalDateTime updatedAt,
+		@Param("excluded") ProductStatus excluded
+	);
+
+	/**
+	 * 상품 검색 색인에 필요한 필드만 담는 projection 입니다.
+	 */
+	interface ProductDocument {
+		Long getId();
+
+		String getName();
+
+		String getDescription();
+
+		Integer getPrice();
+	}
+
+	/**
+	 * 상품 식별자와 이름만 담는 projection 입니다.
+	 */
+	interface ProductIdName {
+		Long getId();
+
+		String getName();
+	}
 }
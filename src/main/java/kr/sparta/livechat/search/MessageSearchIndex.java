@@ -0,0 +1,530 @@
+package kr.sparta.livechat.search;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.sparta.livechat.config.SearchProperties;
+import kr.sparta.livechat.domain.event.ChatMessageSentEvent;
+import kr.sparta.livechat.domain.role.MessageType;
+import kr.sparta.livechat.repository.MessageRepository;
+import kr.sparta.livechat.repository.MessageRepository.MessageDocument;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지 전문 검색용 In Process 역색인을 관리하는 클래스입니다.
+ * <p>
+ * 메시지 저장이 커밋되면 메시지 식별자만 대기열에 넣고, 색인 스레드가 묶음으로 본문을 조회하여 메모리 버퍼에 색인합니다.
+ * 따라서 메시지 전송 경로에는 대기열 추가 외의 비용이 없습니다.
+ * 색인은 노드마다 있으므로 색인 스레드는 이 노드에서 저장된 메시지 식별자를 묶음마다 한 번
+ * Redis Pub/Sub 채널({@code message:search:sent})로 알리고, 다른 노드는 알림을 받아 같은 대기열로 색인합니다.
+ *
+ * 알림은 유실될 수 있으므로 색인 스레드는 {@code flushIntervalMs}마다 마지막으로 확인한 식별자 이후의 메시지 식별자를
+ * DB 에서 읽어 아직 색인하지 않은 메시지를 색인합니다. 식별자 사이의 빈 번호는 나중에 커밋될 수 있는 메시지이므로
+ * 다시 확인하며, {@code GAP_TIMEOUT_MS} 동안 나타나지 않으면 롤백된 번호로 보고 넘어갑니다.
+ * 가장 작은 빈 번호 직전까지를 색인 완료 지점(watermark)으로 보고 세그먼트 저장 후 함께 기록하므로,
+ * 기동 시에는 watermark 이후를 다시 확인하여 늦게 커밋된 작은 식별자의 메시지도 놓치지 않습니다.
+ * 버퍼는 {@code flushDocs}개가 모이거나 {@code flushIntervalMs}가 지나면 불변 {@link Segment}로 디스크에 저장되며,
+ * 검색은 저장된 세그먼트만 읽으므로 잠금 없이 동작하고 최대 {@code flushIntervalMs}만큼 늦게 반영됩니다.
+ *
+ * 세그먼트가 {@code maxSegments}개를 넘으면 메시지 수가 적은 세그먼트부터 {@code mergeFactor}개를 하나로 병합합니다.
+ * 세그먼트 목록과 watermark 는 각각 파일에 원자적으로 기록합니다.
+ * 대기열이 가득 차거나 색인에 실패한 메시지도 DB 확인으로 다시 색인되며, 중복 색인된 메시지는 posting 에서 한 번만 남습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+public class MessageSearchIndex {
+
+	static final String MANIFEST = "segments.manifest";
+	static final String WATERMARK = "watermark";
+	static final long GAP_TIMEOUT_MS = 60_000;
+
+	private static final ChannelTopic TOPIC = new ChannelTopic("message:search:sent");
+	private static final char SEPARATOR = ':';
+
+	private final SearchProperties properties;
+	private final MessageRepository messageRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final String nodeId = UUID.randomUUID().toString();
+	private final Path directory;
+	private final BlockingQueue<Queued> pending;
+	private final AtomicLong nextGeneration = new AtomicLong(1);
+
+	private volatile List<Segment> segments = List.of();
+	private volatile boolean running;
+	private SegmentBuilder buffer = new SegmentBuilder();
+	private long lastFlushedAt = System.currentTimeMillis();
+	private long lastScannedAt;
+	private volatile Thread worker;
+
+	// 아래 상태는 색인 스레드만 사용합니다.
+	private long watermark;
+	private long persistedWatermark;
+	private long scannedTo;
+	private final TreeMap<Long, Long> gaps = new TreeMap<>();
+	private final Set<Long> indexedAbove = new HashSet<>();
+
+	public MessageSearchIndex(
+		SearchProperties properties,
+		MessageRepository messageRepository,
+		StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer listenerContainer
+	) {
+		this.properties = properties;
+		this.messageRepository = messageRepository;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.directory = Paths.get(properties.getIndexDir());
+		this.pending = new ArrayBlockingQueue<>(properties.getQueueCapacity());
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(
+			(message, pattern) -> onRemoteSent(new String(message.getBody(), StandardCharsets.UTF_8)), TOPIC);
+	}
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		load();
+		running = true;
+		worker = new Thread(this::run, "message-search-indexer");
+		worker.setDaemon(true);
+		worker.start();
+		log.info("메시지 검색 색인 시작: segments={}, watermark={}", segments.size(), watermark);
+	}
+
+	/**
+	 * 메시지 저장이 커밋되면 메시지 식별자를 색인 대기열에 넣습니다.
+	 * 대기열이 가득 차면 버리고, 색인 스레드가 DB 확인으로 색인합니다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMessageSent(ChatMessageSentEvent event) {
+		pending.offer(new Queued(event.getMessageId(), true));
+	}
+
+	/**
+	 * 다른 노드에서 저장된 메시지 식별자 알림을 색인 대기열에 넣습니다. 자신이 보낸 알림은 무시합니다.
+	 */
+	void onRemoteSent(String body) {
+		int separator = body.indexOf(SEPARATOR);
+		if (separator <= 0 || nodeId.equals(body.substring(0, separator))) {
+			return;
+		}
+		List<Long> messageIds;
+		try {
+			messageIds = Arrays.stream(body.substring(separator + 1).split(","))
+				.map(Long::valueOf)
+				.toList();
+		} catch (NumberFormatException e) {
+			log.warn("메시지 검색 색인 알림 형식 오류: {}", body);
+			return;
+		}
+		for (Long messageId : messageIds) {
+			if (!pending.offer(new Queued(messageId, false))) {
+				return;
+			}
+		}
+	}
+
+	/**
+	 * 채팅방 목록 안에서 검색어의 모든 n-gram 을 포함하는 메시지 식별자를 최신순으로 반환합니다.
+	 * n-gram 교집합 결과이므로 호출 측에서 {@link NgramTokenizer#matches(String, String)}로 다시 확인해야 합니다.
+	 *
+	 * @param roomIds  검색 대상 채팅방 식별자 목록
+	 * @param query    검색어
+	 * @param beforeId 이 식별자보다 작은 메시지만 대상 (없으면 {@code null})
+	 * @param limit    반환할 최대 후보 수
+	 * @return 후보 메시지 식별자 목록 (식별자 내림차순)
+	 */
+	public List<Long> search(Collection<Long> roomIds, String query, Long beforeId, int limit) {
+		Set<String> terms = NgramTokenizer.tokenize(query);
+		if (terms.isEmpty() || roomIds.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		Set<Long> rooms = Set.copyOf(roomIds);
+		long upper = beforeId == null ? Long.MAX_VALUE : beforeId;
+
+		List<Long> candidates = new ArrayList<>();
+		for (Segment segment : segments) {
+			collect(segment, terms, rooms, upper, limit, candidates);
+		}
+		return candidates.stream()
+			.sorted(Comparator.reverseOrder())
+			.distinct()
+			.limit(limit)
+			.toList();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		Thread current = worker;
+		if (current == null) {
+			return;
+		}
+		try {
+			current.join(TimeUnit.SECONDS.toMillis(10));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	/**
+	 * manifest 에 기록된 세그먼트와 watermark 를 읽습니다. manifest 에 없는 세그먼트 파일은 병합 도중 남은 파일이므로 삭제합니다.
+	 * watermark 파일이 없으면 처음부터 다시 확인합니다.
+	 */
+	void load() {
+		try {
+			Files.createDirectories(directory);
+			Path watermarkFile = directory.resolve(WATERMARK);
+			watermark = Files.exists(watermarkFile)
+				? Long.parseLong(Files.readString(watermarkFile, StandardCharsets.UTF_8).trim())
+				: 0;
+			persistedWatermark = watermark;
+			scannedTo = watermark;
+			gaps.clear();
+			indexedAbove.clear();
+
+			Path manifest = directory.resolve(MANIFEST);
+			List<Long> generations = Files.exists(manifest)
+				? Files.readAllLines(manifest, StandardCharsets.UTF_8).stream()
+				.filter(line -> !line.isBlank())
+				.map(Long::valueOf)
+				.toList()
+				: List.of();
+
+			List<Segment> loaded = generations.stream()
+				.map(generation -> Segment.read(directory.resolve(Segment.fileName(generation))))
+				.toList();
+			segments = loaded;
+			nextGeneration.set(generations.stream().mapToLong(Long::longValue).max().orElse(0) + 1);
+
+			Set<String> live = generations.stream().map(Segment::fileName).collect(Collectors.toSet());
+			try (Stream<Path> files = Files.list(directory)) {
+				for (Path file : files.filter(file -> file.getFileName().toString().startsWith("seg-")).toList()) {
+					if (!live.contains(file.getFileName().toString())) {
+						Files.deleteIfExists(file);
+					}
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("메시지 검색 색인 읽기 실패: " + directory, e);
+		}
+	}
+
+	/**
+	 * 메시지를 버퍼에 색인합니다. 이미지 메시지는 본문이 파일 주소이므로 색인하지 않습니다.
+	 */
+	void index(List<MessageDocument> documents) {
+		for (MessageDocument document : documents) {
+			if (document.getType() == MessageType.IMAGE) {
+				continue;
+			}
+			buffer.add(document.getId(), document.getRoomId(), document.getContent());
+		}
+	}
+
+	/**
+	 * 버퍼를 세그먼트로 저장하고, 세그먼트 수가 많으면 병합합니다.
+	 * watermark 이하의 메시지는 모두 버퍼나 세그먼트에 있으므로 세그먼트 저장 후 watermark 를 기록합니다.
+	 */
+	void flush() {
+		lastFlushedAt = System.currentTimeMillis();
+		long durable = watermark;
+		if (!buffer.isEmpty()) {
+			Segment segment = buffer.build(nextGeneration.getAndIncrement());
+			segment.write(directory);
+			List<Segment> next = new ArrayList<>(segments);
+			next.add(segment);
+			publish(next, List.of());
+			buffer = new SegmentBuilder();
+
+			if (segments.size() > properties.getMaxSegments()) {
+				merge();
+			}
+		}
+		if (durable != persistedWatermark) {
+			writeWatermark(durable);
+			persistedWatermark = durable;
+		}
+	}
+
+	/**
+	 * 마지막으로 확인한 식별자 이후의 메시지 식별자를 DB 에서 읽어 아직 색인하지 않은 메시지를 색인하고,
+	 * 빈 번호를 다시 확인하여 watermark 를 올립니다.
+	 */
+	void scan() {
+		long now = System.currentTimeMillis();
+		lastScannedAt = now;
+		PageRequest page = PageRequest.of(0, properties.getBatchSize());
+		while (true) {
+			List<Long> messageIds = messageRepository.findIdsAfter(scannedTo, page);
+			if (messageIds.isEmpty()) {
+				break;
+			}
+			List<Long> missing = messageIds.stream().filter(id -> !indexedAbove.contains(id)).toList();
+			if (!missing.isEmpty()) {
+				index(messageRepository.findDocumentsByIdIn(missing));
+			}
+			long previous = scannedTo;
+			for (Long messageId : messageIds) {
+				recordGap(previous, messageId, now);
+				previous = messageId;
+			}
+			scannedTo = previous;
+			indexedAbove.removeIf(id -> id <= scannedTo);
+
+			if (messageIds.size() < properties.getBatchSize()) {
+				break;
+			}
+			if (buffer.getDocCount() >= properties.getFlushDocs()) {
+				flush();
+			}
+		}
+		resolveGaps(now);
+		watermark = gaps.isEmpty() ? scannedTo : gaps.firstKey() - 1;
+	}
+
+	List<Segment> segments() {
+		return segments;
+	}
+
+	long watermark() {
+		return watermark;
+	}
+
+	private void merge() {
+		List<Segment> current = segments;
+		List<Segment> targets = current.stream()
+			.sorted(Comparator.comparingInt(Segment::getDocCount))
+			.limit(Math.max(2, properties.getMergeFactor()))
+			.toList();
+		Segment merged = Segment.merge(nextGeneration.getAndIncrement(), targets);
+		merged.write(directory);
+
+		List<Segment> next = new ArrayList<>(current);
+		next.removeAll(targets);
+		next.add(merged);
+		publish(next, targets);
+		log.debug("메시지 검색 세그먼트 병합: merged={}, docs={}, segments={}",
+			targets.size(), merged.getDocCount(), next.size());
+	}
+
+	private void publish(List<Segment> next, List<Segment> removed) {
+		List<Segment> ordered = next.stream().sorted(Comparator.comparingLong(Segment::getGeneration)).toList();
+		Path manifest = directory.resolve(MANIFEST);
+		Path temp = directory.resolve(MANIFEST + ".tmp");
+		try {
+			Files.write(temp, ordered.stream().map(segment -> String.valueOf(segment.getGeneration())).toList(),
+				StandardCharsets.UTF_8);
+			Files.move(temp, manifest, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			throw new UncheckedIOException("메시지 검색 manifest 저장 실패: " + manifest, e);
+		}
+		segments = ordered;
+
+		for (Segment segment : removed) {
+			try {
+				Files.deleteIfExists(directory.resolve(Segment.fileName(segment.getGeneration())));
+			} catch (IOException e) {
+				log.warn("병합된 검색 세그먼트 삭제 실패: generation={}, {}", segment.getGeneration(), e.getMessage());
+			}
+		}
+	}
+
+	private void run() {
+		while (running) {
+			try {
+				Queued queued = pending.poll(properties.getFlushIntervalMs(), TimeUnit.MILLISECONDS);
+				if (queued != null) {
+					indexPending(queued);
+				}
+				if (System.currentTimeMillis() - lastScannedAt >= properties.getFlushIntervalMs()) {
+					scan();
+				}
+				if (buffer.getDocCount() >= properties.getFlushDocs()
+					|| System.currentTimeMillis() - lastFlushedAt >= properties.getFlushIntervalMs()) {
+					flush();
+				}
+			} catch (InterruptedException e) {
+				break;
+			} catch (RuntimeException e) {
+				log.warn("메시지 검색 색인 실패: {}", e.getMessage());
+			}
+		}
+		try {
+			flush();
+		} catch (RuntimeException e) {
+			log.warn("메시지 검색 색인 종료 중 저장 실패: {}", e.getMessage());
+		}
+	}
+
+	/**
+	 * 대기열에 쌓인 메시지를 한 묶음 색인합니다.
+	 */
+	void indexPending() {
+		Queued queued = pending.poll();
+		if (queued != null) {
+			indexPending(queued);
+		}
+	}
+
+	/**
+	 * 대기열의 첫 메시지와 함께 쌓인 메시지를 묶음으로 꺼내, 이 노드에서 저장된 메시지는 다른 노드에 한 번에 알리고 색인합니다.
+	 */
+	private void indexPending(Queued first) {
+		List<Queued> batch = new ArrayList<>(properties.getBatchSize());
+		batch.add(first);
+		pending.drainTo(batch, properties.getBatchSize() - 1);
+		announce(batch.stream().filter(Queued::local).map(Queued::messageId).toList());
+		indexById(batch.stream().map(Queued::messageId).toList());
+	}
+
+	/**
+	 * 대기열의 메시지를 색인하고 DB 확인에서 다시 색인하지 않도록 기록합니다.
+	 * 조회되지 않은 메시지는 DB 확인에서 처리합니다.
+	 */
+	private void indexById(List<Long> messageIds) {
+		List<MessageDocument> documents = messageRepository.findDocumentsByIdIn(messageIds);
+		index(documents);
+		for (MessageDocument document : documents) {
+			if (gaps.remove(document.getId()) == null && document.getId() > scannedTo) {
+				indexedAbove.add(document.getId());
+			}
+		}
+	}
+
+	/**
+	 * 이전 식별자와 현재 식별자 사이의 빈 번호를 기록합니다.
+	 * 묶음 크기보다 큰 빈 구간은 보관 처리 등으로 삭제된 구간으로 보고 기록하지 않습니다.
+	 */
+	private void recordGap(long previous, long messageId, long now) {
+		long size = messageId - previous - 1;
+		if (size <= 0) {
+			return;
+		}
+		if (size > properties.getBatchSize()) {
+			log.debug("메시지 검색 색인 빈 구간 건너뜀: after={}, before={}", previous, messageId);
+			return;
+		}
+		for (long id = previous + 1; id < messageId; id++) {
+			gaps.putIfAbsent(id, now);
+		}
+	}
+
+	/**
+	 * 빈 번호 중 그 사이 커밋된 메시지를 색인하고, {@code GAP_TIMEOUT_MS} 동안 나타나지 않은 번호는 제외합니다.
+	 */
+	private void resolveGaps(long now) {
+		if (gaps.isEmpty()) {
+			return;
+		}
+		List<Long> candidates = gaps.keySet().stream().limit(properties.getBatchSize()).toList();
+		List<MessageDocument> documents = messageRepository.findDocumentsByIdIn(candidates);
+		index(documents);
+		for (MessageDocument document : documents) {
+			gaps.remove(document.getId());
+		}
+		gaps.values().removeIf(since -> now - since >= GAP_TIMEOUT_MS);
+	}
+
+	private void writeWatermark(long value) {
+		Path file = directory.resolve(WATERMARK);
+		Path temp = directory.resolve(WATERMARK + ".tmp");
+		try {
+			Files.writeString(temp, String.valueOf(value), StandardCharsets.UTF_8);
+			Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			throw new UncheckedIOException("메시지 검색 watermark 저장 실패: " + file, e);
+		}
+	}
+
+	private void announce(List<Long> messageIds) {
+		if (messageIds.isEmpty()) {
+			return;
+		}
+		String body = nodeId + SEPARATOR + messageIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+		try {
+			redisTemplate.convertAndSend(TOPIC.getTopic(), body);
+		} catch (DataAccessException e) {
+			log.warn("메시지 검색 색인 알림 전파 실패: messages={}, {}", messageIds.size(), e.getMessage());
+		}
+	}
+
+	private static void collect(Segment segment, Set<String> terms, Set<Long> rooms, long upper, int limit,
+		List<Long> candidates) {
+		Segment.Postings[] lists = new Segment.Postings[terms.size()];
+		int index = 0;
+		for (String term : terms) {
+			Segment.Postings postings = segment.postings(term);
+			if (postings == null) {
+				return;
+			}
+			lists[index++] = postings;
+		}
+		Arrays.sort(lists, Comparator.comparingInt(Segment.Postings::size));
+
+		Segment.Postings shortest = lists[0];
+		int found = 0;
+		for (int i = shortest.size() - 1; i >= 0 && found < limit; i--) {
+			long messageId = shortest.messageId(i);
+			if (messageId >= upper || !rooms.contains(shortest.roomId(i))) {
+				continue;
+			}
+			if (containsAll(lists, messageId)) {
+				candidates.add(messageId);
+				found++;
+			}
+		}
+	}
+
+	private static boolean containsAll(Segment.Postings[] lists, long messageId) {
+		for (int i = 1; i < lists.length; i++) {
+			if (!lists[i].contains(messageId)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private record Queued(long messageId, boolean local) {
+	}
+}
@@ -0,0 +1,91 @@
+package kr.sparta.livechat.search;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * 메시지 검색용 n-gram 토크나이저입니다.
+ * <p>
+ * 한국어는 조사/어미가 붙어 띄어쓰기 단위로 색인하면 부분 검색이 되지 않으므로,
+ * 문자/숫자가 이어진 구간(run)마다 2-gram 으로 나누어 색인합니다.
+ * 한 글자 구간은 2-gram 에 포함되지 않으므로 색인하지 않습니다. 검색어에서도 제외하여 {@link #matches(String, String)}로만 확인하며,
+ * 한 글자 구간만으로 이루어진 검색어는 후보를 좁힐 수 없으므로 토큰이 없는 것으로 취급합니다.
+ * 입력은 NFKC 정규화와 소문자 변환을 거치므로 전각/반각, 대소문자 차이는 구분하지 않습니다.
+ *
+ * 2-gram 교집합은 인접하지 않은 조합도 후보로 포함하므로, 최종 결과는 {@link #matches(String, String)}로 다시 확인합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public final class NgramTokenizer {
+
+	private static final int GRAM = 2;
+
+	private NgramTokenizer() {
+	}
+
+	/**
+	 * 텍스트를 색인/검색용 n-gram 집합으로 나눕니다.
+	 *
+	 * @param text 텍스트
+	 * @return 중복 없는 n-gram 집합 (등장 순, 한 글자 구간 제외)
+	 */
+	public static Set<String> tokenize(String text) {
+		Set<String> grams = new LinkedHashSet<>();
+		for (String run : runs(text)) {
+			for (int i = 0; i + GRAM <= run.length(); i++) {
+				grams.add(run.substring(i, i + GRAM));
+			}
+		}
+		return grams;
+	}
+
+	/**
+	 * 본문이 검색어의 모든 구간을 포함하는지 확인합니다.
+	 *
+	 * @param content 메시지 본문
+	 * @param query   검색어
+	 * @return 검색어의 모든 구간이 본문 구간 안에 연속으로 있으면 {@code true}
+	 */
+	public static boolean matches(String content, String query) {
+		List<String> contentRuns = runs(content);
+		for (String queryRun : runs(query)) {
+			if (contentRuns.stream().noneMatch(run -> run.contains(queryRun))) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	/**
+	 * 텍스트를 정규화한 뒤 문자/숫자가 이어진 구간으로 나눕니다.
+	 */
+	static List<String> runs(String text) {
+		List<String> runs = new ArrayList<>();
+		if (text == null) {
+			return runs;
+		}
+		String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+		int start = -1;
+		for (int i = 0; i < normalized.length(); i++) {
+			if (Character.isLetterOrDigit(normalized.charAt(i))) {
+				if (start < 0) {
+					start = i;
+				}
+			} else if (start >= 0) {
+				runs.add(normalized.substring(start, i));
+				start = -1;
+			}
+		}
+		if (start >= 0) {
+			runs.add(normalized.substring(start));
+		}
+		return runs;
+	}
+}
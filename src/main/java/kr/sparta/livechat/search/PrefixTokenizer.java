@@ -0,0 +1,76 @@
+package kr.sparta.livechat.search;
+
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 상품 검색용 접두어 토크나이저입니다.
+ * <p>
+ * 상품명과 설명은 띄어쓰기 단위 단어에 조사가 붙는 경우가 많으므로("망치를", "망치입니다"),
+ * 문자/숫자가 이어진 구간(run)마다 앞에서부터 {@value #MAX_PREFIX}글자까지의 모든 접두어를 색인합니다.
+ * 검색어의 각 구간은 상품 텍스트의 어떤 구간의 접두어이면 일치합니다.
+ * 정규화 규칙은 {@link NgramTokenizer}와 같습니다.
+ *
+ * {@value #MAX_PREFIX}글자보다 긴 검색어 구간은 잘라서 조회하므로, 최종 결과는 {@link #matches(String, String)}로 다시 확인합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public final class PrefixTokenizer {
+
+	static final int MAX_PREFIX = 10;
+
+	private PrefixTokenizer() {
+	}
+
+	/**
+	 * 텍스트를 색인용 접두어 집합으로 나눕니다.
+	 *
+	 * @param text 텍스트
+	 * @return 중복 없는 접두어 집합
+	 */
+	public static Set<String> indexTerms(String text) {
+		Set<String> terms = new LinkedHashSet<>();
+		for (String run : NgramTokenizer.runs(text)) {
+			int length = Math.min(run.length(), MAX_PREFIX);
+			for (int i = 1; i <= length; i++) {
+				terms.add(run.substring(0, i));
+			}
+		}
+		return terms;
+	}
+
+	/**
+	 * 검색어를 조회용 접두어 집합으로 나눕니다.
+	 *
+	 * @param query 검색어
+	 * @return 중복 없는 접두어 집합
+	 */
+	public static Set<String> queryTerms(String query) {
+		Set<String> terms = new LinkedHashSet<>();
+		for (String run : NgramTokenizer.runs(query)) {
+			terms.add(run.length() > MAX_PREFIX ? run.substring(0, MAX_PREFIX) : run);
+		}
+		return terms;
+	}
+
+	/**
+	 * 텍스트가 검색어의 모든 구간을 접두어로 포함하는지 확인합니다.
+	 *
+	 * @param text  상품 텍스트
+	 * @param query 검색어
+	 * @return 검색어의 모든 구간이 텍스트의 어떤 구간의 접두어이면 {@code true}
+	 */
+	public static boolean matches(String text, String query) {
+		List<String> textRuns = NgramTokenizer.runs(text);
+		for (String queryRun : NgramTokenizer.runs(query)) {
+			if (textRuns.stream().noneMatch(run -> run.startsWith(queryRun))) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
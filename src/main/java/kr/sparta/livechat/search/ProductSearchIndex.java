@@ -0,0 +1,515 @@
+package kr.sparta.livechat.search;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.sparta.livechat.domain.event.ProductChangedEvent;
+import kr.sparta.livechat.domain.event.ProductsChangedEvent;
+import kr.sparta.livechat.domain.role.ProductStatus;
+import kr.sparta.livechat.repository.ProductRepository;
+import kr.sparta.livechat.repository.ProductRepository.ProductDocument;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 검색용 In Process 역색인을 관리하는 클래스입니다.
+ * <p>
+ * 상품명과 설명의 접두어({@link PrefixTokenizer})마다 상품 식별자를 오름차순 배열로 보관하고,
+ * 가격별 상품 식별자는 가격 순 {@link TreeMap}으로 보관합니다.
+ * 검색은 가장 짧은 posting 과 가격 범위 중 후보가 적은 쪽을 기준으로 나머지 posting 을 이진 탐색하므로
+ * 카탈로그 크기보다 후보 수에 비례하는 시간이 걸립니다.
+ *
+ * 상품마다 색인한 접두어를 함께 보관하여, 상품이 수정되거나 삭제되면 이전 텍스트의 posting 을 바로 지웁니다.
+ *
+ * 기동 시 상품 테이블을 식별자 순으로 {@code BATCH_SIZE}개씩 읽어 새 색인을 만든 뒤 교체하며,
+ * 이후에는 상품 변경 이벤트가 커밋되면 해당 상품만 다시 읽어 반영합니다.
+ * 색인은 노드마다 있으므로 변경된 상품 식별자를 Redis Pub/Sub 채널({@code product:search:changed})로 알리고,
+ * 다른 노드는 알림을 받아 해당 상품을 별도 스레드에서 다시 읽어 반영합니다(리스너 컨테이너의 전달 스레드를 막지 않음).
+ * 알림을 놓친 노드의 색인은 다음 기동 시 다시 구성되기 전까지 이전 상태로 남을 수 있습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+public class ProductSearchIndex {
+
+	private static final int BATCH_SIZE = 1000;
+	private static final ChannelTopic TOPIC = new ChannelTopic("product:search:changed");
+	private static final char SEPARATOR = ':';
+
+	private final ProductRepository productRepository;
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ExecutorService executor;
+	private final String nodeId = UUID.randomUUID().toString();
+	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	private final Set<Long> changedDuringRebuild = ConcurrentHashMap.newKeySet();
+
+	private State state = new State();
+	private volatile boolean rebuilding;
+
+	@Autowired
+	public ProductSearchIndex(
+		ProductRepository productRepository,
+		StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer listenerContainer
+	) {
+		this(productRepository, redisTemplate, listenerContainer, Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "product-search-index");
+			thread.setDaemon(true);
+			return thread;
+		}));
+	}
+
+	ProductSearchIndex(
+		ProductRepository productRepository,
+		StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		ExecutorService executor
+	) {
+		this.productRepository = productRepository;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.executor = executor;
+	}
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(
+			(message, pattern) -> onRemoteChanged(new String(message.getBody(), StandardCharsets.UTF_8)), TOPIC);
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	/**
+	 * 상품 테이블 전체로 색인을 다시 만듭니다.
+	 * 새 색인을 만드는 동안 기존 색인으로 검색하며, 그 사이 변경된 상품은 교체 후 다시 반영합니다.
+	 * 구성에 실패하면 기존 색인을 유지합니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void rebuild() {
+		rebuilding = true;
+		long startedAt = System.currentTimeMillis();
+		State next = new State();
+		PageRequest page = PageRequest.of(0, BATCH_SIZE);
+		long afterId = 0;
+		try {
+			while (true) {
+				List<ProductDocument> documents =
+					productRepository.findDocumentsAfter(afterId, ProductStatus.DELETED, page);
+				if (documents.isEmpty()) {
+					break;
+				}
+				documents.forEach(next::put);
+				afterId = documents.get(documents.size() - 1).getId();
+			}
+			log.info("상품 검색 색인 구성: products={}, terms={}, elapsedMs={}",
+				next.prices.size(), next.postings.size(), System.currentTimeMillis() - startedAt);
+			lock.writeLock().lock();
+			try {
+				state = next;
+			} finally {
+				lock.writeLock().unlock();
+			}
+		} catch (RuntimeException e) {
+			log.warn("상품 검색 색인 구성 실패: afterId={}, {}", afterId, e.getMessage());
+		} finally {
+			rebuilding = false;
+		}
+		List<Long> changed = List.copyOf(changedDuringRebuild);
+		changedDuringRebuild.removeAll(changed);
+		for (Long productId : changed) {
+			try {
+				refresh(productId);
+			} catch (RuntimeException e) {
+				log.warn("상품 검색 색인 반영 실패: productId={}, {}", productId, e.getMessage());
+			}
+		}
+	}
+
+	/**
+	 * 상품 변경이 커밋되면 해당 상품을 다시 읽어 색인에 반영합니다.
+	 * 반영에 실패해도 상품 변경 요청에는 영향을 주지 않습니다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		if (rebuilding) {
+			changedDuringRebuild.add(event.getProductId());
+		}
+		try {
+			if (event.getStatus() == ProductStatus.DELETED) {
+				remove(event.getProductId());
+			} else {
+				refresh(event.getProductId());
+			}
+		} catch (RuntimeException e) {
+			log.warn("상품 검색 색인 반영 실패: productId={}, {}", event.getProductId(), e.getMessage());
+		}
+		publish(List.of(event.getProductId()));
+	}
+
+	/**
+	 * 상품 일괄 등록/상태 변경이 커밋되면 변경된 상품을 한 번의 조회로 다시 읽어 색인에 반영합니다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductsChanged(ProductsChangedEvent event) {
+		if (event.getProductIds().isEmpty()) {
+			return;
+		}
+		try {
+			if (event.getStatus() == ProductStatus.DELETED) {
+				if (rebuilding) {
+					changedDuringRebuild.addAll(event.getProductIds());
+				}
+				event.getProductIds().forEach(this::remove);
+			} else {
+				refreshAll(event.getProductIds());
+			}
+		} catch (RuntimeException e) {
+			log.warn("상품 검색 색인 일괄 반영 실패: products={}, {}", event.getProductIds().size(), e.getMessage());
+		}
+		publish(event.getProductIds());
+	}
+
+	/**
+	 * 다른 노드의 상품 변경 알림을 받아 해당 상품을 별도 스레드에서 다시 읽어 반영합니다.
+	 * 자신이 보낸 알림은 이미 반영했으므로 무시합니다.
+	 */
+	void onRemoteChanged(String body) {
+		int separator = body.indexOf(SEPARATOR);
+		if (separator <= 0 || nodeId.equals(body.substring(0, separator))) {
+			return;
+		}
+		List<Long> productIds;
+		try {
+			productIds = Arrays.stream(body.substring(separator + 1).split(","))
+				.map(Long::valueOf)
+				.toList();
+		} catch (NumberFormatException e) {
+			log.warn("상품 검색 색인 변경 알림 형식 오류: {}", body);
+			return;
+		}
+		try {
+			executor.execute(() -> {
+				try {
+					refreshAll(productIds);
+				} catch (RuntimeException e) {
+					log.warn("상품 검색 색인 반영 실패: products={}, {}", productIds.size(), e.getMessage());
+				}
+			});
+		} catch (RejectedExecutionException e) {
+			log.warn("상품 검색 색인 반영 작업 등록 실패: products={}", productIds.size());
+		}
+	}
+
+	/**
+	 * 검색어의 모든 접두어와 가격 범위를 만족하는 상품 식별자를 최신순으로 반환합니다.
+	 * 접두어 교집합 결과이므로 호출 측에서 {@link PrefixTokenizer#matches(String, String)}로 다시 확인해야 합니다.
+	 *
+	 * @param query    검색어
+	 * @param minPrice 최소 가격 (없으면 {@code null})
+	 * @param maxPrice 최대 가격 (없으면 {@code null})
+	 * @param beforeId 이 식별자보다 작은 상품만 대상 (없으면 {@code null})
+	 * @param limit    반환할 최대 후보 수
+	 * @return 후보 상품 식별자 목록 (식별자 내림차순)
+	 */
+	public List<Long> search(String query, Integer minPrice, Integer maxPrice, Long beforeId, int limit) {
+		Set<String> terms = PrefixTokenizer.queryTerms(query);
+		if (terms.isEmpty() || limit <= 0) {
+			return List.of();
+		}
+		int lower = minPrice == null ? Integer.MIN_VALUE : minPrice;
+		int upper = maxPrice == null ? Integer.MAX_VALUE : maxPrice;
+		if (lower > upper) {
+			return List.of();
+		}
+		long before = beforeId == null ? Long.MAX_VALUE : beforeId;
+
+		lock.readLock().lock();
+		try {
+			return state.search(terms, lower, upper, before, limit);
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	/**
+	 * 색인된 상품 수를 반환합니다.
+	 */
+	public int size() {
+		lock.readLock().lock();
+		try {
+			return state.prices.size();
+		} finally {
+			lock.readLock().unlock();
+		}
+	}
+
+	void put(ProductDocument document) {
+		lock.writeLock().lock();
+		try {
+			state.put(document);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	void remove(Long productId) {
+		lock.writeLock().lock();
+		try {
+			state.remove(productId);
+		} finally {
+			lock.writeLock().unlock();
+		}
+	}
+
+	private void refresh(Long productId) {
+		productRepository.findDocumentById(productId, ProductStatus.DELETED)
+			.ifPresentOrElse(this::put, () -> remove(productId));
+	}
+
+	/**
+	 * 상품들을 한 번의 조회로 다시 읽어 반영하고, 조회되지 않은 상품(삭제됨)은 색인에서 제거합니다.
+	 */
+	private void refreshAll(List<Long> productIds) {
+		if (rebuilding) {
+			changedDuringRebuild.addAll(productIds);
+		}
+		Set<Long> missing = new HashSet<>(productIds);
+		for (ProductDocument document : productRepository.findDocumentsByIdIn(productIds, ProductStatus.DELETED)) {
+			put(document);
+			missing.remove(document.getId());
+		}
+		missing.forEach(this::remove);
+	}
+
+	private void publish(List<Long> productIds) {
+		String body = nodeId + SEPARATOR + productIds.stream().map(String::valueOf).collect(Collectors.joining(","));
+		try {
+			redisTemplate.convertAndSend(TOPIC.getTopic(), body);
+		} catch (DataAccessException e) {
+			log.warn("상품 검색 색인 변경 알림 전파 실패: products={}, {}", productIds.size(), e.getMessage());
+		}
+	}
+
+	/**
+	 * 색인 자료구조입니다. 잠금은 {@link ProductSearchIndex}가 관리합니다.
+	 */
+	private static final class State {
+
+		private final Map<String, SortedIds> postings = new HashMap<>();
+		private final Map<Long, String[]> termsByProduct = new HashMap<>();
+		private final Map<Long, Integer> prices = new HashMap<>();
+		private final NavigableMap<Integer, SortedIds> byPrice = new TreeMap<>();
+
+		void put(ProductDocument document) {
+			long productId = document.getId();
+			int price = document.getPrice();
+			Integer previous = prices.put(productId, price);
+			if (previous == null || previous != price) {
+				if (previous != null) {
+					removeFromPrice(previous, productId);
+				}
+				byPrice.computeIfAbsent(price, key -> new SortedIds()).add(productId);
+			}
+			Set<String> terms = PrefixTokenizer.indexTerms(document.getName() + " " + document.getDescription());
+			String[] previousTerms = termsByProduct.put(productId, terms.toArray(String[]::new));
+			if (previousTerms != null) {
+				for (String term : previousTerms) {
+					if (!terms.contains(term)) {
+						removeFromPosting(term, productId);
+					}
+				}
+			}
+			for (String term : terms) {
+				postings.computeIfAbsent(term, key -> new SortedIds()).add(productId);
+			}
+		}
+
+		void remove(long productId) {
+			Integer price = prices.remove(productId);
+			if (price != null) {
+				removeFromPrice(price, productId);
+			}
+			String[] terms = termsByProduct.remove(productId);
+			if (terms != null) {
+				for (String term : terms) {
+					removeFromPosting(term, productId);
+				}
+			}
+		}
+
+		List<Long> search(Set<String> terms, int lower, int upper, long before, int limit) {
+			SortedIds[] lists = new SortedIds[terms.size()];
+			int index = 0;
+			for (String term : terms) {
+				SortedIds ids = postings.get(term);
+				if (ids == null) {
+					return List.of();
+				}
+				lists[index++] = ids;
+			}
+			Arrays.sort(lists, Comparator.comparingInt(SortedIds::size));
+
+			NavigableMap<Integer, SortedIds> range = byPrice.subMap(lower, true, upper, true);
+			boolean priceFiltered = lower != Integer.MIN_VALUE || upper != Integer.MAX_VALUE;
+			if (priceFiltered && countBelow(range, lists[0].size())) {
+				return searchByPrice(range, lists, before, limit);
+			}
+
+			List<Long> result = new ArrayList<>();
+			SortedIds shortest = lists[0];
+			for (int i = shortest.indexBefore(before); i >= 0 && result.size() < limit; i--) {
+				long productId = shortest.get(i);
+				Integer price = prices.get(productId);
+				if (price == null || price < lower || price > upper) {
+					continue;
+				}
+				if (containsAll(lists, 1, productId)) {
+					result.add(productId);
+				}
+			}
+			return result;
+		}
+
+		private List<Long> searchByPrice(NavigableMap<Integer, SortedIds> range, SortedIds[] lists, long before,
+			int limit) {
+			List<Long> matched = new ArrayList<>();
+			for (SortedIds ids : range.values()) {
+				for (int i = ids.indexBefore(before); i >= 0; i--) {
+					long productId = ids.get(i);
+					if (containsAll(lists, 0, productId)) {
+						matched.add(productId);
+					}
+				}
+			}
+			return matched.stream()
+				.sorted(Comparator.reverseOrder())
+				.limit(limit)
+				.toList();
+		}
+
+		private void removeFromPosting(String term, long productId) {
+			SortedIds ids = postings.get(term);
+			if (ids != null && ids.remove(productId) && ids.size() == 0) {
+				postings.remove(term);
+			}
+		}
+
+		private void removeFromPrice(int price, long productId) {
+			SortedIds ids = byPrice.get(price);
+			if (ids != null && ids.remove(productId) && ids.size() == 0) {
+				byPrice.remove(price);
+			}
+		}
+
+		private static boolean countBelow(NavigableMap<Integer, SortedIds> range, int bound) {
+			int count = 0;
+			for (SortedIds ids : range.values()) {
+				count += ids.size();
+				if (count >= bound) {
+					return false;
+				}
+			}
+			return true;
+		}
+
+		private static boolean containsAll(SortedIds[] lists, int from, long productId) {
+			for (int i = from; i < lists.length; i++) {
+				if (!lists[i].contains(productId)) {
+					return false;
+				}
+			}
+			return true;
+		}
+	}
+
+	/**
+	 * 상품 식별자를 중복 없이 오름차순으로 보관하는 배열입니다.
+	 * 새 상품은 가장 큰 식별자를 가지므로 대부분 끝에 추가됩니다.
+	 */
+	static final class SortedIds {
+
+		private long[] ids = new long[4];
+		private int size;
+
+		int size() {
+			return size;
+		}
+
+		long get(int index) {
+			return ids[index];
+		}
+
+		boolean contains(long id) {
+			return Arrays.binarySearch(ids, 0, size, id) >= 0;
+		}
+
+		/**
+		 * {@code before}보다 작은 마지막 원소의 위치를 반환합니다. 없으면 -1 입니다.
+		 */
+		int indexBefore(long before) {
+			int position = Arrays.binarySearch(ids, 0, size, before);
+			return (position >= 0 ? position : -position - 1) - 1;
+		}
+
+		void add(long id) {
+			int position = size == 0 || ids[size - 1] < id ? -size - 1 : Arrays.binarySearch(ids, 0, size, id);
+			if (position >= 0) {
+				return;
+			}
+			int insertAt = -position - 1;
+			if (size == ids.length) {
+				ids = Arrays.copyOf(ids, size * 2);
+			}
+			System.arraycopy(ids, insertAt, ids, insertAt + 1, size - insertAt);
+			ids[insertAt] = id;
+			size++;
+		}
+
+		boolean remove(long id) {
+			int position = Arrays.binarySearch(ids, 0, size, id);
+			if (position < 0) {
+				return false;
+			}
+			System.arraycopy(ids, position + 1, ids, position, size - position - 1);
+			size--;
+			return true;
+		}
+	}
+}
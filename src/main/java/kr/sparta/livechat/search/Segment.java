@@ -0,0 +1,166 @@
+package kr.sparta.livechat.search;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import lombok.Getter;
+
+/**
+ * 메시지 검색 색인의 불변 세그먼트입니다.
+ * <p>
+ * n-gram 마다 메시지 식별자 오름차순의 posting 목록(메시지 식별자, 채팅방 식별자)을 가지며,
+ * 생성 후에는 변경되지 않으므로 검색 스레드가 잠금 없이 읽습니다.
+ * 세그먼트는 {@code seg-{generation}.idx} 파일로 저장되고 기동 시 메모리로 읽어 들입니다.
+ * 여러 세그먼트는 {@link #merge(long, List)}로 하나로 합칩니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+public final class Segment {
+
+	private static final int MAGIC = 0x4C435347;
+	private static final int VERSION = 1;
+
+	private final long generation;
+	private final int docCount;
+	private final long maxMessageId;
+	private final Map<String, Postings> postings;
+
+	Segment(long generation, int docCount, long maxMessageId, Map<String, Postings> postings) {
+		this.generation = generation;
+		this.docCount = docCount;
+		this.maxMessageId = maxMessageId;
+		this.postings = postings;
+	}
+
+	public static String fileName(long generation) {
+		return "seg-" + generation + ".idx";
+	}
+
+	/**
+	 * n-gram 의 posting 목록을 반환합니다. 없으면 {@code null}입니다.
+	 */
+	public Postings postings(String term) {
+		return postings.get(term);
+	}
+
+	/**
+	 * 세그먼트를 임시 파일에 쓴 뒤 원자적으로 이동하여 저장합니다.
+	 */
+	public void write(Path directory) {
+		Path target = directory.resolve(fileName(generation));
+		Path temp = directory.resolve(fileName(generation) + ".tmp");
+		try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+			out.writeInt(MAGIC);
+			out.writeInt(VERSION);
+			out.writeLong(generation);
+			out.writeInt(docCount);
+			out.writeLong(maxMessageId);
+			out.writeInt(postings.size());
+			for (Map.Entry<String, Postings> entry : postings.entrySet()) {
+				Postings list = entry.getValue();
+				out.writeUTF(entry.getKey());
+				out.writeInt(list.size());
+				for (int i = 0; i < list.size(); i++) {
+					out.writeLong(list.messageId(i));
+					out.writeLong(list.roomId(i));
+				}
+			}
+		} catch (IOException e) {
+			throw new UncheckedIOException("검색 세그먼트 저장 실패: " + target, e);
+		}
+		try {
+			Files.move(temp, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+		} catch (IOException e) {
+			throw new UncheckedIOException("검색 세그먼트 저장 실패: " + target, e);
+		}
+	}
+
+	/**
+	 * 세그먼트 파일을 읽습니다.
+	 */
+	public static Segment read(Path file) {
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(file)))) {
+			if (in.readInt() != MAGIC || in.readInt() != VERSION) {
+				throw new IllegalStateException("검색 세그먼트 형식이 올바르지 않습니다: " + file);
+			}
+			long generation = in.readLong();
+			int docCount = in.readInt();
+			long maxMessageId = in.readLong();
+			int termCount = in.readInt();
+			Map<String, Postings> postings = new HashMap<>(termCount * 2);
+			for (int t = 0; t < termCount; t++) {
+				String term = in.readUTF();
+				int size = in.readInt();
+				long[] messageIds = new long[size];
+				long[] roomIds = new long[size];
+				for (int i = 0; i < size; i++) {
+					messageIds[i] = in.readLong();
+					roomIds[i] = in.readLong();
+				}
+				postings.put(term, new Postings(messageIds, roomIds));
+			}
+			return new Segment(generation, docCount, maxMessageId, postings);
+		} catch (IOException e) {
+			throw new UncheckedIOException("검색 세그먼트 읽기 실패: " + file, e);
+		}
+	}
+
+	/**
+	 * 여러 세그먼트를 하나로 합칩니다. posting 은 메시지 식별자 오름차순을 유지합니다.
+	 *
+	 * @param generation 새 세그먼트 세대 번호
+	 * @param segments   합칠 세그먼트 목록
+	 * @return 합쳐진 세그먼트
+	 */
+	public static Segment merge(long generation, List<Segment> segments) {
+		SegmentBuilder builder = new SegmentBuilder();
+		segments.stream()
+			.sorted((a, b) -> Long.compare(a.generation, b.generation))
+			.forEach(builder::addAll);
+		return builder.build(generation);
+	}
+
+	/**
+	 * 메시지 식별자 오름차순 posting 목록입니다.
+	 */
+	public static final class Postings {
+		private final long[] messageIds;
+		private final long[] roomIds;
+
+		Postings(long[] messageIds, long[] roomIds) {
+			this.messageIds = messageIds;
+			this.roomIds = roomIds;
+		}
+
+		public int size() {
+			return messageIds.length;
+		}
+
+		public long messageId(int index) {
+			return messageIds[index];
+		}
+
+		public long roomId(int index) {
+			return roomIds[index];
+		}
+
+		public boolean contains(long messageId) {
+			return Arrays.binarySearch(messageIds, messageId) >= 0;
+		}
+	}
+}
@@ -0,0 +1,112 @@
+package kr.sparta.livechat.search;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 색인할 메시지를 모아 {@link Segment}를 만드는 가변 버퍼입니다.
+ * <p>
+ * 색인 스레드 하나만 사용하며, 같은 세그먼트 안에서 메시지 식별자 순서가 뒤섞여도 생성 시 정렬합니다.
+ * 보정 조회로 같은 메시지가 다시 색인되거나 병합 대상 세그먼트에 같은 메시지가 있어도 posting 은 한 번만 남깁니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public final class SegmentBuilder {
+
+	private final Map<String, LongPairList> postings = new HashMap<>();
+	private int docCount;
+	private long maxMessageId;
+
+	/**
+	 * 메시지 하나를 색인합니다.
+	 */
+	public void add(long messageId, long roomId, String content) {
+		for (String term : NgramTokenizer.tokenize(content)) {
+			postings.computeIfAbsent(term, k -> new LongPairList()).add(messageId, roomId);
+		}
+		docCount++;
+		maxMessageId = Math.max(maxMessageId, messageId);
+	}
+
+	/**
+	 * 세그먼트의 모든 posting 을 더합니다.
+	 */
+	public void addAll(Segment segment) {
+		for (Map.Entry<String, Segment.Postings> entry : segment.getPostings().entrySet()) {
+			Segment.Postings source = entry.getValue();
+			LongPairList target = postings.computeIfAbsent(entry.getKey(), k -> new LongPairList());
+			for (int i = 0; i < source.size(); i++) {
+				target.add(source.messageId(i), source.roomId(i));
+			}
+		}
+		docCount += segment.getDocCount();
+		maxMessageId = Math.max(maxMessageId, segment.getMaxMessageId());
+	}
+
+	public boolean isEmpty() {
+		return docCount == 0;
+	}
+
+	public int getDocCount() {
+		return docCount;
+	}
+
+	/**
+	 * 모은 posting 을 메시지 식별자 오름차순으로 정렬하여 불변 세그먼트를 만듭니다.
+	 */
+	public Segment build(long generation) {
+		Map<String, Segment.Postings> built = new HashMap<>(postings.size() * 2);
+		postings.forEach((term, list) -> built.put(term, list.toPostings()));
+		return new Segment(generation, docCount, maxMessageId, built);
+	}
+
+	private static final class LongPairList {
+		private long[] messageIds = new long[4];
+		private long[] roomIds = new long[4];
+		private int size;
+		private boolean sorted = true;
+
+		private void add(long messageId, long roomId) {
+			if (size == messageIds.length) {
+				messageIds = Arrays.copyOf(messageIds, size * 2);
+				roomIds = Arrays.copyOf(roomIds, size * 2);
+			}
+			if (size > 0 && messageIds[size - 1] > messageId) {
+				sorted = false;
+			}
+			messageIds[size] = messageId;
+			roomIds[size] = roomId;
+			size++;
+		}
+
+		private Segment.Postings toPostings() {
+			long[] ids = Arrays.copyOf(messageIds, size);
+			long[] rooms = Arrays.copyOf(roomIds, size);
+			if (!sorted) {
+				Integer[] order = new Integer[size];
+				for (int i = 0; i < size; i++) {
+					order[i] = i;
+				}
+				Arrays.sort(order, (a, b) -> Long.compare(messageIds[a], messageIds[b]));
+				for (int i = 0; i < size; i++) {
+					ids[i] = messageIds[order[i]];
+					rooms[i] = roomIds[order[i]];
+				}
+			}
+			int unique = 0;
+			for (int i = 0; i < size; i++) {
+				if (unique > 0 && ids[unique - 1] == ids[i]) {
+					continue;
+				}
+				ids[unique] = ids[i];
+				rooms[unique] = rooms[i];
+				unique++;
+			}
+			return new Segment.Postings(Arrays.copyOf(ids, unique), Arrays.copyOf(rooms, unique));
+		}
+	}
+}
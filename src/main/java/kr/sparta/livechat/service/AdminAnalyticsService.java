@@ -0,0 +1,133 @@
+package kr.sparta.livechat.service;
+
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import kr.sparta.livechat.domain.entity.ChatAnalyticsSnapshot;
+import kr.sparta.livechat.domain.role.AnalyticsDimension;
+import kr.sparta.livechat.dto.admin.AdminAnalyticsListResponse;
+import kr.sparta.livechat.dto.admin.AdminAnalyticsResponse;
+import kr.sparta.livechat.global.exception.CustomException;
+import kr.sparta.livechat.global.exception.ErrorCode;
+import kr.sparta.livechat.repository.ChatAnalyticsSnapshotRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 전용 상담 지표 조회 서비스
+ * 메모리 집계가 준비되면 {@link ChatAnalyticsService}의 값을, 초기 적재 중에는 마지막 스냅샷을 반환합니다.
+ * 어느 쪽도 GROUP BY 집계를 실행하지 않습니다.
+ * AdminAnalyticsService.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminAnalyticsService {
+	private static final String LIVE = "LIVE";
+	private static final String SNAPSHOT = "SNAPSHOT";
+	private static final int MAX_LIMIT = 100;
+
+	private final ChatAnalyticsService chatAnalyticsService;
+	private final ChatAnalyticsSnapshotRepository chatAnalyticsSnapshotRepository;
+
+	/**
+	 * 판매자 또는 상품 하나의 상담 지표 조회
+	 * 집계된 값이 없으면 종료 채팅방 수 0 으로 반환한다.
+	 *
+	 * @param dimension 집계 기준
+	 * @param targetId  판매자 또는 상품 식별자
+	 * @return 상담 지표 응답 DTO
+	 */
+	public AdminAnalyticsResponse getMetrics(AnalyticsDimension dimension, Long targetId) {
+		validateAdmin();
+
+		if (chatAnalyticsService.isWarmedUp()) {
+			return chatAnalyticsService.find(dimension, targetId)
+				.map(this::fromMetrics)
+				.orElseGet(() -> empty(dimension, targetId, LIVE));
+		}
+		return chatAnalyticsSnapshotRepository.findByDimensionAndTargetId(dimension, targetId)
+			.map(this::fromSnapshot)
+			.orElseGet(() -> empty(dimension, targetId, SNAPSHOT));
+	}
+
+	/**
+	 * 종료 채팅방 수 기준 상위 판매자 또는 상품의 상담 지표 조회
+	 *
+	 * @param dimension 집계 기준
+	 * @param limit     반환할 최대 개수 (1 ~ 100)
+	 * @return 상담 지표 순위 응답 DTO
+	 */
+	public AdminAnalyticsListResponse getTop(AnalyticsDimension dimension, int limit) {
+		validateAdmin();
+		if (limit <= 0 || limit > MAX_LIMIT) {
+			throw new CustomException(ErrorCode.COMMON_BAD_PAGINATION);
+		}
+
+		List<AdminAnalyticsResponse> items = chatAnalyticsService.isWarmedUp()
+			? chatAnalyticsService.top(dimension, limit).stream().map(this::fromMetrics).toList()
+			: chatAnalyticsSnapshotRepository.findByDimensionOrderByRoomsClosedDesc(dimension, PageRequest.of(0, limit))
+				.stream().map(this::fromSnapshot).toList();
+
+		return AdminAnalyticsListResponse.builder()
+			.dimension(dimension)
+			.items(items)
+			.build();
+	}
+
+	private AdminAnalyticsResponse fromMetrics(ChatAnalyticsService.Metrics metrics) {
+		return AdminAnalyticsResponse.builder()
+			.dimension(metrics.getDimension())
+			.targetId(metrics.getTargetId())
+			.roomsClosed(metrics.getRoomsClosed())
+			.medianDurationSeconds(metrics.getMedianDurationSeconds())
+			.p95DurationSeconds(metrics.getP95DurationSeconds())
+			.avgMessagesPerRoom(metrics.getAvgMessagesPerRoom())
+			.medianFirstResponseSeconds(metrics.getMedianFirstResponseSeconds())
+			.p95FirstResponseSeconds(metrics.getP95FirstResponseSeconds())
+			.windowStartedAt(metrics.getWindowStartedAt())
+			.source(LIVE)
+			.build();
+	}
+
+	private AdminAnalyticsResponse fromSnapshot(ChatAnalyticsSnapshot snapshot) {
+		return AdminAnalyticsResponse.builder()
+			.dimension(snapshot.getDimension())
+			.targetId(snapshot.getTargetId())
+			.roomsClosed(snapshot.getRoomsClosed())
+			.medianDurationSeconds(snapshot.getMedianDurationSeconds())
+			.p95DurationSeconds(snapshot.getP95DurationSeconds())
+			.avgMessagesPerRoom(snapshot.getAvgMessagesPerRoom())
+			.medianFirstResponseSeconds(snapshot.getMedianFirstResponseSeconds())
+			.p95FirstResponseSeconds(snapshot.getP95FirstResponseSeconds())
+			.windowStartedAt(snapshot.getWindowStartedAt())
+			.source(SNAPSHOT)
+			.build();
+	}
+
+	private AdminAnalyticsResponse empty(AnalyticsDimension dimension, Long targetId, String source) {
+		return AdminAnalyticsResponse.builder()
+			.dimension(dimension)
+			.targetId(targetId)
+			.source(source)
+			.build();
+	}
+
+	private void validateAdmin() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated() ||
+			authentication.getPrincipal().equals("anonymousUser")) {
+			throw new CustomException(ErrorCode.AUTH_INVALID_CREDENTIALS);
+		}
+		boolean isAdmin = authentication.getAuthorities().stream()
+			.anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+		if (!isAdmin) {
+			throw new CustomException(ErrorCode.CHATROOM_ACCESS_DENIED);
+		}
+	}
+}
@@ -1,7 +1,11 @@
 package kr.sparta.livechat.service;
 
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,20 +16,24 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import kr.sparta.livechat.archive.ArchivedMessage;
 import kr.sparta.livechat.domain.entity.ChatRoom;
-import kr.sparta.livechat.domain.entity.Message;
+import kr.sparta.livechat.domain.event.ChatRoomClosedEvent;
 import kr.sparta.livechat.domain.role.ChatRoomStatus;
-import kr.sparta.livechat.domain.role.RoleInRoom;
 import kr.sparta.livechat.dto.admin.AdminChatDetailResponse;
+import kr.sparta.livechat.dto.admin.AdminChatMessageListResponse;
 import kr.sparta.livechat.dto.admin.AdminChatMessageResponse;
 import kr.sparta.livechat.dto.admin.AdminChatRoomListResponse;
 import kr.sparta.livechat.dto.admin.AdminChatRoomResponse;
 import kr.sparta.livechat.dto.admin.AdminChatStatusRequest;
 import kr.sparta.livechat.dto.admin.AdminChatStatusResponse;
+import kr.sparta.livechat.entity.User;
 import kr.sparta.livechat.global.exception.CustomException;
 import kr.sparta.livechat.global.exception.ErrorCode;
 import kr.sparta.livechat.repository.ChatRoomRepository;
 import kr.sparta.livechat.repository.MessageRepository;
+import kr.sparta.livechat.repository.UserRepository;
+import kr.sparta.livechat.security.CustomUserDetails;
 import lombok.RequiredArgsConstructor;
 
 /**
@@ -40,14 +48,21 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class AdminChatService {
+	private static final int MAX_MESSAGE_SIZE = 200;
+
 	private final ChatRoomRepository chatRoomRepository;
 	private final MessageRepository messageRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ChatRoomStatsService chatRoomStatsService;
+	private final MessageArchiveService messageArchiveService;
+	private final UserRepository userRepository;
 
 	/**
 	 * 모든 채팅방 목록 조회
 	 * 요청자의 관리자 권한 검증,
 	 * 채팅방 목록을 페이징 하여 가져온다
 	 * 채팅방의 참여자(구매자, 판매자) 이름을 반환한다
+	 * 상품/참여자 정보는 projection 쿼리 한 번으로 함께 조회한다
 	 * 미응답 상태 (OPEN) 인 상담을 최상단에 나열
 	 * 동일 상태 내에서는 최신 생성일 순으로 나열
 	 *
@@ -74,32 +89,8 @@ public class AdminChatService {
 		Pageable pageable = PageRequest.of(page, size,
 			Sort.by(Sort.Order.desc("status"), Sort.Order.desc("createdAt")));
 
-		Page<ChatRoom> chatRooms = chatRoomRepository.findAll(pageable);
-		List<AdminChatRoomResponse> dtoList = chatRooms.getContent().stream()
-			.map(room -> {
-				String buyerName = room.getParticipants().stream()
-					.filter(p -> p.getRoleInRoom() == RoleInRoom.BUYER)
-					.map(p -> p.getUser().getName())
-					.findFirst()
-					.orElse("Unknown");
-
-				String sellerName = room.getParticipants().stream()
-					.filter(p -> p.getRoleInRoom() == RoleInRoom.SELLER)
-					.map(p -> p.getUser().getName())
-					.findFirst()
-					.orElse("Unknown");
-
-				return new AdminChatRoomResponse(
-					room.getId(),
-					room.getStatus().name(),
-					room.getCreatedAt(),
-					room.getClosedAt(),
-					room.getProduct().getName(),
-					sellerName,
-					buyerName,
-					room.getLastMessageSentAt()
-				);
-			}).toList();
+		Page<AdminChatRoomResponse> chatRooms = chatRoomRepository.findAdminChatRooms(pageable);
+		List<AdminChatRoomResponse> dtoList = chatRooms.getContent();
 
 		return new AdminChatRoomListResponse(
 			chatRooms.getNumber(),
@@ -114,6 +105,7 @@ public class AdminChatService {
 	/**
 	 * 특정 채팅방의 메시지 내역을 상세 조회합니다
 	 * Slice 방식을 사용하며, 최신 메시지가 먼저 오도록 설정합니다.
+	 * 메시지가 보관된 채팅방은 보관 세그먼트에서 같은 순서로 조회합니다.
 	 *
 	 * @param chatRoomId 조회할 채팅방의 고유 식별자 ID
 	 * @param page 조회할 페이지 번호
@@ -137,20 +129,13 @@ public class AdminChatService {
 		ChatRoom chatRoom = chatRoomRepository.findById(chatRoomId)
 			.orElseThrow(() -> new CustomException(ErrorCode.CHATROOM_NOT_FOUND));
 
-		org.springframework.data.domain.Pageable pageable =
-			PageRequest.of(page, size, Sort.by("sentAt").descending());
-		Slice<Message> messageSlice = messageRepository.findByRoomId(chatRoomId, pageable);
+		if (messageArchiveService.isArchived(chatRoomId)) {
+			return getArchivedChatRoomDetail(chatRoom, page, size);
+		}
 
-		List<AdminChatMessageResponse> messageDtos = messageSlice.getContent().stream()
-			.map(msg -> AdminChatMessageResponse.builder()
-				.messageId(msg.getId())
-				.content(msg.getContent())
-				.type(msg.getType().name())
-				.writerId(msg.getWriter().getId())
-				.writerName(msg.getWriter().getName())
-				.sentAt(msg.getSentAt())
-				.build())
-			.toList();
+		Pageable pageable = PageRequest.of(page, size, Sort.by("sentAt").descending());
+		Slice<AdminChatMessageResponse> messageSlice =
+			messageRepository.findAdminMessagesByRoomId(chatRoomId, pageable);
 
 		return AdminChatDetailResponse.builder()
 			.chatRoomId(chatRoom.getId())
@@ -158,10 +143,94 @@ public class AdminChatService {
 			.page(messageSlice.getNumber())
 			.size(messageSlice.getSize())
 			.hasNext(messageSlice.hasNext())
-			.messagesList(messageDtos)
+			.messagesList(messageSlice.getContent())
+			.build();
+	}
+
+	private AdminChatDetailResponse getArchivedChatRoomDetail(ChatRoom chatRoom, int page, int size) {
+		List<ArchivedMessage> archived = messageArchiveService.readPage(chatRoom.getId(), (long)page * size, size + 1);
+		boolean hasNext = archived.size() > size;
+		List<ArchivedMessage> content = hasNext ? archived.subList(0, size) : archived;
+
+		return AdminChatDetailResponse.builder()
+			.chatRoomId(chatRoom.getId())
+			.chatRoomStatus(chatRoom.getStatus().name())
+			.page(page)
+			.size(size)
+			.hasNext(hasNext)
+			.messagesList(toMessageResponses(content))
+			.build();
+	}
+
+	/**
+	 * 특정 채팅방의 메시지 내역을 커서 기반으로 조회합니다
+	 * 메시지 식별자 keyset 으로 조회하므로 OFFSET 을 건너뛰지 않고, 수천 건 뒤의 메시지도 첫 페이지와 같은 비용으로 조회합니다.
+	 * 작성자 이름은 메시지 조회 쿼리에서 함께 읽습니다.
+	 * 최초 조회는 cursor 없이 최신 메시지부터, 이후에는 이전 응답의 nextCursor 를 전달합니다.
+	 *
+	 * @param chatRoomId 조회할 채팅방의 고유 식별자 ID
+	 * @param cursor 이전 응답의 nextCursor (null이면 최신부터 조회)
+	 * @param size 조회할 메시지 개수
+	 * @return 채팅방 상태 정보와 최신순 메시지 목록, 다음 커서를 포함한 AdminChatMessageListResponse
+	 */
+	@Transactional(readOnly = true)
+	public AdminChatMessageListResponse getChatRoomMessages(Long chatRoomId, Long cursor, int size) {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated() ||
+			authentication.getPrincipal().equals("anonymousUser")) {
+			throw new CustomException(ErrorCode.AUTH_INVALID_CREDENTIALS);
+		}
+
+		boolean isAdmin = authentication.getAuthorities().stream()
+			.anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+		if (!isAdmin) {
+			throw new CustomException(ErrorCode.CHATROOM_ACCESS_DENIED);
+		}
+		if ((cursor != null && cursor <= 0) || size <= 0 || size > MAX_MESSAGE_SIZE) {
+			throw new CustomException(ErrorCode.COMMON_BAD_PAGINATION);
+		}
+
+		ChatRoomStatus status = chatRoomRepository.findStatusById(chatRoomId)
+			.orElseThrow(() -> new CustomException(ErrorCode.CHATROOM_NOT_FOUND));
+
+		List<AdminChatMessageResponse> messages;
+		if (messageArchiveService.isArchived(chatRoomId)) {
+			messages = toMessageResponses(messageArchiveService.readBefore(chatRoomId, cursor, size + 1));
+		} else {
+			messages = messageRepository.findAdminMessagesBefore(chatRoomId,
+				cursor == null ? Long.MAX_VALUE : cursor, PageRequest.of(0, size + 1));
+		}
+
+		boolean hasNext = messages.size() > size;
+		List<AdminChatMessageResponse> content = hasNext ? messages.subList(0, size) : messages;
+
+		return AdminChatMessageListResponse.builder()
+			.chatRoomId(chatRoomId)
+			.chatRoomStatus(status.name())
+			.size(size)
+			.hasNext(hasNext)
+			.nextCursor(hasNext ? content.get(content.size() - 1).getMessageId() : null)
+			.messagesList(content)
 			.build();
 	}
 
+	private List<AdminChatMessageResponse> toMessageResponses(List<ArchivedMessage> content) {
+		Map<Long, User> writers = userRepository.findAllById(
+				content.stream().map(ArchivedMessage::writerId).distinct().toList()).stream()
+			.collect(Collectors.toMap(User::getId, Function.identity()));
+
+		return content.stream()
+			.map(msg -> AdminChatMessageResponse.builder()
+				.messageId(msg.id())
+				.content(msg.content())
+				.type(msg.type().name())
+				.writerId(msg.writerId())
+				.writerName(writers.containsKey(msg.writerId()) ? writers.get(msg.writerId()).getName() : null)
+				.sentAt(msg.sentAt())
+				.build())
+			.toList();
+	}
+
 	/**
 	 * 관리자 권한으로 특정 채팅방의 상태를 CLOSED로 변경한다
 	 * 관리자 인증 여부 확인,
@@ -192,6 +261,17 @@ public class AdminChatService {
 		}
 
 		chatRoom.close();
+		chatRoomStatsService.summarize(chatRoom);
+
+		Long adminId = authentication.getPrincipal() instanceof CustomUserDetails userDetails
+			? userDetails.getUserId() : null;
+		eventPublisher.publishEvent(new ChatRoomClosedEvent(
+			chatRoom.getId(),
+			chatRoom.getProduct().getId(),
+			adminId,
+			chatRoom.getReason(),
+			chatRoom.getClosedAt()
+		));
 
 		return AdminChatStatusResponse.builder()
 			.chatRoomId(chatRoom.getId())
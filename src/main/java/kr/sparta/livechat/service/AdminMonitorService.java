@@ -0,0 +1,334 @@
+package kr.sparta.livechat.service;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import kr.sparta.livechat.config.AdminMonitorProperties;
+import kr.sparta.livechat.domain.event.ChatMessageSentEvent;
+import kr.sparta.livechat.domain.event.ChatRoomClosedEvent;
+import kr.sparta.livechat.domain.event.ChatRoomOpenedEvent;
+import kr.sparta.livechat.domain.role.ChatRoomStatus;
+import kr.sparta.livechat.dto.admin.AdminMonitorEventResponse;
+import kr.sparta.livechat.global.exception.CustomException;
+import kr.sparta.livechat.global.exception.ErrorCode;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 관리자 실시간 모니터링 서비스
+ * 채팅방 개설/종료, 메시지 전송 도메인 이벤트를 커밋 이후에 받아 SSE 구독자에게 전달합니다.
+ * 구독자별로 채팅방 상태, 상품 조건으로 서버에서 필터링하며,
+ * 최근 이벤트를 고정 크기 버퍼에 보관하여 새 구독자나 재연결한 구독자에게 재전송합니다.
+ * 전송은 단일 스레드에서 순서대로 처리하여 요청 스레드가 SSE 전송을 기다리지 않도록 합니다.
+ *
+ * 도메인 이벤트는 이벤트가 발생한 노드에서만 발행되므로, 이벤트는 Redis 스크립트로 시퀀스({@code admin:monitor:sequence})를
+ * 증가시켜 이벤트 ID 를 발급하는 동시에 Pub/Sub 채널({@code admin:monitor:events})로 발행합니다.
+ * 발생한 노드를 포함한 모든 노드는 채널에서 받은 이벤트만 버퍼에 보관하고 전달하므로,
+ * 모든 노드의 버퍼가 같은 이벤트 ID 순서를 가지며 다른 노드에 재연결해도 Last-Event-ID 이후부터 이어서 받습니다.
+ * Redis 에 발행하지 못한 이벤트는 전달되지 않습니다.
+ * AdminMonitorService.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Service
+public class AdminMonitorService {
+
+	private static final String ROOM_OPENED = "ROOM_OPENED";
+	private static final String ROOM_CLOSED = "ROOM_CLOSED";
+	private static final String MESSAGE = "MESSAGE";
+	private static final ChannelTopic TOPIC = new ChannelTopic("admin:monitor:events");
+	private static final String SEQUENCE_KEY = "admin:monitor:sequence";
+	private static final char SEPARATOR = ':';
+
+	private static final RedisScript<Long> PUBLISH_SCRIPT = new DefaultRedisScript<>(
+		"local id = redis.call('incr', KEYS[1]) "
+			+ "redis.call('publish', ARGV[1], id .. ':' .. ARGV[2]) return id",
+		Long.class);
+
+	private final AdminMonitorProperties properties;
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ObjectMapper objectMapper;
+	private final ExecutorService dispatcher;
+	private final Deque<AdminMonitorEventResponse> replayBuffer = new ArrayDeque<>();
+	private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+
+	@Autowired
+	public AdminMonitorService(
+		AdminMonitorProperties properties,
+		StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		ObjectMapper objectMapper
+	) {
+		this(properties, redisTemplate, listenerContainer, objectMapper, Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "admin-monitor-dispatcher");
+			thread.setDaemon(true);
+			return thread;
+		}));
+	}
+
+	AdminMonitorService(
+		AdminMonitorProperties properties,
+		StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		ObjectMapper objectMapper,
+		ExecutorService dispatcher
+	) {
+		this.properties = properties;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.objectMapper = objectMapper;
+		this.dispatcher = dispatcher;
+	}
+
+	@PostConstruct
+	void listen() {
+		listenerContainer.addMessageListener(
+			(message, pattern) -> onRemoteEvent(new String(message.getBody(), StandardCharsets.UTF_8)), TOPIC);
+	}
+
+	/**
+	 * 실시간 모니터링 스트림 구독
+	 * 요청자의 관리자 권한을 검증하고,
+	 * Last-Event-ID 가 있으면 그 이후 이벤트를, 없으면 최근 이벤트를 최대 replay 건 재전송한 뒤 실시간 이벤트를 전달한다.
+	 *
+	 * @param status 채팅방 상태 필터 (null 이면 전체)
+	 * @param productId 상품 필터 (null 이면 전체)
+	 * @param lastEventId 마지막으로 수신한 이벤트 ID (null 이면 최근 이벤트 재전송)
+	 * @param replay 최초 구독 시 재전송할 최근 이벤트 최대 개수
+	 * @return SSE emitter
+	 */
+	public SseEmitter subscribe(String status, Long productId, Long lastEventId, int replay) {
+		validateAdmin();
+		if (replay < 0) {
+			throw new CustomException(ErrorCode.COMMON_BAD_PAGINATION);
+		}
+
+		Subscriber subscriber = new Subscriber(
+			new SseEmitter(properties.getEmitterTimeoutMs()), parseStatus(status), productId);
+		subscriber.emitter.onCompletion(() -> subscribers.remove(subscriber));
+		subscriber.emitter.onTimeout(() -> subscribers.remove(subscriber));
+		subscriber.emitter.onError(e -> subscribers.remove(subscriber));
+
+		synchronized (replayBuffer) {
+			List<AdminMonitorEventResponse> backlog = replayBuffer.stream()
+				.filter(subscriber::accepts)
+				.filter(event -> lastEventId == null || event.getEventId() > lastEventId)
+				.toList();
+			List<AdminMonitorEventResponse> replayed = lastEventId != null
+				? backlog
+				: backlog.subList(Math.max(0, backlog.size() - replay), backlog.size());
+
+			subscribers.add(subscriber);
+			dispatcher.execute(() -> {
+				replayed.forEach(subscriber::send);
+				subscriber.ready = true;
+			});
+		}
+		return subscriber.emitter;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onRoomOpened(ChatRoomOpenedEvent event) {
+		publish(AdminMonitorEventResponse.builder()
+			.type(ROOM_OPENED)
+			.chatRoomId(event.getRoomId())
+			.productId(event.getProductId())
+			.status(ChatRoomStatus.OPEN.name())
+			.actorId(event.getBuyerId())
+			.occurredAt(event.getOpenedAt()));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onRoomClosed(ChatRoomClosedEvent event) {
+		publish(AdminMonitorEventResponse.builder()
+			.type(ROOM_CLOSED)
+			.chatRoomId(event.getRoomId())
+			.productId(event.getProductId())
+			.status(ChatRoomStatus.CLOSED.name())
+			.actorId(event.getClosedBy())
+			.reason(event.getReason())
+			.occurredAt(event.getClosedAt()));
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onMessageSent(ChatMessageSentEvent event) {
+		publish(AdminMonitorEventResponse.builder()
+			.type(MESSAGE)
+			.chatRoomId(event.getRoomId())
+			.productId(event.getProductId())
+			.status(event.getRoomStatus().name())
+			.actorId(event.getWriterId())
+			.messageId(event.getMessageId())
+			.messageType(event.getType().name())
+			.occurredAt(event.getSentAt()));
+	}
+
+	/**
+	 * 프록시나 로드밸런서가 유휴 연결을 끊지 않도록 주기적으로 주석 이벤트를 전송한다.
+	 * 끊어진 연결은 전송 실패로 감지하여 정리한다.
+	 */
+	@Scheduled(fixedDelayString = "${admin.monitor.heartbeat-interval-ms}")
+	public void heartbeat() {
+		if (subscribers.isEmpty()) {
+			return;
+		}
+		dispatcher.execute(() -> subscribers.forEach(Subscriber::ping));
+	}
+
+	@PreDestroy
+	void shutdown() {
+		dispatcher.shutdownNow();
+		subscribers.forEach(subscriber -> subscriber.emitter.complete());
+	}
+
+	/**
+	 * 채널에서 받은 이벤트를 버퍼에 보관하고 조건에 맞는 구독자에게 전달한다.
+	 * 본문은 {@code 이벤트ID:JSON} 형식이다.
+	 */
+	void onRemoteEvent(String body) {
+		int separator = body.indexOf(SEPARATOR);
+		AdminMonitorEventResponse event;
+		try {
+			long eventId = Long.parseLong(body.substring(0, Math.max(separator, 0)));
+			event = objectMapper.readValue(body.substring(separator + 1), AdminMonitorEventResponse.class)
+				.toBuilder()
+				.eventId(eventId)
+				.build();
+		} catch (NumberFormatException | JsonProcessingException e) {
+			log.warn("관리자 모니터링 이벤트 형식 오류: {}", e.getMessage());
+			return;
+		}
+		append(event);
+	}
+
+	private void publish(AdminMonitorEventResponse.AdminMonitorEventResponseBuilder builder) {
+		AdminMonitorEventResponse event = builder.build();
+		try {
+			redisTemplate.execute(PUBLISH_SCRIPT, List.of(SEQUENCE_KEY), TOPIC.getTopic(),
+				objectMapper.writeValueAsString(event));
+		} catch (JsonProcessingException | DataAccessException e) {
+			log.warn("관리자 모니터링 이벤트 전파 실패: type={}, chatRoomId={}, {}",
+				event.getType(), event.getChatRoomId(), e.getMessage());
+		}
+	}
+
+	private void append(AdminMonitorEventResponse event) {
+		synchronized (replayBuffer) {
+			if (replayBuffer.size() >= properties.getReplayBufferSize()) {
+				replayBuffer.pollFirst();
+			}
+			replayBuffer.addLast(event);
+
+			if (!subscribers.isEmpty()) {
+				dispatcher.execute(() -> subscribers.stream()
+					.filter(subscriber -> subscriber.ready && subscriber.accepts(event))
+					.forEach(subscriber -> subscriber.send(event)));
+			}
+		}
+	}
+
+	private ChatRoomStatus parseStatus(String status) {
+		if (status == null || status.isBlank()) {
+			return null;
+		}
+		try {
+			return ChatRoomStatus.valueOf(status.toUpperCase());
+		} catch (IllegalArgumentException e) {
+			throw new CustomException(ErrorCode.CHATROOM_INVALID_STATUS);
+		}
+	}
+
+	private void validateAdmin() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated() ||
+			authentication.getPrincipal().equals("anonymousUser")) {
+			throw new CustomException(ErrorCode.AUTH_INVALID_CREDENTIALS);
+		}
+		boolean isAdmin = authentication.getAuthorities().stream()
+			.anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+		if (!isAdmin) {
+			throw new CustomException(ErrorCode.CHATROOM_ACCESS_DENIED);
+		}
+	}
+
+	/**
+	 * SSE 구독자와 필터 조건
+	 * 재전송이 끝나기 전까지는 실시간 이벤트를 받지 않고({@code ready}),
+	 * 이미 보낸 이벤트 ID 이하의 이벤트는 다시 보내지 않는다.
+	 */
+	private final class Subscriber {
+		private final SseEmitter emitter;
+		private final ChatRoomStatus status;
+		private final Long productId;
+		private volatile boolean ready;
+		private long lastSentId;
+
+		private Subscriber(SseEmitter emitter, ChatRoomStatus status, Long productId) {
+			this.emitter = emitter;
+			this.status = status;
+			this.productId = productId;
+		}
+
+		private boolean accepts(AdminMonitorEventResponse event) {
+			return (status == null || status.name().equals(event.getStatus()))
+				&& (productId == null || productId.equals(event.getProductId()));
+		}
+
+		private void send(AdminMonitorEventResponse event) {
+			if (event.getEventId() <= lastSentId) {
+				return;
+			}
+			try {
+				emitter.send(SseEmitter.event()
+					.id(String.valueOf(event.getEventId()))
+					.name(event.getType())
+					.data(event, MediaType.APPLICATION_JSON));
+				lastSentId = event.getEventId();
+			} catch (IOException | IllegalStateException e) {
+				drop(e);
+			}
+		}
+
+		private void ping() {
+			try {
+				emitter.send(SseEmitter.event().comment("heartbeat"));
+			} catch (IOException | IllegalStateException e) {
+				drop(e);
+			}
+		}
+
+		private void drop(Exception e) {
+			subscribers.remove(this);
+			emitter.completeWithError(e);
+			log.debug("관리자 모니터링 구독 해제: {}", e.getMessage());
+		}
+	}
+}
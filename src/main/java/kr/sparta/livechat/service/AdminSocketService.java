@@ -0,0 +1,103 @@
+package kr.sparta.livechat.service;
+
+import java.util.List;
+
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+
+import kr.sparta.livechat.dto.admin.AdminRoomSessionListResponse;
+import kr.sparta.livechat.dto.admin.AdminSocketOutboundResponse;
+import kr.sparta.livechat.dto.admin.AdminSocketSessionResponse;
+import kr.sparta.livechat.dto.admin.AdminSocketStatusResponse;
+import kr.sparta.livechat.global.exception.CustomException;
+import kr.sparta.livechat.global.exception.ErrorCode;
+import kr.sparta.livechat.socket.OutboundBackpressureMonitor;
+import kr.sparta.livechat.socket.SessionRegistry;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 관리자 전용 WebSocket 연결 현황 조회 서비스
+ * 세션 레지스트리와 outbound 적체 정보를 조합하여 반환합니다.
+ * AdminSocketService.java
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@Service
+@RequiredArgsConstructor
+public class AdminSocketService {
+	private final SessionRegistry sessionRegistry;
+	private final OutboundBackpressureMonitor outboundBackpressureMonitor;
+
+	/**
+	 * 전체 연결 현황 조회
+	 * 연결/사용자/구독 수와 미전송 프레임이 많은 순으로 상위 세션을 반환한다.
+	 *
+	 * @param limit 반환할 outbound 세션 최대 개수
+	 * @return 연결 현황 응답 DTO
+	 */
+	public AdminSocketStatusResponse getSocketStatus(int limit) {
+		validateAdmin();
+		if (limit <= 0) {
+			throw new CustomException(ErrorCode.COMMON_BAD_PAGINATION);
+		}
+
+		List<AdminSocketOutboundResponse> outboundSessions = outboundBackpressureMonitor.snapshot().stream()
+			.limit(limit)
+			.map(stats -> AdminSocketOutboundResponse.builder()
+				.sessionId(stats.getSessionId())
+				.userId(stats.getUserId())
+				.pending(stats.getPending())
+				.lagging(stats.isLagging())
+				.coalesced(stats.getCoalesced())
+				.build())
+			.toList();
+
+		return AdminSocketStatusResponse.builder()
+			.sessionCount(sessionRegistry.getSessionCount())
+			.userCount(sessionRegistry.getUserCount())
+			.subscribedRoomCount(sessionRegistry.getSubscribedRoomCount())
+			.subscriptionCount(sessionRegistry.getSubscriptionCount())
+			.outboundSessions(outboundSessions)
+			.build();
+	}
+
+	/**
+	 * 특정 채팅방을 구독 중인 세션 목록 조회
+	 *
+	 * @param chatRoomId 채팅방 식별자
+	 * @return 채팅방 구독 세션 목록 응답 DTO
+	 */
+	public AdminRoomSessionListResponse getRoomSessions(Long chatRoomId) {
+		validateAdmin();
+
+		List<AdminSocketSessionResponse> sessions = sessionRegistry.getRoomSessions(chatRoomId).stream()
+			.map(info -> AdminSocketSessionResponse.builder()
+				.sessionId(info.getSessionId())
+				.userId(info.getUserId())
+				.connectedAt(info.getConnectedAt())
+				.subscriptionCount(info.getSubscriptionCount())
+				.build())
+			.toList();
+
+		return AdminRoomSessionListResponse.builder()
+			.chatRoomId(chatRoomId)
+			.sessionCount(sessions.size())
+			.sessions(sessions)
+			.build();
+	}
+
+	private void validateAdmin() {
+		Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+		if (authentication == null || !authentication.isAuthenticated() ||
+			authentication.getPrincipal().equals("anonymousUser")) {
+			throw new CustomException(ErrorCode.AUTH_INVALID_CREDENTIALS);
+		}
+		boolean isAdmin = authentication.getAuthorities().stream()
+			.anyMatch(a -> a.getAuthority().equals("ROLE_ADMIN"));
+		if (!isAdmin) {
+			throw new CustomException(ErrorCode.CHATROOM_ACCESS_DENIED);
+		}
+	}
+}
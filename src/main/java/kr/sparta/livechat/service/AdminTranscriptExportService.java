@@ -0,0 +1,213 @@
+package kr.sparta.livechat.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import kr.sparta.livechat.archive.ArchivedMessage;
+import kr.sparta.livechat.domain.role.TranscriptFormat;
+import kr.sparta.livechat.dto.admin.AdminTranscriptLine;
+import kr.sparta.livechat.entity.User;
+import kr.sparta.livechat.global.exception.CustomException;
+import kr.sparta.livechat.global.exception.ErrorCode;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import kr.sparta.livechat.repository.MessageRepository;
+import kr.sparta.livechat.repository.MessageRepository.MessageDocument;
+import kr.sparta.livechat.repository.UserRepository;
+
+/**
+ * 관리자 채팅방 대화 내역 내보내기 서비스
+ * 채팅방 전체 메시지를 JSON Lines 또는 CSV 로 출력 스트림에 바로 쓴다
+ * 메시지는 식별자 keyset 으로 {@code CHUNK_SIZE}개씩 읽으므로 OFFSET 없이 앞으로만 진행하고,
+ * 한 번에 한 묶음만 메모리에 두어 채팅방 크기와 무관하게 일정한 메모리로 동작한다
+ * 보관된 채팅방은 보관 세그먼트를 블록 단위로 읽는다
+ * 여러 채팅방은 채팅방마다 하나의 파일로 zip 에 담는다
+ * AdminTranscriptExportService.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@Service
+public class AdminTranscriptExportService {
+
+	static final int MAX_ROOMS = 1000;
+	private static final int CHUNK_SIZE = 1000;
+	private static final byte[] UTF8_BOM = {(byte)0xEF, (byte)0xBB, (byte)0xBF};
+	private static final String CSV_HEADER = "messageId,chatRoomId,writerId,writerName,type,sentAt,content\n";
+	private static final String FORMULA_PREFIXES = "=+-@\t\r";
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final MessageRepository messageRepository;
+	private final MessageArchiveService messageArchiveService;
+	private final UserRepository userRepository;
+	private final ObjectWriter objectWriter;
+
+	public AdminTranscriptExportService(
+		ChatRoomRepository chatRoomRepository,
+		MessageRepository messageRepository,
+		MessageArchiveService messageArchiveService,
+		UserRepository userRepository,
+		ObjectMapper objectMapper
+	) {
+		this.chatRoomRepository = chatRoomRepository;
+		this.messageRepository = messageRepository;
+		this.messageArchiveService = messageArchiveService;
+		this.userRepository = userRepository;
+		// JSON Lines 는 한 줄에 한 건이어야 하므로 들여쓰기 설정과 무관하게 한 줄로 씁니다.
+		this.objectWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+	}
+
+	/**
+	 * 내보낼 채팅방이 존재하는지 확인한다
+	 * 응답 본문을 쓰기 시작한 뒤에는 오류 응답을 보낼 수 없으므로 스트리밍 전에 호출한다
+	 *
+	 * @param roomIds 내보낼 채팅방 ID 목록
+	 * @return 중복을 제거한 채팅방 ID 목록 (요청 순서 유지)
+	 */
+	public List<Long> validateRooms(List<Long> roomIds) {
+		if (roomIds == null || roomIds.isEmpty() || roomIds.size() > MAX_ROOMS) {
+			throw new CustomException(ErrorCode.EXPORT_INVALID_ROOMS);
+		}
+		List<Long> distinct = List.copyOf(new LinkedHashSet<>(roomIds));
+		if (chatRoomRepository.findExistingIds(distinct).size() != distinct.size()) {
+			throw new CustomException(ErrorCode.CHATROOM_NOT_FOUND);
+		}
+		return distinct;
+	}
+
+	/**
+	 * 채팅방 하나의 대화 내역을 출력 스트림에 쓴다
+	 *
+	 * @param roomId 채팅방 ID
+	 * @param format 내보내기 형식
+	 * @param out 출력 스트림 (닫지 않음)
+	 */
+	public void writeTranscript(Long roomId, TranscriptFormat format, OutputStream out) throws IOException {
+		if (format == TranscriptFormat.CSV) {
+			out.write(UTF8_BOM);
+			out.write(CSV_HEADER.getBytes(StandardCharsets.UTF_8));
+		}
+		Map<Long, String> writerNames = new HashMap<>();
+		try {
+			forEachChunk(roomId, chunk -> {
+				resolveWriterNames(chunk, writerNames);
+				try {
+					for (ArchivedMessage message : chunk) {
+						AdminTranscriptLine line = AdminTranscriptLine.of(roomId, message,
+							writerNames.get(message.writerId()));
+						out.write(format == TranscriptFormat.CSV ? toCsv(line) : toJsonLine(line));
+					}
+					out.flush();
+				} catch (IOException e) {
+					throw new UncheckedIOException(e);
+				}
+			});
+		} catch (UncheckedIOException e) {
+			throw e.getCause();
+		}
+	}
+
+	/**
+	 * 여러 채팅방의 대화 내역을 채팅방마다 {@code chat-room-{id}.{확장자}} 파일로 zip 에 쓴다
+	 *
+	 * @param roomIds 채팅방 ID 목록
+	 * @param format 내보내기 형식
+	 * @param out 출력 스트림
+	 */
+	public void writeZip(List<Long> roomIds, TranscriptFormat format, OutputStream out) throws IOException {
+		ZipOutputStream zip = new ZipOutputStream(out, StandardCharsets.UTF_8);
+		for (Long roomId : roomIds) {
+			zip.putNextEntry(new ZipEntry("chat-room-" + roomId + "." + format.getExtension()));
+			writeTranscript(roomId, format, zip);
+			zip.closeEntry();
+		}
+		zip.finish();
+	}
+
+	private void forEachChunk(Long roomId, Consumer<List<ArchivedMessage>> consumer) {
+		if (messageArchiveService.isArchived(roomId)) {
+			messageArchiveService.readAll(roomId, consumer);
+			return;
+		}
+		PageRequest page = PageRequest.of(0, CHUNK_SIZE);
+		Long afterId = 0L;
+		while (true) {
+			List<MessageDocument> documents = messageRepository.findDocumentsByRoomIdAfter(roomId, afterId, page);
+			if (documents.isEmpty()) {
+				return;
+			}
+			consumer.accept(documents.stream()
+				.map(document -> new ArchivedMessage(document.getId(), document.getWriterId(), document.getType(),
+					document.getContent(), document.getSentAt()))
+				.toList());
+			afterId = documents.get(documents.size() - 1).getId();
+		}
+	}
+
+	private void resolveWriterNames(List<ArchivedMessage> chunk, Map<Long, String> writerNames) {
+		Set<Long> missing = new HashSet<>();
+		for (ArchivedMessage message : chunk) {
+			if (!writerNames.containsKey(message.writerId())) {
+				missing.add(message.writerId());
+			}
+		}
+		if (missing.isEmpty()) {
+			return;
+		}
+		for (User user : userRepository.findAllById(missing)) {
+			writerNames.put(user.getId(), user.getName());
+		}
+		missing.forEach(writerId -> writerNames.putIfAbsent(writerId, null));
+	}
+
+	private byte[] toJsonLine(AdminTranscriptLine line) throws IOException {
+		byte[] json = objectWriter.writeValueAsBytes(line);
+		byte[] withNewline = new byte[json.length + 1];
+		System.arraycopy(json, 0, withNewline, 0, json.length);
+		withNewline[json.length] = '\n';
+		return withNewline;
+	}
+
+	private byte[] toCsv(AdminTranscriptLine line) {
+		String row = line.getMessageId() + ","
+			+ line.getChatRoomId() + ","
+			+ line.getWriterId() + ","
+			+ csvField(line.getWriterName()) + ","
+			+ line.getType() + ","
+			+ line.getSentAt() + ","
+			+ csvField(line.getContent()) + "\n";
+		return row.getBytes(StandardCharsets.UTF_8);
+	}
+
+	/**
+	 * 자유 입력 값을 CSV 필드로 감쌉니다.
+	 * 스프레드시트가 수식으로 해석하는 문자로 시작하면 앞에 {@code '}를 붙여 문자열로 열리게 합니다.
+	 */
+	private String csvField(String value) {
+		if (value == null) {
+			return "";
+		}
+		String escaped = value.replace("\"", "\"\"");
+		if (!value.isEmpty() && FORMULA_PREFIXES.indexOf(value.charAt(0)) >= 0) {
+			escaped = "'" + escaped;
+		}
+		return "\"" + escaped + "\"";
+	}
+}
@@ -0,0 +1,107 @@
+package kr.sparta.livechat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.util.MimeTypeUtils;
+
+import jakarta.annotation.PostConstruct;
+import kr.sparta.livechat.domain.entity.OutboxEvent;
+import kr.sparta.livechat.domain.role.OutboxEventType;
+import kr.sparta.livechat.socket.RoomDestination;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 이벤트를 모든 노드의 로컬 STOMP 브로커 채팅방 토픽으로 전송하는 소비자 클래스입니다.
+ * <p>
+ * 파티션을 잠근 노드는 이벤트를 Redis Pub/Sub 채널로 발행하고, 모든 노드(자신 포함)는 수신한 이벤트를
+ * 자신의 브로커로 전송합니다. 구독자가 어느 노드에 연결되어 있어도 이벤트를 받습니다.
+ * ROOM_CLOSED 이벤트는 전송한 직후 {@link ChatRoomCloseHandler}로 노드의 채팅방 구독을 해제합니다.
+ * 묶음은 이벤트마다 한 줄({@code 채팅방식별자:유형:본문})로 이어 붙여 한 번의 PUBLISH 로 발행하고, 수신 측에서 줄 단위로 나누어
+ * 식별자 순으로 전송하므로 채팅방 내 순서가 유지됩니다. 아웃박스 본문은 들여쓰기 없는 JSON 이므로 줄바꿈을 포함하지 않습니다.
+ *
+ * 발행이 실패하면 예외를 던져 묶음이 아웃박스에 남고 다시 전송됩니다.
+ * 아웃박스에 저장된 JSON 본문을 메시지 변환기를 거치지 않고 그대로 전송하여 이벤트마다 다시 직렬화하지 않습니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BrokerOutboxConsumer implements OutboxEventConsumer {
+
+	private static final ChannelTopic TOPIC = new ChannelTopic("chat:room-events");
+	private static final char SEPARATOR = ':';
+	private static final char LINE_SEPARATOR = '\n';
+
+	private final SimpMessagingTemplate messagingTemplate;
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ChatRoomCloseHandler chatRoomCloseHandler;
+
+	@PostConstruct
+	void subscribe() {
+		listenerContainer.addMessageListener(
+			(message, pattern) -> onRelayed(new String(message.getBody(), StandardCharsets.UTF_8)), TOPIC);
+	}
+
+	@Override
+	public void consume(List<OutboxEvent> events) {
+		StringBuilder body = new StringBuilder();
+		for (OutboxEvent event : events) {
+			if (!body.isEmpty()) {
+				body.append(LINE_SEPARATOR);
+			}
+			body.append(event.getRoomId()).append(SEPARATOR)
+				.append(event.getEventType()).append(SEPARATOR)
+				.append(event.getPayload());
+		}
+		redisTemplate.convertAndSend(TOPIC.getTopic(), body.toString());
+	}
+
+	void onRelayed(String body) {
+		int start = 0;
+		while (start < body.length()) {
+			int end = body.indexOf(LINE_SEPARATOR, start);
+			if (end < 0) {
+				end = body.length();
+			}
+			send(body.substring(start, end));
+			start = end + 1;
+		}
+	}
+
+	private void send(String line) {
+		int roomEnd = line.indexOf(SEPARATOR);
+		int typeEnd = roomEnd > 0 ? line.indexOf(SEPARATOR, roomEnd + 1) : -1;
+		if (typeEnd < 0) {
+			log.warn("채팅방 이벤트 형식 오류: {}", line);
+			return;
+		}
+		Long roomId = Long.parseLong(line.substring(0, roomEnd));
+		OutboxEventType eventType = OutboxEventType.valueOf(line.substring(roomEnd + 1, typeEnd));
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setContentType(MimeTypeUtils.APPLICATION_JSON);
+		accessor.setLeaveMutable(true);
+		messagingTemplate.send(
+			RoomDestination.of(roomId),
+			MessageBuilder.createMessage(line.substring(typeEnd + 1).getBytes(StandardCharsets.UTF_8),
+				accessor.getMessageHeaders())
+		);
+		if (eventType == OutboxEventType.ROOM_CLOSED) {
+			chatRoomCloseHandler.onDelivered(roomId);
+		}
+	}
+}
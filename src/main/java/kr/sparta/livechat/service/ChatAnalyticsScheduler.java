@@ -0,0 +1,77 @@
+package kr.sparta.livechat.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import kr.sparta.livechat.config.SchedulingConfig;
+import kr.sparta.livechat.domain.role.AnalyticsDimension;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상담 지표의 초기 적재와 스냅샷 저장을 실행하는 클래스입니다.
+ * <p>
+ * 초기 적재는 기동 완료 후 별도 스레드에서 실행하여 애플리케이션 기동을 지연시키지 않습니다.
+ * 스냅샷은 마지막 저장 이후 값이 바뀐 대상만 묶음으로 나누어 묶음마다 별도 트랜잭션으로 저장하며,
+ * 저장에 실패한 묶음은 다음 주기에 다시 저장합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatAnalyticsScheduler {
+
+	private static final int CHUNK_SIZE = 500;
+
+	private final ChatAnalyticsService chatAnalyticsService;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void startWarmUp() {
+		Thread thread = new Thread(() -> {
+			try {
+				chatAnalyticsService.warmUp();
+			} catch (RuntimeException e) {
+				log.error("상담 지표 초기 적재 실패", e);
+			}
+		}, "chat-analytics-warmup");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@Scheduled(fixedDelayString = "${chatroom.analytics.snapshot-interval-ms}", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+	public void snapshot() {
+		if (!chatAnalyticsService.isWarmedUp()) {
+			return;
+		}
+
+		int saved = 0;
+		for (Map.Entry<AnalyticsDimension, List<ChatAnalyticsService.Metrics>> entry
+			: chatAnalyticsService.drainChanged().entrySet()) {
+			List<ChatAnalyticsService.Metrics> metrics = entry.getValue();
+			for (int from = 0; from < metrics.size(); from += CHUNK_SIZE) {
+				int to = Math.min(from + CHUNK_SIZE, metrics.size());
+				List<ChatAnalyticsService.Metrics> chunk = metrics.subList(from, to);
+				try {
+					chatAnalyticsService.saveSnapshots(entry.getKey(), chunk);
+					saved += chunk.size();
+				} catch (RuntimeException e) {
+					log.warn("상담 지표 스냅샷 저장 실패: dimension={}, size={}, {}",
+						entry.getKey(), chunk.size(), e.getMessage());
+					chatAnalyticsService.markChanged(chunk);
+				}
+			}
+		}
+		if (saved > 0) {
+			log.debug("상담 지표 스냅샷 저장: targets={}", saved);
+		}
+	}
+}
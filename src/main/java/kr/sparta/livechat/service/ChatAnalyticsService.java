@@ -0,0 +1,446 @@
+package kr.sparta.livechat.service;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import kr.sparta.livechat.config.ChatAnalyticsProperties;
+import kr.sparta.livechat.domain.entity.ChatAnalyticsSnapshot;
+import kr.sparta.livechat.domain.entity.ChatRoomSummary;
+import kr.sparta.livechat.domain.event.ChatRoomSummarizedEvent;
+import kr.sparta.livechat.domain.role.AnalyticsDimension;
+import kr.sparta.livechat.repository.ChatAnalyticsSnapshotRepository;
+import kr.sparta.livechat.repository.ChatRoomSummaryRepository;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 판매자/상품 단위 상담 지표를 메모리에서 누적 집계하는 서비스 클래스입니다.
+ * <p>
+ * 채팅방 요약이 저장될 때 발행되는 {@link ChatRoomSummarizedEvent}를 커밋 이후에 받아
+ * 판매자와 상품별로 최근 종료 채팅방의 지속 시간, 메시지 수, 첫 응답 시간을 고정 크기 버퍼에 보관합니다.
+ * 지표 조회 시에는 최근 {@code windowDays}일 안의 값만으로 중앙값/95번째 백분위수/평균을 계산하므로
+ * 요약 테이블을 GROUP BY 로 집계하지 않습니다.
+ *
+ * 기동 시에는 {@link #warmUp()}으로 요약 테이블에서 최근 기간만 식별자 순으로 나누어 읽어 버퍼를 채우며,
+ * 기동 시각 이후에 종료된 채팅방은 이벤트로만 반영하여 중복 집계를 피합니다.
+ * 변경된 지표는 {@link ChatAnalyticsScheduler}가 주기적으로 {@link ChatAnalyticsSnapshot}에 저장합니다.
+ * 집계는 인스턴스 메모리 기준이므로 요약 이벤트를 받는 인스턴스가 하나인 배포를 전제로 합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Service
+public class ChatAnalyticsService {
+
+	private static final int INITIAL_CAPACITY = 16;
+
+	private final ChatAnalyticsProperties properties;
+	private final ChatRoomSummaryRepository chatRoomSummaryRepository;
+	private final ChatAnalyticsSnapshotRepository chatAnalyticsSnapshotRepository;
+	private final Map<MetricKey, RollingSamples> samples = new ConcurrentHashMap<>();
+	private final LocalDateTime warmUpCutoff = LocalDateTime.now();
+	private volatile boolean warmedUp;
+
+	public ChatAnalyticsService(
+		ChatAnalyticsProperties properties,
+		ChatRoomSummaryRepository chatRoomSummaryRepository,
+		ChatAnalyticsSnapshotRepository chatAnalyticsSnapshotRepository
+	) {
+		this.properties = properties;
+		this.chatRoomSummaryRepository = chatRoomSummaryRepository;
+		this.chatAnalyticsSnapshotRepository = chatAnalyticsSnapshotRepository;
+	}
+
+	/**
+	 * 채팅방 요약 저장 이벤트를 판매자/상품 지표에 반영합니다.
+	 * 기동 이전에 종료된 채팅방은 {@link #warmUp()}에서 반영하므로 무시합니다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onSummarized(ChatRoomSummarizedEvent event) {
+		if (event.getClosedAt().isBefore(warmUpCutoff)) {
+			return;
+		}
+		record(event.getSellerId(), event.getProductId(), event.getDurationSeconds(), event.getMessageCount(),
+			event.getFirstResponseSeconds(), event.getClosedAt());
+	}
+
+	/**
+	 * 요약 테이블에서 기동 시각 이전 최근 기간의 종료 채팅방을 읽어 버퍼를 채웁니다.
+	 * 완료 전까지 조회는 스냅샷 테이블을 사용하고, 스냅샷 저장은 하지 않습니다.
+	 */
+	public void warmUp() {
+		long started = System.currentTimeMillis();
+		LocalDateTime from = warmUpCutoff.minusDays(properties.getWindowDays());
+		PageRequest page = PageRequest.of(0, properties.getWarmupChunkSize());
+		long loaded = 0;
+		Long lastId = 0L;
+
+		while (true) {
+			List<ChatRoomSummary> chunk = chatRoomSummaryRepository.findClosedBetween(
+				from, warmUpCutoff, lastId, page);
+			if (chunk.isEmpty()) {
+				break;
+			}
+			for (ChatRoomSummary summary : chunk) {
+				record(summary.getSellerId(), summary.getProductId(), summary.getDurationSeconds(),
+					summary.getTotalMessageCount(), summary.getFirstResponseSeconds(), summary.getClosedAt());
+			}
+			loaded += chunk.size();
+			lastId = chunk.get(chunk.size() - 1).getId();
+		}
+
+		warmedUp = true;
+		log.info("상담 지표 초기 적재 완료: summaries={}, targets={}, elapsedMs={}",
+			loaded, samples.size(), System.currentTimeMillis() - started);
+	}
+
+	public boolean isWarmedUp() {
+		return warmedUp;
+	}
+
+	/**
+	 * 판매자 또는 상품의 현재 지표를 계산합니다.
+	 *
+	 * @param dimension 집계 기준
+	 * @param targetId  판매자 또는 상품 식별자
+	 * @return 최근 기간의 지표, 메모리에 없으면 빈 값
+	 */
+	public Optional<Metrics> find(AnalyticsDimension dimension, Long targetId) {
+		RollingSamples rolling = samples.get(new MetricKey(dimension, targetId));
+		if (rolling == null) {
+			return Optional.empty();
+		}
+		return Optional.of(rolling.compute(dimension, targetId, windowStart()));
+	}
+
+	/**
+	 * 종료된 채팅방 수가 많은 순으로 판매자 또는 상품의 지표를 계산합니다.
+	 * 순위는 채팅방 수로만 정하고, 상위 {@code limit}개에 대해서만 백분위수를 계산합니다.
+	 *
+	 * @param dimension 집계 기준
+	 * @param limit     반환할 최대 개수
+	 * @return 지표 목록
+	 */
+	public List<Metrics> top(AnalyticsDimension dimension, int limit) {
+		LocalDateTime windowStart = windowStart();
+		long cutoff = toEpoch(windowStart);
+
+		return samples.entrySet().stream()
+			.filter(entry -> entry.getKey().dimension() == dimension)
+			.map(entry -> new RankedTarget(entry.getKey().targetId(), entry.getValue(), entry.getValue().count(cutoff)))
+			.filter(target -> target.count() > 0)
+			.sorted(Comparator.comparingInt(RankedTarget::count).reversed())
+			.limit(limit)
+			.map(target -> target.rolling().compute(dimension, target.targetId(), windowStart))
+			.toList();
+	}
+
+	/**
+	 * 마지막 스냅샷 이후 값이 바뀐 지표를 계산하여 집계 기준별로 반환합니다.
+	 * 기간이 지나 값이 모두 빠진 대상은 빈 지표를 반환한 뒤 메모리에서 제거합니다.
+	 *
+	 * @return 집계 기준별 변경된 지표 목록
+	 */
+	public Map<AnalyticsDimension, List<Metrics>> drainChanged() {
+		LocalDateTime windowStart = windowStart();
+		long cutoff = toEpoch(windowStart);
+		Map<AnalyticsDimension, List<Metrics>> changed = new EnumMap<>(AnalyticsDimension.class);
+
+		for (Map.Entry<MetricKey, RollingSamples> entry : samples.entrySet()) {
+			MetricKey key = entry.getKey();
+			RollingSamples rolling = entry.getValue();
+			rolling.evictBefore(cutoff);
+			if (!rolling.clearDirty()) {
+				continue;
+			}
+			changed.computeIfAbsent(key.dimension(), dimension -> new ArrayList<>())
+				.add(rolling.compute(key.dimension(), key.targetId(), windowStart));
+			samples.computeIfPresent(key, (k, value) -> value.isEmpty() ? null : value);
+		}
+		return changed;
+	}
+
+	/**
+	 * 스냅샷 저장에 실패한 지표를 다음 주기에 다시 저장하도록 표시합니다.
+	 *
+	 * @param metrics 저장에 실패한 지표 목록
+	 */
+	public void markChanged(Collection<Metrics> metrics) {
+		for (Metrics m : metrics) {
+			RollingSamples rolling = samples.get(new MetricKey(m.getDimension(), m.getTargetId()));
+			if (rolling != null) {
+				rolling.markDirty();
+			}
+		}
+	}
+
+	/**
+	 * 지표를 스냅샷 테이블에 저장합니다. 대상별 한 행을 유지하며 기존 행은 덮어씁니다.
+	 *
+	 * @param dimension 집계 기준
+	 * @param metrics   저장할 지표 목록
+	 */
+	@Transactional
+	public void saveSnapshots(AnalyticsDimension dimension, List<Metrics> metrics) {
+		List<Long> targetIds = metrics.stream().map(Metrics::getTargetId).toList();
+		Map<Long, ChatAnalyticsSnapshot> existing = chatAnalyticsSnapshotRepository
+			.findByDimensionAndTargetIdIn(dimension, targetIds).stream()
+			.collect(Collectors.toMap(ChatAnalyticsSnapshot::getTargetId, Function.identity()));
+
+		LocalDateTime now = LocalDateTime.now();
+		for (Metrics m : metrics) {
+			ChatAnalyticsSnapshot snapshot = existing.get(m.getTargetId());
+			boolean created = snapshot == null;
+			if (created) {
+				snapshot = ChatAnalyticsSnapshot.of(dimension, m.getTargetId());
+			}
+			snapshot.update(m.getRoomsClosed(), m.getMedianDurationSeconds(), m.getP95DurationSeconds(),
+				m.getAvgMessagesPerRoom(), m.getMedianFirstResponseSeconds(), m.getP95FirstResponseSeconds(),
+				m.getWindowStartedAt(), now);
+			if (created) {
+				chatAnalyticsSnapshotRepository.save(snapshot);
+			}
+		}
+	}
+
+	private void record(Long sellerId, Long productId, long durationSeconds, long messageCount,
+		Long firstResponseSeconds, LocalDateTime closedAt) {
+		long closedAtEpoch = toEpoch(closedAt);
+		if (closedAtEpoch < toEpoch(windowStart())) {
+			return;
+		}
+		int response = firstResponseSeconds == null ? RollingSamples.NO_RESPONSE : clamp(firstResponseSeconds);
+		if (sellerId != null) {
+			add(new MetricKey(AnalyticsDimension.SELLER, sellerId), closedAtEpoch, durationSeconds, messageCount,
+				response);
+		}
+		if (productId != null) {
+			add(new MetricKey(AnalyticsDimension.PRODUCT, productId), closedAtEpoch, durationSeconds, messageCount,
+				response);
+		}
+	}
+
+	private void add(MetricKey key, long closedAtEpoch, long durationSeconds, long messageCount, int response) {
+		// drainChanged 의 빈 버퍼 제거와 경합하지 않도록 맵 연산 안에서 추가합니다.
+		samples.compute(key, (k, rolling) -> {
+			RollingSamples target = rolling == null ? new RollingSamples(properties.getMaxSamples()) : rolling;
+			target.add(closedAtEpoch, clamp(durationSeconds), clamp(messageCount), response);
+			return target;
+		});
+	}
+
+	private LocalDateTime windowStart() {
+		return LocalDateTime.now().minusDays(properties.getWindowDays());
+	}
+
+	private static long toEpoch(LocalDateTime dateTime) {
+		return dateTime.toEpochSecond(ZoneOffset.UTC);
+	}
+
+	private static int clamp(long value) {
+		return (int)Math.min(Math.max(value, 0), Integer.MAX_VALUE);
+	}
+
+	/**
+	 * 판매자/상품 단위 상담 지표입니다.
+	 * 응답 시간 지표는 판매자 응답이 있는 채팅방만으로 계산하며, 없으면 {@code null}입니다.
+	 */
+	@Getter
+	@Builder
+	public static class Metrics {
+		private final AnalyticsDimension dimension;
+		private final Long targetId;
+		private final long roomsClosed;
+		private final long medianDurationSeconds;
+		private final long p95DurationSeconds;
+		private final double avgMessagesPerRoom;
+		private final Long medianFirstResponseSeconds;
+		private final Long p95FirstResponseSeconds;
+		private final LocalDateTime windowStartedAt;
+	}
+
+	private record MetricKey(AnalyticsDimension dimension, Long targetId) {
+	}
+
+	private record RankedTarget(Long targetId, RollingSamples rolling, int count) {
+	}
+
+	/**
+	 * 대상 하나의 최근 종료 채팅방 값을 종료 시각 순으로 보관하는 원형 버퍼입니다.
+	 * 초기 적재와 이벤트 반영이 동시에 진행되어 값이 시각 순으로 들어오지 않을 수 있으므로,
+	 * 뒤에서부터 종료 시각을 비교해 제자리에 끼워 넣어 항상 가장 오래된 값이 앞에 오도록 유지합니다.
+	 * 보관 개수가 {@code capacity}에 도달하면 가장 오래된 값을 버리며, 새 값이 그보다 오래되었으면 새 값을 버립니다.
+	 * 배열은 필요할 때까지 두 배씩 늘려 채팅방이 적은 대상의 메모리 사용을 줄입니다.
+	 */
+	private static final class RollingSamples {
+
+		private static final int NO_RESPONSE = -1;
+
+		private final int capacity;
+		private long[] closedAt;
+		private int[] durations;
+		private int[] messages;
+		private int[] responses;
+		private int head;
+		private int size;
+		private boolean dirty;
+
+		private RollingSamples(int capacity) {
+			this.capacity = capacity;
+			allocate(Math.min(INITIAL_CAPACITY, capacity));
+		}
+
+		private synchronized void add(long closedAtEpoch, int duration, int messageCount, int response) {
+			if (size == closedAt.length) {
+				if (closedAt.length < capacity) {
+					grow(Math.min(capacity, closedAt.length * 2));
+				} else if (closedAtEpoch < closedAt[head]) {
+					return;
+				} else {
+					head = (head + 1) % closedAt.length;
+					size--;
+				}
+			}
+			int position = size;
+			while (position > 0 && closedAt[slot(position - 1)] > closedAtEpoch) {
+				int from = slot(position - 1);
+				int to = slot(position);
+				closedAt[to] = closedAt[from];
+				durations[to] = durations[from];
+				messages[to] = messages[from];
+				responses[to] = responses[from];
+				position--;
+			}
+			int index = slot(position);
+			closedAt[index] = closedAtEpoch;
+			durations[index] = duration;
+			messages[index] = messageCount;
+			responses[index] = response;
+			size++;
+			dirty = true;
+		}
+
+		private int slot(int offset) {
+			return (head + offset) % closedAt.length;
+		}
+
+		private synchronized void evictBefore(long cutoff) {
+			while (size > 0 && closedAt[head] < cutoff) {
+				head = (head + 1) % closedAt.length;
+				size--;
+				dirty = true;
+			}
+		}
+
+		private synchronized int count(long cutoff) {
+			int count = 0;
+			for (int i = 0; i < size; i++) {
+				if (closedAt[(head + i) % closedAt.length] >= cutoff) {
+					count++;
+				}
+			}
+			return count;
+		}
+
+		private synchronized boolean clearDirty() {
+			boolean wasDirty = dirty;
+			dirty = false;
+			return wasDirty;
+		}
+
+		private synchronized void markDirty() {
+			dirty = true;
+		}
+
+		private synchronized boolean isEmpty() {
+			return size == 0;
+		}
+
+		private Metrics compute(AnalyticsDimension dimension, Long targetId, LocalDateTime windowStart) {
+			long cutoff = toEpoch(windowStart);
+			int[] durationValues;
+			int[] responseValues;
+			long messageTotal = 0;
+			int count = 0;
+			int responded = 0;
+
+			synchronized (this) {
+				durationValues = new int[size];
+				responseValues = new int[size];
+				for (int i = 0; i < size; i++) {
+					int index = (head + i) % closedAt.length;
+					if (closedAt[index] < cutoff) {
+						continue;
+					}
+					durationValues[count++] = durations[index];
+					messageTotal += messages[index];
+					if (responses[index] != NO_RESPONSE) {
+						responseValues[responded++] = responses[index];
+					}
+				}
+			}
+
+			Arrays.sort(durationValues, 0, count);
+			Arrays.sort(responseValues, 0, responded);
+			return Metrics.builder()
+				.dimension(dimension)
+				.targetId(targetId)
+				.roomsClosed(count)
+				.medianDurationSeconds(count == 0 ? 0 : percentile(durationValues, count, 0.5))
+				.p95DurationSeconds(count == 0 ? 0 : percentile(durationValues, count, 0.95))
+				.avgMessagesPerRoom(count == 0 ? 0 : (double)messageTotal / count)
+				.medianFirstResponseSeconds(responded == 0 ? null : percentile(responseValues, responded, 0.5))
+				.p95FirstResponseSeconds(responded == 0 ? null : percentile(responseValues, responded, 0.95))
+				.windowStartedAt(windowStart)
+				.build();
+		}
+
+		private static long percentile(int[] sorted, int length, double quantile) {
+			int rank = (int)Math.ceil(quantile * length);
+			return sorted[Math.max(rank, 1) - 1];
+		}
+
+		private void grow(int newLength) {
+			long[] oldClosedAt = closedAt;
+			int[] oldDurations = durations;
+			int[] oldMessages = messages;
+			int[] oldResponses = responses;
+			allocate(newLength);
+			for (int i = 0; i < size; i++) {
+				int index = (head + i) % oldClosedAt.length;
+				closedAt[i] = oldClosedAt[index];
+				durations[i] = oldDurations[index];
+				messages[i] = oldMessages[index];
+				responses[i] = oldResponses[index];
+			}
+			head = 0;
+		}
+
+		private void allocate(int length) {
+			closedAt = new long[length];
+			durations = new int[length];
+			messages = new int[length];
+			responses = new int[length];
+		}
+	}
+}
@@ -0,0 +1,157 @@
+package kr.sparta.livechat.service;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.sparta.livechat.domain.entity.ChatRoom;
+import kr.sparta.livechat.domain.entity.Message;
+import kr.sparta.livechat.domain.event.ChatMessageSentEvent;
+import kr.sparta.livechat.domain.role.ChatRoomStatus;
+import kr.sparta.livechat.domain.role.MessageType;
+import kr.sparta.livechat.domain.role.OutboxEventType;
+import kr.sparta.livechat.domain.role.RoleInRoom;
+import kr.sparta.livechat.dto.socket.ChatEventResponse;
+import kr.sparta.livechat.dto.socket.MessageResponse;
+import kr.sparta.livechat.entity.User;
+import kr.sparta.livechat.global.exception.WsCustomException;
+import kr.sparta.livechat.global.exception.WsErrorCode;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import kr.sparta.livechat.repository.MessageRepository;
+import kr.sparta.livechat.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 검증을 마친 채팅 메시지를 DB 에 저장하는 서비스 클래스입니다.
+ * <p>
+ * 메시지의 채팅방/작성자는 식별자만 가진 프록시로 연결하므로 잠금과 함께 읽는 채팅방 상태 외에는 조회하지 않으며,
+ * 메시지 저장, 채팅방 통계 갱신, 이벤트 기록을 하나의 트랜잭션으로 처리합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatMessagePersister {
+
+	private final ChatRoomStatsService chatRoomStatsService;
+	private final OutboxService outboxService;
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final UserRepository userRepository;
+	private final MessageRepository messageRepository;
+
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 메시지를 저장하고 메세지 이벤트를 아웃박스에 기록합니다.
+	 *
+	 * 먼저 채팅방 행을 커밋까지 잠그고 잠근 행의 상태를 확인합니다. 같은 채팅방의 동시 전송과 종료는 이 잠금으로 직렬화되므로
+	 * 메시지는 커밋 순서대로 아웃박스 식별자를 받고, 노드의 채팅방 상태 캐시가 늦더라도 종료된 채팅방에는 저장되지 않습니다.
+	 * 메시지 INSERT 의 외래 키 검사가 채팅방 행에 공유 잠금을 잡기 전에 잠가야 교착 상태가 생기지 않습니다.
+	 *
+	 * @param room     전송 대상 채팅방 상태
+	 * @param writerId 작성자 식별자
+	 * @param role     작성자의 채팅방 내 역할
+	 * @param content  메시지 내용
+	 * @param type     메시지 유형
+	 * @throws WsCustomException 채팅방이 없거나({@code 4004}) 종료된 경우({@code 4007})
+	 */
+	@Transactional
+	public void persist(SocketService.RoomState room, Long writerId, RoleInRoom role, String content,
+		MessageType type) {
+		Long roomId = room.getRoomId();
+		ChatRoom roomReference = chatRoomRepository.getReferenceById(roomId);
+		User writerReference = userRepository.getReferenceById(writerId);
+
+		ChatRoomStatus status = chatRoomRepository.lockStatusById(roomId)
+			.map(ChatRoomStatus::valueOf)
+			.orElseThrow(() -> new WsCustomException(WsErrorCode.CHAT_ROOM_NOT_FOUND));
+		if (status == ChatRoomStatus.CLOSED) {
+			throw new WsCustomException(WsErrorCode.CHAT_ROOM_CLOSED);
+		}
+
+		Message message = Message.of(roomReference, writerReference, content, type);
+		chatRoomStatsService.recordMessage(roomId, role, message.getSentAt());
+		Message saved = messageRepository.save(message);
+
+		eventPublisher.publishEvent(new ChatMessageSentEvent(
+			roomId,
+			room.getProductId(),
+			room.getStatus(),
+			saved.getId(),
+			writerId,
+			saved.getType(),
+			saved.getSentAt()
+		));
+
+		MessageResponse response = MessageResponse.builder()
+			.id(saved.getId())
+			.roomId(roomId)
+			.writerId(writerId)
+			.type(saved.getType().name())
+			.content(saved.getContent())
+			.sentAt(saved.getSentAt())
+			.readCount(1)
+			.build();
+
+		outboxService.append(
+			roomId,
+			OutboxEventType.MESSAGE,
+			ChatEventResponse.<MessageResponse>builder()
+				.event("MESSAGE")
+				.message(response)
+				.build()
+		);
+	}
+
+	/**
+	 * Redis Stream 에서 읽은 메시지 묶음을 저장합니다.
+	 * 구독자 전송은 Stream 에서 이미 처리되었으므로 아웃박스에 기록하지 않으며,
+	 * 이미 저장된 Stream 항목은 건너뛰어 같은 묶음을 다시 저장해도 중복되지 않습니다.
+	 *
+	 * @param entries Stream 항목 목록
+	 * @return 새로 저장한 메시지 수
+	 */
+	@Transactional
+	public int persistStreamed(List<ChatMessageStream.Entry> entries) {
+		if (entries.isEmpty()) {
+			return 0;
+		}
+		Set<String> persisted = new HashSet<>(messageRepository.findStreamIdsIn(
+			entries.stream().map(ChatMessageStream.Entry::streamId).toList()));
+
+		int count = 0;
+		for (ChatMessageStream.Entry entry : entries) {
+			if (!persisted.add(entry.streamId())) {
+				continue;
+			}
+			Message saved = messageRepository.save(Message.streamed(
+				chatRoomRepository.getReferenceById(entry.roomId()),
+				userRepository.getReferenceById(entry.writerId()),
+				entry.content(),
+				entry.type(),
+				entry.sentAt(),
+				entry.streamId()
+			));
+			chatRoomStatsService.recordMessage(entry.roomId(), entry.role(), entry.sentAt());
+			eventPublisher.publishEvent(new ChatMessageSentEvent(
+				entry.roomId(),
+				entry.productId(),
+				ChatRoomStatus.OPEN,
+				saved.getId(),
+				entry.writerId(),
+				entry.type(),
+				entry.sentAt()
+			));
+			count++;
+		}
+		return count;
+	}
+}
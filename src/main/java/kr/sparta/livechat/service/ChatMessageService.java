@@ -1,29 +1,29 @@
 package kr.sparta.livechat.service;
 
-import kr.sparta.livechat.domain.entity.ChatRoom;
-import kr.sparta.livechat.domain.entity.Message;
 import kr.sparta.livechat.domain.role.MessageType;
-import kr.sparta.livechat.dto.socket.ChatEventResponse;
-import kr.sparta.livechat.dto.socket.MessageResponse;
+import kr.sparta.livechat.domain.role.RoleInRoom;
 import kr.sparta.livechat.dto.socket.MessageSendRequest;
-import kr.sparta.livechat.entity.User;
 import kr.sparta.livechat.global.exception.WsCustomException;
 import kr.sparta.livechat.global.exception.WsErrorCode;
 
-import kr.sparta.livechat.repository.ChatRoomRepository;
-import kr.sparta.livechat.repository.MessageRepository;
-import kr.sparta.livechat.repository.UserRepository;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.stereotype.Service;
 import org.springframework.util.StringUtils;
 
+import java.time.LocalDateTime;
+
 /**
  * 채팅 메시지 전송 및 브로드캐스트 로직을 담당하는 서비스 클래스입니다.
  *
  * 클라이언트가 {@code /pub/chat/message}로 전송한 메시지를 검증한 뒤
  * DB에 저장하고 {@code /sub/chat/room/{roomId}} 구독자들에게
  * 메세지 이벤트를 브로드캐스트합니다.
+ * 메세지 이벤트는 메시지와 같은 트랜잭션에서 아웃박스에 기록되고 커밋 이후 {@link OutboxRelay}가 전송합니다.
+ *
+ * Redis Stream 저장소가 활성화된 경우 메시지를 {@link ChatMessageStream}에만 기록하고 DB 는 사용하지 않으며,
+ * 구독자 전송과 DB 저장은 Stream 의 consumer group 으로 각각 처리됩니다.
  *
  * @author 오정빈
  * @since 2025. 12. 22.
@@ -33,12 +33,15 @@ import org.springframework.util.StringUtils;
 public class ChatMessageService {
 
 	private final SocketService socketService;
+	private final ChatMessagePersister chatMessagePersister;
+	private final ObjectProvider<ChatMessageStream> chatMessageStreamProvider;
 
-	private final ChatRoomRepository chatRoomRepository;
-	private final UserRepository userRepository;
-	private final MessageRepository messageRepository;
+	private ChatMessageStream chatMessageStream;
 
-	private final SimpMessagingTemplate messagingTemplate;
+	@PostConstruct
+	void init() {
+		chatMessageStream = chatMessageStreamProvider.getIfAvailable();
+	}
 
 	/**
 	 * 채팅 메시지를 전송하고 구독자들에게 브로드캐스트합니다.
@@ -46,15 +49,23 @@ public class ChatMessageService {
 	 * {@code 4002}: 전송자가 해당 채팅방 참여자가 아님
 	 * {@code 4003}: 형식 오류
 	 * {@code 4004}: {@code roomId}에 해당하는 채팅방이 존재하지 않음
+	 * {@code 4007}: 종료된 채팅방
+	 *
+	 * 채팅방 상태와 참여자 역할은 {@link SocketService}의 채팅방 상태 캐시로 검증하므로 채팅방을 조회하지 않습니다.
 	 */
 	public void sendMessage(Long writerId, MessageSendRequest request) {
 
 		Long roomId = request.getRoomId();
 
-		ChatRoom room = chatRoomRepository.findById(roomId)
+		SocketService.RoomState room = socketService.findRoomState(roomId)
 			.orElseThrow(() -> new WsCustomException(WsErrorCode.CHAT_ROOM_NOT_FOUND));
 
-		if (!socketService.isParticipant(roomId, writerId)) {
+		if (room.isClosed()) {
+			throw new WsCustomException(WsErrorCode.CHAT_ROOM_CLOSED);
+		}
+
+		RoleInRoom writerRole = room.roleOf(writerId);
+		if (writerRole == null) {
 			throw new WsCustomException(WsErrorCode.FORBIDDEN);
 		}
 
@@ -70,29 +81,12 @@ public class ChatMessageService {
 			throw new WsCustomException(WsErrorCode.INVALID_MESSAGE);
 		}
 
-		User writer = userRepository.findById(writerId)
-			.orElseThrow(() -> new WsCustomException(WsErrorCode.AUTH_FAILED));
-
-		Message saved = messageRepository.save(
-			Message.of(room, writer, request.getContent(), type)
-		);
-
-		MessageResponse response = MessageResponse.builder()
-			.id(saved.getId())
-			.roomId(saved.getRoom().getId())
-			.writerId(saved.getWriter().getId())
-			.type(saved.getType().name())
-			.content(saved.getContent())
-			.sentAt(saved.getSentAt())
-			.readCount(1)
-			.build();
-
-		messagingTemplate.convertAndSend(
-			"/sub/chat/room/" + roomId,
-			ChatEventResponse.<MessageResponse>builder()
-				.event("MESSAGE")
-				.message(response)
-				.build()
-		);
+		if (chatMessageStream != null) {
+			chatMessageStream.append(ChatMessageStream.Entry.of(
+				roomId, room.getProductId(), writerId, writerRole, type, request.getContent(), LocalDateTime.now()));
+			return;
+		}
+
+		chatMessagePersister.persist(room, writerId, writerRole, request.getContent(), type);
 	}
 }
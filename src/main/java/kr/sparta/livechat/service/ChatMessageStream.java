@@ -0,0 +1,289 @@
+package kr.sparta.livechat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.stream.IntStream;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Range;
+import org.springframework.data.redis.RedisSystemException;
+import org.springframework.data.redis.connection.RedisStreamCommands.XAddOptions;
+import org.springframework.data.redis.connection.stream.Consumer;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.PendingMessage;
+import org.springframework.data.redis.connection.stream.PendingMessages;
+import org.springframework.data.redis.connection.stream.PendingMessagesSummary;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamInfo.XInfoGroup;
+import org.springframework.data.redis.connection.stream.StreamOffset;
+import org.springframework.data.redis.connection.stream.StreamReadOptions;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+
+import kr.sparta.livechat.config.ChatStreamProperties;
+import kr.sparta.livechat.domain.role.MessageType;
+import kr.sparta.livechat.domain.role.RoleInRoom;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅 메시지를 Redis Streams 에 순서대로 기록하고 consumer group 으로 읽는 저장소입니다.
+ * <p>
+ * 채팅방은 식별자로 {@code chat:stream:{partition}} Stream 에 고정되므로 같은 채팅방의 메시지는 기록 순서대로 읽힙니다.
+ * 채팅방마다 Stream 을 두면 consumer group 이 읽을 키를 모두 나열해야 하므로 파티션 단위로 묶었습니다.
+ * 오래된 항목은 저장 group 이 확인을 마친 위치보다 앞선 항목만 {@code XTRIM MINID}로 잘라 내므로({@link #trim}),
+ * 아직 저장되지 않았거나 확인되지 않은 항목은 삭제되지 않습니다.
+ * 형식이 잘못되었거나 저장할 수 없는 항목은 {@code chat:stream:dead} Stream 으로 옮겨 보관합니다.
+ *
+ * consumer group 은 용도별로 둡니다.
+ * 노드마다 고유 group 으로 모든 항목을 받아 로컬 구독자에게 전송하고({@link ChatStreamFanout}),
+ * 공용 저장 group 은 노드들이 항목을 나누어 DB 에 저장합니다({@link ChatStreamMessageWriter}).
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chatroom.stream", name = "enabled", havingValue = "true")
+public class ChatMessageStream {
+
+	private static final String KEY_PREFIX = "chat:stream:";
+	private static final String DEAD_LETTER_KEY = KEY_PREFIX + "dead";
+	private static final long DEAD_LETTER_MAX_LEN = 10000;
+
+	private final StringRedisTemplate redisTemplate;
+	private final ChatStreamProperties properties;
+
+	/**
+	 * 메시지를 채팅방의 Stream 에 기록합니다.
+	 *
+	 * @param entry 기록할 메시지
+	 * @return 기록된 Stream 항목 식별자
+	 */
+	public String append(Entry entry) {
+		byte[] key = bytes(key(partitionOf(entry.roomId())));
+		Map<byte[], byte[]> fields = new HashMap<>();
+		entry.toFields().forEach((field, value) -> fields.put(bytes(field), bytes(value)));
+
+		RecordId recordId = redisTemplate.execute((RedisCallback<RecordId>)connection ->
+			connection.streamCommands().xAdd(StreamRecords.newRecord().in(key).ofMap(fields)));
+		return recordId.getValue();
+	}
+
+	/**
+	 * 처리할 수 없는 항목을 원래 필드와 함께 dead-letter Stream 으로 옮깁니다.
+	 * 원래 항목은 호출한 쪽에서 확인(ACK)해야 합니다.
+	 *
+	 * @param record 처리할 수 없는 항목
+	 * @param error  처리하지 못한 사유
+	 */
+	public void deadLetter(MapRecord<String, Object, Object> record, String error) {
+		Map<byte[], byte[]> fields = new HashMap<>();
+		record.getValue().forEach((field, value) -> fields.put(bytes(field), bytes(value)));
+		fields.put(bytes("sourceStream"), bytes(record.getStream()));
+		fields.put(bytes("sourceId"), bytes(record.getId().getValue()));
+		fields.put(bytes("error"), bytes(error));
+
+		redisTemplate.execute((RedisCallback<RecordId>)connection ->
+			connection.streamCommands().xAdd(
+				StreamRecords.newRecord().in(bytes(DEAD_LETTER_KEY)).ofMap(fields),
+				XAddOptions.maxlen(DEAD_LETTER_MAX_LEN).approximateTrimming(true)
+			));
+	}
+
+	/**
+	 * 모든 Stream 에 consumer group 이 없으면 생성합니다.
+	 *
+	 * @param group  consumer group 이름
+	 * @param offset group 이 처음 읽을 위치 ({@code $}: 이후 기록분, {@code 0}: 처음부터)
+	 */
+	public void createGroup(String group, ReadOffset offset) {
+		for (String key : keys()) {
+			try {
+				redisTemplate.opsForStream().createGroup(key, offset, group);
+			} catch (RedisSystemException e) {
+				if (e.getMessage() == null || !e.getMessage().contains("BUSYGROUP")) {
+					throw e;
+				}
+			}
+		}
+	}
+
+	/**
+	 * 모든 Stream 에서 consumer group 을 삭제합니다.
+	 */
+	public void destroyGroup(String group) {
+		for (String key : keys()) {
+			redisTemplate.opsForStream().destroyGroup(key, group);
+		}
+	}
+
+	/**
+	 * 모든 Stream 에서 consumer group 으로 항목을 읽습니다.
+	 *
+	 * @param group    consumer group 이름
+	 * @param consumer consumer 이름
+	 * @param pending  {@code true}이면 이 consumer 가 읽고 확인하지 않은 항목을, 아니면 새 항목을 읽음
+	 * @return 읽은 항목 목록 (Stream 별로 식별자 순)
+	 */
+	@SuppressWarnings("unchecked")
+	public List<MapRecord<String, Object, Object>> read(String group, String consumer, boolean pending) {
+		ReadOffset offset = pending ? ReadOffset.from("0") : ReadOffset.lastConsumed();
+		StreamReadOptions options = StreamReadOptions.empty().count(properties.getBatchSize());
+		if (!pending) {
+			options = options.block(Duration.ofMillis(properties.getBlockMs()));
+		}
+		StreamOffset<String>[] offsets = keys().stream()
+			.map(key -> StreamOffset.create(key, offset))
+			.toArray(StreamOffset[]::new);
+		List<MapRecord<String, Object, Object>> records = redisTemplate.opsForStream()
+			.read(Consumer.from(group, consumer), options, offsets);
+		return records == null ? List.of() : records;
+	}
+
+	/**
+	 * 처리한 항목을 확인(ACK)하여 consumer group 의 미확인 목록에서 제거합니다.
+	 */
+	public void acknowledge(String group, List<MapRecord<String, Object, Object>> records) {
+		Map<String, List<RecordId>> idsByStream = new HashMap<>();
+		for (MapRecord<String, Object, Object> record : records) {
+			idsByStream.computeIfAbsent(record.getStream(), k -> new ArrayList<>()).add(record.getId());
+		}
+		idsByStream.forEach((key, ids) ->
+			redisTemplate.opsForStream().acknowledge(key, group, ids.toArray(RecordId[]::new)));
+	}
+
+	/**
+	 * 다른 consumer 가 읽은 뒤 {@code minIdle} 이상 확인하지 않은 항목을 이 consumer 로 가져옵니다.
+	 * 종료된 노드가 남긴 미확인 항목이 대상이며, 가져온 항목은 이 consumer 의 미확인 항목으로 다시 읽힙니다.
+	 * {@code XCLAIM}의 최소 대기 시간 조건으로 여러 노드가 동시에 가져가도 한 노드만 가져옵니다.
+	 *
+	 * @param group    consumer group 이름
+	 * @param consumer 항목을 가져올 consumer 이름
+	 * @param minIdle  마지막 전달 이후 최소 경과 시간
+	 * @return 가져온 항목 수
+	 */
+	public int claim(String group, String consumer, Duration minIdle) {
+		int claimed = 0;
+		for (String key : keys()) {
+			PendingMessages pending = redisTemplate.opsForStream()
+				.pending(key, group, Range.unbounded(), properties.getBatchSize());
+			RecordId[] ids = pending.stream()
+				.filter(message -> !message.getConsumerName().equals(consumer))
+				.filter(message -> message.getElapsedTimeSinceLastDelivery().compareTo(minIdle) >= 0)
+				.map(PendingMessage::getId)
+				.toArray(RecordId[]::new);
+			if (ids.length > 0) {
+				claimed += redisTemplate.opsForStream().claim(key, group, consumer, minIdle, ids).size();
+			}
+		}
+		return claimed;
+	}
+
+	/**
+	 * consumer group 이 확인을 마친 위치보다 앞선 항목을 잘라 Stream 크기를 제한합니다.
+	 * 미확인 항목이 있으면 가장 오래된 미확인 항목을, 없으면 마지막으로 전달한 항목을 기준으로 그 이전만 삭제합니다.
+	 * 노드별 전송 group 은 기록 즉시 읽고 확인하므로 기준에 포함하지 않습니다.
+	 *
+	 * @param group 기준이 되는 consumer group 이름
+	 */
+	public void trim(String group) {
+		for (String key : keys()) {
+			String minId = retainFrom(key, group);
+			if (minId == null) {
+				continue;
+			}
+			redisTemplate.execute((RedisCallback<Object>)connection ->
+				connection.execute("XTRIM", bytes(key), bytes("MINID"), bytes("~"), bytes(minId)));
+		}
+	}
+
+	private String retainFrom(String key, String group) {
+		XInfoGroup info = redisTemplate.opsForStream().groups(key).stream()
+			.filter(candidate -> candidate.groupName().equals(group))
+			.findFirst()
+			.orElse(null);
+		if (info == null) {
+			return null;
+		}
+		PendingMessagesSummary summary = redisTemplate.opsForStream().pending(key, group);
+		if (summary != null && summary.getTotalPendingMessages() > 0) {
+			return summary.minMessageId();
+		}
+		return info.lastDeliveredId();
+	}
+
+	private static byte[] bytes(Object value) {
+		return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+	}
+
+	int partitionOf(Long roomId) {
+		return (int)Math.floorMod(roomId, (long)properties.getPartitions());
+	}
+
+	private String key(int partitionNo) {
+		return KEY_PREFIX + partitionNo;
+	}
+
+	private List<String> keys() {
+		return IntStream.range(0, properties.getPartitions()).mapToObj(this::key).toList();
+	}
+
+	/**
+	 * Stream 에 기록되는 메시지 항목입니다.
+	 */
+	public record Entry(
+		String streamId,
+		Long roomId,
+		Long productId,
+		Long writerId,
+		RoleInRoom role,
+		MessageType type,
+		String content,
+		LocalDateTime sentAt
+	) {
+
+		public static Entry of(Long roomId, Long productId, Long writerId, RoleInRoom role, MessageType type,
+			String content, LocalDateTime sentAt) {
+			return new Entry(null, roomId, productId, writerId, role, type, content, sentAt);
+		}
+
+		public static Entry from(MapRecord<String, Object, Object> record) {
+			Map<Object, Object> fields = record.getValue();
+			return new Entry(
+				record.getId().getValue(),
+				Long.valueOf((String)fields.get("roomId")),
+				Long.valueOf((String)fields.get("productId")),
+				Long.valueOf((String)fields.get("writerId")),
+				RoleInRoom.valueOf((String)fields.get("role")),
+				MessageType.valueOf((String)fields.get("type")),
+				Objects.requireNonNull((String)fields.get("content"), "content"),
+				LocalDateTime.parse((String)fields.get("sentAt"))
+			);
+		}
+
+		private Map<String, String> toFields() {
+			return Map.of(
+				"roomId", roomId.toString(),
+				"productId", productId.toString(),
+				"writerId", writerId.toString(),
+				"role", role.name(),
+				"type", type.name(),
+				"content", content,
+				"sentAt", sentAt.toString()
+			);
+		}
+	}
+}
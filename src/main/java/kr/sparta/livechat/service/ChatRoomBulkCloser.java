@@ -0,0 +1,92 @@
+package kr.sparta.livechat.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.sparta.livechat.domain.event.ChatRoomClosedEvent;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import kr.sparta.livechat.repository.ChatRoomRepository.ClosedRoomRow;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 채팅방을 엔티티 로딩 없이 일괄 종료하는 서비스 클래스입니다.
+ * <p>
+ * 묶음마다 한 번의 UPDATE 로 종료한 뒤, 같은 종료 시각으로 종료된 채팅방만 다시 조회하여
+ * 요약을 일괄 저장하고 채팅방마다 {@link ChatRoomClosedEvent}를 발행합니다.
+ * UPDATE 조건에 OPEN 상태를 포함하므로 다른 경로에서 먼저 종료된 채팅방은 중복 처리되지 않습니다.
+ * 소켓 캐시 정리와 종료 이벤트 브로드캐스트는 커밋 이후 호출자가 반환된 목록으로 처리합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Service
+@RequiredArgsConstructor
+public class ChatRoomBulkCloser {
+
+	public static final String IDLE_REASON = "장기간 대화가 없어 자동 종료되었습니다.";
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final ChatRoomStatsService chatRoomStatsService;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 대상 채팅방 중 {@code idleBefore} 이후 메시지가 없는 OPEN 채팅방을 종료합니다.
+	 *
+	 * @param roomIds    종료 대상 후보 채팅방 식별자 목록
+	 * @param idleBefore 이 시각 이전이 마지막 메시지인 채팅방이 대상
+	 * @return 실제로 종료된 채팅방 목록
+	 */
+	@Transactional
+	public List<ClosedRoomRow> closeIdle(List<Long> roomIds, LocalDateTime idleBefore) {
+		LocalDateTime closedAt = closedAt();
+		int updated = chatRoomRepository.closeIdleRooms(roomIds, idleBefore, closedAt, IDLE_REASON);
+		return afterClose(roomIds, closedAt, updated, IDLE_REASON);
+	}
+
+	/**
+	 * 대상 채팅방 중 OPEN 채팅방을 종료합니다.
+	 *
+	 * @param roomIds 종료 대상 채팅방 식별자 목록
+	 * @param reason  종료 사유
+	 * @return 실제로 종료된 채팅방 목록
+	 */
+	@Transactional
+	public List<ClosedRoomRow> close(List<Long> roomIds, String reason) {
+		LocalDateTime closedAt = closedAt();
+		int updated = chatRoomRepository.closeOpenRooms(roomIds, closedAt, reason);
+		return afterClose(roomIds, closedAt, updated, reason);
+	}
+
+	private List<ClosedRoomRow> afterClose(List<Long> roomIds, LocalDateTime closedAt, int updated, String reason) {
+		if (updated == 0) {
+			return List.of();
+		}
+
+		List<ClosedRoomRow> closed = chatRoomRepository.findClosedRooms(roomIds, closedAt);
+		chatRoomStatsService.summarizeAll(closed);
+		for (ClosedRoomRow room : closed) {
+			eventPublisher.publishEvent(new ChatRoomClosedEvent(
+				room.getRoomId(),
+				room.getProductId(),
+				null,
+				reason,
+				room.getClosedAt()
+			));
+		}
+		return closed;
+	}
+
+	/**
+	 * 종료된 채팅방을 종료 시각으로 다시 조회하므로 DB 컬럼 정밀도(마이크로초)에 맞춰 자릅니다.
+	 */
+	private LocalDateTime closedAt() {
+		return LocalDateTime.now().truncatedTo(ChronoUnit.MICROS);
+	}
+}
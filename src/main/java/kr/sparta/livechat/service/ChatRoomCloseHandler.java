@@ -0,0 +1,84 @@
+package kr.sparta.livechat.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import kr.sparta.livechat.domain.event.ChatRoomClosedEvent;
+import kr.sparta.livechat.socket.SessionRegistry;
+import kr.sparta.livechat.socket.SessionRegistry.RoomSubscription;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 종료 시 노드의 종료 상태 캐시와 서버 측 구독 자원을 정리하는 클래스입니다.
+ * <p>
+ * 종료 이벤트는 {@link ChatRoomCloseRecorder}가 아웃박스에 기록하고, {@link BrokerOutboxConsumer}가 모든 노드에서
+ * 채팅방 토픽으로 ROOM_CLOSED 를 전송한 직후 {@link #onDelivered(Long)}를 호출합니다. 각 노드는 다음 순서로 처리합니다.
+ *
+ * 1. 채팅방을 종료 상태로 캐시에 기록하여 이후 구독/메시지 전송을 DB 조회 없이 거부합니다.
+ * 2. 채팅방의 모든 구독을 세션 레지스트리에서 제거하고, 브로커에 UNSUBSCRIBE 를 보내 구독 정보를 해제합니다.
+ *
+ * 브로커는 전송 시점에 구독자를 조회하므로 ROOM_CLOSED 이벤트는 구독 해제 전에 모든 구독자에게 전달되고,
+ * 같은 채팅방의 메시지는 아웃박스 식별자 순으로 전달되므로 종료 전에 커밋된 메시지도 구독 해제 전에 전달됩니다.
+ *
+ * 종료를 처리한 노드는 아웃박스 전송을 기다리지 않도록 커밋 직후 종료 상태만 먼저 캐시에 기록합니다.
+ * 이벤트 전달이 지연된 노드도 채팅방 상태 캐시가 만료되면 DB 상태로 종료를 확인합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+public class ChatRoomCloseHandler {
+
+	private final SocketService socketService;
+	private final SessionRegistry sessionRegistry;
+	private final MessageChannel brokerChannel;
+
+	public ChatRoomCloseHandler(
+		SocketService socketService,
+		SessionRegistry sessionRegistry,
+		@Qualifier("brokerChannel") MessageChannel brokerChannel
+	) {
+		this.socketService = socketService;
+		this.sessionRegistry = sessionRegistry;
+		this.brokerChannel = brokerChannel;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onClosed(ChatRoomClosedEvent event) {
+		socketService.markClosed(event.getRoomId());
+	}
+
+	/**
+	 * 채팅방 토픽으로 ROOM_CLOSED 이벤트가 전송된 뒤 호출되어 노드의 구독을 정리합니다.
+	 *
+	 * @param roomId 종료된 채팅방 식별자
+	 */
+	public void onDelivered(Long roomId) {
+		socketService.markClosed(roomId);
+
+		List<RoomSubscription> subscriptions = sessionRegistry.removeRoom(roomId);
+		for (RoomSubscription subscription : subscriptions) {
+			unsubscribe(subscription);
+		}
+		if (!subscriptions.isEmpty()) {
+			log.debug("종료된 채팅방 구독 해제: roomId={}, subscriptions={}", roomId, subscriptions.size());
+		}
+	}
+
+	private void unsubscribe(RoomSubscription subscription) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.UNSUBSCRIBE);
+		accessor.setSessionId(subscription.sessionId());
+		accessor.setSubscriptionId(subscription.subscriptionId());
+		brokerChannel.send(MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders()));
+	}
+}
@@ -0,0 +1,50 @@
+package kr.sparta.livechat.service;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import kr.sparta.livechat.domain.event.ChatRoomClosedEvent;
+import kr.sparta.livechat.domain.role.OutboxEventType;
+import kr.sparta.livechat.dto.socket.RoomClosedEventResponse;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅방 종료를 종료 트랜잭션 안에서 아웃박스에 기록하는 클래스입니다.
+ * <p>
+ * 판매자 종료, 관리자 종료, 자동 종료 등 모든 종료 경로에서 발행되는 {@link ChatRoomClosedEvent}를 트랜잭션 안에서 받아
+ * 채팅방 파티션에 ROOM_CLOSED 이벤트를 기록합니다. 종료 이벤트는 메시지 이벤트와 같은 경로(아웃박스 → Redis → 브로커)로
+ * 전송되므로, 종료 전에 커밋된 메시지는 항상 ROOM_CLOSED 보다 먼저 구독자에게 전달됩니다.
+ *
+ * 기록 전에 채팅방 행을 잠가 채팅방에 메시지를 저장 중인 트랜잭션이 끝나기를 기다립니다.
+ * 따라서 ROOM_CLOSED 는 이미 저장된 모든 메시지보다 큰 아웃박스 식별자를 받고,
+ * 잠금 이후의 메시지 저장은 종료가 커밋된 뒤 채팅방 상태를 확인하여 거부됩니다.
+ * 구독 해제는 이벤트를 전달받은 각 노드의 {@link ChatRoomCloseHandler}가 처리합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatRoomCloseRecorder {
+
+	private static final String ROOM_CLOSED = "ROOM_CLOSED";
+
+	private final ChatRoomRepository chatRoomRepository;
+	private final OutboxService outboxService;
+
+	@EventListener
+	public void onClosed(ChatRoomClosedEvent event) {
+		Long roomId = event.getRoomId();
+		chatRoomRepository.lockById(roomId);
+		outboxService.append(roomId, OutboxEventType.ROOM_CLOSED, RoomClosedEventResponse.builder()
+			.event(ROOM_CLOSED)
+			.roomId(roomId)
+			.closedBy(event.getClosedBy())
+			.reason(event.getReason())
+			.closedAt(event.getClosedAt())
+			.build());
+	}
+}
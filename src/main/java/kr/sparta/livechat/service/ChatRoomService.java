@@ -1,8 +1,9 @@
 package kr.sparta.livechat.service;
 
-import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -12,9 +13,11 @@ import org.springframework.transaction.annotation.Transactional;
 
 import kr.sparta.livechat.domain.entity.ChatRoom;
 import kr.sparta.livechat.domain.entity.ChatRoomParticipant;
-import kr.sparta.livechat.domain.entity.ChatRoomSummary;
 import kr.sparta.livechat.domain.entity.Message;
 import kr.sparta.livechat.domain.entity.Product;
+import kr.sparta.livechat.domain.event.ChatMessageSentEvent;
+import kr.sparta.livechat.domain.event.ChatRoomClosedEvent;
+import kr.sparta.livechat.domain.event.ChatRoomOpenedEvent;
 import kr.sparta.livechat.domain.role.ChatRoomStatus;
 import kr.sparta.livechat.domain.role.MessageType;
 import kr.sparta.livechat.domain.role.ProductStatus;
@@ -32,7 +35,6 @@ import kr.sparta.livechat.entity.User;
 import kr.sparta.livechat.global.exception.CustomException;
 import kr.sparta.livechat.global.exception.ErrorCode;
 import kr.sparta.livechat.repository.ChatRoomRepository;
-import kr.sparta.livechat.repository.ChatRoomSummaryRepository;
 import kr.sparta.livechat.repository.MessageRepository;
 import kr.sparta.livechat.repository.ProductRepository;
 import kr.sparta.livechat.repository.UserRepository;
@@ -57,7 +59,8 @@ public class ChatRoomService {
 	private final ProductRepository productRepository;
 	private final UserRepository userRepository;
 	private final SocketService socketService;
-	private final ChatRoomSummaryRepository chatRoomSummaryRepository;
+	private final ChatRoomStatsService chatRoomStatsService;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 상품에 대한 상담 채팅방을 생성합니다.
@@ -100,10 +103,28 @@ public class ChatRoomService {
 		Message savedMessage = messageRepository.save(firstMessage);
 
 		savedRoom.touchLastMessageSentAt(savedMessage.getSentAt());
+		chatRoomStatsService.initialize(savedRoom.getId(), savedMessage.getSentAt());
 
 		socketService.addParticipant(savedRoom.getId(), currentUser.getId());
 		socketService.addParticipant(savedRoom.getId(), seller.getId());
 
+		eventPublisher.publishEvent(new ChatRoomOpenedEvent(
+			savedRoom.getId(),
+			product.getId(),
+			currentUser.getId(),
+			seller.getId(),
+			savedRoom.getOpenedAt()
+		));
+		eventPublisher.publishEvent(new ChatMessageSentEvent(
+			savedRoom.getId(),
+			product.getId(),
+			savedRoom.getStatus(),
+			savedMessage.getId(),
+			currentUser.getId(),
+			savedMessage.getType(),
+			savedMessage.getSentAt()
+		));
+
 		CreateChatRoomResponse.FirstMessageResponse firstMessageResponse =
 			CreateChatRoomResponse.FirstMessageResponse.of(savedMessage);
 
@@ -242,6 +263,27 @@ public class ChatRoomService {
 		);
 	}
 
+	/**
+	 * 채팅방 상세 응답의 마지막 수정 시각을 조회합니다.
+	 * <p>
+	 * 조건부 요청(ETag/Last-Modified) 판단용으로 채팅방, 상품, 참여자의 수정 시각만 읽습니다.
+	 * 채팅방이 없거나 요청 사용자가 참여자가 아니면 {@code null}을 반환하며, 이 경우 상세 조회에서 오류 응답을 만듭니다.
+	 * </p>
+	 *
+	 * @param chatRoomId    채팅방 식별자
+	 * @param currentUserId 로그인한 사용자 식별자
+	 * @return 마지막 수정 시각 (알 수 없으면 null)
+	 */
+	@Transactional(readOnly = true)
+	public LocalDateTime findChatRoomLastModified(Long chatRoomId, Long currentUserId) {
+		if (chatRoomId == null || chatRoomId <= 0) {
+			return null;
+		}
+		return chatRoomRepository.findRoomVersion(chatRoomId, currentUserId)
+			.map(ChatRoomRepository.RoomVersionRow::getLastModifiedAt)
+			.orElse(null);
+	}
+
 	/**
 	 * 채팅방의 상태를 변경합니다.
 	 * <p>
@@ -268,18 +310,15 @@ public class ChatRoomService {
 
 		chatRoom.close(request.getReason());
 
-		long totalMessageCount = messageRepository.countByRoom_Id(chatRoomId);
-		long durationSeconds = Duration.between(chatRoom.getOpenedAt(), chatRoom.getClosedAt()).getSeconds();
+		chatRoomStatsService.summarize(chatRoom);
 
-		if (!chatRoomSummaryRepository.existsByRoomId(chatRoomId)) {
-			ChatRoomSummary summary = ChatRoomSummary.of(
-				chatRoomId,
-				totalMessageCount,
-				durationSeconds,
-				chatRoom.getClosedAt()
-			);
-			chatRoomSummaryRepository.save(summary);
-		}
+		eventPublisher.publishEvent(new ChatRoomClosedEvent(
+			chatRoom.getId(),
+			chatRoom.getProduct().getId(),
+			currentUserId,
+			chatRoom.getReason(),
+			chatRoom.getClosedAt()
+		));
 
 		return new PatchChatRoomResponse(
 			chatRoom.getId(),
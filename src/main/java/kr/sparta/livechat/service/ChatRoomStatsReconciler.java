@@ -0,0 +1,72 @@
+package kr.sparta.livechat.service;
+
+import java.time.Duration;
+
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import kr.sparta.livechat.config.ChatRoomStatsProperties;
+import kr.sparta.livechat.config.SchedulingConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 통계 보정 작업을 주기적으로 실행하는 클래스입니다.
+ * <p>
+ * OPEN 채팅방을 식별자 순으로 나누어 {@link ChatRoomStatsService#reconcile(Long, int)}를 호출하며,
+ * 묶음마다 별도 트랜잭션으로 처리하여 긴 트랜잭션과 잠금을 피합니다.
+ *
+ * 여러 노드에서 동시에 실행되지 않도록 {@link RedisLeaseService}로 lease 를 선점한 노드만 실행하며,
+ * 묶음마다 lease 를 연장하고 연장에 실패하면 즉시 중단합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatRoomStatsReconciler {
+
+	private static final String LEASE_NAME = "chatroom:stats-reconcile";
+
+	private final ChatRoomStatsProperties properties;
+	private final ChatRoomStatsService chatRoomStatsService;
+	private final RedisLeaseService redisLeaseService;
+
+	@Scheduled(cron = "${chatroom.stats.reconcile-cron}", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+	public void reconcileOpenRooms() {
+		Duration ttl = Duration.ofMillis(properties.getLeaseTtlMs());
+		String token;
+		try {
+			token = redisLeaseService.tryAcquire(LEASE_NAME, ttl);
+		} catch (RuntimeException e) {
+			log.warn("채팅방 통계 보정 lease 획득 실패: {}", e.getMessage());
+			return;
+		}
+		if (token == null) {
+			return;
+		}
+
+		try {
+			run(token, ttl);
+		} finally {
+			redisLeaseService.release(LEASE_NAME, token);
+		}
+	}
+
+	private void run(String token, Duration ttl) {
+		long started = System.currentTimeMillis();
+		int chunks = 0;
+		Long lastId = 0L;
+		while ((lastId = chatRoomStatsService.reconcile(lastId, properties.getChunkSize())) != null) {
+			chunks++;
+			if (!redisLeaseService.renew(LEASE_NAME, token, ttl)) {
+				log.warn("채팅방 통계 보정 lease 만료로 중단: lastRoomId={}", lastId);
+				break;
+			}
+		}
+		log.info("채팅방 통계 보정 완료: chunks={}, elapsedMs={}", chunks, System.currentTimeMillis() - started);
+	}
+}
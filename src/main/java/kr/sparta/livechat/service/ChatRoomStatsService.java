@@ -0,0 +1,246 @@
+package kr.sparta.livechat.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Isolation;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.sparta.livechat.domain.entity.ChatRoom;
+import kr.sparta.livechat.domain.entity.ChatRoomStats;
+import kr.sparta.livechat.domain.entity.ChatRoomSummary;
+import kr.sparta.livechat.domain.entity.Product;
+import kr.sparta.livechat.domain.event.ChatRoomSummarizedEvent;
+import kr.sparta.livechat.domain.role.ChatRoomStatus;
+import kr.sparta.livechat.domain.role.RoleInRoom;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import kr.sparta.livechat.repository.ChatRoomRepository.ClosedRoomRow;
+import kr.sparta.livechat.repository.ChatRoomStatsRepository;
+import kr.sparta.livechat.repository.ChatRoomSummaryRepository;
+import kr.sparta.livechat.repository.MessageRepository;
+import kr.sparta.livechat.repository.MessageRepository.RoomRoleMessageCount;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 메시지 통계와 종료 요약을 관리하는 서비스 클래스입니다.
+ * <p>
+ * 메시지 전송 시 {@link ChatRoomStats}를 단일 UPDATE 로 증분 갱신하고,
+ * 채팅방 종료 시에는 통계를 식별자로 한 번 조회하여 {@link ChatRoomSummary}로 옮깁니다.
+ * 따라서 종료 처리 비용은 채팅방의 메시지 수와 무관합니다.
+ *
+ * 통계가 없는 기존 채팅방은 종료 시 메시지 테이블을 집계하여 요약을 생성하며,
+ * 증분 갱신 누락은 {@link #reconcile(Long, int)} 보정 작업으로 메시지 테이블 기준 값에 맞춥니다.
+ * 보정은 통계 행을 잠근 뒤 READ COMMITTED 로 메시지를 집계하므로, 잠금 전에 커밋된 메시지는 집계에 포함되고
+ * 잠금 이후의 증분 갱신은 보정이 커밋될 때까지 대기한 뒤 보정 값에 더해집니다. 값이 다른 채팅방만 갱신합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatRoomStatsService {
+
+	private final ChatRoomStatsRepository chatRoomStatsRepository;
+	private final ChatRoomSummaryRepository chatRoomSummaryRepository;
+	private final ChatRoomRepository chatRoomRepository;
+	private final MessageRepository messageRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 채팅방 생성 시 첫 구매자 메시지를 포함한 통계를 생성합니다.
+	 *
+	 * @param roomId         채팅방 식별자
+	 * @param firstMessageAt 첫 메시지 전송 시각
+	 */
+	@Transactional
+	public void initialize(Long roomId, LocalDateTime firstMessageAt) {
+		chatRoomStatsRepository.save(ChatRoomStats.open(roomId, firstMessageAt));
+	}
+
+	/**
+	 * 메시지 1건을 통계에 반영합니다.
+	 * 통계가 없는 채팅방이면 반영하지 않고 보정 작업에 맡깁니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @param role   작성자의 채팅방 내 역할
+	 * @param sentAt 메시지 전송 시각
+	 * @return 통계에 반영했으면 {@code true}, 통계가 없으면 {@code false}
+	 */
+	public boolean recordMessage(Long roomId, RoleInRoom role, LocalDateTime sentAt) {
+		int updated = chatRoomStatsRepository.increment(
+			roomId,
+			role == RoleInRoom.BUYER ? 1 : 0,
+			role == RoleInRoom.SELLER ? 1 : 0,
+			sentAt
+		);
+		if (updated == 0) {
+			log.debug("채팅방 통계 없음, 보정 작업에서 생성: roomId={}", roomId);
+		}
+		return updated > 0;
+	}
+
+	/**
+	 * 종료된 채팅방의 요약 정보를 저장합니다.
+	 * 이미 요약이 있으면 저장하지 않으며, 저장한 경우 {@link ChatRoomSummarizedEvent}를 발행합니다.
+	 *
+	 * @param chatRoom 종료된 채팅방
+	 */
+	@Transactional
+	public void summarize(ChatRoom chatRoom) {
+		Long roomId = chatRoom.getId();
+		if (chatRoomSummaryRepository.existsByRoomId(roomId)) {
+			return;
+		}
+
+		ChatRoomStats stats = chatRoomStatsRepository.findById(roomId)
+			.orElseGet(() -> recount(roomId));
+		Product product = chatRoom.getProduct();
+
+		ChatRoomSummary summary = toSummary(roomId, product.getId(), product.getSeller().getId(), stats,
+			chatRoom.getOpenedAt(), chatRoom.getClosedAt());
+		chatRoomSummaryRepository.save(summary);
+		publishSummarized(summary);
+	}
+
+	/**
+	 * 일괄 종료된 채팅방들의 요약 정보를 한 번에 저장합니다.
+	 * 통계와 기존 요약 여부를 채팅방 목록 단위로 조회하며, 통계가 없는 채팅방은 한 번의 집계 쿼리로 대체합니다.
+	 *
+	 * @param rooms 일괄 종료된 채팅방 목록
+	 */
+	@Transactional
+	public void summarizeAll(List<ClosedRoomRow> rooms) {
+		if (rooms.isEmpty()) {
+			return;
+		}
+		List<Long> roomIds = rooms.stream().map(ClosedRoomRow::getRoomId).toList();
+		Set<Long> summarized = new HashSet<>(chatRoomSummaryRepository.findRoomIdsByRoomIdIn(roomIds));
+		Map<Long, ChatRoomStats> statsByRoom = chatRoomStatsRepository.findAllById(roomIds).stream()
+			.collect(Collectors.toMap(ChatRoomStats::getRoomId, Function.identity()));
+
+		List<Long> missing = roomIds.stream()
+			.filter(roomId -> !statsByRoom.containsKey(roomId) && !summarized.contains(roomId))
+			.toList();
+		if (!missing.isEmpty()) {
+			Map<Long, List<RoomRoleMessageCount>> countsByRoom = messageRepository.countByRoomIdsGroupByRole(missing)
+				.stream()
+				.collect(Collectors.groupingBy(RoomRoleMessageCount::getRoomId));
+			for (Long roomId : missing) {
+				ChatRoomStats stats = ChatRoomStats.empty(roomId);
+				apply(stats, countsByRoom.getOrDefault(roomId, List.of()));
+				statsByRoom.put(roomId, stats);
+			}
+		}
+
+		List<ChatRoomSummary> summaries = rooms.stream()
+			.filter(room -> !summarized.contains(room.getRoomId()))
+			.map(room -> toSummary(room.getRoomId(), room.getProductId(), room.getSellerId(),
+				statsByRoom.get(room.getRoomId()), room.getOpenedAt(), room.getClosedAt()))
+			.toList();
+		chatRoomSummaryRepository.saveAll(summaries);
+		summaries.forEach(this::publishSummarized);
+	}
+
+	/**
+	 * OPEN 채팅방의 통계를 메시지 테이블 기준으로 보정합니다.
+	 * 식별자 순으로 {@code size}개씩 처리하며, 통계가 없는 채팅방은 새로 생성합니다.
+	 * 집계 전에 통계 행을 잠가 보정 도중의 증분 갱신이 덮어써지지 않도록 합니다.
+	 *
+	 * @param afterId 이전 묶음의 마지막 채팅방 식별자 (처음이면 0)
+	 * @param size    한 번에 처리할 채팅방 수
+	 * @return 이번 묶음의 마지막 채팅방 식별자, 더 이상 없으면 {@code null}
+	 */
+	@Transactional(isolation = Isolation.READ_COMMITTED)
+	public Long reconcile(Long afterId, int size) {
+		List<Long> roomIds = chatRoomRepository.findIdsByStatusAfter(
+			ChatRoomStatus.OPEN, afterId, PageRequest.of(0, size));
+		if (roomIds.isEmpty()) {
+			return null;
+		}
+
+		Map<Long, ChatRoomStats> statsByRoom = chatRoomStatsRepository.findAllForUpdate(roomIds).stream()
+			.collect(Collectors.toMap(ChatRoomStats::getRoomId, Function.identity()));
+		Map<Long, List<RoomRoleMessageCount>> countsByRoom = messageRepository.countByRoomIdsGroupByRole(roomIds)
+			.stream()
+			.collect(Collectors.groupingBy(RoomRoleMessageCount::getRoomId));
+
+		for (Long roomId : roomIds) {
+			ChatRoomStats stats = statsByRoom.get(roomId);
+			if (stats == null) {
+				stats = chatRoomStatsRepository.save(ChatRoomStats.empty(roomId));
+			}
+			long before = stats.getMessageCount();
+			if (apply(stats, countsByRoom.getOrDefault(roomId, List.of()))) {
+				log.info("채팅방 통계 보정: roomId={}, messageCount {} -> {}", roomId, before, stats.getMessageCount());
+			}
+		}
+		return roomIds.get(roomIds.size() - 1);
+	}
+
+	private ChatRoomSummary toSummary(Long roomId, Long productId, Long sellerId, ChatRoomStats stats,
+		LocalDateTime openedAt, LocalDateTime closedAt) {
+		return ChatRoomSummary.of(
+			roomId,
+			productId,
+			sellerId,
+			stats.getBuyerMessageCount(),
+			stats.getSellerMessageCount(),
+			stats.getFirstResponseSeconds(),
+			Duration.between(openedAt, closedAt).getSeconds(),
+			closedAt
+		);
+	}
+
+	private void publishSummarized(ChatRoomSummary summary) {
+		eventPublisher.publishEvent(new ChatRoomSummarizedEvent(
+			summary.getRoomId(),
+			summary.getProductId(),
+			summary.getSellerId(),
+			summary.getTotalMessageCount(),
+			summary.getFirstResponseSeconds(),
+			summary.getDurationSeconds(),
+			summary.getClosedAt()
+		));
+	}
+
+	private ChatRoomStats recount(Long roomId) {
+		ChatRoomStats stats = ChatRoomStats.empty(roomId);
+		apply(stats, messageRepository.countByRoomIdsGroupByRole(List.of(roomId)));
+		return stats;
+	}
+
+	private boolean apply(ChatRoomStats stats, List<RoomRoleMessageCount> counts) {
+		long buyerMessageCount = 0;
+		long sellerMessageCount = 0;
+		LocalDateTime firstMessageAt = null;
+		LocalDateTime firstResponseAt = null;
+		LocalDateTime lastMessageAt = null;
+
+		for (RoomRoleMessageCount count : counts) {
+			if (lastMessageAt == null || count.getLastSentAt().isAfter(lastMessageAt)) {
+				lastMessageAt = count.getLastSentAt();
+			}
+			if (count.getRole() == RoleInRoom.BUYER) {
+				buyerMessageCount = count.getMessageCount();
+				firstMessageAt = count.getFirstSentAt();
+			} else if (count.getRole() == RoleInRoom.SELLER) {
+				sellerMessageCount = count.getMessageCount();
+				firstResponseAt = count.getFirstSentAt();
+			}
+		}
+		return stats.reconcile(buyerMessageCount, sellerMessageCount, firstMessageAt, firstResponseAt, lastMessageAt);
+	}
+}
@@ -0,0 +1,122 @@
+package kr.sparta.livechat.service;
+
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import kr.sparta.livechat.config.ChatStreamProperties;
+import kr.sparta.livechat.dto.socket.ChatEventResponse;
+import kr.sparta.livechat.dto.socket.MessageResponse;
+import kr.sparta.livechat.socket.RoomDestination;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Stream 에 기록된 메시지를 이 노드의 로컬 구독자에게 전송하는 클래스입니다.
+ * <p>
+ * 노드마다 고유한 consumer group 을 기동 이후 기록분부터 읽도록 생성하므로 모든 노드가 모든 메시지를 받습니다.
+ * group 은 노드 종료 시 삭제하며, 전송은 로컬 브로커로만 이루어지므로 미확인 항목을 다시 전송하지 않습니다.
+ * 형식이 잘못된 항목은 건너뛰고, 읽기가 실패하면 {@code blockMs}만큼 기다린 뒤 다시 읽습니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chatroom.stream", name = "enabled", havingValue = "true")
+public class ChatStreamFanout {
+
+	private static final String GROUP_PREFIX = "fanout:";
+	private static final String CONSUMER = "local";
+
+	private final ChatMessageStream chatMessageStream;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final ChatStreamProperties properties;
+	private final String group = GROUP_PREFIX + UUID.randomUUID();
+
+	private volatile boolean running;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		chatMessageStream.createGroup(group, ReadOffset.latest());
+		running = true;
+		Thread thread = new Thread(this::run, "chat-stream-fanout");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		try {
+			chatMessageStream.destroyGroup(group);
+		} catch (RuntimeException e) {
+			log.warn("Stream 전송 group 삭제 실패: group={}, {}", group, e.getMessage());
+		}
+	}
+
+	private void run() {
+		while (running) {
+			try {
+				List<MapRecord<String, Object, Object>> records = chatMessageStream.read(group, CONSUMER, false);
+				if (records.isEmpty()) {
+					continue;
+				}
+				for (MapRecord<String, Object, Object> record : records) {
+					try {
+						broadcast(record);
+					} catch (RuntimeException e) {
+						log.warn("Stream 메시지 전송 건너뜀: id={}, error={}", record.getId().getValue(), e.getMessage());
+					}
+				}
+				chatMessageStream.acknowledge(group, records);
+			} catch (RuntimeException e) {
+				if (running) {
+					log.warn("Stream 메시지 전송 실패: {}", e.getMessage());
+					pause();
+				}
+			}
+		}
+	}
+
+	private void pause() {
+		try {
+			Thread.sleep(properties.getBlockMs());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			running = false;
+		}
+	}
+
+	private void broadcast(MapRecord<String, Object, Object> record) {
+		ChatMessageStream.Entry entry = ChatMessageStream.Entry.from(record);
+		MessageResponse response = MessageResponse.builder()
+			.streamId(entry.streamId())
+			.roomId(entry.roomId())
+			.writerId(entry.writerId())
+			.type(entry.type().name())
+			.content(entry.content())
+			.sentAt(entry.sentAt())
+			.readCount(1)
+			.build();
+
+		messagingTemplate.convertAndSend(
+			RoomDestination.of(entry.roomId()),
+			ChatEventResponse.<MessageResponse>builder()
+				.event("MESSAGE")
+				.message(response)
+				.build()
+		);
+	}
+}
@@ -0,0 +1,160 @@
+package kr.sparta.livechat.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import kr.sparta.livechat.config.ChatStreamProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis Stream 에 기록된 메시지를 묶음 단위로 DB 에 저장하는 클래스입니다.
+ * <p>
+ * 모든 노드가 공용 consumer group 에 참여하여 항목을 나누어 저장하고, 저장 트랜잭션이 커밋된 뒤에 확인(ACK)합니다.
+ * 기동 시에는 이 노드가 읽고 확인하지 못한 항목부터 다시 저장하며,
+ * 이미 저장된 항목은 Stream 항목 식별자로 걸러 중복 저장하지 않습니다.
+ *
+ * 형식이 잘못된 항목과 무결성 제약으로 저장할 수 없는 항목은 dead-letter Stream 으로 옮기고 확인하여,
+ * 한 항목 때문에 묶음 전체가 계속 재시도되지 않도록 나머지 항목만 저장합니다.
+ * {@code claimIdleMs}마다 종료된 노드가 남긴 미확인 항목을 가져와 저장하고, 확인을 마친 항목을 Stream 에서 정리합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "chatroom.stream", name = "enabled", havingValue = "true")
+public class ChatStreamMessageWriter {
+
+	static final String GROUP = "message-writer";
+
+	private final ChatMessageStream chatMessageStream;
+	private final ChatMessagePersister chatMessagePersister;
+	private final ChatStreamProperties properties;
+
+	private volatile boolean running;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		chatMessageStream.createGroup(GROUP, ReadOffset.from("0"));
+		running = true;
+		Thread thread = new Thread(this::run, "chat-stream-writer");
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+	}
+
+	private void run() {
+		boolean pending = true;
+		long maintainedAt = 0;
+		while (running) {
+			try {
+				long now = System.currentTimeMillis();
+				if (now - maintainedAt >= properties.getClaimIdleMs()) {
+					maintainedAt = now;
+					pending |= maintain();
+				}
+				List<MapRecord<String, Object, Object>> records =
+					chatMessageStream.read(GROUP, properties.getNodeName(), pending);
+				if (records.isEmpty()) {
+					pending = false;
+					continue;
+				}
+				write(records);
+			} catch (RuntimeException e) {
+				log.warn("Stream 메시지 저장 실패, 미확인 항목부터 재시도: {}", e.getMessage());
+				pending = true;
+				pause();
+			}
+		}
+	}
+
+	/**
+	 * 다른 노드가 남긴 미확인 항목을 가져오고 확인을 마친 항목을 정리합니다.
+	 *
+	 * @return 가져온 항목이 있으면 {@code true}
+	 */
+	boolean maintain() {
+		int claimed = chatMessageStream.claim(GROUP, properties.getNodeName(),
+			Duration.ofMillis(properties.getClaimIdleMs()));
+		if (claimed > 0) {
+			log.info("Stream 미확인 항목 회수: claimed={}", claimed);
+		}
+		chatMessageStream.trim(GROUP);
+		return claimed > 0;
+	}
+
+	/**
+	 * 읽은 항목을 저장하고 확인합니다.
+	 * 묶음 저장이 무결성 제약 위반으로 실패하면 항목마다 다시 저장하여 실패한 항목만 dead-letter 로 옮깁니다.
+	 */
+	void write(List<MapRecord<String, Object, Object>> records) {
+		Map<String, MapRecord<String, Object, Object>> recordsById = new HashMap<>();
+		List<ChatMessageStream.Entry> entries = new ArrayList<>();
+		for (MapRecord<String, Object, Object> record : records) {
+			try {
+				entries.add(ChatMessageStream.Entry.from(record));
+				recordsById.put(record.getId().getValue(), record);
+			} catch (RuntimeException e) {
+				deadLetter(record, e);
+			}
+		}
+
+		int saved;
+		try {
+			saved = chatMessagePersister.persistStreamed(entries);
+		} catch (DataIntegrityViolationException e) {
+			saved = persistEach(entries, recordsById);
+		}
+		chatMessageStream.acknowledge(GROUP, records);
+		log.debug("Stream 메시지 저장: read={}, saved={}", records.size(), saved);
+	}
+
+	private int persistEach(List<ChatMessageStream.Entry> entries,
+		Map<String, MapRecord<String, Object, Object>> recordsById) {
+		int saved = 0;
+		for (ChatMessageStream.Entry entry : entries) {
+			try {
+				saved += chatMessagePersister.persistStreamed(List.of(entry));
+			} catch (DataIntegrityViolationException e) {
+				deadLetter(recordsById.get(entry.streamId()), e);
+			}
+		}
+		return saved;
+	}
+
+	private void deadLetter(MapRecord<String, Object, Object> record, RuntimeException e) {
+		String error = e.getClass().getSimpleName() + ": " + e.getMessage();
+		chatMessageStream.deadLetter(record, error);
+		log.warn("Stream 메시지 저장 불가, dead-letter 로 이동: stream={}, id={}, error={}",
+			record.getStream(), record.getId().getValue(), error);
+	}
+
+	private void pause() {
+		try {
+			Thread.sleep(properties.getBlockMs());
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			running = false;
+		}
+	}
+}
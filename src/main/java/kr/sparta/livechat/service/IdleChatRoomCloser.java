@@ -0,0 +1,98 @@
+package kr.sparta.livechat.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import kr.sparta.livechat.config.ChatRoomAutoCloseProperties;
+import kr.sparta.livechat.config.SchedulingConfig;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import kr.sparta.livechat.repository.ChatRoomRepository.ClosedRoomRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 장기간 대화가 없는 OPEN 채팅방을 주기적으로 자동 종료하는 클래스입니다.
+ * <p>
+ * 대상 채팅방을 식별자 순으로 {@code chunkSize}개씩 조회하고 {@link ChatRoomBulkCloser}로 묶음마다 별도 트랜잭션에서 종료합니다.
+ * 구독자 알림과 구독 정리는 묶음마다 발행되는 종료 이벤트를 받는 {@link ChatRoomCloseRecorder}가 아웃박스에 기록하여 메시지와 같은 순서로 처리됩니다.
+ *
+ * 여러 노드에서 동시에 실행되지 않도록 {@link RedisLeaseService}로 lease 를 선점한 노드만 실행하며,
+ * 묶음마다 lease 를 연장하고 연장에 실패하면 즉시 중단합니다.
+ * lease 를 잃은 뒤 다른 노드와 겹쳐 실행되더라도 종료 UPDATE 가 OPEN 상태를 다시 확인하므로 중복 종료되지 않습니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class IdleChatRoomCloser {
+
+	private static final String LEASE_NAME = "chatroom:auto-close";
+
+	private final ChatRoomAutoCloseProperties properties;
+	private final ChatRoomRepository chatRoomRepository;
+	private final ChatRoomBulkCloser chatRoomBulkCloser;
+	private final RedisLeaseService redisLeaseService;
+
+	@Scheduled(fixedDelayString = "${chatroom.auto-close.interval-ms}", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+	public void closeIdleRooms() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+
+		Duration ttl = Duration.ofMillis(properties.getLeaseTtlMs());
+		String token;
+		try {
+			token = redisLeaseService.tryAcquire(LEASE_NAME, ttl);
+		} catch (RuntimeException e) {
+			log.warn("채팅방 자동 종료 lease 획득 실패: {}", e.getMessage());
+			return;
+		}
+		if (token == null) {
+			return;
+		}
+
+		try {
+			run(token, ttl);
+		} finally {
+			redisLeaseService.release(LEASE_NAME, token);
+		}
+	}
+
+	private void run(String token, Duration ttl) {
+		long started = System.currentTimeMillis();
+		LocalDateTime idleBefore = LocalDateTime.now().minusMinutes(properties.getIdleMinutes());
+		PageRequest page = PageRequest.of(0, properties.getChunkSize());
+		int closedCount = 0;
+		Long afterId = 0L;
+
+		while (true) {
+			List<Long> roomIds = chatRoomRepository.findIdleRoomIds(idleBefore, afterId, page);
+			if (roomIds.isEmpty()) {
+				break;
+			}
+
+			List<ClosedRoomRow> closed = chatRoomBulkCloser.closeIdle(roomIds, idleBefore);
+			closedCount += closed.size();
+			afterId = roomIds.get(roomIds.size() - 1);
+
+			if (!redisLeaseService.renew(LEASE_NAME, token, ttl)) {
+				log.warn("채팅방 자동 종료 lease 만료로 중단: lastRoomId={}", afterId);
+				break;
+			}
+		}
+
+		if (closedCount > 0) {
+			log.info("장기 미사용 채팅방 자동 종료: closed={}, elapsedMs={}",
+				closedCount, System.currentTimeMillis() - started);
+		}
+	}
+}
@@ -0,0 +1,195 @@
+package kr.sparta.livechat.service;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.sparta.livechat.archive.ArchivedMessage;
+import kr.sparta.livechat.archive.MessageArchiveStorage;
+import kr.sparta.livechat.archive.MessageSegment;
+import kr.sparta.livechat.config.MessageArchiveProperties;
+import kr.sparta.livechat.domain.entity.ChatRoomArchive;
+import kr.sparta.livechat.repository.ChatRoomArchiveRepository;
+import kr.sparta.livechat.repository.MessageReadRepository;
+import kr.sparta.livechat.repository.MessageRepository;
+import kr.sparta.livechat.repository.MessageRepository.MessageDocument;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 종료된 채팅방의 메시지를 보관 세그먼트로 옮기고, 보관된 메시지를 조회하는 서비스 클래스입니다.
+ * <p>
+ * 보관은 채팅방 단위로 메시지를 식별자 순으로 읽어 {@link MessageSegment} 형식으로 저장소에 쓴 뒤,
+ * 같은 트랜잭션에서 보관 기록을 저장하고 읽음 기록과 메시지 행을 삭제합니다.
+ * 저장소 쓰기는 같은 키를 덮어쓰므로 트랜잭션이 실패하여 다시 보관해도 결과가 같습니다.
+ *
+ * 조회는 인덱스 파일로 필요한 블록만 찾아 해당 범위만 읽으며, 최신 메시지부터 반환합니다.
+ * 보관된 세그먼트는 변경되지 않으므로 인덱스는 최근 조회한 {@code INDEX_CACHE_SIZE}개 채팅방만큼 메모리에 유지하고,
+ * 블록 안에서는 식별자만 확인하여 반환할 메시지만 객체로 만듭니다.
+ * 보관된 메시지는 읽음 기록과 검색 색인 대상에서 제외됩니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Service
+@RequiredArgsConstructor
+public class MessageArchiveService {
+
+	private static final int READ_CHUNK_SIZE = 1000;
+	private static final int INDEX_CACHE_SIZE = 1024;
+
+	private final MessageArchiveProperties properties;
+	private final MessageArchiveStorage storage;
+	private final ChatRoomArchiveRepository chatRoomArchiveRepository;
+	private final MessageRepository messageRepository;
+	private final MessageReadRepository messageReadRepository;
+	private final Map<Long, MessageSegment.Index> indexes = Collections.synchronizedMap(
+		new LinkedHashMap<>(INDEX_CACHE_SIZE, 0.75f, true) {
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Long, MessageSegment.Index> eldest) {
+				return size() > INDEX_CACHE_SIZE;
+			}
+		});
+
+	/**
+	 * 채팅방의 메시지를 보관 세그먼트로 옮깁니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @return 보관한 메시지 수, 이미 보관된 채팅방이면 0
+	 */
+	@Transactional
+	public long archive(Long roomId) {
+		if (chatRoomArchiveRepository.existsById(roomId)) {
+			return 0;
+		}
+
+		MessageSegment.Writer writer = new MessageSegment.Writer(properties.getBlockMessages());
+		PageRequest page = PageRequest.of(0, READ_CHUNK_SIZE);
+		Long afterId = 0L;
+		while (true) {
+			List<MessageDocument> documents = messageRepository.findDocumentsByRoomIdAfter(roomId, afterId, page);
+			if (documents.isEmpty()) {
+				break;
+			}
+			for (MessageDocument document : documents) {
+				writer.add(new ArchivedMessage(document.getId(), document.getWriterId(), document.getType(),
+					document.getContent(), document.getSentAt()));
+			}
+			afterId = documents.get(documents.size() - 1).getId();
+		}
+
+		MessageSegment.Index index = writer.index();
+		storage.write(MessageSegment.dataKey(roomId), writer.data());
+		storage.write(MessageSegment.indexKey(roomId), index.toBytes());
+		indexes.remove(roomId);
+
+		chatRoomArchiveRepository.save(ChatRoomArchive.of(roomId, index.messageCount(), index.blocks().size()));
+		messageReadRepository.deleteByRoomId(roomId);
+		messageRepository.deleteByRoomId(roomId);
+		return index.messageCount();
+	}
+
+	/**
+	 * 채팅방 메시지가 보관되었는지 확인합니다.
+	 */
+	@Transactional(readOnly = true)
+	public boolean isArchived(Long roomId) {
+		return chatRoomArchiveRepository.existsById(roomId);
+	}
+
+	/**
+	 * 보관된 메시지 중 {@code beforeId}보다 작은 메시지를 최신순으로 조회합니다.
+	 *
+	 * @param roomId   채팅방 식별자
+	 * @param beforeId 이 식별자보다 작은 메시지가 대상 (null이면 최신부터)
+	 * @param limit    최대 조회 수
+	 * @return 보관 메시지 목록 (식별자 내림차순)
+	 */
+	public List<ArchivedMessage> readBefore(Long roomId, Long beforeId, int limit) {
+		long upper = beforeId == null ? Long.MAX_VALUE : beforeId;
+		MessageSegment.Index index = loadIndex(roomId);
+		List<MessageSegment.Block> blocks = index.blocks();
+		List<ArchivedMessage> result = new ArrayList<>(limit);
+		for (int b = index.lastBlockBefore(upper); b >= 0 && result.size() < limit; b--) {
+			collectNewestFirst(roomId, blocks.get(b), upper, 0, limit, result);
+		}
+		return result;
+	}
+
+	/**
+	 * 보관된 메시지를 최신순으로 {@code offset}개 건너뛰고 조회합니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @param offset 건너뛸 메시지 수
+	 * @param limit  최대 조회 수
+	 * @return 보관 메시지 목록 (식별자 내림차순)
+	 */
+	public List<ArchivedMessage> readPage(Long roomId, long offset, int limit) {
+		List<MessageSegment.Block> blocks = loadIndex(roomId).blocks();
+		List<ArchivedMessage> result = new ArrayList<>(limit);
+		long skip = offset;
+		for (int b = blocks.size() - 1; b >= 0 && result.size() < limit; b--) {
+			MessageSegment.Block block = blocks.get(b);
+			if (skip >= block.count()) {
+				skip -= block.count();
+				continue;
+			}
+			collectNewestFirst(roomId, block, Long.MAX_VALUE, (int)skip, limit, result);
+			skip = 0;
+		}
+		return result;
+	}
+
+	/**
+	 * 보관된 메시지 전체를 식별자 오름차순으로 블록 단위로 전달합니다.
+	 * 한 번에 한 블록만 메모리에 두므로 메시지 수와 무관하게 일정한 메모리로 전체 이력을 읽습니다.
+	 *
+	 * @param roomId   채팅방 식별자
+	 * @param consumer 블록마다 호출되는 처리기
+	 */
+	public void readAll(Long roomId, Consumer<List<ArchivedMessage>> consumer) {
+		for (MessageSegment.Block block : loadIndex(roomId).blocks()) {
+			MessageSegment.BlockView view = MessageSegment.decodeBlock(
+				storage.read(MessageSegment.dataKey(roomId), block.offset(), block.length()), block);
+			List<ArchivedMessage> messages = new ArrayList<>(view.size());
+			for (int i = 0; i < view.size(); i++) {
+				messages.add(view.message(i));
+			}
+			consumer.accept(messages);
+		}
+	}
+
+	private void collectNewestFirst(Long roomId, MessageSegment.Block block, long upper, int skip, int limit,
+		List<ArchivedMessage> result) {
+		MessageSegment.BlockView view = MessageSegment.decodeBlock(
+			storage.read(MessageSegment.dataKey(roomId), block.offset(), block.length()), block);
+		int skipped = 0;
+		for (int i = view.size() - 1; i >= 0 && result.size() < limit; i--) {
+			if (view.id(i) >= upper) {
+				continue;
+			}
+			if (skipped < skip) {
+				skipped++;
+				continue;
+			}
+			result.add(view.message(i));
+		}
+	}
+
+	private MessageSegment.Index loadIndex(Long roomId) {
+		MessageSegment.Index index = indexes.get(roomId);
+		if (index == null) {
+			index = MessageSegment.Index.from(storage.read(MessageSegment.indexKey(roomId)));
+			indexes.put(roomId, index);
+		}
+		return index;
+	}
+}
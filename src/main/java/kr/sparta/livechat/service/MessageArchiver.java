@@ -0,0 +1,103 @@
+package kr.sparta.livechat.service;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import kr.sparta.livechat.config.MessageArchiveProperties;
+import kr.sparta.livechat.config.SchedulingConfig;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 종료 후 일정 기간이 지난 채팅방의 메시지를 주기적으로 보관 세그먼트로 옮기는 클래스입니다.
+ * <p>
+ * 대상 채팅방을 식별자 순으로 {@code chunkSize}개씩 조회하고, {@link MessageArchiveService}로 채팅방마다 별도 트랜잭션에서 보관합니다.
+ * 한 채팅방의 보관이 실패해도 다음 채팅방을 계속 처리하며, 실패한 채팅방은 다음 주기에 다시 대상이 됩니다.
+ *
+ * 여러 노드에서 동시에 실행되지 않도록 {@link RedisLeaseService}로 lease 를 선점한 노드만 실행하며,
+ * 묶음마다 lease 를 연장하고 연장에 실패하면 즉시 중단합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MessageArchiver {
+
+	private static final String LEASE_NAME = "chatroom:message-archive";
+
+	private final MessageArchiveProperties properties;
+	private final ChatRoomRepository chatRoomRepository;
+	private final MessageArchiveService messageArchiveService;
+	private final RedisLeaseService redisLeaseService;
+
+	@Scheduled(fixedDelayString = "${chatroom.archive.interval-ms}", scheduler = SchedulingConfig.BATCH_SCHEDULER)
+	public void archiveClosedRooms() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+
+		Duration ttl = Duration.ofMillis(properties.getLeaseTtlMs());
+		String token;
+		try {
+			token = redisLeaseService.tryAcquire(LEASE_NAME, ttl);
+		} catch (RuntimeException e) {
+			log.warn("메시지 보관 lease 획득 실패: {}", e.getMessage());
+			return;
+		}
+		if (token == null) {
+			return;
+		}
+
+		try {
+			run(token, ttl);
+		} finally {
+			redisLeaseService.release(LEASE_NAME, token);
+		}
+	}
+
+	private void run(String token, Duration ttl) {
+		long started = System.currentTimeMillis();
+		LocalDateTime closedBefore = LocalDateTime.now().minusDays(properties.getClosedDays());
+		PageRequest page = PageRequest.of(0, properties.getChunkSize());
+		int roomCount = 0;
+		long messageCount = 0;
+		Long afterId = 0L;
+
+		while (true) {
+			List<Long> roomIds = chatRoomRepository.findArchivableRoomIds(closedBefore, afterId, page);
+			if (roomIds.isEmpty()) {
+				break;
+			}
+
+			for (Long roomId : roomIds) {
+				try {
+					messageCount += messageArchiveService.archive(roomId);
+					roomCount++;
+				} catch (RuntimeException e) {
+					log.warn("채팅방 메시지 보관 실패: roomId={}, {}", roomId, e.getMessage());
+				}
+			}
+			afterId = roomIds.get(roomIds.size() - 1);
+
+			if (!redisLeaseService.renew(LEASE_NAME, token, ttl)) {
+				log.warn("메시지 보관 lease 만료로 중단: lastRoomId={}", afterId);
+				break;
+			}
+		}
+
+		if (roomCount > 0) {
+			log.info("종료 채팅방 메시지 보관: rooms={}, messages={}, elapsedMs={}",
+				roomCount, messageCount, System.currentTimeMillis() - started);
+		}
+	}
+}
@@ -0,0 +1,117 @@
+package kr.sparta.livechat.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.sparta.livechat.dto.message.MessageSearchItem;
+import kr.sparta.livechat.dto.message.MessageSearchResponse;
+import kr.sparta.livechat.global.exception.CustomException;
+import kr.sparta.livechat.global.exception.ErrorCode;
+import kr.sparta.livechat.repository.ChatRoomParticipantRepository;
+import kr.sparta.livechat.repository.MessageRepository;
+import kr.sparta.livechat.repository.MessageRepository.MessageDocument;
+import kr.sparta.livechat.search.MessageSearchIndex;
+import kr.sparta.livechat.search.NgramTokenizer;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 채팅 메시지 검색 비즈니스 로직을 처리하는 서비스 클래스입니다.
+ * <p>
+ * 검색 범위는 요청한 사용자가 참여한 채팅방으로 제한합니다.
+ * {@link MessageSearchIndex}에서 n-gram 이 모두 포함된 후보를 최신순으로 받고,
+ * 후보 본문을 한 번에 조회하여 검색어가 연속으로 포함된 메시지만 반환합니다.
+ * 후보가 걸러져 결과가 부족하면 마지막 후보 이전부터 다시 후보를 받으며, 커서는 마지막으로 확인한 후보 식별자입니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Service
+@RequiredArgsConstructor
+public class MessageSearchService {
+
+	private static final int DEFAULT_SIZE = 20;
+	private static final int MAX_SIZE = 100;
+	private static final int MAX_QUERY_LENGTH = 100;
+	private static final int CANDIDATE_FACTOR = 4;
+	private static final int MAX_ROUNDS = 5;
+
+	private final MessageSearchIndex messageSearchIndex;
+	private final MessageRepository messageRepository;
+	private final ChatRoomParticipantRepository chatRoomParticipantRepository;
+
+	/**
+	 * 참여 중인 채팅방의 메시지를 검색합니다.
+	 *
+	 * @param query         검색어
+	 * @param cursor        이전 응답의 {@code nextCursor} (null이면 최신부터 조회)
+	 * @param size          조회할 메시지 개수 (null이면 {@value #DEFAULT_SIZE})
+	 * @param currentUserId 로그인한 사용자 ID
+	 * @return 메시지 검색 응답 DTO
+	 */
+	@Transactional(readOnly = true)
+	public MessageSearchResponse search(String query, Long cursor, Integer size, Long currentUserId) {
+		validateQuery(query);
+		if (cursor != null && cursor <= 0) {
+			throw new CustomException(ErrorCode.COMMON_BAD_PAGINATION);
+		}
+		if (size != null && (size <= 0 || size > MAX_SIZE)) {
+			throw new CustomException(ErrorCode.COMMON_BAD_PAGINATION);
+		}
+		int resolvedSize = size == null ? DEFAULT_SIZE : size;
+
+		List<Long> roomIds = chatRoomParticipantRepository.findRoomIdsByUserId(currentUserId);
+		Set<Long> rooms = Set.copyOf(roomIds);
+		int limit = resolvedSize * CANDIDATE_FACTOR;
+
+		List<MessageDocument> matched = new ArrayList<>();
+		Long before = cursor;
+		boolean exhausted = false;
+		for (int round = 0; round < MAX_ROUNDS && matched.size() <= resolvedSize; round++) {
+			List<Long> candidates = messageSearchIndex.search(roomIds, query, before, limit);
+			if (candidates.size() < limit) {
+				exhausted = true;
+			}
+			if (candidates.isEmpty()) {
+				break;
+			}
+			messageRepository.findDocumentsByIdIn(candidates).stream()
+				.filter(document -> rooms.contains(document.getRoomId()))
+				.filter(document -> NgramTokenizer.matches(document.getContent(), query))
+				.sorted(Comparator.comparing(MessageDocument::getId).reversed())
+				.forEach(matched::add);
+			before = candidates.get(candidates.size() - 1);
+			if (exhausted) {
+				break;
+			}
+		}
+
+		boolean hasNext = matched.size() > resolvedSize || !exhausted;
+		List<MessageDocument> page = matched.subList(0, Math.min(resolvedSize, matched.size()));
+		Long nextCursor = null;
+		if (hasNext) {
+			nextCursor = matched.size() > resolvedSize ? page.get(page.size() - 1).getId() : before;
+		}
+
+		return MessageSearchResponse.builder()
+			.query(query)
+			.size(resolvedSize)
+			.hasNext(hasNext)
+			.nextCursor(nextCursor)
+			.messageList(page.stream().map(MessageSearchItem::from).toList())
+			.build();
+	}
+
+	private void validateQuery(String query) {
+		if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH
+			|| NgramTokenizer.tokenize(query).isEmpty()) {
+			throw new CustomException(ErrorCode.MESSAGE_SEARCH_INVALID_QUERY);
+		}
+	}
+}
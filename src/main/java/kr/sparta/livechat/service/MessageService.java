@@ -10,6 +10,7 @@ import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import kr.sparta.livechat.archive.ArchivedMessage;
 import kr.sparta.livechat.domain.entity.Message;
 import kr.sparta.livechat.dto.message.ChatMessageListItem;
 import kr.sparta.livechat.dto.message.GetChatMessageListResponse;
@@ -26,6 +27,7 @@ import lombok.RequiredArgsConstructor;
  * 메시지 목록 조회는 무한 스크롤을 위해 커서(cursor) 기반으로 동작하며,
  * DB 조회는 최신순(DESC)으로 가져오되 화면에서는 시간순(ASC)이 자연스럽기 때문에 응답 매핑 단계에서 ASC로 재정렬합니다.
  * 커서는 마지막으로 조회한 메시지의 ID를 사용하며, 이를 통해 안정적이고 효율적인 페이징을 구현합니다.
+ * 메시지가 보관된 채팅방은 {@link MessageArchiveService}에서 같은 커서 규칙으로 조회합니다.
  * </p>
  *
  * @author 재원
@@ -41,6 +43,7 @@ public class MessageService {
 	private final MessageRepository messageRepository;
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatRoomParticipantRepository chatRoomParticipantRepository;
+	private final MessageArchiveService messageArchiveService;
 
 	/**
 	 * 채팅방 메시지 목록을 커서 기반으로 조회합니다.
@@ -69,6 +72,10 @@ public class MessageService {
 
 		int resolvedSize = resolveSize(size);
 
+		if (messageArchiveService.isArchived(chatRoomId)) {
+			return getArchivedMessageList(chatRoomId, cursor, resolvedSize);
+		}
+
 		Pageable pageable = PageRequest.of(
 			0,
 			resolvedSize,
@@ -98,6 +105,25 @@ public class MessageService {
 			.build();
 	}
 
+	private GetChatMessageListResponse getArchivedMessageList(Long chatRoomId, Long cursor, int resolvedSize) {
+		List<ArchivedMessage> archived = messageArchiveService.readBefore(chatRoomId, cursor, resolvedSize + 1);
+		boolean hasNext = archived.size() > resolvedSize;
+		List<ArchivedMessage> content = hasNext ? archived.subList(0, resolvedSize) : archived;
+
+		List<ChatMessageListItem> items = content.stream()
+			.sorted(Comparator.comparing(ArchivedMessage::id))
+			.map(ChatMessageListItem::from)
+			.toList();
+
+		return GetChatMessageListResponse.builder()
+			.chatRoomId(chatRoomId)
+			.size(resolvedSize)
+			.hasNext(hasNext)
+			.nextCursor(hasNext ? content.get(content.size() - 1).id() : null)
+			.messageList(items)
+			.build();
+	}
+
 	private void validateParticipant(Long chatRoomId, Long currentUserId) {
 		if (!chatRoomParticipantRepository.existsByRoomIdAndUserId(chatRoomId, currentUserId)) {
 			throw new CustomException(ErrorCode.CHATROOM_ACCESS_DENIED);
@@ -0,0 +1,27 @@
+package kr.sparta.livechat.service;
+
+import java.util.List;
+
+import kr.sparta.livechat.domain.entity.OutboxEvent;
+
+/**
+ * 아웃박스 이벤트를 전달받는 소비자 인터페이스입니다.
+ * <p>
+ * 전송 작업은 파티션마다 식별자 순으로 묶은 이벤트를 모든 소비자에게 차례로 전달한 뒤 아웃박스에서 삭제합니다.
+ * 소비자가 예외를 던지면 묶음 전체가 삭제되지 않고 다시 전달되므로, 소비자는 같은 이벤트를 중복 처리해도 안전해야 합니다.
+ * 검색 색인, 분석, 알림 등 새로운 연동은 이 인터페이스를 구현한 빈을 추가하여 연결합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public interface OutboxEventConsumer {
+
+	/**
+	 * 같은 파티션의 이벤트 묶음을 식별자 순으로 전달받습니다.
+	 *
+	 * @param events 식별자 순 이벤트 목록
+	 */
+	void consume(List<OutboxEvent> events);
+}
@@ -0,0 +1,125 @@
+package kr.sparta.livechat.service;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+import kr.sparta.livechat.config.OutboxProperties;
+import kr.sparta.livechat.domain.event.OutboxEventAppendedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 아웃박스 이벤트를 파티션 단위로 전송하는 전송 스레드를 관리하는 클래스입니다.
+ * <p>
+ * 기동 완료 후 {@code workers}개의 스레드를 시작하고, 파티션은 {@code partitionNo % workers}로 스레드에 나누어 맡깁니다.
+ * 각 스레드는 맡은 파티션을 돌며 묶음을 전송하고, 한 번이라도 가득 찬 묶음을 전송했으면 쉬지 않고 다시 확인합니다.
+ * 전송할 이벤트가 없으면 커밋 알림을 받거나 {@code pollIntervalMs}가 지날 때까지 대기합니다.
+ *
+ * 여러 노드가 같은 파티션을 맡더라도 파티션 잠금을 얻은 트랜잭션만 전송하므로 순서가 섞이지 않습니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+	private final OutboxProperties properties;
+	private final OutboxService outboxService;
+	private volatile List<Worker> workers = List.of();
+	private volatile boolean running;
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void start() {
+		outboxService.ensurePartitions();
+		running = true;
+		List<Worker> started = new ArrayList<>();
+		for (int index = 0; index < properties.getWorkers(); index++) {
+			Worker worker = new Worker(index);
+			started.add(worker);
+			Thread thread = new Thread(worker, "outbox-relay-" + index);
+			thread.setDaemon(true);
+			thread.start();
+		}
+		workers = List.copyOf(started);
+		log.info("아웃박스 전송 시작: partitions={}, workers={}", properties.getPartitions(), properties.getWorkers());
+	}
+
+	/**
+	 * 이벤트가 기록된 트랜잭션이 커밋되면 해당 파티션을 맡은 스레드를 깨웁니다.
+	 */
+	@TransactionalEventListener
+	public void onAppended(OutboxEventAppendedEvent event) {
+		List<Worker> current = workers;
+		if (current.isEmpty()) {
+			return;
+		}
+		current.get(event.getPartitionNo() % current.size()).wake();
+	}
+
+	@PreDestroy
+	public void stop() {
+		running = false;
+		workers.forEach(Worker::wake);
+	}
+
+	private final class Worker implements Runnable {
+
+		private final int index;
+		private final Semaphore signal = new Semaphore(0);
+
+		private Worker(int index) {
+			this.index = index;
+		}
+
+		private void wake() {
+			if (signal.availablePermits() == 0) {
+				signal.release();
+			}
+		}
+
+		@Override
+		public void run() {
+			while (running) {
+				boolean full = false;
+				for (int partitionNo = index; partitionNo < properties.getPartitions();
+					partitionNo += properties.getWorkers()) {
+					full |= relay(partitionNo) >= properties.getBatchSize();
+				}
+				if (!full) {
+					await();
+				}
+			}
+		}
+
+		private int relay(int partitionNo) {
+			try {
+				return outboxService.relay(partitionNo);
+			} catch (RuntimeException e) {
+				log.warn("아웃박스 전송 실패, 다음 주기에 재시도: partition={}, {}", partitionNo, e.getMessage());
+				return 0;
+			}
+		}
+
+		private void await() {
+			try {
+				signal.tryAcquire(properties.getPollIntervalMs(), TimeUnit.MILLISECONDS);
+				signal.drainPermits();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				running = false;
+			}
+		}
+	}
+}
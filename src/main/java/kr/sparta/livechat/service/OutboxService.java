@@ -0,0 +1,134 @@
+package kr.sparta.livechat.service;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import kr.sparta.livechat.config.OutboxProperties;
+import kr.sparta.livechat.domain.entity.OutboxEvent;
+import kr.sparta.livechat.domain.entity.OutboxPartition;
+import kr.sparta.livechat.domain.event.OutboxEventAppendedEvent;
+import kr.sparta.livechat.domain.role.OutboxEventType;
+import kr.sparta.livechat.repository.OutboxEventRepository;
+import kr.sparta.livechat.repository.OutboxPartitionRepository;
+
+/**
+ * 채팅 이벤트 아웃박스의 기록과 전송을 담당하는 서비스 클래스입니다.
+ * <p>
+ * 이벤트는 호출한 트랜잭션 안에서 기록되므로 메시지 저장이 커밋된 경우에만 전송되고, 커밋 이후 전송이 실패해도 유실되지 않습니다.
+ * 채팅방은 식별자로 파티션에 고정되며, 전송은 파티션 행을 {@code FOR UPDATE SKIP LOCKED}로 잠근 트랜잭션에서
+ * 식별자 순으로 묶음을 읽어 소비자에게 전달하고 삭제합니다.
+ * 한 파티션은 동시에 하나의 트랜잭션만 처리하므로 같은 채팅방의 이벤트는 기록 순서대로 전송되고,
+ * 다른 노드/스레드는 잠긴 파티션을 기다리지 않고 건너뜁니다.
+ *
+ * 전송 후 커밋 전에 실패하면 묶음이 다시 전송될 수 있으므로(at-least-once) 소비자는 이벤트 식별자로 중복을 걸러야 합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Service
+public class OutboxService {
+
+	private final OutboxProperties properties;
+	private final OutboxEventRepository outboxEventRepository;
+	private final OutboxPartitionRepository outboxPartitionRepository;
+	private final List<OutboxEventConsumer> consumers;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ObjectWriter objectWriter;
+
+	public OutboxService(
+		OutboxProperties properties,
+		OutboxEventRepository outboxEventRepository,
+		OutboxPartitionRepository outboxPartitionRepository,
+		List<OutboxEventConsumer> consumers,
+		ApplicationEventPublisher eventPublisher,
+		ObjectMapper objectMapper
+	) {
+		this.properties = properties;
+		this.outboxEventRepository = outboxEventRepository;
+		this.outboxPartitionRepository = outboxPartitionRepository;
+		this.consumers = consumers;
+		this.eventPublisher = eventPublisher;
+		this.objectWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+	}
+
+	/**
+	 * 현재 트랜잭션에 아웃박스 이벤트를 기록합니다.
+	 * 같은 채팅방의 이벤트 순서는 기록 시점의 식별자 순서를 따르므로, 호출자는 채팅방 단위 잠금을 잡은 뒤 호출해야 합니다.
+	 *
+	 * @param roomId    채팅방 식별자
+	 * @param eventType 이벤트 유형
+	 * @param payload   구독자에게 전송할 본문 (JSON 으로 직렬화)
+	 */
+	@Transactional(propagation = Propagation.MANDATORY)
+	public void append(Long roomId, OutboxEventType eventType, Object payload) {
+		int partitionNo = partitionOf(roomId);
+		outboxEventRepository.save(OutboxEvent.of(partitionNo, roomId, eventType, serialize(payload)));
+		eventPublisher.publishEvent(new OutboxEventAppendedEvent(partitionNo));
+	}
+
+	/**
+	 * 파티션의 이벤트를 최대 {@code batchSize}건 전송하고 삭제합니다.
+	 *
+	 * @param partitionNo 파티션 번호
+	 * @return 전송한 이벤트 수, 다른 트랜잭션이 파티션을 처리 중이면 0
+	 */
+	@Transactional
+	public int relay(int partitionNo) {
+		if (outboxPartitionRepository.tryLock(partitionNo).isEmpty()) {
+			return 0;
+		}
+
+		List<OutboxEvent> events = outboxEventRepository.findBatch(
+			partitionNo, PageRequest.of(0, properties.getBatchSize()));
+		if (events.isEmpty()) {
+			return 0;
+		}
+
+		for (OutboxEventConsumer consumer : consumers) {
+			consumer.consume(events);
+		}
+		outboxEventRepository.deleteAllByIdInBatch(events.stream().map(OutboxEvent::getId).toList());
+		return events.size();
+	}
+
+	/**
+	 * 설정된 파티션 수만큼 파티션 행이 있도록 없는 행을 생성합니다.
+	 */
+	@Transactional
+	public void ensurePartitions() {
+		Set<Integer> existing = outboxPartitionRepository.findAll().stream()
+			.map(OutboxPartition::getPartitionNo)
+			.collect(Collectors.toSet());
+		outboxPartitionRepository.saveAll(IntStream.range(0, properties.getPartitions())
+			.filter(partitionNo -> !existing.contains(partitionNo))
+			.mapToObj(OutboxPartition::of)
+			.toList());
+	}
+
+	public int partitionOf(Long roomId) {
+		return (int)Math.floorMod(roomId, (long)properties.getPartitions());
+	}
+
+	private String serialize(Object payload) {
+		try {
+			return objectWriter.writeValueAsString(payload);
+		} catch (JsonProcessingException e) {
+			throw new IllegalStateException("아웃박스 이벤트 직렬화 실패", e);
+		}
+	}
+}
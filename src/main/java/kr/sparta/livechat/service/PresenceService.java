@@ -0,0 +1,239 @@
+package kr.sparta.livechat.service;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+
+import jakarta.annotation.PostConstruct;
+import kr.sparta.livechat.config.PresenceProperties;
+import kr.sparta.livechat.domain.role.ChatRoomStatus;
+import kr.sparta.livechat.dto.socket.PresenceEventResponse;
+import kr.sparta.livechat.repository.ChatRoomParticipantRepository;
+import kr.sparta.livechat.repository.ChatRoomParticipantRepository.RoomMember;
+import kr.sparta.livechat.socket.OutboundPriority;
+import kr.sparta.livechat.socket.RoomDestination;
+import kr.sparta.livechat.socket.SessionRegistry;
+import kr.sparta.livechat.socket.UserPresenceEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 채팅방 참여자의 접속 상태(presence)를 관리하고 브로드캐스트하는 서비스 클래스입니다.
+ * <p>
+ * {@link SessionRegistry}가 발행하는 {@link UserPresenceEvent}를 기준으로 접속 상태를 판단합니다.
+ * 마지막 연결이 끊기면 바로 오프라인으로 처리하지 않고 {@code gracePeriodMs} 동안 대기하며,
+ * 그 사이에 다시 연결되면 변경이 없었던 것으로 간주하여 재연결 flapping 을 걸러냅니다.
+ *
+ * 확정된 변경은 사용자별 최신 상태만 보관했다가 {@code flushIntervalMs} 주기로 모아,
+ * 사용자가 참여 중인 OPEN 채팅방마다 하나의 PRESENCE 프레임(online/offline 목록)으로 전송합니다.
+ * 구독 세션이 없는 채팅방에는 전송하지 않으며, 채팅방을 새로 구독한 경우 다음 주기에 현재 상태 전체(snapshot)를 전송합니다.
+ * PRESENCE 프레임은 폐기 가능 이벤트로 전송하므로 느린 소비자에게는 채팅방별 최신 프레임만 전달됩니다.
+ *
+ * {@code redisEnabled} 설정 시 {@link RedisPresenceStore}로 전체 노드 기준 상태를 집계하고,
+ * Pub/Sub 으로 받은 전환만 브로드캐스트하여 각 노드가 자신의 구독자에게 전달하도록 합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PresenceService {
+
+	private static final String PRESENCE_EVENT = "PRESENCE";
+
+	private final SessionRegistry sessionRegistry;
+	private final ChatRoomParticipantRepository participantRepository;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final PresenceProperties properties;
+	private final ObjectProvider<RedisPresenceStore> redisPresenceStoreProvider;
+
+	private final Set<Long> announcedUsers = ConcurrentHashMap.newKeySet();
+	private final Map<Long, Long> pendingOffline = new ConcurrentHashMap<>();
+	private final Map<Long, Boolean> pendingChanges = new ConcurrentHashMap<>();
+	private final Set<Long> snapshotRooms = ConcurrentHashMap.newKeySet();
+
+	private RedisPresenceStore redisPresenceStore;
+
+	@PostConstruct
+	void init() {
+		redisPresenceStore = redisPresenceStoreProvider.getIfAvailable();
+		if (redisPresenceStore != null) {
+			redisPresenceStore.subscribe(pendingChanges::put);
+		}
+	}
+
+	/**
+	 * 사용자의 첫 연결/마지막 연결 종료를 처리합니다.
+	 * 유예 시간 안에 다시 연결된 경우 오프라인 예약만 취소하고 변경을 전송하지 않습니다.
+	 */
+	@EventListener
+	public void onUserPresence(UserPresenceEvent event) {
+		Long userId = event.getUserId();
+		if (!event.isOnline()) {
+			pendingOffline.put(userId, System.currentTimeMillis() + properties.getGracePeriodMs());
+			return;
+		}
+
+		if (pendingOffline.remove(userId) != null) {
+			log.debug("재연결로 오프라인 전환 취소: userId={}", userId);
+			return;
+		}
+		if (announcedUsers.add(userId)) {
+			announce(userId, true);
+		}
+	}
+
+	/**
+	 * 채팅방을 새로 구독하면 다음 전송 주기에 현재 접속 상태 전체를 전송하도록 예약합니다.
+	 */
+	@EventListener
+	public void onSubscribe(SessionSubscribeEvent event) {
+		Long roomId = RoomDestination.parseRoomId(SimpMessageHeaderAccessor.getDestination(event.getMessage().getHeaders()));
+		if (roomId != null) {
+			snapshotRooms.add(roomId);
+		}
+	}
+
+	/**
+	 * 사용자가 현재 접속 중인지 여부를 반환합니다.
+	 * 오프라인 유예 중인 사용자는 접속 중으로 판단합니다.
+	 */
+	public boolean isOnline(Long userId) {
+		if (sessionRegistry.isOnline(userId) || pendingOffline.containsKey(userId)) {
+			return true;
+		}
+		return redisPresenceStore != null && redisPresenceStore.isOnline(userId);
+	}
+
+	/**
+	 * 유예 시간이 지난 오프라인 예약을 확정하고, 모인 변경분을 채팅방 단위로 전송합니다.
+	 */
+	@Scheduled(fixedDelayString = "${websocket.presence.flush-interval-ms}")
+	public void flush() {
+		confirmExpiredOffline();
+
+		Map<Long, Boolean> changes = drain(pendingChanges);
+		Set<Long> snapshots = new HashSet<>();
+		for (Long roomId : Set.copyOf(snapshotRooms)) {
+			snapshotRooms.remove(roomId);
+			snapshots.add(roomId);
+		}
+		if (changes.isEmpty() && snapshots.isEmpty()) {
+			return;
+		}
+
+		Map<Long, RoomDiff> diffs = new HashMap<>();
+		if (!changes.isEmpty()) {
+			for (RoomMember member : participantRepository.findRoomMembersByUserIds(changes.keySet(),
+				ChatRoomStatus.OPEN)) {
+				RoomDiff diff = diffs.computeIfAbsent(member.getRoomId(), key -> new RoomDiff());
+				if (changes.get(member.getUserId())) {
+					diff.online.add(member.getUserId());
+				} else {
+					diff.offline.add(member.getUserId());
+				}
+			}
+		}
+
+		for (Long roomId : snapshots) {
+			if (sessionRegistry.countRoomSessions(roomId) > 0) {
+				sendSnapshot(roomId);
+			}
+		}
+		diffs.forEach((roomId, diff) -> {
+			if (!snapshots.contains(roomId) && sessionRegistry.countRoomSessions(roomId) > 0) {
+				send(roomId, diff.online, diff.offline, false);
+			}
+		});
+	}
+
+	/**
+	 * Redis 집계를 사용하는 경우 로컬 접속 사용자의 heartbeat 를 갱신하고 만료된 사용자를 정리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${websocket.presence.heartbeat-interval-ms}")
+	public void heartbeat() {
+		if (redisPresenceStore == null) {
+			return;
+		}
+		redisPresenceStore.heartbeat(Set.copyOf(announcedUsers));
+		redisPresenceStore.sweepExpired();
+	}
+
+	private void confirmExpiredOffline() {
+		long now = System.currentTimeMillis();
+		pendingOffline.forEach((userId, deadline) -> {
+			if (deadline > now || !pendingOffline.remove(userId, deadline)) {
+				return;
+			}
+			if (!sessionRegistry.isOnline(userId) && announcedUsers.remove(userId)) {
+				announce(userId, false);
+			}
+		});
+	}
+
+	private void announce(Long userId, boolean online) {
+		if (redisPresenceStore == null) {
+			pendingChanges.put(userId, online);
+			return;
+		}
+		if (online) {
+			redisPresenceStore.markOnline(userId);
+		} else {
+			redisPresenceStore.markOffline(userId);
+		}
+	}
+
+	private void sendSnapshot(Long roomId) {
+		List<Long> online = participantRepository.findUserIdsByRoomId(roomId).stream()
+			.filter(this::isOnline)
+			.toList();
+		send(roomId, online, List.of(), true);
+	}
+
+	private void send(Long roomId, List<Long> online, List<Long> offline, boolean snapshot) {
+		messagingTemplate.convertAndSend(
+			RoomDestination.of(roomId),
+			PresenceEventResponse.builder()
+				.event(PRESENCE_EVENT)
+				.roomId(roomId)
+				.online(online)
+				.offline(offline)
+				.snapshot(snapshot)
+				.sentAt(LocalDateTime.now())
+				.build(),
+			OutboundPriority.droppable("presence:" + roomId)
+		);
+	}
+
+	private Map<Long, Boolean> drain(Map<Long, Boolean> source) {
+		Map<Long, Boolean> drained = new HashMap<>();
+		for (Long userId : Set.copyOf(source.keySet())) {
+			Boolean online = source.remove(userId);
+			if (online != null) {
+				drained.put(userId, online);
+			}
+		}
+		return drained;
+	}
+
+	private static final class RoomDiff {
+		private final List<Long> online = new ArrayList<>();
+		private final List<Long> offline = new ArrayList<>();
+	}
+}
@@ -0,0 +1,322 @@
+package kr.sparta.livechat.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.sparta.livechat.domain.event.ProductsChangedEvent;
+import kr.sparta.livechat.domain.role.ProductImportFormat;
+import kr.sparta.livechat.domain.role.ProductStatus;
+import kr.sparta.livechat.dto.product.BulkProductImportResponse;
+import kr.sparta.livechat.dto.product.BulkProductRowResult;
+import kr.sparta.livechat.dto.product.BulkProductStatusRequest;
+import kr.sparta.livechat.dto.product.BulkProductStatusResponse;
+import kr.sparta.livechat.dto.product.CreateProductRequest;
+import kr.sparta.livechat.entity.Role;
+import kr.sparta.livechat.entity.User;
+import kr.sparta.livechat.global.exception.CustomException;
+import kr.sparta.livechat.global.exception.ErrorCode;
+import kr.sparta.livechat.repository.ProductRepository;
+import kr.sparta.livechat.repository.UserRepository;
+import kr.sparta.livechat.service.ProductBulkWriter.ImportRow;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 판매자의 상품 일괄 등록과 상태 일괄 변경을 처리하는 서비스 클래스입니다.
+ * <p>
+ * 일괄 등록은 요청 본문을 한 행씩 읽어 검증하고, 검증을 통과한 행을 {@code CHUNK_SIZE}개씩 {@link ProductBulkWriter}로 저장합니다.
+ * 한 번에 한 묶음만 메모리에 두므로 파일 크기와 무관하게 일정한 메모리로 동작하며,
+ * 행마다 등록 결과(생성된 상품 식별자 또는 실패 사유)를 반환합니다.
+ * 상태 일괄 변경은 판매자가 소유한 상품만 골라 한 번의 UPDATE 로 변경합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ProductBulkService {
+
+	static final int CHUNK_SIZE = 500;
+	static final int MAX_ROWS = 10000;
+	private static final String CSV_HEADER = "name,price,description";
+	private static final char UTF8_BOM = '\uFEFF';
+
+	private final ProductBulkWriter productBulkWriter;
+	private final ProductRepository productRepository;
+	private final UserRepository userRepository;
+	private final ApplicationEventPublisher eventPublisher;
+	private final ObjectMapper objectMapper;
+
+	/**
+	 * 요청 본문의 상품 목록을 일괄 등록합니다.
+	 * <p>
+	 * 검증에 실패하거나 이미 등록된 상품명인 행은 건너뛰고 결과에 사유를 남깁니다.
+	 * 최대 {@value #MAX_ROWS}행까지 처리하며, 파일 중간에 형식 오류가 있으면 그 이전 행까지만 처리합니다.
+	 * </p>
+	 *
+	 * @param body          상품 목록 본문
+	 * @param format        본문 형식
+	 * @param currentUserId JWT 인증을 통해 식별된 사용자 식별자
+	 * @return 행마다의 등록 결과
+	 * @throws CustomException 판매자가 아니거나, CSV 헤더가 올바르지 않은 경우
+	 */
+	public BulkProductImportResponse importProducts(InputStream body, ProductImportFormat format, Long currentUserId) {
+		User seller = getSellerOrThrow(currentUserId);
+		ImportContext context = new ImportContext(seller.getId());
+
+		try {
+			if (format == ProductImportFormat.CSV) {
+				readCsv(body, context);
+			} else {
+				readJson(body, context);
+			}
+		} catch (IOException e) {
+			log.warn("상품 일괄 등록 파일 읽기 중단: sellerId={}, rows={}, {}",
+				seller.getId(), context.rowNumber, e.getMessage());
+			context.completed = false;
+		}
+		context.flush();
+
+		List<BulkProductRowResult> results = context.results.stream()
+			.sorted(Comparator.comparingInt(BulkProductRowResult::getRow))
+			.toList();
+		int created = (int)results.stream().filter(BulkProductRowResult::isCreated).count();
+		return BulkProductImportResponse.builder()
+			.total(results.size())
+			.created(created)
+			.failed(results.size() - created)
+			.completed(context.completed)
+			.results(results)
+			.build();
+	}
+
+	/**
+	 * 판매자가 소유한 여러 상품의 상태를 한 번에 변경합니다.
+	 *
+	 * @param request       상태 일괄 변경 요청
+	 * @param currentUserId JWT 인증을 통해 식별된 사용자 식별자
+	 * @return 변경된 상품과 변경하지 못한 상품 목록
+	 * @throws CustomException 400(요청 값 오류, 삭제 상태로 변경), 403(판매자 아님), 404(사용자 없음)
+	 */
+	@Transactional
+	public BulkProductStatusResponse updateStatus(BulkProductStatusRequest request, Long currentUserId) {
+		if (request == null || request.getProductIds() == null || request.getProductIds().isEmpty()
+			|| request.getStatus() == null || request.getStatus() == ProductStatus.DELETED) {
+			throw new CustomException(ErrorCode.PRODUCT_INVALID_INPUT);
+		}
+		User seller = getSellerOrThrow(currentUserId);
+
+		Set<Long> requested = new LinkedHashSet<>(request.getProductIds());
+		requested.remove(null);
+		if (requested.isEmpty()) {
+			throw new CustomException(ErrorCode.PRODUCT_INVALID_INPUT);
+		}
+		Set<Long> owned = new HashSet<>(
+			productRepository.findOwnedIds(seller.getId(), requested, ProductStatus.DELETED));
+
+		List<Long> updatedIds = requested.stream().filter(owned::contains).toList();
+		List<Long> notFoundIds = requested.stream().filter(id -> !owned.contains(id)).toList();
+		if (!updatedIds.isEmpty()) {
+			productRepository.updateStatusByIdIn(updatedIds, request.getStatus(), LocalDateTime.now(),
+				ProductStatus.DELETED);
+			eventPublisher.publishEvent(new ProductsChangedEvent(updatedIds, request.getStatus()));
+		}
+
+		return BulkProductStatusResponse.builder()
+			.status(request.getStatus())
+			.updated(updatedIds.size())
+			.updatedIds(updatedIds)
+			.notFoundIds(notFoundIds)
+			.build();
+	}
+
+	private User getSellerOrThrow(Long currentUserId) {
+		if (currentUserId == null || currentUserId <= 0) {
+			throw new CustomException(ErrorCode.AUTH_USER_NOT_FOUND);
+		}
+
+		User user = userRepository.findById(currentUserId)
+			.orElseThrow(() -> new CustomException(ErrorCode.AUTH_USER_NOT_FOUND));
+
+		if (user.getRole() != Role.SELLER) {
+			throw new CustomException(ErrorCode.PRODUCT_ACCESS_DENIED);
+		}
+
+		return user;
+	}
+
+	/**
+	 * JSON 배열 또는 JSON Lines 를 객체 단위로 읽습니다. 전체 본문을 메모리에 올리지 않습니다.
+	 */
+	private void readJson(InputStream body, ImportContext context) throws IOException {
+		try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+			JsonToken token = parser.nextToken();
+			if (token == JsonToken.START_ARRAY) {
+				token = parser.nextToken();
+			}
+			while (token != null && token != JsonToken.END_ARRAY && context.hasCapacity()) {
+				JsonNode node = objectMapper.readTree(parser);
+				context.add(node.isObject() ? fromJson(node) : null);
+				token = parser.nextToken();
+			}
+		}
+	}
+
+	/**
+	 * 헤더가 {@code name,price,description}인 CSV 를 한 줄씩 읽습니다.
+	 */
+	private void readCsv(InputStream body, ImportContext context) throws IOException {
+		BufferedReader reader = new BufferedReader(new InputStreamReader(body, StandardCharsets.UTF_8));
+		String header = reader.readLine();
+		if (header != null && !header.isEmpty() && header.charAt(0) == UTF8_BOM) {
+			header = header.substring(1);
+		}
+		if (header == null || !CSV_HEADER.equals(header.replace(" ", "").toLowerCase(Locale.ROOT))) {
+			throw new CustomException(ErrorCode.PRODUCT_IMPORT_INVALID_FILE);
+		}
+
+		String line;
+		while ((line = reader.readLine()) != null) {
+			if (line.isBlank()) {
+				continue;
+			}
+			if (!context.hasCapacity()) {
+				break;
+			}
+			List<String> fields = parseCsvLine(line);
+			context.add(fields == null || fields.size() != 3 ? null : fromCsv(fields));
+		}
+	}
+
+	private CreateProductRequest fromJson(JsonNode node) {
+		JsonNode name = node.get("name");
+		JsonNode price = node.get("price");
+		JsonNode description = node.get("description");
+		return new CreateProductRequest(
+			name != null && name.isTextual() ? name.asText() : null,
+			price != null && price.isIntegralNumber() && price.canConvertToInt() ? price.intValue() : null,
+			description != null && description.isTextual() ? description.asText() : null);
+	}
+
+	private CreateProductRequest fromCsv(List<String> fields) {
+		Integer price;
+		try {
+			price = Integer.valueOf(fields.get(1).trim());
+		} catch (NumberFormatException e) {
+			price = null;
+		}
+		return new CreateProductRequest(fields.get(0), price, fields.get(2));
+	}
+
+	/**
+	 * 큰따옴표로 감싼 필드와 이스케이프된 큰따옴표({@code ""})를 지원하는 CSV 한 줄 파서입니다.
+	 *
+	 * @return 필드 목록 (따옴표가 닫히지 않았으면 null)
+	 */
+	private List<String> parseCsvLine(String line) {
+		List<String> fields = new ArrayList<>();
+		StringBuilder field = new StringBuilder();
+		boolean quoted = false;
+		for (int i = 0; i < line.length(); i++) {
+			char c = line.charAt(i);
+			if (quoted) {
+				if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+					field.append('"');
+					i++;
+				} else if (c == '"') {
+					quoted = false;
+				} else {
+					field.append(c);
+				}
+			} else if (c == '"') {
+				quoted = true;
+			} else if (c == ',') {
+				fields.add(field.toString());
+				field.setLength(0);
+			} else {
+				field.append(c);
+			}
+		}
+		if (quoted) {
+			return null;
+		}
+		fields.add(field.toString());
+		return fields;
+	}
+
+	private static boolean isValid(CreateProductRequest request) {
+		return request != null
+			&& request.getName() != null && !request.getName().isBlank() && request.getName().length() <= 100
+			&& request.getPrice() != null && request.getPrice() >= 0
+			&& request.getDescription() != null && !request.getDescription().isBlank()
+			&& request.getDescription().length() <= 500;
+	}
+
+	/**
+	 * 일괄 등록 진행 상태입니다. 검증을 통과한 행을 묶음 크기만큼 모아 저장합니다.
+	 */
+	private final class ImportContext {
+
+		private final Long sellerId;
+		private final List<ImportRow> pending = new ArrayList<>(CHUNK_SIZE);
+		private final List<BulkProductRowResult> results = new ArrayList<>();
+		private int rowNumber;
+		private boolean completed = true;
+
+		private ImportContext(Long sellerId) {
+			this.sellerId = sellerId;
+		}
+
+		boolean hasCapacity() {
+			if (rowNumber < MAX_ROWS) {
+				return true;
+			}
+			completed = false;
+			return false;
+		}
+
+		void add(CreateProductRequest request) {
+			rowNumber++;
+			if (!isValid(request)) {
+				results.add(BulkProductRowResult.failed(rowNumber, request == null ? null : request.getName(),
+					ErrorCode.PRODUCT_INVALID_INPUT.getCode()));
+				return;
+			}
+			pending.add(new ImportRow(rowNumber, request));
+			if (pending.size() >= CHUNK_SIZE) {
+				flush();
+			}
+		}
+
+		void flush() {
+			if (pending.isEmpty()) {
+				return;
+			}
+			results.addAll(productBulkWriter.insertChunk(sellerId, List.copyOf(pending)));
+			pending.clear();
+		}
+	}
+}
@@ -0,0 +1,96 @@
+package kr.sparta.livechat.service;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.sparta.livechat.domain.event.ProductsChangedEvent;
+import kr.sparta.livechat.domain.role.ProductStatus;
+import kr.sparta.livechat.dto.product.BulkProductRowResult;
+import kr.sparta.livechat.dto.product.CreateProductRequest;
+import kr.sparta.livechat.global.exception.ErrorCode;
+import kr.sparta.livechat.repository.ProductJdbcRepository;
+import kr.sparta.livechat.repository.ProductRepository;
+import kr.sparta.livechat.repository.ProductRepository.ProductIdName;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 일괄 등록 상품을 묶음 단위로 저장하는 서비스 클래스입니다.
+ * <p>
+ * 묶음마다 한 번의 조회로 판매자의 기존 상품명과 중복을 확인하고, 중복이 아닌 상품을 한 번의 INSERT 로 저장한 뒤
+ * 생성된 식별자를 상품명으로 한 번에 조회합니다. 묶음마다 트랜잭션이 나뉘므로 앞선 묶음은 이후 묶음의 실패와 관계없이 유지되며,
+ * 커밋 후 캐시와 검색 색인 갱신을 위해 {@link ProductsChangedEvent}를 한 번 발행합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductBulkWriter {
+
+	private final ProductRepository productRepository;
+	private final ProductJdbcRepository productJdbcRepository;
+	private final ApplicationEventPublisher eventPublisher;
+
+	/**
+	 * 검증을 통과한 상품 묶음을 저장합니다.
+	 *
+	 * @param sellerId 판매자 식별자
+	 * @param rows     파일 내 행 번호와 상품 정보 목록
+	 * @return 행마다의 처리 결과 (입력 순서)
+	 */
+	@Transactional
+	public List<BulkProductRowResult> insertChunk(Long sellerId, List<ImportRow> rows) {
+		Set<String> names = new HashSet<>();
+		rows.forEach(row -> names.add(row.request().getName()));
+		Set<String> taken = new HashSet<>(productRepository.findNamesBySellerIdAndNameIn(sellerId, names));
+
+		List<ImportRow> accepted = new ArrayList<>();
+		for (ImportRow row : rows) {
+			if (taken.add(row.request().getName())) {
+				accepted.add(row);
+			}
+		}
+
+		Map<String, Long> createdIds = new HashMap<>();
+		if (!accepted.isEmpty()) {
+			productJdbcRepository.insertAll(sellerId, accepted.stream().map(ImportRow::request).toList(),
+				LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+			List<String> acceptedNames = accepted.stream().map(row -> row.request().getName()).toList();
+			for (ProductIdName created : productRepository.findIdsBySellerIdAndNameIn(sellerId, acceptedNames)) {
+				createdIds.merge(created.getName(), created.getId(), Math::max);
+			}
+			eventPublisher.publishEvent(new ProductsChangedEvent(List.copyOf(createdIds.values()), ProductStatus.ONSALE));
+		}
+
+		Set<ImportRow> acceptedRows = Set.copyOf(accepted);
+		List<BulkProductRowResult> results = new ArrayList<>(rows.size());
+		for (ImportRow row : rows) {
+			String name = row.request().getName();
+			results.add(acceptedRows.contains(row)
+				? BulkProductRowResult.created(row.row(), name, createdIds.get(name))
+				: BulkProductRowResult.failed(row.row(), name, ErrorCode.PRODUCT_ALREADY_EXISTS.getCode()));
+		}
+		return results;
+	}
+
+	/**
+	 * 일괄 등록 파일의 행 하나입니다.
+	 *
+	 * @param row     파일 내 행 번호 (1부터, CSV 헤더 제외)
+	 * @param request 상품 정보
+	 */
+	public record ImportRow(int row, CreateProductRequest request) {
+	}
+}
@@ -0,0 +1,374 @@
+package kr.sparta.livechat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.sparta.livechat.config.ProductCacheProperties;
+import kr.sparta.livechat.domain.event.ProductChangedEvent;
+import kr.sparta.livechat.domain.event.ProductsChangedEvent;
+import kr.sparta.livechat.dto.product.GetProductDetailResponse;
+import kr.sparta.livechat.dto.product.GetProductListResponse;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품 상세/목록 조회 결과를 노드 로컬 캐시와 Redis 두 단계로 캐시합니다.
+ * <p>
+ * 조회는 로컬 캐시, Redis, DB 순으로 확인하며, 아래 단계에서 읽은 값은 위 단계에 채웁니다.
+ * 같은 키를 동시에 조회하면 한 요청만 Redis/DB 를 읽고 나머지는 그 결과를 기다리므로(single-flight)
+ * 캐시가 비는 순간 몰린 요청이 DB 로 그대로 전달되지 않습니다.
+ * 목록은 앞쪽 {@code listPages}개 페이지만 캐시합니다.
+ *
+ * {@code product:detail:{productId}}: 상품 상세 JSON
+ * {@code product:list:{page}:{size}}: 상품 목록 페이지 JSON
+ * {@code product:list:keys}: 저장된 목록 페이지 키 SET (무효화 시 한 번에 삭제)
+ * {@code product:cache:version}: 무효화마다 증가하는 캐시 버전
+ *
+ * 상품이 변경되면 커밋 이후 캐시 버전을 올리고 해당 상품 상세와 모든 목록 페이지를 Redis 에서 삭제하며,
+ * Pub/Sub 채널로 알려 모든 노드가 로컬 캐시를 비우도록 합니다.
+ * Redis 에는 값을 읽을 때 함께 읽은 버전이 그대로일 때만 저장하므로(Lua 스크립트로 확인 후 저장),
+ * 다른 노드에서 무효화 이전에 시작된 조회가 무효화 이후에 오래된 값을 저장하지 않습니다.
+ * 이 노드에서 무효화 도중 진행 중이던 조회 결과는 로컬 캐시에도 저장하지 않으며,
+ * 알림을 놓친 노드도 {@code localTtlMs} 이후에는 Redis 의 값을 다시 읽습니다.
+ * Redis 를 사용할 수 없으면 로컬 캐시와 DB 만으로 동작합니다.
+ *
+ * 조회 결과는 {@code livechat.product.cache.requests}(cache, result=local|redis|miss)로,
+ * 적중률은 {@code livechat.product.cache.hit.ratio}(cache)로 집계합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+public class ProductCache {
+
+	private static final String DETAIL_KEY_PREFIX = "product:detail:";
+	private static final String LIST_KEY_PREFIX = "product:list:";
+	private static final String LIST_KEYS_KEY = "product:list:keys";
+	private static final String VERSION_KEY = "product:cache:version";
+	private static final String INITIAL_VERSION = "0";
+	private static final RedisScript<Long> WRITE_SCRIPT = new DefaultRedisScript<>(
+		"if (redis.call('get', KEYS[1]) or '0') ~= ARGV[1] then return 0 end "
+			+ "redis.call('set', KEYS[2], ARGV[2], 'px', ARGV[3]) "
+			+ "if #KEYS > 2 then redis.call('sadd', KEYS[3], KEYS[2]) end "
+			+ "return 1",
+		Long.class);
+	private static final ChannelTopic TOPIC = new ChannelTopic("product:cache:invalidate");
+	private static final String ALL = "*";
+
+	private final ProductCacheProperties properties;
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final ObjectMapper objectMapper;
+	private final ObjectWriter objectWriter;
+	private final LocalCache localCache;
+	private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+	private final AtomicLong generation = new AtomicLong();
+	private final CacheMetrics detailMetrics;
+	private final CacheMetrics listMetrics;
+
+	public ProductCache(
+		ProductCacheProperties properties,
+		StringRedisTemplate redisTemplate,
+		RedisMessageListenerContainer listenerContainer,
+		MeterRegistry meterRegistry,
+		ObjectMapper objectMapper
+	) {
+		this.properties = properties;
+		this.redisTemplate = redisTemplate;
+		this.listenerContainer = listenerContainer;
+		this.objectMapper = objectMapper;
+		this.objectWriter = objectMapper.writer().without(SerializationFeature.INDENT_OUTPUT);
+		this.localCache = new LocalCache(properties.getLocalMaxEntries());
+		this.detailMetrics = new CacheMetrics("detail", meterRegistry);
+		this.listMetrics = new CacheMetrics("list", meterRegistry);
+	}
+
+	/**
+	 * 다른 노드의 상품 변경 알림을 구독하여 로컬 캐시를 비웁니다.
+	 */
+	@EventListener(ApplicationReadyEvent.class)
+	public void subscribe() {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		listenerContainer.addMessageListener(
+			(message, pattern) -> evictLocal(new String(message.getBody(), StandardCharsets.UTF_8)), TOPIC);
+	}
+
+	/**
+	 * 상품 상세를 캐시에서 조회하고, 없으면 {@code loader}로 읽어 캐시에 저장합니다.
+	 *
+	 * @param productId 상품 식별자
+	 * @param loader    DB 조회 (예외는 그대로 전달되며 캐시하지 않음)
+	 * @return 상품 상세 응답
+	 */
+	public GetProductDetailResponse getDetail(Long productId, Supplier<GetProductDetailResponse> loader) {
+		if (!properties.isEnabled()) {
+			return loader.get();
+		}
+		return get(DETAIL_KEY_PREFIX + productId, GetProductDetailResponse.class, properties.getDetailTtlMs(),
+			detailMetrics, loader);
+	}
+
+	/**
+	 * 상품 목록 페이지를 캐시에서 조회하고, 없으면 {@code loader}로 읽어 캐시에 저장합니다.
+	 * 앞쪽 {@code listPages}개 페이지가 아니거나 페이지 크기가 {@code listMaxSize}보다 크면 캐시하지 않습니다.
+	 *
+	 * @param page   페이지 번호
+	 * @param size   페이지 크기
+	 * @param loader DB 조회
+	 * @return 상품 목록 응답
+	 */
+	public GetProductListResponse getList(int page, int size, Supplier<GetProductListResponse> loader) {
+		if (!properties.isEnabled() || page >= properties.getListPages() || size > properties.getListMaxSize()) {
+			return loader.get();
+		}
+		return get(LIST_KEY_PREFIX + page + ":" + size, GetProductListResponse.class, properties.getListTtlMs(),
+			listMetrics, loader);
+	}
+
+	/**
+	 * 상품 변경이 커밋되면 해당 상품 상세와 모든 목록 페이지를 무효화하고 다른 노드에 알립니다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		invalidate(event.getProductId() == null ? List.of() : List.of(event.getProductId()),
+			event.getProductId() == null ? ALL : event.getProductId().toString());
+	}
+
+	/**
+	 * 상품 일괄 등록/상태 변경이 커밋되면 변경된 상품 상세와 모든 목록 페이지를 한 번에 무효화합니다.
+	 * 다른 노드에는 로컬 캐시 전체 무효화를 알립니다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductsChanged(ProductsChangedEvent event) {
+		invalidate(event.getProductIds(), ALL);
+	}
+
+	private void invalidate(List<Long> productIds, String localKey) {
+		if (!properties.isEnabled()) {
+			return;
+		}
+		evictLocal(localKey);
+		try {
+			List<String> keys = new ArrayList<>();
+			Set<String> listKeys = redisTemplate.opsForSet().members(LIST_KEYS_KEY);
+			if (listKeys != null) {
+				keys.addAll(listKeys);
+			}
+			keys.add(LIST_KEYS_KEY);
+			for (Long productId : productIds) {
+				keys.add(DETAIL_KEY_PREFIX + productId);
+			}
+			redisTemplate.opsForValue().increment(VERSION_KEY);
+			redisTemplate.delete(keys);
+			redisTemplate.convertAndSend(TOPIC.getTopic(), localKey);
+		} catch (DataAccessException e) {
+			log.warn("[PRODUCT_CACHE] Redis 캐시 무효화 실패 productId={}", localKey, e);
+		}
+	}
+
+	private void evictLocal(String productId) {
+		generation.incrementAndGet();
+		if (ALL.equals(productId)) {
+			localCache.clear();
+			return;
+		}
+		localCache.removeIf(key -> key.startsWith(LIST_KEY_PREFIX) || key.equals(DETAIL_KEY_PREFIX + productId));
+	}
+
+	private <T> T get(String key, Class<T> type, long redisTtlMs, CacheMetrics metrics, Supplier<T> loader) {
+		Object local = localCache.get(key);
+		if (local != null) {
+			metrics.localHit.increment();
+			return type.cast(local);
+		}
+
+		CompletableFuture<Object> loading = new CompletableFuture<>();
+		CompletableFuture<Object> existing = inFlight.putIfAbsent(key, loading);
+		if (existing != null) {
+			return type.cast(await(existing));
+		}
+		try {
+			long startGeneration = generation.get();
+			RedisValue cached = readRedis(key);
+			T value = cached == null ? null : deserialize(key, cached.json(), type);
+			if (value != null) {
+				metrics.redisHit.increment();
+			} else {
+				metrics.miss.increment();
+				value = loader.get();
+				if (cached != null && generation.get() == startGeneration) {
+					writeRedis(key, value, redisTtlMs, cached.version());
+				}
+			}
+			if (generation.get() == startGeneration) {
+				localCache.put(key, value, System.currentTimeMillis() + properties.getLocalTtlMs());
+			}
+			loading.complete(value);
+			return value;
+		} catch (RuntimeException e) {
+			loading.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.remove(key, loading);
+		}
+	}
+
+	private Object await(CompletableFuture<Object> future) {
+		try {
+			return future.join();
+		} catch (CompletionException e) {
+			if (e.getCause() instanceof RuntimeException cause) {
+				throw cause;
+			}
+			throw e;
+		}
+	}
+
+	/**
+	 * 캐시 값과 캐시 버전을 한 번에 읽습니다. Redis 를 사용할 수 없으면 {@code null}을 반환합니다.
+	 */
+	private RedisValue readRedis(String key) {
+		try {
+			List<String> values = redisTemplate.opsForValue().multiGet(List.of(key, VERSION_KEY));
+			if (values == null) {
+				return null;
+			}
+			String version = values.get(1);
+			return new RedisValue(values.get(0), version == null ? INITIAL_VERSION : version);
+		} catch (DataAccessException e) {
+			log.warn("[PRODUCT_CACHE] Redis 캐시 조회 실패 key={}", key, e);
+			return null;
+		}
+	}
+
+	private <T> T deserialize(String key, String json, Class<T> type) {
+		if (json == null) {
+			return null;
+		}
+		try {
+			return objectMapper.readValue(json, type);
+		} catch (JsonProcessingException e) {
+			log.warn("[PRODUCT_CACHE] Redis 캐시 복원 실패 key={}", key, e);
+			return null;
+		}
+	}
+
+	private void writeRedis(String key, Object value, long ttlMs, String version) {
+		try {
+			List<String> keys = key.startsWith(LIST_KEY_PREFIX)
+				? List.of(VERSION_KEY, key, LIST_KEYS_KEY)
+				: List.of(VERSION_KEY, key);
+			Long written = redisTemplate.execute(WRITE_SCRIPT, keys, version, objectWriter.writeValueAsString(value),
+				String.valueOf(ttlMs));
+			if (written == null || written == 0L) {
+				log.debug("[PRODUCT_CACHE] 조회 중 무효화되어 저장하지 않음 key={}", key);
+			}
+		} catch (DataAccessException | JsonProcessingException e) {
+			log.warn("[PRODUCT_CACHE] Redis 캐시 저장 실패 key={}", key, e);
+		}
+	}
+
+	private record RedisValue(String json, String version) {
+	}
+
+	/**
+	 * 만료 시각이 있는 LRU 로컬 캐시입니다.
+	 */
+	private static final class LocalCache {
+		private final Map<String, Entry> entries;
+
+		private LocalCache(int maxEntries) {
+			this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+				@Override
+				protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+					return size() > maxEntries;
+				}
+			};
+		}
+
+		private synchronized Object get(String key) {
+			Entry entry = entries.get(key);
+			if (entry == null) {
+				return null;
+			}
+			if (entry.expiresAt() < System.currentTimeMillis()) {
+				entries.remove(key);
+				return null;
+			}
+			return entry.value();
+		}
+
+		private synchronized void put(String key, Object value, long expiresAt) {
+			entries.put(key, new Entry(value, expiresAt));
+		}
+
+		private synchronized void removeIf(Predicate<String> predicate) {
+			entries.keySet().removeIf(predicate);
+		}
+
+		private synchronized void clear() {
+			entries.clear();
+		}
+
+		private record Entry(Object value, long expiresAt) {
+		}
+	}
+
+	/**
+	 * 캐시 종류별 조회 결과 카운터와 적중률 게이지입니다.
+	 */
+	private static final class CacheMetrics {
+		private final Counter localHit;
+		private final Counter redisHit;
+		private final Counter miss;
+
+		private CacheMetrics(String cache, MeterRegistry meterRegistry) {
+			this.localHit = meterRegistry.counter("livechat.product.cache.requests", "cache", cache, "result", "local");
+			this.redisHit = meterRegistry.counter("livechat.product.cache.requests", "cache", cache, "result", "redis");
+			this.miss = meterRegistry.counter("livechat.product.cache.requests", "cache", cache, "result", "miss");
+			Gauge.builder("livechat.product.cache.hit.ratio", this, CacheMetrics::hitRatio)
+				.description("상품 조회 캐시 적중률 (로컬 + Redis)")
+				.tag("cache", cache)
+				.register(meterRegistry);
+		}
+
+		private double hitRatio() {
+			double hits = localHit.count() + redisHit.count();
+			double total = hits + miss.count();
+			return total == 0 ? 0 : hits / total;
+		}
+	}
+}
@@ -0,0 +1,135 @@
+package kr.sparta.livechat.service;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import jakarta.annotation.PreDestroy;
+import kr.sparta.livechat.config.ChatRoomAutoCloseProperties;
+import kr.sparta.livechat.domain.event.ProductChangedEvent;
+import kr.sparta.livechat.domain.event.ProductsChangedEvent;
+import kr.sparta.livechat.domain.role.ProductStatus;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 상품이 판매 완료되거나 삭제되면 해당 상품의 OPEN 채팅방을 일괄 종료하는 클래스입니다.
+ * <p>
+ * 상품 변경 이벤트를 커밋 이후에 받아 별도 스레드에서 처리하므로 상품 수정/삭제 트랜잭션과 응답은 채팅방 수와 무관합니다.
+ * 대상 채팅방을 식별자 순으로 {@code chunkSize}개씩 조회하고 {@link ChatRoomBulkCloser}로 묶음마다 별도 트랜잭션에서 종료합니다.
+ * 구독자 알림과 소켓 캐시 정리는 묶음마다 발행되는 종료 이벤트를 받는 {@link ChatRoomCloseRecorder}가 아웃박스에 기록하여 메시지와 같은 순서로 처리됩니다.
+ *
+ * 처리 중 실패하면 남은 채팅방은 OPEN 으로 남으며, 장기 미사용 채팅방 자동 종료 대상이 됩니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+public class ProductChatRoomCloser {
+
+	public static final String SOLDOUT_REASON = "상품이 판매 완료되어 종료되었습니다.";
+	public static final String DELETED_REASON = "상품이 삭제되어 종료되었습니다.";
+
+	private final ChatRoomAutoCloseProperties properties;
+	private final ChatRoomRepository chatRoomRepository;
+	private final ChatRoomBulkCloser chatRoomBulkCloser;
+	private final ExecutorService executor;
+
+	@Autowired
+	public ProductChatRoomCloser(
+		ChatRoomAutoCloseProperties properties,
+		ChatRoomRepository chatRoomRepository,
+		ChatRoomBulkCloser chatRoomBulkCloser
+	) {
+		this(properties, chatRoomRepository, chatRoomBulkCloser, Executors.newSingleThreadExecutor(runnable -> {
+			Thread thread = new Thread(runnable, "product-chatroom-closer");
+			thread.setDaemon(true);
+			return thread;
+		}));
+	}
+
+	ProductChatRoomCloser(
+		ChatRoomAutoCloseProperties properties,
+		ChatRoomRepository chatRoomRepository,
+		ChatRoomBulkCloser chatRoomBulkCloser,
+		ExecutorService executor
+	) {
+		this.properties = properties;
+		this.chatRoomRepository = chatRoomRepository;
+		this.chatRoomBulkCloser = chatRoomBulkCloser;
+		this.executor = executor;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductChanged(ProductChangedEvent event) {
+		submit(List.of(event.getProductId()), event.getStatus());
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onProductsChanged(ProductsChangedEvent event) {
+		submit(event.getProductIds(), event.getStatus());
+	}
+
+	@PreDestroy
+	void shutdown() {
+		executor.shutdownNow();
+	}
+
+	private void submit(List<Long> productIds, ProductStatus status) {
+		String reason = reasonOf(status);
+		if (reason == null || productIds.isEmpty()) {
+			return;
+		}
+		try {
+			List<Long> targets = List.copyOf(productIds);
+			executor.execute(() -> closeRooms(targets, reason));
+		} catch (RejectedExecutionException e) {
+			log.warn("상품 채팅방 종료 작업 등록 실패: productIds={}", productIds.size());
+		}
+	}
+
+	private void closeRooms(List<Long> productIds, String reason) {
+		long started = System.currentTimeMillis();
+		PageRequest page = PageRequest.of(0, properties.getChunkSize());
+		int closedCount = 0;
+		Long afterId = 0L;
+
+		try {
+			while (!Thread.currentThread().isInterrupted()) {
+				List<Long> roomIds = chatRoomRepository.findOpenRoomIdsByProductIdIn(productIds, afterId, page);
+				if (roomIds.isEmpty()) {
+					break;
+				}
+				closedCount += chatRoomBulkCloser.close(roomIds, reason).size();
+				afterId = roomIds.get(roomIds.size() - 1);
+			}
+		} catch (RuntimeException e) {
+			log.warn("상품 채팅방 종료 중단: productIds={}, lastRoomId={}, error={}",
+				productIds.size(), afterId, e.getMessage());
+		}
+
+		if (closedCount > 0) {
+			log.info("상품 상태 변경으로 채팅방 종료: productIds={}, closed={}, elapsedMs={}",
+				productIds.size(), closedCount, System.currentTimeMillis() - started);
+		}
+	}
+
+	private String reasonOf(ProductStatus status) {
+		if (status == ProductStatus.SOLDOUT) {
+			return SOLDOUT_REASON;
+		}
+		if (status == ProductStatus.DELETED) {
+			return DELETED_REASON;
+		}
+		return null;
+	}
+}
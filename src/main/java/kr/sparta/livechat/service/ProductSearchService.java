@@ -0,0 +1,117 @@
+package kr.sparta.livechat.service;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import kr.sparta.livechat.domain.entity.Product;
+import kr.sparta.livechat.domain.role.ProductStatus;
+import kr.sparta.livechat.dto.product.ProductListItem;
+import kr.sparta.livechat.dto.product.ProductSearchResponse;
+import kr.sparta.livechat.global.exception.CustomException;
+import kr.sparta.livechat.global.exception.ErrorCode;
+import kr.sparta.livechat.repository.ProductRepository;
+import kr.sparta.livechat.search.PrefixTokenizer;
+import kr.sparta.livechat.search.ProductSearchIndex;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 상품 검색 비즈니스 로직을 처리하는 서비스 클래스입니다.
+ * <p>
+ * {@link ProductSearchIndex}에서 검색어의 접두어와 가격 범위를 모두 만족하는 후보를 최신순으로 받고,
+ * 후보 상품을 한 번에 조회하여 현재 상품명/설명과 가격이 조건에 맞는 상품만 반환합니다.
+ * 후보가 걸러져 결과가 부족하면 마지막 후보 이전부터 다시 후보를 받으며, 커서는 마지막으로 확인한 후보 식별자입니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Service
+@RequiredArgsConstructor
+public class ProductSearchService {
+
+	private static final int DEFAULT_SIZE = 20;
+	private static final int MAX_SIZE = 100;
+	private static final int MAX_QUERY_LENGTH = 100;
+	private static final int CANDIDATE_FACTOR = 2;
+	private static final int MAX_ROUNDS = 5;
+
+	private final ProductSearchIndex productSearchIndex;
+	private final ProductRepository productRepository;
+
+	/**
+	 * 상품명과 설명으로 상품을 검색합니다.
+	 *
+	 * @param query    검색어 (각 단어는 상품명/설명 단어의 접두어로 일치)
+	 * @param minPrice 최소 가격 (포함, 선택)
+	 * @param maxPrice 최대 가격 (포함, 선택)
+	 * @param cursor   이전 응답의 {@code nextCursor} (null이면 최신부터 조회)
+	 * @param size     조회할 상품 개수 (null이면 {@value #DEFAULT_SIZE})
+	 * @return 상품 검색 응답 DTO
+	 */
+	@Transactional(readOnly = true)
+	public ProductSearchResponse search(String query, Integer minPrice, Integer maxPrice, Long cursor, Integer size) {
+		validateQuery(query);
+		if (cursor != null && cursor <= 0) {
+			throw new CustomException(ErrorCode.COMMON_BAD_PAGINATION);
+		}
+		if (size != null && (size <= 0 || size > MAX_SIZE)) {
+			throw new CustomException(ErrorCode.COMMON_BAD_PAGINATION);
+		}
+		if ((minPrice != null && minPrice < 0) || (maxPrice != null && maxPrice < 0)
+			|| (minPrice != null && maxPrice != null && minPrice > maxPrice)) {
+			throw new CustomException(ErrorCode.PRODUCT_INVALID_INPUT);
+		}
+		int resolvedSize = size == null ? DEFAULT_SIZE : size;
+		int limit = resolvedSize * CANDIDATE_FACTOR;
+
+		List<Product> matched = new ArrayList<>();
+		Long before = cursor;
+		boolean exhausted = false;
+		for (int round = 0; round < MAX_ROUNDS && matched.size() <= resolvedSize; round++) {
+			List<Long> candidates = productSearchIndex.search(query, minPrice, maxPrice, before, limit);
+			if (candidates.size() < limit) {
+				exhausted = true;
+			}
+			if (candidates.isEmpty()) {
+				break;
+			}
+			productRepository.findAllByIdInAndStatusNot(candidates, ProductStatus.DELETED).stream()
+				.filter(product -> PrefixTokenizer.matches(product.getName() + " " + product.getDescription(), query))
+				.filter(product -> minPrice == null || product.getPrice() >= minPrice)
+				.filter(product -> maxPrice == null || product.getPrice() <= maxPrice)
+				.sorted(Comparator.comparing(Product::getId).reversed())
+				.forEach(matched::add);
+			before = candidates.get(candidates.size() - 1);
+			if (exhausted) {
+				break;
+			}
+		}
+
+		boolean hasNext = matched.size() > resolvedSize || !exhausted;
+		List<Product> page = matched.subList(0, Math.min(resolvedSize, matched.size()));
+		Long nextCursor = null;
+		if (hasNext) {
+			nextCursor = matched.size() > resolvedSize ? page.get(page.size() - 1).getId() : before;
+		}
+
+		return ProductSearchResponse.builder()
+			.query(query)
+			.size(resolvedSize)
+			.hasNext(hasNext)
+			.nextCursor(nextCursor)
+			.productList(page.stream().map(ProductListItem::from).toList())
+			.build();
+	}
+
+	private void validateQuery(String query) {
+		if (query == null || query.isBlank() || query.length() > MAX_QUERY_LENGTH
+			|| PrefixTokenizer.queryTerms(query).isEmpty()) {
+			throw new CustomException(ErrorCode.PRODUCT_SEARCH_INVALID_QUERY);
+		}
+	}
+}
@@ -1,22 +1,29 @@
 package kr.sparta.livechat.service;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import kr.sparta.livechat.domain.entity.Product;
+import kr.sparta.livechat.domain.event.ProductChangedEvent;
 import kr.sparta.livechat.domain.role.ProductStatus;
 import kr.sparta.livechat.dto.product.CreateProductRequest;
 import kr.sparta.livechat.dto.product.CreateProductResponse;
 import kr.sparta.livechat.dto.product.GetProductDetailResponse;
+import kr.sparta.livechat.dto.product.GetProductFeedResponse;
 import kr.sparta.livechat.dto.product.GetProductListResponse;
 import kr.sparta.livechat.dto.product.PatchProductRequest;
 import kr.sparta.livechat.dto.product.PatchProductResponse;
+import kr.sparta.livechat.dto.product.ProductFeedCondition;
+import kr.sparta.livechat.dto.product.ProductFeedCursor;
 import kr.sparta.livechat.dto.product.ProductListItem;
 import kr.sparta.livechat.entity.Role;
 import kr.sparta.livechat.entity.User;
@@ -39,8 +46,13 @@ import lombok.RequiredArgsConstructor;
 @Service
 @RequiredArgsConstructor
 public class ProductService {
+	private static final int DEFAULT_FEED_SIZE = 20;
+	private static final int MAX_FEED_SIZE = 100;
+
 	private final ProductRepository productRepository;
 	private final UserRepository userRepository;
+	private final ProductCache productCache;
+	private final ApplicationEventPublisher eventPublisher;
 
 	/**
 	 * 상품을 등록합니다.
@@ -65,6 +77,7 @@ public class ProductService {
 
 		Product product = Product.create(seller, request);
 		Product saved = productRepository.save(product);
+		eventPublisher.publishEvent(new ProductChangedEvent(saved.getId(), saved.getStatus()));
 
 		return CreateProductResponse.from(saved);
 	}
@@ -104,6 +117,7 @@ public class ProductService {
 
 	/**
 	 * 상품 목록을 페이징하여 조회합니다.
+	 * 앞쪽 페이지는 {@link ProductCache}를 거쳐 조회합니다.
 	 *
 	 * @param page 조회하는 상품 목록 페이지
 	 * @param size 조회하는 상품 개수
@@ -115,8 +129,13 @@ public class ProductService {
 			throw new CustomException(ErrorCode.COMMON_BAD_PAGINATION);
 		}
 
+		return productCache.getList(page, size, () -> loadProductList(page, size));
+	}
+
+	private GetProductListResponse loadProductList(int page, int size) {
 		Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 
+		LocalDateTime lastModifiedAt = productRepository.findLastUpdatedAt();
 		Page<Product> pageResult = productRepository.findAllByStatusNot(ProductStatus.DELETED, pageable);
 
 		List<ProductListItem> productList = pageResult.getContent().stream()
@@ -124,11 +143,90 @@ public class ProductService {
 			.toList();
 
 		return new GetProductListResponse(pageResult.getNumber(), pageResult.getSize(), pageResult.getTotalElements(),
-			pageResult.getTotalPages(), pageResult.hasNext(), productList);
+			pageResult.getTotalPages(), pageResult.hasNext(), productList, lastModifiedAt);
+	}
+
+	/**
+	 * 상품 피드를 커서 기반으로 조회합니다.
+	 * <p>
+	 * 최신 등록 상품부터 (createdAt, id) 내림차순으로 조회하며, 이후 요청은 이전 응답의 {@code nextCursor} 를 사용합니다.
+	 * OFFSET 을 사용하지 않으므로 뒤쪽 페이지도 첫 페이지와 같은 비용으로 조회하며,
+	 * 전체 개수는 {@code includeTotal} 이 true 인 경우에만 COUNT 쿼리로 계산합니다.
+	 * </p>
+	 *
+	 * @param condition    조회 조건 (상태, 판매자, 가격 범위)
+	 * @param cursor       이전 응답의 {@code nextCursor} (null이면 최신부터 조회)
+	 * @param size         한 번에 조회할 상품 개수 (null이면 {@value #DEFAULT_FEED_SIZE})
+	 * @param includeTotal 전체 개수 포함 여부
+	 * @return 상품 피드 조회 응답 DTO
+	 * @throws CustomException 커서나 크기가 유효하지 않거나, 조회 조건이 올바르지 않은 경우
+	 */
+	@Transactional(readOnly = true)
+	public GetProductFeedResponse getProductFeed(
+		ProductFeedCondition condition,
+		String cursor,
+		Integer size,
+		boolean includeTotal
+	) {
+		if (size != null && (size <= 0 || size > MAX_FEED_SIZE)) {
+			throw new CustomException(ErrorCode.COMMON_BAD_PAGINATION);
+		}
+		validateFeedCondition(condition);
+
+		int resolvedSize = size == null ? DEFAULT_FEED_SIZE : size;
+		Pageable pageable = PageRequest.of(0, resolvedSize);
+
+		Slice<Product> slice;
+		if (cursor == null || cursor.isBlank()) {
+			slice = productRepository.findFeed(ProductStatus.DELETED, condition.status(), condition.sellerId(),
+				condition.minPrice(), condition.maxPrice(), pageable);
+		} else {
+			ProductFeedCursor decoded = ProductFeedCursor.decode(cursor);
+			slice = productRepository.findFeedAfter(ProductStatus.DELETED, condition.status(), condition.sellerId(),
+				condition.minPrice(), condition.maxPrice(), decoded.createdAt(), decoded.id(), pageable);
+		}
+
+		List<Product> content = slice.getContent();
+		String nextCursor = slice.hasNext() && !content.isEmpty()
+			? ProductFeedCursor.from(content.get(content.size() - 1)).encode()
+			: null;
+		Long totalElements = includeTotal
+			? productRepository.countFeed(ProductStatus.DELETED, condition.status(), condition.sellerId(),
+			condition.minPrice(), condition.maxPrice())
+			: null;
+
+		return GetProductFeedResponse.builder()
+			.size(resolvedSize)
+			.hasNext(slice.hasNext())
+			.nextCursor(nextCursor)
+			.totalElements(totalElements)
+			.productList(content.stream().map(ProductListItem::from).toList())
+			.build();
+	}
+
+	private void validateFeedCondition(ProductFeedCondition condition) {
+		if (condition.status() == ProductStatus.DELETED) {
+			throw new CustomException(ErrorCode.PRODUCT_INVALID_INPUT);
+		}
+
+		if (condition.sellerId() != null && condition.sellerId() <= 0) {
+			throw new CustomException(ErrorCode.PRODUCT_INVALID_INPUT);
+		}
+
+		if ((condition.minPrice() != null && condition.minPrice() < 0)
+			|| (condition.maxPrice() != null && condition.maxPrice() < 0)) {
+			throw new CustomException(ErrorCode.PRODUCT_INVALID_INPUT);
+		}
+
+		if (condition.minPrice() != null && condition.maxPrice() != null
+			&& condition.minPrice() > condition.maxPrice()) {
+			throw new CustomException(ErrorCode.PRODUCT_INVALID_INPUT);
+		}
 	}
 
 	/**
 	 * 특정 상품의 상세 정보를 조회합니다.
+	 * {@link ProductCache}를 거쳐 조회합니다.
 	 *
 	 * @param productId 조회할 상품 식별자
 	 * @return 상품 상세 조회 응답 DTO
@@ -140,10 +238,9 @@ public class ProductService {
 			throw new CustomException((ErrorCode.PRODUCT_INVALID_INPUT));
 		}
 
-		Product product = productRepository.findByIdAndStatusNot(productId, ProductStatus.DELETED)
-			.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND));
-
-		return GetProductDetailResponse.from(product);
+		return productCache.getDetail(productId, () -> GetProductDetailResponse.from(
+			productRepository.findByIdAndStatusNot(productId, ProductStatus.DELETED)
+				.orElseThrow(() -> new CustomException(ErrorCode.PRODUCT_NOT_FOUND))));
 	}
 
 	/**
@@ -193,6 +290,7 @@ public class ProductService {
 			request.getDescription(),
 			request.getStatus()
 		);
+		eventPublisher.publishEvent(new ProductChangedEvent(product.getId(), product.getStatus()));
 
 		return PatchProductResponse.from(product);
 	}
@@ -229,5 +327,6 @@ public class ProductService {
 		}
 
 		product.delete();
+		eventPublisher.publishEvent(new ProductChangedEvent(product.getId(), product.getStatus()));
 	}
 }
@@ -0,0 +1,73 @@
+package kr.sparta.livechat.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 여러 노드에서 동시에 실행되면 안 되는 배치 작업의 실행권(lease)을 Redis 로 관리하는 서비스 클래스입니다.
+ * <p>
+ * {@code lease:{name}} 키를 SET NX PX 로 선점한 노드만 작업을 실행하며, 값에는 선점한 노드의 토큰을 저장합니다.
+ * 연장과 해제는 토큰이 일치할 때만 수행하므로 만료 후 다른 노드가 선점한 lease 를 건드리지 않습니다.
+ * 작업이 lease 유효 시간보다 길어질 수 있으면 작업 도중 {@link #renew(String, String, Duration)}로 연장합니다.
+ * </p>
+ *
+ * @author 재원
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Service
+@RequiredArgsConstructor
+public class RedisLeaseService {
+
+	private static final String KEY_PREFIX = "lease:";
+
+	private static final RedisScript<Long> RENEW_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then "
+			+ "return redis.call('pexpire', KEYS[1], ARGV[2]) else return 0 end",
+		Long.class);
+
+	private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+		"if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+		Long.class);
+
+	private final StringRedisTemplate redisTemplate;
+
+	/**
+	 * lease 를 선점합니다.
+	 *
+	 * @param name lease 이름
+	 * @param ttl  lease 유효 시간
+	 * @return 선점에 성공하면 연장/해제에 사용할 토큰, 실패하면 {@code null}
+	 */
+	public String tryAcquire(String name, Duration ttl) {
+		String token = UUID.randomUUID().toString();
+		Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, token, ttl);
+		return Boolean.TRUE.equals(acquired) ? token : null;
+	}
+
+	/**
+	 * 보유 중인 lease 의 유효 시간을 연장합니다.
+	 *
+	 * @return 여전히 lease 를 보유하고 있으면 {@code true}
+	 */
+	public boolean renew(String name, String token, Duration ttl) {
+		Long renewed = redisTemplate.execute(RENEW_SCRIPT, List.of(KEY_PREFIX + name), token,
+			String.valueOf(ttl.toMillis()));
+		return renewed != null && renewed == 1L;
+	}
+
+	/**
+	 * 보유 중인 lease 를 해제합니다. 이미 만료되어 다른 노드가 선점한 경우 아무것도 하지 않습니다.
+	 */
+	public void release(String name, String token) {
+		redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + name), token);
+	}
+}
@@ -0,0 +1,169 @@
+package kr.sparta.livechat.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiConsumer;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.data.redis.core.RedisOperations;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+
+import kr.sparta.livechat.config.PresenceProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 다중 노드 환경에서 사용자 접속 상태를 Redis 로 집계하는 저장소입니다.
+ * <p>
+ * 노드마다 로컬에 접속한 사용자의 heartbeat 를 주기적으로 기록하고,
+ * 전체 노드 기준 온라인/오프라인 전환이 확정되면 Pub/Sub 채널로 알려 모든 노드가 자신의 구독자에게 전송하도록 합니다.
+ *
+ * {@code presence:user:{userId}}: 사용자가 접속한 노드 ZSET (score = 마지막 heartbeat 시각, 키 TTL 적용)
+ * {@code presence:online}: 온라인 사용자 ZSET (score = 마지막 heartbeat 시각)
+ *
+ * 온라인 사용자 ZSET 에 새로 추가된 경우에만 온라인을 알리고, ZREM 에 성공한 노드만 오프라인을 알리므로
+ * 별도의 락 없이 전환 이벤트가 한 번만 발행됩니다.
+ * 비정상 종료된 노드의 사용자는 heartbeat 가 만료되면 {@link #sweepExpired()}에서 오프라인으로 정리합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(prefix = "websocket.presence", name = "redis-enabled", havingValue = "true")
+public class RedisPresenceStore {
+
+	private static final String USER_KEY_PREFIX = "presence:user:";
+	private static final String ONLINE_KEY = "presence:online";
+	private static final ChannelTopic TOPIC = new ChannelTopic("presence:events");
+	private static final int HEARTBEAT_COMMANDS = 3;
+
+	private final StringRedisTemplate redisTemplate;
+	private final RedisMessageListenerContainer listenerContainer;
+	private final PresenceProperties properties;
+	private final String nodeId = UUID.randomUUID().toString();
+
+	/**
+	 * 다른 노드를 포함한 전체 접속 상태 전환 알림을 구독합니다.
+	 *
+	 * @param listener (사용자 식별자, 온라인 여부)를 받는 리스너
+	 */
+	public void subscribe(BiConsumer<Long, Boolean> listener) {
+		listenerContainer.addMessageListener((message, pattern) -> {
+			String[] body = new String(message.getBody(), StandardCharsets.UTF_8).split(":");
+			listener.accept(Long.parseLong(body[0]), "1".equals(body[1]));
+		}, TOPIC);
+	}
+
+	/**
+	 * 이 노드에서 사용자가 온라인이 되었음을 기록하고, 전체 기준으로 새로 온라인이 된 경우 알립니다.
+	 */
+	public void markOnline(Long userId) {
+		long now = System.currentTimeMillis();
+		touch(userId, now);
+		Boolean added = redisTemplate.opsForZSet().add(ONLINE_KEY, userId.toString(), now);
+		if (Boolean.TRUE.equals(added)) {
+			publish(userId, true);
+		}
+	}
+
+	/**
+	 * 이 노드에서 사용자가 오프라인이 되었음을 기록하고, 다른 노드에도 연결이 없으면 오프라인을 알립니다.
+	 */
+	public void markOffline(Long userId) {
+		redisTemplate.opsForZSet().remove(USER_KEY_PREFIX + userId, nodeId);
+		releaseIfNoLiveNode(userId, System.currentTimeMillis());
+	}
+
+	/**
+	 * 전체 노드 기준으로 사용자가 온라인인지 여부를 반환합니다.
+	 */
+	public boolean isOnline(Long userId) {
+		Double lastSeen = redisTemplate.opsForZSet().score(ONLINE_KEY, userId.toString());
+		return lastSeen != null && lastSeen >= System.currentTimeMillis() - properties.getHeartbeatTtlMs();
+	}
+
+	/**
+	 * 이 노드에 접속 중인 사용자들의 heartbeat 를 파이프라인으로 갱신합니다.
+	 * 다른 노드의 정리 작업으로 오프라인 처리된 사용자가 온라인 사용자 ZSET 에 다시 추가되면 온라인 전환을 알립니다.
+	 */
+	public void heartbeat(Collection<Long> userIds) {
+		if (userIds.isEmpty()) {
+			return;
+		}
+		long now = System.currentTimeMillis();
+		List<Long> targets = List.copyOf(userIds);
+		List<Object> results = redisTemplate.executePipelined(new SessionCallback<Object>() {
+			@Override
+			@SuppressWarnings("unchecked")
+			public <K, V> Object execute(RedisOperations<K, V> operations) throws DataAccessException {
+				RedisOperations<String, String> ops = (RedisOperations<String, String>)operations;
+				for (Long userId : targets) {
+					String userKey = USER_KEY_PREFIX + userId;
+					ops.opsForZSet().add(userKey, nodeId, now);
+					ops.expire(userKey, properties.getHeartbeatTtlMs(), TimeUnit.MILLISECONDS);
+					ops.opsForZSet().add(ONLINE_KEY, userId.toString(), now);
+				}
+				return null;
+			}
+		});
+
+		for (int i = 0; i < targets.size(); i++) {
+			int onlineAdd = i * HEARTBEAT_COMMANDS + HEARTBEAT_COMMANDS - 1;
+			if (onlineAdd < results.size() && Boolean.TRUE.equals(results.get(onlineAdd))) {
+				publish(targets.get(i), true);
+			}
+		}
+	}
+
+	/**
+	 * heartbeat 가 만료된 사용자를 오프라인으로 정리합니다.
+	 * 모든 노드가 실행하지만 ZREM 에 성공한 노드만 오프라인을 알립니다.
+	 */
+	public void sweepExpired() {
+		long now = System.currentTimeMillis();
+		Set<String> expired = redisTemplate.opsForZSet()
+			.rangeByScore(ONLINE_KEY, Double.NEGATIVE_INFINITY, now - properties.getHeartbeatTtlMs());
+		if (expired == null) {
+			return;
+		}
+		for (String userId : expired) {
+			releaseIfNoLiveNode(Long.parseLong(userId), now);
+		}
+	}
+
+	private void touch(Long userId, long now) {
+		String userKey = USER_KEY_PREFIX + userId;
+		redisTemplate.opsForZSet().add(userKey, nodeId, now);
+		redisTemplate.expire(userKey, properties.getHeartbeatTtlMs(), TimeUnit.MILLISECONDS);
+	}
+
+	private void releaseIfNoLiveNode(Long userId, long now) {
+		Long liveNodes = redisTemplate.opsForZSet()
+			.count(USER_KEY_PREFIX + userId, now - properties.getHeartbeatTtlMs(), Double.POSITIVE_INFINITY);
+		if (liveNodes != null && liveNodes > 0) {
+			return;
+		}
+		Long removed = redisTemplate.opsForZSet().remove(ONLINE_KEY, userId.toString());
+		if (removed != null && removed > 0) {
+			publish(userId, false);
+		}
+	}
+
+	private void publish(Long userId, boolean online) {
+		redisTemplate.convertAndSend(TOPIC.getTopic(), userId + ":" + (online ? "1" : "0"));
+		log.debug("접속 상태 전환 전파: userId={}, online={}, nodeId={}", userId, online, nodeId);
+	}
+}
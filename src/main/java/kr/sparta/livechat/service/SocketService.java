@@ -1,21 +1,34 @@
 package kr.sparta.livechat.service;
 
+import kr.sparta.livechat.domain.event.ChatRoomOpenedEvent;
+import kr.sparta.livechat.domain.role.ChatRoomStatus;
+import kr.sparta.livechat.domain.role.RoleInRoom;
 import kr.sparta.livechat.repository.ChatRoomParticipantRepository;
 import kr.sparta.livechat.repository.ChatRoomRepository;
+import kr.sparta.livechat.repository.ChatRoomRepository.RoomStateRow;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
 
 /**
  * 실시간 채팅방 참여자 상태를 메모리에서 관리하는 서비스 클래스입니다.
  * <p>
- * 채팅방마다 구독중인 사용자 목록을 관리합니다.
+ * 채팅방마다 구독중인 사용자 목록과 채팅방 상태(상품, 상태, 참여자 역할)를 관리합니다.
  *
  * 이 정보는 데이터베이스가 아닌 In Memory 구조로 유지되고
  * 메시지 전송, 구독 검증, 읽음 처리 등에서 사용자 참여 여부를 판단하는 데 활용됩니다.
+ * 채팅방 상태는 생성/종료 시점에 갱신(write-through)되므로 메시지 전송 시 채팅방을 조회하지 않으며,
+ * 캐시에 없는 채팅방만 한 번 조회하여 적재합니다.
  * </p>
  *
  * @author 오정빈
@@ -26,9 +39,12 @@ import java.util.concurrent.ConcurrentHashMap;
 @RequiredArgsConstructor
 public class SocketService {
 
+	private static final long ROOM_STATE_TTL_MS = 5 * 60 * 1000L;
+
 	private final ChatRoomRepository chatRoomRepository;
 	private final ChatRoomParticipantRepository chatRoomParticipantRepository;
 	private final ConcurrentHashMap<Long, Set<Long>> participants = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<Long, RoomState> roomStates = new ConcurrentHashMap<>();
 
 	/**
 	 * 메모리 캐시에서 참여자 여부를 확인합니다.
@@ -51,6 +67,16 @@ public class SocketService {
 		return isParticipantInDb;
 	}
 
+	/**
+	 * 메모리 캐시만으로 참여자 여부를 확인합니다.
+	 * DB를 조회하지 않으므로 입력중 표시처럼 빈번하고 저장하지 않는 이벤트의 검증에 사용합니다.
+	 * 채팅방 구독(SUBSCRIBE) 검증을 통과한 사용자는 캐시에 등록되어 있습니다.
+	 */
+	public boolean isCachedParticipant(Long roomId, Long userId) {
+		Set<Long> roomParticipants = participants.get(roomId);
+		return roomParticipants != null && roomParticipants.contains(userId);
+	}
+
 	/**
 	 * 채팅방 존재 여부를 확인합니다.
 	 */
@@ -65,7 +91,107 @@ public class SocketService {
 	public void addParticipant(Long roomId, Long userId) {
 		participants.computeIfAbsent(roomId, k -> Collections.newSetFromMap(new ConcurrentHashMap<>())).add(userId);
 	}
-}
 
+	/**
+	 * 채팅방 상태를 반환합니다.
+	 * 캐시에 없거나 적재 후 {@code ROOM_STATE_TTL_MS}가 지난 경우 채팅방과 참여자 테이블만 한 번 조회하여 적재합니다.
+	 * 조회 빈도와 무관하게 적재 시각 기준으로 만료되므로, 종료 알림을 받지 못한 노드도 만료 후에는 DB 상태를 따릅니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @return 채팅방 상태, 채팅방이 없으면 빈 값
+	 */
+	public Optional<RoomState> findRoomState(Long roomId) {
+		RoomState cached = roomStates.get(roomId);
+		if (cached != null && !cached.isExpired(System.currentTimeMillis())) {
+			return Optional.of(cached);
+		}
+
+		List<RoomStateRow> rows = chatRoomRepository.findRoomStateRows(roomId);
+		if (rows.isEmpty()) {
+			return Optional.empty();
+		}
+		RoomStateRow first = rows.get(0);
+		RoomState loaded = new RoomState(roomId, first.getProductId(), first.getStatus(),
+			rows.stream().collect(Collectors.toMap(RoomStateRow::getUserId, RoomStateRow::getRoleInRoom)));
+		return Optional.of(roomStates.merge(roomId, loaded,
+			(current, fresh) -> current.isExpired(System.currentTimeMillis()) ? fresh : current));
+	}
+
+	/**
+	 * 채팅방 생성이 커밋되면 상태를 캐시에 기록합니다.
+	 * 생성 직후 첫 메시지 전송부터 채팅방을 조회하지 않습니다.
+	 */
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onRoomOpened(ChatRoomOpenedEvent event) {
+		roomStates.put(event.getRoomId(), new RoomState(event.getRoomId(), event.getProductId(), ChatRoomStatus.OPEN,
+			Map.of(event.getBuyerId(), RoleInRoom.BUYER, event.getSellerId(), RoleInRoom.SELLER)));
+	}
+
+	/**
+	 * 채팅방을 종료 상태로 메모리 캐시에 기록하고 참여자 정보를 제거합니다.
+	 * 이후 해당 채팅방으로의 구독과 메시지 전송은 DB 조회 없이 거부됩니다.
+	 */
+	public void markClosed(Long roomId) {
+		roomStates.compute(roomId, (id, current) -> current == null
+			? new RoomState(id, null, ChatRoomStatus.CLOSED, Map.of())
+			: current.closed());
+		participants.remove(roomId);
+	}
+
+	/**
+	 * 메모리 캐시 기준으로 종료된 채팅방인지 확인합니다.
+	 */
+	public boolean isClosedRoom(Long roomId) {
+		RoomState state = roomStates.get(roomId);
+		return state != null && state.isClosed();
+	}
 
+	/**
+	 * 적재 후 만료된 채팅방 상태를 캐시에서 제거합니다.
+	 * 제거된 채팅방은 다음 메시지 전송 시 다시 조회하여 적재되며, 종료된 채팅방도 조회한 상태로 다시 거부됩니다.
+	 */
+	@Scheduled(fixedDelay = ROOM_STATE_TTL_MS)
+	public void pruneRoomStates() {
+		long now = System.currentTimeMillis();
+		roomStates.values().removeIf(state -> state.isExpired(now));
+	}
 
+	/**
+	 * 메시지 전송 검증에 필요한 채팅방 상태입니다.
+	 * 참여자 식별자별 채팅방 내 역할을 함께 보관하며, 종료 시에는 새 인스턴스로 교체됩니다.
+	 */
+	@Getter
+	public static final class RoomState {
+		private final Long roomId;
+		private final Long productId;
+		private final ChatRoomStatus status;
+		private final Map<Long, RoleInRoom> participantRoles;
+		private final long loadedAt = System.currentTimeMillis();
+
+		private RoomState(Long roomId, Long productId, ChatRoomStatus status, Map<Long, RoleInRoom> participantRoles) {
+			this.roomId = roomId;
+			this.productId = productId;
+			this.status = status;
+			this.participantRoles = Map.copyOf(participantRoles);
+		}
+
+		public boolean isClosed() {
+			return status == ChatRoomStatus.CLOSED;
+		}
+
+		/**
+		 * 사용자의 채팅방 내 역할을 반환합니다. 참여자가 아니면 {@code null}입니다.
+		 */
+		public RoleInRoom roleOf(Long userId) {
+			return participantRoles.get(userId);
+		}
+
+		private RoomState closed() {
+			return new RoomState(roomId, productId, ChatRoomStatus.CLOSED, participantRoles);
+		}
+
+		private boolean isExpired(long now) {
+			return loadedAt < now - ROOM_STATE_TTL_MS;
+		}
+	}
+}
@@ -0,0 +1,131 @@
+package kr.sparta.livechat.service;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import kr.sparta.livechat.config.TypingProperties;
+import kr.sparta.livechat.dto.socket.TypingEventResponse;
+import kr.sparta.livechat.dto.socket.TypingRequest;
+import kr.sparta.livechat.global.exception.WsCustomException;
+import kr.sparta.livechat.global.exception.WsErrorCode;
+import kr.sparta.livechat.socket.OutboundPriority;
+import kr.sparta.livechat.socket.RoomDestination;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 입력중 표시(typing) 이벤트를 처리하는 서비스 클래스입니다.
+ * <p>
+ * 입력중 이벤트는 저장하지 않는 일회성 이벤트이므로 {@link ChatMessageService}를 거치지 않고,
+ * 참여자 검증도 {@link SocketService#isCachedParticipant(Long, Long)}로 메모리 캐시만 확인하여 DB를 조회하지 않습니다.
+ *
+ * 사용자/채팅방 단위로 {@code intervalMs}에 최대 1건만 전송하고,
+ * 간격 안에 들어온 이벤트는 마지막 상태만 보관했다가 간격이 지나면 전송합니다(trailing).
+ * 전송 시 DROPPABLE 헤더를 붙여 느린 소비자에게는 최신 상태만 전달되도록 합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Service
+@RequiredArgsConstructor
+public class TypingService {
+
+	private static final String TYPING_EVENT = "TYPING";
+
+	private final SocketService socketService;
+	private final SimpMessagingTemplate messagingTemplate;
+	private final TypingProperties properties;
+
+	private final Map<TypingKey, TypingState> states = new ConcurrentHashMap<>();
+
+	/**
+	 * 입력중 상태를 전송합니다.
+	 * 마지막 전송 후 {@code intervalMs}가 지나지 않았으면 상태만 갱신하고 trailing 전송을 기다립니다.
+	 *
+	 * {@code 4002}: 요청자가 캐시에 등록된 채팅방 참여자가 아님
+	 * {@code 4003}: {@code roomId} 누락
+	 */
+	public void typing(Long userId, TypingRequest request) {
+		Long roomId = request.getRoomId();
+		if (roomId == null) {
+			throw new WsCustomException(WsErrorCode.INVALID_MESSAGE);
+		}
+		if (!socketService.isCachedParticipant(roomId, userId)) {
+			throw new WsCustomException(WsErrorCode.FORBIDDEN);
+		}
+
+		long now = System.currentTimeMillis();
+		boolean[] sendNow = {false};
+		states.compute(new TypingKey(roomId, userId), (key, state) -> {
+			TypingState current = state == null ? new TypingState() : state;
+			if (now - current.lastSentAt >= properties.getIntervalMs()) {
+				current.lastSentAt = now;
+				current.pending = null;
+				sendNow[0] = true;
+			} else {
+				current.pending = request.isTyping();
+			}
+			return current;
+		});
+
+		if (sendNow[0]) {
+			send(roomId, userId, request.isTyping());
+		}
+	}
+
+	/**
+	 * 간격이 지난 trailing 이벤트를 전송하고, 오래 사용되지 않은 상태를 정리합니다.
+	 */
+	@Scheduled(fixedDelayString = "${websocket.typing.flush-interval-ms}")
+	public void flushTrailing() {
+		long now = System.currentTimeMillis();
+		for (TypingKey key : states.keySet()) {
+			Boolean[] trailing = {null};
+			states.computeIfPresent(key, (k, state) -> {
+				long elapsed = now - state.lastSentAt;
+				if (elapsed < properties.getIntervalMs()) {
+					return state;
+				}
+				if (state.pending != null) {
+					trailing[0] = state.pending;
+					state.pending = null;
+					state.lastSentAt = now;
+					return state;
+				}
+				return elapsed >= properties.getIntervalMs() * 2 ? null : state;
+			});
+
+			if (trailing[0] != null) {
+				send(key.roomId(), key.userId(), trailing[0]);
+			}
+		}
+	}
+
+	private void send(Long roomId, Long userId, boolean typing) {
+		messagingTemplate.convertAndSend(
+			RoomDestination.of(roomId),
+			TypingEventResponse.builder()
+				.event(TYPING_EVENT)
+				.roomId(roomId)
+				.userId(userId)
+				.typing(typing)
+				.sentAt(LocalDateTime.now())
+				.build(),
+			OutboundPriority.droppable("typing:" + roomId + ":" + userId)
+		);
+	}
+
+	private record TypingKey(Long roomId, Long userId) {
+	}
+
+	private static final class TypingState {
+		private long lastSentAt;
+		private Boolean pending;
+	}
+}
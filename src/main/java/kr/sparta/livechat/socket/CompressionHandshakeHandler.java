@@ -0,0 +1,51 @@
+package kr.sparta.livechat.socket;
+
+import java.util.List;
+
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.WebSocketExtension;
+import org.springframework.web.socket.server.support.DefaultHandshakeHandler;
+
+import kr.sparta.livechat.config.WebSocketTransportProperties;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * {@code /ws/chat} 핸드셰이크 시 WebSocket 확장 협상을 처리하는 핸드셰이크 핸들러입니다.
+ * <p>
+ * 클라이언트가 요청하고 서버 컨테이너가 지원하는 확장 중
+ * {@code permessage-deflate}는 {@link WebSocketTransportProperties#isCompressionEnabled()}가
+ * {@code true}인 경우에만 협상 결과에 포함합니다.
+ * 설정으로 압축을 끄면 CPU 비용 없이 비압축 프레임으로 동작합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Component
+@RequiredArgsConstructor
+public class CompressionHandshakeHandler extends DefaultHandshakeHandler {
+
+	private static final String PER_MESSAGE_DEFLATE = "permessage-deflate";
+
+	private final WebSocketTransportProperties transportProperties;
+
+	@Override
+	protected List<WebSocketExtension> filterRequestedExtensions(
+		ServerHttpRequest request,
+		List<WebSocketExtension> requestedExtensions,
+		List<WebSocketExtension> supportedExtensions
+	) {
+		List<WebSocketExtension> negotiated =
+			super.filterRequestedExtensions(request, requestedExtensions, supportedExtensions);
+
+		if (transportProperties.isCompressionEnabled()) {
+			return negotiated;
+		}
+
+		return negotiated.stream()
+			.filter(extension -> !PER_MESSAGE_DEFLATE.equalsIgnoreCase(extension.getName()))
+			.toList();
+	}
+}
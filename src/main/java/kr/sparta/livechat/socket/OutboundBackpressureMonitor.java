@@ -0,0 +1,259 @@
+package kr.sparta.livechat.socket;
+
+import java.io.IOException;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import kr.sparta.livechat.config.WebSocketBackpressureProperties;
+import kr.sparta.livechat.global.exception.WsErrorCode;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 세션별 outbound 미전송 프레임 수를 추적하고 느린 소비자에게 정책을 적용하는 클래스입니다.
+ * <p>
+ * clientOutboundChannel 에 인터셉터로 등록되어 세션으로 향하는 프레임이 채널에 들어올 때 미전송 수를 증가시키고,
+ * WebSocket 세션을 감싼 {@link TrackedSession}에서 실제 전송이 끝날 때 감소시킵니다.
+ * 두 값의 차이는 채널 큐와 Spring 세션 버퍼에 쌓여 있는 프레임 수입니다.
+ *
+ * 미전송 수가 {@code highWatermark}를 넘으면 세션을 지연 상태로 표시하고 사용자/목적지를 로그로 남기며,
+ * {@link SlowConsumerPolicy}에 따라 폐기 가능한 이벤트를 버리거나 병합하고, 또는 연결을 종료합니다.
+ * 미전송 수가 {@code lowWatermark} 이하로 내려오면 정상 상태로 복구하고 병합해 둔 이벤트를 전송합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Slf4j
+@Component
+public class OutboundBackpressureMonitor implements ChannelInterceptor {
+
+	private final WebSocketBackpressureProperties properties;
+	private final SessionRegistry sessionRegistry;
+	private final Map<String, SessionOutbound> sessions = new ConcurrentHashMap<>();
+
+	private final DistributionSummary pendingSummary;
+	private final Counter slowConsumerCounter;
+	private final Counter droppedCounter;
+	private final Counter coalescedCounter;
+	private final Counter disconnectedCounter;
+
+	public OutboundBackpressureMonitor(
+		WebSocketBackpressureProperties properties,
+		SessionRegistry sessionRegistry,
+		MeterRegistry meterRegistry
+	) {
+		this.properties = properties;
+		this.sessionRegistry = sessionRegistry;
+		this.pendingSummary = DistributionSummary.builder("livechat.ws.outbound.pending")
+			.description("세션별 outbound 미전송 프레임 수")
+			.publishPercentiles(0.5, 0.99)
+			.register(meterRegistry);
+		this.slowConsumerCounter = meterRegistry.counter("livechat.ws.outbound.slow.consumer");
+		this.droppedCounter = meterRegistry.counter("livechat.ws.outbound.dropped");
+		this.coalescedCounter = meterRegistry.counter("livechat.ws.outbound.coalesced");
+		this.disconnectedCounter = meterRegistry.counter("livechat.ws.outbound.disconnected");
+
+		Gauge.builder("livechat.ws.outbound.lagging.sessions", sessions,
+				map -> map.values().stream().filter(SessionOutbound::isLagging).count())
+			.description("지연 상태인 세션 수")
+			.register(meterRegistry);
+		Gauge.builder("livechat.ws.outbound.pending.max", sessions,
+				map -> map.values().stream().mapToInt(s -> s.pending.get()).max().orElse(0))
+			.description("세션별 outbound 미전송 프레임 수의 최대값")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * WebSocket 핸들러를 감싸 연결된 세션의 실제 전송 완료 시점을 추적합니다.
+	 * {@code WebSocketTransportRegistration#addDecoratorFactory}에 등록하여 사용합니다.
+	 */
+	public WebSocketHandler decorate(WebSocketHandler handler) {
+		return new WebSocketHandlerDecorator(handler) {
+			@Override
+			public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+				SessionOutbound outbound = new SessionOutbound(session);
+				sessions.put(session.getId(), outbound);
+				super.afterConnectionEstablished(new TrackedSession(session, outbound));
+			}
+
+			@Override
+			public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+				sessions.remove(session.getId());
+				super.afterConnectionClosed(session, closeStatus);
+			}
+		};
+	}
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		String sessionId = SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+		SessionOutbound outbound = sessionId == null ? null : sessions.get(sessionId);
+		if (outbound == null) {
+			return message;
+		}
+
+		if (outbound.isLagging() && OutboundPriority.isDroppable(message)) {
+			return holdOrDrop(outbound, message, channel);
+		}
+
+		int pending = outbound.pending.incrementAndGet();
+		pendingSummary.record(pending);
+
+		if (pending >= properties.getHighWatermark() && outbound.lagging.compareAndSet(false, true)) {
+			slowConsumerCounter.increment();
+			log.warn("느린 소비자 감지: sessionId={}, userId={}, destination={}, rooms={}, pending={}, policy={}",
+				outbound.sessionId, sessionRegistry.findUserId(outbound.sessionId),
+				SimpMessageHeaderAccessor.getDestination(message.getHeaders()),
+				sessionRegistry.getSubscribedRoomIds(outbound.sessionId), pending, properties.getPolicy());
+
+			if (properties.getPolicy() == SlowConsumerPolicy.DISCONNECT) {
+				disconnect(outbound);
+				return null;
+			}
+		}
+		return message;
+	}
+
+	private Message<?> holdOrDrop(SessionOutbound outbound, Message<?> message, MessageChannel channel) {
+		String coalesceKey = OutboundPriority.coalesceKey(message);
+		if (properties.getPolicy() == SlowConsumerPolicy.COALESCE && coalesceKey != null) {
+			outbound.channel = channel;
+			outbound.coalesced.put(coalesceKey, message);
+			coalescedCounter.increment();
+			return null;
+		}
+		droppedCounter.increment();
+		return null;
+	}
+
+	private void onSent(SessionOutbound outbound) {
+		int pending = outbound.pending.updateAndGet(value -> value > 0 ? value - 1 : 0);
+		if (pending > properties.getLowWatermark() || !outbound.lagging.compareAndSet(true, false)) {
+			return;
+		}
+
+		log.info("느린 소비자 복구: sessionId={}, userId={}, coalesced={}",
+			outbound.sessionId, sessionRegistry.findUserId(outbound.sessionId), outbound.coalesced.size());
+
+		MessageChannel channel = outbound.channel;
+		Iterator<Message<?>> iterator = outbound.coalesced.values().iterator();
+		while (iterator.hasNext()) {
+			Message<?> held = iterator.next();
+			iterator.remove();
+			if (channel != null) {
+				channel.send(held);
+			}
+		}
+	}
+
+	private void disconnect(SessionOutbound outbound) {
+		disconnectedCounter.increment();
+		WsErrorCode errorCode = WsErrorCode.SLOW_CONSUMER;
+		try {
+			outbound.session.close(new CloseStatus(errorCode.getStatus(), errorCode.getCode()));
+		} catch (IOException e) {
+			log.warn("느린 소비자 연결 종료 실패: sessionId={}, {}", outbound.sessionId, e.getMessage());
+		}
+	}
+
+	/**
+	 * 세션별 outbound 상태를 미전송 수가 많은 순서로 반환합니다.
+	 *
+	 * @return 세션별 outbound 상태 목록
+	 */
+	public List<OutboundSessionStats> snapshot() {
+		return sessions.values().stream()
+			.map(outbound -> outbound.toStats(sessionRegistry.findUserId(outbound.sessionId)))
+			.sorted(Comparator.comparingInt(OutboundSessionStats::getPending).reversed())
+			.toList();
+	}
+
+	/**
+	 * 세션 단위 outbound 상태 정보입니다.
+	 */
+	@Getter
+	@Builder
+	public static class OutboundSessionStats {
+		private final String sessionId;
+		private final Long userId;
+		private final int pending;
+		private final boolean lagging;
+		private final int coalesced;
+	}
+
+	private static final class SessionOutbound {
+		private final String sessionId;
+		private final WebSocketSession session;
+		private final AtomicInteger pending = new AtomicInteger();
+		private final Map<String, Message<?>> coalesced = new ConcurrentHashMap<>();
+		private final AtomicBoolean lagging = new AtomicBoolean();
+		private volatile MessageChannel channel;
+
+		private SessionOutbound(WebSocketSession session) {
+			this.sessionId = session.getId();
+			this.session = session;
+		}
+
+		private boolean isLagging() {
+			return lagging.get();
+		}
+
+		private OutboundSessionStats toStats(Long userId) {
+			return OutboundSessionStats.builder()
+				.sessionId(sessionId)
+				.userId(userId)
+				.pending(pending.get())
+				.lagging(lagging.get())
+				.coalesced(coalesced.size())
+				.build();
+		}
+	}
+
+	/**
+	 * 실제 전송 완료 시점을 알리기 위해 WebSocket 세션을 감싼 데코레이터입니다.
+	 * Spring 세션 버퍼({@code ConcurrentWebSocketSessionDecorator}) 안쪽에 위치하므로
+	 * 버퍼에서 꺼내져 네트워크로 쓰인 프레임만 전송 완료로 집계되며, 전송에 실패한 프레임도 미전송 수에서 제외합니다.
+	 */
+	private final class TrackedSession extends WebSocketSessionDecorator {
+
+		private final SessionOutbound outbound;
+
+		private TrackedSession(WebSocketSession delegate, SessionOutbound outbound) {
+			super(delegate);
+			this.outbound = outbound;
+		}
+
+		@Override
+		public void sendMessage(WebSocketMessage<?> message) throws IOException {
+			try {
+				super.sendMessage(message);
+			} finally {
+				onSent(outbound);
+			}
+		}
+	}
+}
@@ -0,0 +1,56 @@
+package kr.sparta.livechat.socket;
+
+import java.util.Map;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.support.NativeMessageHeaderAccessor;
+
+/**
+ * 서버 -> 클라이언트로 브로드캐스트되는 이벤트의 전송 우선순위입니다.
+ * <p>
+ * CRITICAL : 메시지, 채팅방 종료처럼 유실되면 안 되는 이벤트 (헤더가 없으면 CRITICAL로 간주)
+ * DROPPABLE : 입력중 표시, 접속 상태처럼 최신 상태만 의미가 있는 이벤트
+ *
+ * 우선순위와 병합 키는 STOMP 헤더로 전달되며,
+ * 느린 소비자 처리 시 {@link OutboundBackpressureMonitor}가 이 값을 기준으로 폐기/병합 여부를 결정합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public enum OutboundPriority {
+	CRITICAL,
+	DROPPABLE;
+
+	public static final String PRIORITY_HEADER = "x-priority";
+	public static final String COALESCE_KEY_HEADER = "x-coalesce-key";
+
+	/**
+	 * 폐기 가능한 이벤트로 전송하기 위한 헤더를 생성합니다.
+	 *
+	 * @param coalesceKey 지연 시 최신 1건만 남길 때 사용하는 병합 키
+	 * @return {@code SimpMessagingTemplate#convertAndSend}에 전달할 헤더
+	 */
+	public static Map<String, Object> droppable(String coalesceKey) {
+		return Map.of(
+			PRIORITY_HEADER, DROPPABLE.name(),
+			COALESCE_KEY_HEADER, coalesceKey
+		);
+	}
+
+	/**
+	 * outbound 메시지의 우선순위를 확인합니다.
+	 */
+	public static boolean isDroppable(Message<?> message) {
+		String priority = NativeMessageHeaderAccessor.getFirstNativeHeader(PRIORITY_HEADER, message.getHeaders());
+		return DROPPABLE.name().equals(priority);
+	}
+
+	/**
+	 * outbound 메시지의 병합 키를 반환합니다. 없으면 {@code null}을 반환합니다.
+	 */
+	public static String coalesceKey(Message<?> message) {
+		return NativeMessageHeaderAccessor.getFirstNativeHeader(COALESCE_KEY_HEADER, message.getHeaders());
+	}
+}
@@ -0,0 +1,52 @@
+package kr.sparta.livechat.socket;
+
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 채팅방 구독 목적지({@code /sub/chat/room/{roomId}})를 생성하고 해석하는 유틸리티 클래스입니다.
+ * <p>
+ * 구독 검증, 세션 레지스트리, 이벤트 브로드캐스트에서 동일한 목적지 규칙을 사용하도록 한 곳에서 관리합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public final class RoomDestination {
+
+	public static final String ROOM_TOPIC_PREFIX = "/sub/chat/room/";
+
+	private static final Pattern ROOM_SUBSCRIBE_PATTERN =
+		Pattern.compile("^/sub/chat/room/(?<roomId>\\d+)$");
+
+	private RoomDestination() {
+	}
+
+	/**
+	 * 채팅방 구독 목적지를 반환합니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @return {@code /sub/chat/room/{roomId}}
+	 */
+	public static String of(Long roomId) {
+		return ROOM_TOPIC_PREFIX + roomId;
+	}
+
+	/**
+	 * 목적지가 채팅방 구독 목적지이면 채팅방 식별자를 반환합니다.
+	 *
+	 * @param destination STOMP 목적지
+	 * @return 채팅방 식별자, 채팅방 목적지가 아니면 {@code null}
+	 */
+	public static Long parseRoomId(String destination) {
+		if (destination == null) {
+			return null;
+		}
+		Matcher matcher = ROOM_SUBSCRIBE_PATTERN.matcher(destination);
+		if (!matcher.matches()) {
+			return null;
+		}
+		return Long.parseLong(matcher.group("roomId"));
+	}
+}
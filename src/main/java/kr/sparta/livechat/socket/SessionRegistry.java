@@ -0,0 +1,333 @@
+package kr.sparta.livechat.socket;
+
+import java.security.Principal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+/**
+ * STOMP 연결과 채팅방 구독 현황을 관리하는 세션 레지스트리입니다.
+ * <p>
+ * CONNECT / SUBSCRIBE / UNSUBSCRIBE / DISCONNECT 시 발행되는 Spring 세션 이벤트를 받아
+ * 사용자 -> 세션, 채팅방 -> 구독 세션, 세션 -> 세션 정보 인덱스를 갱신합니다.
+ * 모든 인덱스는 {@link ConcurrentHashMap} 기반이므로 별도의 락 없이 조회할 수 있으며,
+ * 비어 있는 집합은 {@code computeIfPresent}로 원자적으로 제거하여 맵이 계속 커지지 않도록 합니다.
+ *
+ * 사용자의 첫 세션이 등록되거나 마지막 세션이 제거되면 {@link UserPresenceEvent}를 발행합니다.
+ * 현재 연결 수, 접속 사용자 수, 구독 중인 채팅방 수, 구독 수를 Micrometer 게이지로 노출합니다.
+ * 구독 검증은 {@link StompChannelInterceptor}에서 끝난 뒤 이벤트가 발행되므로
+ * 이 레지스트리에는 검증을 통과한 구독만 기록됩니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Component
+public class SessionRegistry {
+
+	private final Map<String, SessionInfo> sessions = new ConcurrentHashMap<>();
+	private final Map<Long, Set<String>> userSessions = new ConcurrentHashMap<>();
+	private final Map<Long, Set<String>> roomSessions = new ConcurrentHashMap<>();
+	private final AtomicInteger subscriptionCount = new AtomicInteger();
+	private final ApplicationEventPublisher eventPublisher;
+
+	public SessionRegistry(MeterRegistry meterRegistry, ApplicationEventPublisher eventPublisher) {
+		this.eventPublisher = eventPublisher;
+		Gauge.builder("livechat.ws.sessions", sessions, Map::size)
+			.description("현재 연결된 STOMP 세션 수")
+			.register(meterRegistry);
+		Gauge.builder("livechat.ws.users", userSessions, Map::size)
+			.description("현재 접속 중인 사용자 수")
+			.register(meterRegistry);
+		Gauge.builder("livechat.ws.rooms.subscribed", roomSessions, Map::size)
+			.description("구독 세션이 1개 이상인 채팅방 수")
+			.register(meterRegistry);
+		Gauge.builder("livechat.ws.subscriptions", subscriptionCount, AtomicInteger::get)
+			.description("현재 채팅방 구독 수")
+			.register(meterRegistry);
+	}
+
+	/**
+	 * STOMP CONNECT 가 완료되면 세션과 사용자를 등록합니다.
+	 */
+	@EventListener
+	public void onConnected(SessionConnectedEvent event) {
+		String sessionId = sessionId(event.getMessage());
+		Long userId = userId(event.getUser());
+		if (sessionId == null || userId == null) {
+			return;
+		}
+		register(sessionId, userId);
+	}
+
+	/**
+	 * 채팅방 목적지 구독 시 채팅방 -> 세션 인덱스에 추가합니다.
+	 * 세션은 CONNECT 완료 시에만 등록하므로, 이미 연결이 종료되어 등록되지 않은 세션의 구독은 무시합니다.
+	 */
+	@EventListener
+	public void onSubscribe(SessionSubscribeEvent event) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+		Long roomId = RoomDestination.parseRoomId(accessor.getDestination());
+		SessionInfo info = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+		if (roomId == null || info == null || accessor.getSubscriptionId() == null) {
+			return;
+		}
+
+		if (info.subscriptions.put(accessor.getSubscriptionId(), roomId) == null) {
+			subscriptionCount.incrementAndGet();
+		}
+		// 빈 집합을 제거하는 removeFromIndex 와 같은 키에서 직렬화되도록 compute 안에서 추가합니다.
+		roomSessions.compute(roomId, (key, sessionIds) -> {
+			if (sessionIds == null) {
+				sessionIds = ConcurrentHashMap.newKeySet();
+			}
+			sessionIds.add(info.sessionId);
+			return sessionIds;
+		});
+		// 추가하는 동안 연결이 종료되었으면 unregister 가 정리한 뒤일 수 있으므로 직접 되돌립니다.
+		if (sessions.get(info.sessionId) != info) {
+			if (info.subscriptions.remove(accessor.getSubscriptionId()) != null) {
+				subscriptionCount.decrementAndGet();
+			}
+			removeFromIndex(roomSessions, roomId, info.sessionId);
+		}
+	}
+
+	/**
+	 * 구독 해제 시 같은 세션에 해당 채팅방의 다른 구독이 남아 있지 않으면 인덱스에서 제거합니다.
+	 */
+	@EventListener
+	public void onUnsubscribe(SessionUnsubscribeEvent event) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.wrap(event.getMessage());
+		SessionInfo info = accessor.getSessionId() == null ? null : sessions.get(accessor.getSessionId());
+		if (info == null || accessor.getSubscriptionId() == null) {
+			return;
+		}
+
+		Long roomId = info.subscriptions.remove(accessor.getSubscriptionId());
+		if (roomId == null) {
+			return;
+		}
+		subscriptionCount.decrementAndGet();
+		if (!info.subscriptions.containsValue(roomId)) {
+			removeFromIndex(roomSessions, roomId, info.sessionId);
+		}
+	}
+
+	/**
+	 * 연결 종료 시 세션과 세션의 모든 구독을 제거합니다.
+	 * DISCONNECT 프레임과 연결 종료로 이벤트가 두 번 발행될 수 있으므로 중복 호출에 안전하게 동작합니다.
+	 */
+	@EventListener
+	public void onDisconnect(SessionDisconnectEvent event) {
+		unregister(event.getSessionId());
+	}
+
+	SessionInfo register(String sessionId, Long userId) {
+		SessionInfo info = sessions.computeIfAbsent(sessionId, id -> new SessionInfo(id, userId));
+		boolean[] firstSession = {false};
+		userSessions.compute(userId, (key, sessionIds) -> {
+			if (sessionIds == null) {
+				sessionIds = ConcurrentHashMap.newKeySet();
+				firstSession[0] = true;
+			}
+			sessionIds.add(sessionId);
+			return sessionIds;
+		});
+		if (firstSession[0]) {
+			eventPublisher.publishEvent(new UserPresenceEvent(userId, true));
+		}
+		return info;
+	}
+
+	SessionInfo unregister(String sessionId) {
+		SessionInfo info = sessionId == null ? null : sessions.remove(sessionId);
+		if (info == null) {
+			return null;
+		}
+
+		if (removeFromIndex(userSessions, info.userId, sessionId)) {
+			eventPublisher.publishEvent(new UserPresenceEvent(info.userId, false));
+		}
+		for (Long roomId : Set.copyOf(info.subscriptions.values())) {
+			removeFromIndex(roomSessions, roomId, sessionId);
+		}
+		subscriptionCount.addAndGet(-info.subscriptions.size());
+		info.subscriptions.clear();
+		return info;
+	}
+
+	/**
+	 * 종료된 채팅방의 모든 구독을 인덱스에서 제거하고, 제거한 (세션, 구독 식별자) 목록을 반환합니다.
+	 * 반환된 목록으로 브로커의 구독도 함께 해제해야 합니다.
+	 *
+	 * @param roomId 채팅방 식별자
+	 * @return 제거된 구독 목록
+	 */
+	public List<RoomSubscription> removeRoom(Long roomId) {
+		Set<String> sessionIds = roomSessions.remove(roomId);
+		if (sessionIds == null) {
+			return List.of();
+		}
+
+		List<RoomSubscription> removed = new ArrayList<>();
+		for (String sessionId : sessionIds) {
+			SessionInfo info = sessions.get(sessionId);
+			if (info == null) {
+				continue;
+			}
+			info.subscriptions.entrySet().removeIf(entry -> {
+				if (!roomId.equals(entry.getValue())) {
+					return false;
+				}
+				removed.add(new RoomSubscription(sessionId, entry.getKey()));
+				return true;
+			});
+		}
+		subscriptionCount.addAndGet(-removed.size());
+		return removed;
+	}
+
+	/**
+	 * 인덱스에서 세션을 제거하고, 집합이 비어 키가 제거되었는지 여부를 반환합니다.
+	 */
+	private boolean removeFromIndex(Map<Long, Set<String>> index, Long key, String sessionId) {
+		boolean[] emptied = {false};
+		index.computeIfPresent(key, (k, sessionIds) -> {
+			sessionIds.remove(sessionId);
+			emptied[0] = sessionIds.isEmpty();
+			return emptied[0] ? null : sessionIds;
+		});
+		return emptied[0];
+	}
+
+	/**
+	 * 세션에 연결된 사용자 식별자를 반환합니다.
+	 *
+	 * @param sessionId STOMP 세션 식별자
+	 * @return 사용자 식별자, 등록되지 않은 세션이면 {@code null}
+	 */
+	public Long findUserId(String sessionId) {
+		SessionInfo info = sessionId == null ? null : sessions.get(sessionId);
+		return info == null ? null : info.userId;
+	}
+
+	/**
+	 * 사용자의 현재 연결 세션 식별자 목록을 반환합니다.
+	 */
+	public Set<String> getUserSessionIds(Long userId) {
+		Set<String> sessionIds = userSessions.get(userId);
+		return sessionIds == null ? Collections.emptySet() : Set.copyOf(sessionIds);
+	}
+
+	/**
+	 * 사용자의 연결이 1개 이상 남아 있는지 여부를 반환합니다.
+	 */
+	public boolean isOnline(Long userId) {
+		return userSessions.containsKey(userId);
+	}
+
+	/**
+	 * 채팅방을 구독 중인 세션 정보 목록을 반환합니다.
+	 */
+	public List<SessionInfo> getRoomSessions(Long roomId) {
+		Set<String> sessionIds = roomSessions.getOrDefault(roomId, Collections.emptySet());
+		return sessionIds.stream()
+			.map(sessions::get)
+			.filter(info -> info != null)
+			.toList();
+	}
+
+	/**
+	 * 채팅방을 구독 중인 세션 수를 반환합니다.
+	 */
+	public int countRoomSessions(Long roomId) {
+		Set<String> sessionIds = roomSessions.get(roomId);
+		return sessionIds == null ? 0 : sessionIds.size();
+	}
+
+	/**
+	 * 세션이 구독 중인 채팅방 식별자 목록을 반환합니다.
+	 */
+	public Set<Long> getSubscribedRoomIds(String sessionId) {
+		SessionInfo info = sessionId == null ? null : sessions.get(sessionId);
+		return info == null ? Collections.emptySet() : Set.copyOf(info.subscriptions.values());
+	}
+
+	public int getSessionCount() {
+		return sessions.size();
+	}
+
+	public int getUserCount() {
+		return userSessions.size();
+	}
+
+	public int getSubscribedRoomCount() {
+		return roomSessions.size();
+	}
+
+	public int getSubscriptionCount() {
+		return subscriptionCount.get();
+	}
+
+	private String sessionId(Message<?> message) {
+		return SimpMessageHeaderAccessor.getSessionId(message.getHeaders());
+	}
+
+	private Long userId(Principal user) {
+		if (user instanceof CustomPrincipal principal) {
+			return principal.getUserId();
+		}
+		return null;
+	}
+
+	/**
+	 * 세션 단위 연결 정보입니다.
+	 * 구독 식별자 -> 채팅방 식별자 맵을 함께 보관하여 UNSUBSCRIBE 프레임만으로 채팅방을 찾을 수 있도록 합니다.
+	 */
+	@Getter
+	public static class SessionInfo {
+		private final String sessionId;
+		private final Long userId;
+		private final LocalDateTime connectedAt;
+		@Getter(AccessLevel.NONE)
+		private final Map<String, Long> subscriptions = new ConcurrentHashMap<>();
+
+		private SessionInfo(String sessionId, Long userId) {
+			this.sessionId = sessionId;
+			this.userId = userId;
+			this.connectedAt = LocalDateTime.now();
+		}
+
+		public int getSubscriptionCount() {
+			return subscriptions.size();
+		}
+	}
+
+	/**
+	 * 세션의 채팅방 구독 하나를 나타냅니다.
+	 */
+	public record RoomSubscription(String sessionId, String subscriptionId) {
+	}
+}
@@ -0,0 +1,19 @@
+package kr.sparta.livechat.socket;
+
+/**
+ * outbound 미전송 프레임이 임계값을 넘은 세션(느린 소비자)에 적용하는 정책입니다.
+ * <p>
+ * DROP_NON_CRITICAL : 지연 상태 동안 {@link OutboundPriority#DROPPABLE} 이벤트를 전송하지 않습니다.
+ * COALESCE : 지연 상태 동안 {@link OutboundPriority#DROPPABLE} 이벤트를 키별 최신 1건만 보관했다가 복구 시 전송합니다.
+ * DISCONNECT : 임계값을 넘는 즉시 {@code WS_SLOW_CONSUMER} 코드로 연결을 종료합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public enum SlowConsumerPolicy {
+	DROP_NON_CRITICAL,
+	COALESCE,
+	DISCONNECT
+}
@@ -1,7 +1,5 @@
 package kr.sparta.livechat.socket;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
 import kr.sparta.livechat.global.exception.CustomException;
 import kr.sparta.livechat.global.exception.ErrorCode;
 import kr.sparta.livechat.service.JwtService;
@@ -40,9 +38,6 @@ import org.springframework.stereotype.Component;
 @RequiredArgsConstructor
 public class StompChannelInterceptor implements ChannelInterceptor {
 
-	private static final Pattern ROOM_SUBSCRIBE_PATTERN =
-		Pattern.compile("^/sub/chat/room/(?<roomId>\\d+)$");
-
 	private final SocketService socketService;
 	private final JwtService jwtService;
 
@@ -71,24 +66,21 @@ public class StompChannelInterceptor implements ChannelInterceptor {
 
 		if (StompCommand.SUBSCRIBE.equals(accessor.getCommand())) {
 
-			String destination = accessor.getDestination();
-			if (destination == null) {
-				return message;
-			}
-
-			Matcher matcher = ROOM_SUBSCRIBE_PATTERN.matcher(destination);
-			if (!matcher.matches()) {
+			Long roomId = RoomDestination.parseRoomId(accessor.getDestination());
+			if (roomId == null) {
 				return message;
 			}
 
-			Long roomId = Long.parseLong(matcher.group("roomId"));
-
 			if (!(accessor.getUser() instanceof CustomPrincipal principal)) {
 				throw new CustomException(ErrorCode.AUTH_INVALID_TOKEN_FORMAT);
 			}
 
 			Long userId = principal.getUserId();
 
+			if (socketService.isClosedRoom(roomId)) {
+				throw new CustomException(ErrorCode.CHATROOM_ALREADY_CLOSED);
+			}
+
 			if (!socketService.isParticipant(roomId, userId)) {
 				throw new CustomException(ErrorCode.CHATROOM_ACCESS_DENIED);
 			}
@@ -0,0 +1,156 @@
+package kr.sparta.livechat.socket;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Pattern;
+import java.util.zip.Deflater;
+
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.support.ChannelInterceptor;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import kr.sparta.livechat.config.WebSocketTransportProperties;
+
+/**
+ * STOMP 프레임의 페이로드 크기와 압축 효율을 측정하는 채널 인터셉터입니다.
+ * <p>
+ * inbound(클라이언트 -> 서버), outbound(서버 -> 클라이언트) 채널에 각각 등록되며
+ * 목적지 prefix 단위로 다음 지표를 기록합니다.
+ *
+ * {@code livechat.ws.frame.size}: 프레임 페이로드 크기 히스토그램(byte)
+ * {@code livechat.ws.frame.below.threshold}: 압축 임계값 미만이라 비압축으로 전송되는 프레임 수
+ * {@code livechat.ws.frame.compression.ratio}: 샘플링한 프레임의 deflate 압축 후/전 크기 비율
+ * {@code livechat.ws.frame.compression.time}: 샘플링한 프레임의 deflate 소요 시간
+ *
+ * 압축률은 permessage-deflate와 같은 raw deflate로 측정하며,
+ * 설정된 비율만큼만 샘플링하여 측정 자체의 CPU 비용을 제한합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+public class StompFrameMetricsInterceptor implements ChannelInterceptor {
+
+	public static final String INBOUND = "inbound";
+	public static final String OUTBOUND = "outbound";
+
+	private static final int MAX_PREFIX_TAGS = 32;
+	private static final String OTHER_PREFIX = "other";
+	private static final String NO_DESTINATION = "none";
+	private static final Pattern NUMERIC_SEGMENT = Pattern.compile("/\\d+(?=/|$)");
+
+	private static final ThreadLocal<Deflater> DEFLATER =
+		ThreadLocal.withInitial(() -> new Deflater(Deflater.DEFAULT_COMPRESSION, true));
+	private static final ThreadLocal<byte[]> DEFLATE_BUFFER = ThreadLocal.withInitial(() -> new byte[8192]);
+
+	private final String direction;
+	private final MeterRegistry meterRegistry;
+	private final WebSocketTransportProperties transportProperties;
+	private final Map<String, FrameMeters> metersByPrefix = new ConcurrentHashMap<>();
+
+	public StompFrameMetricsInterceptor(
+		String direction,
+		MeterRegistry meterRegistry,
+		WebSocketTransportProperties transportProperties
+	) {
+		this.direction = direction;
+		this.meterRegistry = meterRegistry;
+		this.transportProperties = transportProperties;
+	}
+
+	@Override
+	public Message<?> preSend(Message<?> message, MessageChannel channel) {
+		if (!(message.getPayload() instanceof byte[] payload) || payload.length == 0) {
+			return message;
+		}
+
+		FrameMeters meters = metersFor(SimpMessageHeaderAccessor.getDestination(message.getHeaders()));
+		meters.size.record(payload.length);
+
+		if (payload.length < transportProperties.getCompressionMinSize()) {
+			meters.belowThreshold.increment();
+			return message;
+		}
+
+		if (ThreadLocalRandom.current().nextDouble() < transportProperties.getCompressionSampleRate()) {
+			long start = System.nanoTime();
+			int compressedSize = deflatedSize(payload);
+			meters.compressionTime.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+			meters.compressionRatio.record((double)compressedSize / payload.length);
+		}
+		return message;
+	}
+
+	private FrameMeters metersFor(String destination) {
+		String prefix = normalize(destination);
+		FrameMeters meters = metersByPrefix.get(prefix);
+		if (meters != null) {
+			return meters;
+		}
+		if (metersByPrefix.size() >= MAX_PREFIX_TAGS) {
+			prefix = OTHER_PREFIX;
+		}
+		return metersByPrefix.computeIfAbsent(prefix, this::register);
+	}
+
+	private String normalize(String destination) {
+		if (destination == null || destination.isBlank()) {
+			return NO_DESTINATION;
+		}
+		return NUMERIC_SEGMENT.matcher(destination).replaceAll("/{id}");
+	}
+
+	private FrameMeters register(String prefix) {
+		return new FrameMeters(
+			DistributionSummary.builder("livechat.ws.frame.size")
+				.description("STOMP 프레임 페이로드 크기")
+				.baseUnit("bytes")
+				.tags("direction", direction, "destination", prefix)
+				.publishPercentileHistogram()
+				.register(meterRegistry),
+			Counter.builder("livechat.ws.frame.below.threshold")
+				.description("압축 임계값 미만 프레임 수")
+				.tags("direction", direction, "destination", prefix)
+				.register(meterRegistry),
+			DistributionSummary.builder("livechat.ws.frame.compression.ratio")
+				.description("deflate 압축 후 크기 / 원본 크기")
+				.tags("direction", direction, "destination", prefix)
+				.publishPercentiles(0.5, 0.95)
+				.register(meterRegistry),
+			Timer.builder("livechat.ws.frame.compression.time")
+				.description("프레임 deflate 소요 시간")
+				.tags("direction", direction, "destination", prefix)
+				.register(meterRegistry)
+		);
+	}
+
+	private int deflatedSize(byte[] payload) {
+		Deflater deflater = DEFLATER.get();
+		byte[] buffer = DEFLATE_BUFFER.get();
+		deflater.reset();
+		deflater.setInput(payload);
+		deflater.finish();
+
+		int total = 0;
+		while (!deflater.finished()) {
+			total += deflater.deflate(buffer);
+		}
+		return total;
+	}
+
+	private record FrameMeters(
+		DistributionSummary size,
+		Counter belowThreshold,
+		DistributionSummary compressionRatio,
+		Timer compressionTime
+	) {
+	}
+}
@@ -0,0 +1,23 @@
+package kr.sparta.livechat.socket;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 사용자의 로컬 연결 상태가 바뀌었을 때 {@link SessionRegistry}가 발행하는 애플리케이션 이벤트입니다.
+ * <p>
+ * {@code online}이 {@code true}이면 사용자의 첫 세션이 연결된 것이고,
+ * {@code false}이면 마지막 세션이 종료된 것입니다.
+ * 재연결 flapping 을 걸러내는 처리는 이벤트를 받는 쪽에서 담당합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @version 1.0
+ * @since 2026. 10. 19.
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserPresenceEvent {
+	private final Long userId;
+	private final boolean online;
+}
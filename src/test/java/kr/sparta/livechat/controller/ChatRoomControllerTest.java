@@ -6,6 +6,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.List;
 
 import org.hamcrest.Matchers;
@@ -388,6 +389,29 @@ public class ChatRoomControllerTest {
 		then(chatRoomService).should(times(1)).getChatRoomDetail(eq(chatRoomId), eq(buyerId));
 	}
 
+	/**
+	 * If-None-Match 가 현재 ETag 와 같으면 채팅방을 조회하지 않고 304를 반환하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("채팅방 상세 조회 - 변경이 없으면 304 Not Modified")
+	void getChatRoomDetail_NotModified() throws Exception {
+		// given
+		Long chatRoomId = 1L;
+		Long buyerId = 10L;
+		loginAsBuyer(buyerId);
+		LocalDateTime updatedAt = LocalDateTime.parse("2026-10-19T12:00:00");
+		long millis = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		given(chatRoomService.findChatRoomLastModified(chatRoomId, buyerId)).willReturn(updatedAt);
+
+		// when & then
+		mockMvc.perform(get("/api/chat-rooms/{chatRoomId}", chatRoomId)
+				.header("If-None-Match", "\"chat-room-1-" + millis + "\""))
+			.andExpect(status().isNotModified())
+			.andExpect(header().string("Cache-Control", "no-cache, private"));
+
+		then(chatRoomService).should(never()).getChatRoomDetail(any(), any());
+	}
+
 	/**
 	 * 채팅방 상세 조회 실패(요청 식별자 유효성 오류) 케이스를 검증합니다.
 	 */
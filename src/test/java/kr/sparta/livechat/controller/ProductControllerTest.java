@@ -5,6 +5,7 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
@@ -28,8 +29,10 @@ import kr.sparta.livechat.config.SecurityConfig;
 import kr.sparta.livechat.domain.role.ProductStatus;
 import kr.sparta.livechat.dto.product.CreateProductResponse;
 import kr.sparta.livechat.dto.product.GetProductDetailResponse;
+import kr.sparta.livechat.dto.product.GetProductFeedResponse;
 import kr.sparta.livechat.dto.product.GetProductListResponse;
 import kr.sparta.livechat.dto.product.PatchProductResponse;
+import kr.sparta.livechat.dto.product.ProductFeedCondition;
 import kr.sparta.livechat.entity.Role;
 import kr.sparta.livechat.entity.User;
 import kr.sparta.livechat.global.exception.CustomException;
@@ -192,7 +195,8 @@ public class ProductControllerTest {
 			0L,
 			0,
 			false,
-			List.of()
+			List.of(),
+			null
 		);
 
 		given(productService.getProductList(0, 20)).willReturn(response);
@@ -210,6 +214,61 @@ public class ProductControllerTest {
 			.andExpect(jsonPath("$.productList").isArray());
 	}
 
+	/**
+	 * 상품 목록 조회 시 응답에 담긴 목록 수정 시각으로 만든 ETag 를 응답하고, 같은 ETag 로 다시 요청하면 304를 반환하는지 검증합니다.
+	 *
+	 * @throws Exception MockMvc 수행 중 예외가 발생할 수 있음
+	 */
+	@Test
+	@DisplayName("상품 목록 조회 - 응답 본문의 수정 시각 기반 ETag 와 304 Not Modified")
+	void getProductList_ETag() throws Exception {
+		// given
+		LocalDateTime lastModifiedAt = LocalDateTime.parse("2026-10-19T12:00:00");
+		long millis = lastModifiedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		GetProductListResponse response = new GetProductListResponse(0, 20, 0L, 0, false, List.of(), lastModifiedAt);
+		given(productService.getProductList(0, 20)).willReturn(response);
+
+		// when & then
+		mockMvc.perform(get("/api/products"))
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", "\"products-0-20-" + millis + "\""));
+		mockMvc.perform(get("/api/products")
+				.header("If-None-Match", "\"products-0-20-" + millis + "\""))
+			.andExpect(status().isNotModified())
+			.andExpect(content().string(""));
+	}
+
+	/**
+	 * 상품 피드 조회 시 필터 파라미터를 조회 조건으로 전달하는지 검증합니다.
+	 *
+	 * @throws Exception MockMvc 수행 중 예외가 발생할 수 있음
+	 */
+	@Test
+	@DisplayName("상품 피드 조회 성공 - 필터 조건 전달")
+	void getProductFeed_Success() throws Exception {
+		// given
+		GetProductFeedResponse response = new GetProductFeedResponse(20, true, "next", null, List.of());
+		given(productService.getProductFeed(
+			new ProductFeedCondition(ProductStatus.ONSALE, 3L, 1000, 5000), "cursor", 20, false))
+			.willReturn(response);
+
+		// when & then
+		mockMvc.perform(get("/api/products/feed")
+				.param("cursor", "cursor")
+				.param("size", "20")
+				.param("status", "ONSALE")
+				.param("sellerId", "3")
+				.param("minPrice", "1000")
+				.param("maxPrice", "5000")
+				.accept(MediaType.APPLICATION_JSON))
+			.andExpect(status().isOk())
+			.andExpect(jsonPath("$.size").value(20))
+			.andExpect(jsonPath("$.hasNext").value(true))
+			.andExpect(jsonPath("$.nextCursor").value("next"))
+			.andExpect(jsonPath("$.totalElements").isEmpty())
+			.andExpect(jsonPath("$.productList").isArray());
+	}
+
 	/**
 	 * 상품 목록 조회 실패(파라미터 타입 오류) 케이스를 검증
 	 * <p>
@@ -260,6 +319,49 @@ public class ProductControllerTest {
 		then(productService).should(times(1)).getProductDetail(productId);
 	}
 
+	/**
+	 * 상품 상세 조회 시 응답 본문의 수정 시각으로 만든 ETag 를 응답하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("상품 상세 조회 성공 - 수정 시각 기반 ETag/Last-Modified 응답")
+	void getProductDetail_Success_ETag() throws Exception {
+		// given
+		Long productId = 1L;
+		LocalDateTime updatedAt = LocalDateTime.parse("2026-10-19T12:00:00");
+		long millis = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		GetProductDetailResponse response = mockDetailResponse(productId);
+		given(response.getUpdatedAt()).willReturn(updatedAt);
+		given(productService.getProductDetail(productId)).willReturn(response);
+
+		// when & then
+		mockMvc.perform(get("/api/products/{productId}", productId))
+			.andExpect(status().isOk())
+			.andExpect(header().string("ETag", "\"product-1-" + millis + "\""))
+			.andExpect(header().exists("Last-Modified"))
+			.andExpect(header().string("Cache-Control", "no-cache"));
+	}
+
+	/**
+	 * If-None-Match 가 응답 본문의 ETag 와 같으면 본문 없이 304를 반환하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("상품 상세 조회 - 변경이 없으면 304 Not Modified")
+	void getProductDetail_NotModified() throws Exception {
+		// given
+		Long productId = 1L;
+		LocalDateTime updatedAt = LocalDateTime.parse("2026-10-19T12:00:00");
+		long millis = updatedAt.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+		GetProductDetailResponse response = mock(GetProductDetailResponse.class);
+		given(response.getUpdatedAt()).willReturn(updatedAt);
+		given(productService.getProductDetail(productId)).willReturn(response);
+
+		// when & then
+		mockMvc.perform(get("/api/products/{productId}", productId)
+				.header("If-None-Match", "\"product-1-" + millis + "\""))
+			.andExpect(status().isNotModified())
+			.andExpect(content().string(""));
+	}
+
 	private GetProductDetailResponse mockDetailResponse(Long productId) {
 		GetProductDetailResponse res = mock(GetProductDetailResponse.class);
 		given(res.getProductId()).willReturn(productId);
@@ -0,0 +1,284 @@
+package kr.sparta.livechat.search;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import kr.sparta.livechat.config.SearchProperties;
+import kr.sparta.livechat.domain.event.ChatMessageSentEvent;
+import kr.sparta.livechat.domain.role.ChatRoomStatus;
+import kr.sparta.livechat.domain.role.MessageType;
+import kr.sparta.livechat.repository.MessageRepository;
+import kr.sparta.livechat.repository.MessageRepository.MessageDocument;
+
+/**
+ * MessageSearchIndexTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link MessageSearchIndex}
+ * 세그먼트 저장 후 채팅방 범위 검색, 세그먼트 병합, 재기동 시 manifest 기준 적재,
+ * DB 확인을 통한 누락 메시지 색인과 watermark 기록, 다른 노드의 색인 알림 처리를 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class MessageSearchIndexTest {
+
+	@TempDir
+	Path indexDir;
+
+	@Mock
+	MessageRepository messageRepository;
+
+	@Mock
+	StringRedisTemplate redisTemplate;
+
+	@Mock
+	RedisMessageListenerContainer listenerContainer;
+
+	private SearchProperties properties;
+	private MessageSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		properties = new SearchProperties(indexDir.toString(), 100, 1000, 2, 2, 100, 100);
+		index = new MessageSearchIndex(properties, messageRepository, redisTemplate, listenerContainer);
+		index.load();
+	}
+
+	@Test
+	@DisplayName("검색 - 참여 채팅방의 후보만 최신순 반환")
+	void searchWithinRooms() {
+		// given
+		index.index(List.of(
+			document(1L, 10L, "택배비 얼마인가요", MessageType.TEXT),
+			document(2L, 20L, "택배비 포함인가요", MessageType.TEXT),
+			document(3L, 10L, "택배비는 제가 낼게요", MessageType.TEXT),
+			document(4L, 10L, "https://image/택배비.png", MessageType.IMAGE)
+		));
+		index.flush();
+
+		// when
+		List<Long> result = index.search(List.of(10L), "택배비", null, 10);
+
+		// then
+		assertThat(result).containsExactly(3L, 1L);
+		assertThat(index.search(List.of(10L), "택배비", 3L, 10)).containsExactly(1L);
+		assertThat(index.search(List.of(10L), "환불", null, 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("병합 - 최대 세그먼트 수를 넘으면 작은 세그먼트를 병합")
+	void mergeSegments() {
+		// given
+		for (long id = 1; id <= 3; id++) {
+			index.index(List.of(document(id, 10L, "안녕하세요", MessageType.TEXT)));
+			index.flush();
+		}
+
+		// when
+		List<Segment> segments = index.segments();
+
+		// then
+		assertThat(segments).hasSize(2);
+		assertThat(index.search(List.of(10L), "안녕", null, 10)).containsExactly(3L, 2L, 1L);
+	}
+
+	@Test
+	@DisplayName("적재 - manifest 의 세그먼트만 읽고 남은 파일은 삭제")
+	void reload() throws Exception {
+		// given
+		for (long id = 1; id <= 3; id++) {
+			index.index(List.of(document(id, 10L, "안녕하세요", MessageType.TEXT)));
+			index.flush();
+		}
+		Files.writeString(indexDir.resolve(Segment.fileName(99)), "garbage");
+
+		// when
+		MessageSearchIndex reloaded = new MessageSearchIndex(properties, messageRepository, redisTemplate,
+			listenerContainer);
+		reloaded.load();
+
+		// then
+		assertThat(reloaded.segments()).hasSize(2);
+		assertThat(reloaded.search(List.of(10L), "안녕", null, 2)).containsExactly(3L, 2L);
+		assertThat(indexDir.resolve(Segment.fileName(99))).doesNotExist();
+	}
+
+	/**
+	 * 대기열에 없던 메시지를 DB 확인으로 색인하고, 빈 번호 직전까지만 watermark 를 올려 기록하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("DB 확인 - 누락 메시지 색인 후 빈 번호 직전까지 watermark 기록")
+	void scanUpToGap() throws Exception {
+		// given
+		given(messageRepository.findIdsAfter(eq(0L), any(Pageable.class))).willReturn(List.of(1L, 2L, 4L));
+		given(messageRepository.findDocumentsByIdIn(List.of(1L, 2L, 4L))).willReturn(List.of(
+			document(1L, 10L, "안녕하세요", MessageType.TEXT),
+			document(2L, 10L, "안녕하세요", MessageType.TEXT),
+			document(4L, 10L, "안녕하세요", MessageType.TEXT)
+		));
+		given(messageRepository.findDocumentsByIdIn(List.of(3L))).willReturn(List.of());
+
+		// when
+		index.scan();
+		index.flush();
+
+		// then
+		assertThat(index.watermark()).isEqualTo(2L);
+		assertThat(Files.readString(indexDir.resolve(MessageSearchIndex.WATERMARK))).isEqualTo("2");
+		assertThat(index.search(List.of(10L), "안녕", null, 10)).containsExactly(4L, 2L, 1L);
+	}
+
+	/**
+	 * 빈 번호의 메시지가 늦게 커밋되면 색인하고 watermark 를 마지막 확인 식별자까지 올리는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("DB 확인 - 늦게 커밋된 빈 번호 메시지 색인 후 watermark 갱신")
+	void resolveGapCommittedLater() {
+		// given
+		given(messageRepository.findIdsAfter(eq(0L), any(Pageable.class))).willReturn(List.of(1L, 3L));
+		given(messageRepository.findDocumentsByIdIn(List.of(1L, 3L))).willReturn(List.of(
+			document(1L, 10L, "안녕하세요", MessageType.TEXT),
+			document(3L, 10L, "안녕하세요", MessageType.TEXT)
+		));
+		given(messageRepository.findDocumentsByIdIn(List.of(2L)))
+			.willReturn(List.of())
+			.willReturn(List.of(document(2L, 10L, "늦은 메시지", MessageType.TEXT)));
+		given(messageRepository.findIdsAfter(eq(3L), any(Pageable.class))).willReturn(List.of());
+		index.scan();
+
+		// when
+		index.scan();
+		index.flush();
+
+		// then
+		assertThat(index.watermark()).isEqualTo(3L);
+		assertThat(index.search(List.of(10L), "늦은", null, 10)).containsExactly(2L);
+	}
+
+	/**
+	 * 재기동 시 마지막으로 색인된 식별자가 아니라 기록된 watermark 이후부터 다시 확인하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("적재 - 기록된 watermark 이후부터 DB 확인")
+	void resumeFromWatermark() {
+		// given
+		given(messageRepository.findIdsAfter(eq(0L), any(Pageable.class))).willReturn(List.of(1L, 3L));
+		given(messageRepository.findDocumentsByIdIn(List.of(1L, 3L))).willReturn(List.of(
+			document(1L, 10L, "안녕하세요", MessageType.TEXT),
+			document(3L, 10L, "안녕하세요", MessageType.TEXT)
+		));
+		given(messageRepository.findDocumentsByIdIn(List.of(2L))).willReturn(List.of());
+		index.scan();
+		index.flush();
+
+		MessageSearchIndex reloaded = new MessageSearchIndex(properties, messageRepository, redisTemplate,
+			listenerContainer);
+		reloaded.load();
+		given(messageRepository.findIdsAfter(eq(1L), any(Pageable.class))).willReturn(List.of(2L, 3L));
+		given(messageRepository.findDocumentsByIdIn(List.of(2L, 3L))).willReturn(List.of(
+			document(2L, 10L, "늦은 메시지", MessageType.TEXT),
+			document(3L, 10L, "안녕하세요", MessageType.TEXT)
+		));
+
+		// when
+		reloaded.scan();
+		reloaded.flush();
+
+		// then
+		assertThat(reloaded.watermark()).isEqualTo(3L);
+		assertThat(reloaded.search(List.of(10L), "늦은", null, 10)).containsExactly(2L);
+	}
+
+	/**
+	 * 이 노드에서 저장된 메시지를 한 번에 알리고, 다른 노드의 알림만 색인하며 자신이 보낸 알림과 형식 오류는 무시하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("색인 알림 - 다른 노드의 알림만 색인")
+	void relayAcrossNodes() {
+		// given
+		given(messageRepository.findDocumentsByIdIn(List.of(7L, 8L, 5L))).willReturn(List.of(
+			document(7L, 10L, "이 노드 메시지", MessageType.TEXT),
+			document(8L, 10L, "이 노드 메시지", MessageType.TEXT),
+			document(5L, 10L, "다른 노드 메시지", MessageType.TEXT)
+		));
+		index.onMessageSent(sentEvent(7L));
+		index.onMessageSent(sentEvent(8L));
+		index.onRemoteSent("other-node:5");
+		index.onRemoteSent("other-node:x");
+
+		// when
+		index.indexPending();
+		index.flush();
+
+		// then
+		ArgumentCaptor<String> bodyCaptor = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq("message:search:sent"), bodyCaptor.capture());
+		assertThat(bodyCaptor.getValue()).endsWith(":7,8");
+		assertThat(index.search(List.of(10L), "다른 노드", null, 10)).containsExactly(5L);
+
+		index.onRemoteSent(bodyCaptor.getValue());
+		index.indexPending();
+		verify(messageRepository, times(1)).findDocumentsByIdIn(anyCollection());
+	}
+
+	private ChatMessageSentEvent sentEvent(Long messageId) {
+		return new ChatMessageSentEvent(10L, 100L, ChatRoomStatus.OPEN, messageId, 1L, MessageType.TEXT,
+			LocalDateTime.now());
+	}
+
+	private MessageDocument document(Long id, Long roomId, String content, MessageType type) {
+		return new Document(id, roomId, 1L, type, content, LocalDateTime.now());
+	}
+
+	private record Document(Long id, Long roomId, Long writerId, MessageType type, String content,
+							LocalDateTime sentAt) implements MessageDocument {
+		@Override
+		public Long getId() {
+			return id;
+		}
+
+		@Override
+		public Long getRoomId() {
+			return roomId;
+		}
+
+		@Override
+		public Long getWriterId() {
+			return writerId;
+		}
+
+		@Override
+		public MessageType getType() {
+			return type;
+		}
+
+		@Override
+		public String getContent() {
+			return content;
+		}
+
+		@Override
+		public LocalDateTime getSentAt() {
+			return sentAt;
+		}
+	}
+}
@@ -0,0 +1,51 @@
+package kr.sparta.livechat.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * NgramTokenizerTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link NgramTokenizer}
+ * 정규화 후 구간별 2-gram 분리와 검색어 연속 포함 확인을 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+class NgramTokenizerTest {
+
+	@Test
+	@DisplayName("토큰화 - 구간별 2-gram, 한 글자 구간은 제외")
+	void tokenize() {
+		// when & then
+		assertThat(NgramTokenizer.tokenize("배송비는, 얼마? A"))
+			.containsExactly("배송", "송비", "비는", "얼마");
+	}
+
+	@Test
+	@DisplayName("토큰화 - 한 글자 구간은 검색어 토큰에서 제외하고 일치 확인으로만 검사")
+	void tokenizeSingleCharacterRun() {
+		// when & then
+		assertThat(NgramTokenizer.tokenize("폰")).isEmpty();
+		assertThat(NgramTokenizer.tokenize("a 노트북")).containsExactly("노트", "트북");
+		assertThat(NgramTokenizer.matches("apple 노트북 팝니다", "a 노트북")).isTrue();
+	}
+
+	@Test
+	@DisplayName("토큰화 - 전각 문자와 대소문자 정규화")
+	void tokenizeNormalizes() {
+		// when & then
+		assertThat(NgramTokenizer.tokenize("ＩＰｈｏｎｅ")).isEqualTo(NgramTokenizer.tokenize("iphone"));
+	}
+
+	@Test
+	@DisplayName("일치 확인 - 조사가 붙은 본문도 검색어를 포함하면 일치")
+	void matchesWithParticle() {
+		// when & then
+		assertThat(NgramTokenizer.matches("택배비를 따로 받나요?", "택배비")).isTrue();
+		assertThat(NgramTokenizer.matches("택배 비용은 별도", "택배비")).isFalse();
+	}
+}
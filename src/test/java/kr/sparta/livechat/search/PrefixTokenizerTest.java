@@ -0,0 +1,43 @@
+package kr.sparta.livechat.search;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+/**
+ * PrefixTokenizerTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link PrefixTokenizer}
+ * 구간별 접두어 색인과 검색어 접두어 일치 확인을 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+class PrefixTokenizerTest {
+
+	@Test
+	@DisplayName("색인 토큰화 - 구간마다 모든 접두어")
+	void indexTerms() {
+		// when & then
+		assertThat(PrefixTokenizer.indexTerms("망치를 A4"))
+			.containsExactly("망", "망치", "망치를", "a", "a4");
+	}
+
+	@Test
+	@DisplayName("검색 토큰화 - 최대 길이보다 긴 구간은 잘라서 조회")
+	void queryTermsTruncates() {
+		// when & then
+		assertThat(PrefixTokenizer.queryTerms("abcdefghijklmn 망치"))
+			.containsExactly("abcdefghij", "망치");
+	}
+
+	@Test
+	@DisplayName("일치 확인 - 검색어의 모든 단어가 상품 단어의 접두어이면 일치")
+	void matches() {
+		// when & then
+		assertThat(PrefixTokenizer.matches("토르의 망치입니다", "토르 망치")).isTrue();
+		assertThat(PrefixTokenizer.matches("토르의 망치입니다", "치입")).isFalse();
+	}
+}
@@ -0,0 +1,210 @@
+package kr.sparta.livechat.search;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import kr.sparta.livechat.domain.event.ProductChangedEvent;
+import kr.sparta.livechat.domain.role.ProductStatus;
+import kr.sparta.livechat.repository.ProductRepository;
+import kr.sparta.livechat.repository.ProductRepository.ProductDocument;
+
+/**
+ * ProductSearchIndexTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link ProductSearchIndex}
+ * 접두어/가격 범위 검색, 상품 변경 이벤트 반영과 다른 노드로의 전파, 기동 시 묶음 단위 색인 구성을 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductSearchIndexTest {
+
+	@Mock
+	ProductRepository productRepository;
+
+	@Mock
+	StringRedisTemplate redisTemplate;
+
+	@Mock
+	RedisMessageListenerContainer listenerContainer;
+
+	private ExecutorService executor;
+	private ProductSearchIndex index;
+
+	@BeforeEach
+	void setUp() {
+		executor = Executors.newSingleThreadExecutor();
+		index = new ProductSearchIndex(productRepository, redisTemplate, listenerContainer, executor);
+		index.put(document(1L, "토르의 망치", "선택받은 자만 드는 망치", 3000));
+		index.put(document(2L, "캡틴 방패", "비브라늄 방패", 5000));
+		index.put(document(3L, "장난감 망치", "어린이용", 1000));
+		index.put(document(4L, "고무 망치", "타일 시공용", 2000));
+	}
+
+	@Test
+	@DisplayName("검색 - 접두어가 모두 포함된 상품을 최신순 반환")
+	void searchByPrefix() {
+		// when & then
+		assertThat(index.search("망치", null, null, null, 10)).containsExactly(4L, 3L, 1L);
+		assertThat(index.search("망", null, null, 3L, 10)).containsExactly(1L);
+		assertThat(index.search("토르 망치", null, null, null, 10)).containsExactly(1L);
+		assertThat(index.search("망치", null, null, null, 2)).containsExactly(4L, 3L);
+		assertThat(index.search("도끼", null, null, null, 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("검색 - 가격 범위 안의 상품만 반환")
+	void searchByPriceRange() {
+		// when & then
+		assertThat(index.search("망치", 1500, 3000, null, 10)).containsExactly(4L, 1L);
+		assertThat(index.search("망치", 1000, 1000, null, 10)).containsExactly(3L);
+		assertThat(index.search("망치", null, 999, null, 10)).isEmpty();
+	}
+
+	@Test
+	@DisplayName("이벤트 - 삭제된 상품은 제외하고 가격 변경은 즉시 반영")
+	void onProductChanged() {
+		// given
+		given(productRepository.findDocumentById(4L, ProductStatus.DELETED))
+			.willReturn(Optional.of(document(4L, "고무 망치", "타일 시공용", 9000)));
+
+		// when
+		index.onProductChanged(new ProductChangedEvent(3L, ProductStatus.DELETED));
+		index.onProductChanged(new ProductChangedEvent(4L, ProductStatus.ONSALE));
+
+		// then
+		assertThat(index.search("망치", null, null, null, 10)).containsExactly(4L, 1L);
+		assertThat(index.search("망치", null, 5000, null, 10)).containsExactly(1L);
+		assertThat(index.size()).isEqualTo(3);
+	}
+
+	/**
+	 * 상품명이 바뀌면 이전 텍스트의 posting 을 지워 이전 검색어로 찾히지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("이벤트 - 수정된 상품의 이전 접두어 posting 제거")
+	void removeStalePostings() {
+		// given
+		given(productRepository.findDocumentById(4L, ProductStatus.DELETED))
+			.willReturn(Optional.of(document(4L, "고무 장갑", "주방용", 2000)));
+
+		// when
+		index.onProductChanged(new ProductChangedEvent(4L, ProductStatus.ONSALE));
+		index.onProductChanged(new ProductChangedEvent(3L, ProductStatus.DELETED));
+
+		// then
+		assertThat(index.search("망치", null, null, null, 10)).containsExactly(1L);
+		assertThat(index.search("고무", null, null, null, 10)).containsExactly(4L);
+		assertThat(index.search("장난감", null, null, null, 10)).isEmpty();
+	}
+
+	/**
+	 * 변경된 상품 식별자를 다른 노드에 알리고, 자신이 보낸 알림은 다시 반영하지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("전파 - 변경된 상품을 알리고 자신의 알림은 무시")
+	void publishChanges() throws Exception {
+		// given
+		given(productRepository.findDocumentById(4L, ProductStatus.DELETED))
+			.willReturn(Optional.of(document(4L, "고무 망치", "타일 시공용", 2000)));
+		index.onProductChanged(new ProductChangedEvent(4L, ProductStatus.ONSALE));
+		ArgumentCaptor<String> body = ArgumentCaptor.forClass(String.class);
+		verify(redisTemplate).convertAndSend(eq("product:search:changed"), body.capture());
+
+		// when
+		index.onRemoteChanged(body.getValue());
+		awaitExecutor();
+
+		// then
+		assertThat(body.getValue()).endsWith(":4");
+		verify(productRepository, never()).findDocumentsByIdIn(anyList(), any());
+	}
+
+	/**
+	 * 다른 노드의 변경 알림을 받으면 상품을 다시 읽어 반영하고, 조회되지 않는 상품은 제거하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("전파 - 다른 노드의 변경 알림으로 색인 갱신")
+	void applyRemoteChanges() throws Exception {
+		// given
+		given(productRepository.findDocumentsByIdIn(List.of(4L, 3L), ProductStatus.DELETED))
+			.willReturn(List.of(document(4L, "고무 장갑", "주방용", 2000)));
+
+		// when
+		index.onRemoteChanged("other-node:4,3");
+		awaitExecutor();
+
+		// then
+		assertThat(index.search("망치", null, null, null, 10)).containsExactly(1L);
+		assertThat(index.search("장갑", null, null, null, 10)).containsExactly(4L);
+		assertThat(index.size()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("기동 - 상품 테이블을 묶음 단위로 읽어 색인을 교체")
+	void rebuild() {
+		// given
+		given(productRepository.findDocumentsAfter(eq(0L), eq(ProductStatus.DELETED), any(Pageable.class)))
+			.willReturn(List.of(document(10L, "노트북 파우치", "13인치", 15000), document(11L, "노트북", "14인치", 900000)));
+		given(productRepository.findDocumentsAfter(eq(11L), eq(ProductStatus.DELETED), any(Pageable.class)))
+			.willReturn(List.of());
+
+		// when
+		index.rebuild();
+
+		// then
+		assertThat(index.size()).isEqualTo(2);
+		assertThat(index.search("노트", null, null, null, 10)).containsExactly(11L, 10L);
+		assertThat(index.search("망치", null, null, null, 10)).isEmpty();
+	}
+
+	private void awaitExecutor() throws InterruptedException {
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	private ProductDocument document(Long id, String name, String description, int price) {
+		return new Document(id, name, description, price);
+	}
+
+	private record Document(Long id, String name, String description, Integer price) implements ProductDocument {
+		@Override
+		public Long getId() {
+			return id;
+		}
+
+		@Override
+		public String getName() {
+			return name;
+		}
+
+		@Override
+		public String getDescription() {
+			return description;
+		}
+
+		@Override
+		public Integer getPrice() {
+			return price;
+		}
+	}
+}
@@ -15,6 +15,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.mockito.junit.jupiter.MockitoSettings;
 import org.mockito.quality.Strictness;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
@@ -27,11 +28,15 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import kr.sparta.livechat.domain.entity.ChatRoom;
 import kr.sparta.livechat.domain.entity.Product;
 import kr.sparta.livechat.domain.role.ChatRoomStatus;
+import kr.sparta.livechat.dto.admin.AdminChatMessageListResponse;
+import kr.sparta.livechat.dto.admin.AdminChatMessageResponse;
+import kr.sparta.livechat.dto.admin.AdminChatRoomResponse;
 import kr.sparta.livechat.dto.admin.AdminChatStatusRequest;
 import kr.sparta.livechat.global.exception.CustomException;
 import kr.sparta.livechat.global.exception.ErrorCode;
 import kr.sparta.livechat.repository.ChatRoomRepository;
 import kr.sparta.livechat.repository.MessageRepository;
+import kr.sparta.livechat.repository.UserRepository;
 
 /**
  * 관리자 전용 채팅 서비스에 대한 단위 테스트 클래스
@@ -60,6 +65,18 @@ class AdminChatServiceTest {
 	@Mock
 	private MessageRepository messageRepository;
 
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	private ChatRoomStatsService chatRoomStatsService;
+
+	@Mock
+	private MessageArchiveService messageArchiveService;
+
+	@Mock
+	private UserRepository userRepository;
+
 	@AfterEach
 	void clear() {
 		SecurityContextHolder.clearContext();
@@ -80,7 +97,7 @@ class AdminChatServiceTest {
 
 	/**
 	 * 관리자 권한으로 전체 채팅방 조회하는 성공 테스트
-	 * Repository의 findAll 호출 여부 검증
+	 * Repository의 projection 조회 호출 여부 검증
 	 * 정렬조건으로 전달되는지 확인
 	 */
 	@Test
@@ -88,14 +105,14 @@ class AdminChatServiceTest {
 	void getAllChatRooms_Success() {
 		// given
 		mockSecurityContext("ROLE_ADMIN");
-		Page<ChatRoom> emptyPage = new PageImpl<>(List.of());
-		given(chatRoomRepository.findAll(any(Pageable.class))).willReturn(emptyPage);
+		Page<AdminChatRoomResponse> emptyPage = new PageImpl<>(List.of());
+		given(chatRoomRepository.findAdminChatRooms(any(Pageable.class))).willReturn(emptyPage);
 
 		// when
 		adminChatService.getAllChatRooms(0, 20);
 
 		// then
-		verify(chatRoomRepository).findAll((Pageable)argThat(p -> {
+		verify(chatRoomRepository).findAdminChatRooms((Pageable)argThat(p -> {
 			Pageable pageable = (Pageable)p;
 			return pageable.getSort().getOrderFor("status").isDescending() &&
 				pageable.getSort().getOrderFor("createdAt").isDescending();
@@ -147,7 +164,8 @@ class AdminChatServiceTest {
 		given(mockRoom.getStatus()).willReturn(kr.sparta.livechat.domain.role.ChatRoomStatus.OPEN);
 
 		given(chatRoomRepository.findById(chatRoomId)).willReturn(java.util.Optional.of(mockRoom));
-		given(messageRepository.findByRoomId(eq(chatRoomId), any(org.springframework.data.domain.Pageable.class)))
+		given(messageRepository.findAdminMessagesByRoomId(eq(chatRoomId),
+			any(org.springframework.data.domain.Pageable.class)))
 			.willReturn(new org.springframework.data.domain.SliceImpl<>(List.of()));
 
 		// when
@@ -155,7 +173,7 @@ class AdminChatServiceTest {
 
 		// then
 		assertThat(response.getChatRoomId()).isEqualTo(chatRoomId);
-		verify(messageRepository).findByRoomId(eq(chatRoomId), argThat(p ->
+		verify(messageRepository).findAdminMessagesByRoomId(eq(chatRoomId), argThat(p ->
 			p.getSort().getOrderFor("sentAt").isDescending()
 		));
 	}
@@ -218,6 +236,7 @@ class AdminChatServiceTest {
 
 		// then
 		verify(mockRoom).close();
+		verify(chatRoomStatsService).summarize(mockRoom);
 	}
 
 	/**
@@ -260,4 +279,79 @@ class AdminChatServiceTest {
 			.isInstanceOf(CustomException.class)
 			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.CHATROOM_INVALID_STATUS);
 	}
+
+	/**
+	 * 커서 없이 조회하면 최신 메시지부터 keyset 조회하고 다음 커서를 반환하는지 테스트
+	 */
+	@Test
+	@DisplayName("커서 조회 성공 - size+1 건으로 다음 페이지 여부와 다음 커서 계산")
+	void getChatRoomMessages_FirstPage() {
+		// given
+		mockSecurityContext("ROLE_ADMIN");
+		Long chatRoomId = 1L;
+		given(chatRoomRepository.findStatusById(chatRoomId)).willReturn(Optional.of(ChatRoomStatus.OPEN));
+		given(messageRepository.findAdminMessagesBefore(eq(chatRoomId), eq(Long.MAX_VALUE), any(Pageable.class)))
+			.willReturn(List.of(message(30L), message(29L), message(28L)));
+
+		// when
+		AdminChatMessageListResponse response = adminChatService.getChatRoomMessages(chatRoomId, null, 2);
+
+		// then
+		assertThat(response.isHasNext()).isTrue();
+		assertThat(response.getNextCursor()).isEqualTo(29L);
+		assertThat(response.getMessagesList()).extracting(AdminChatMessageResponse::getMessageId)
+			.containsExactly(30L, 29L);
+		verify(messageRepository).findAdminMessagesBefore(eq(chatRoomId), eq(Long.MAX_VALUE),
+			argThat(p -> p.getPageSize() == 3 && p.getOffset() == 0));
+	}
+
+	/**
+	 * 커서를 전달하면 해당 메시지 이전부터 조회하고 마지막 페이지에서는 다음 커서가 없는지 테스트
+	 */
+	@Test
+	@DisplayName("커서 조회 성공 - 전달한 커서 이전 메시지 조회, 마지막 페이지")
+	void getChatRoomMessages_LastPage() {
+		// given
+		mockSecurityContext("ROLE_ADMIN");
+		Long chatRoomId = 1L;
+		given(chatRoomRepository.findStatusById(chatRoomId)).willReturn(Optional.of(ChatRoomStatus.CLOSED));
+		given(messageRepository.findAdminMessagesBefore(eq(chatRoomId), eq(29L), any(Pageable.class)))
+			.willReturn(List.of(message(28L)));
+
+		// when
+		AdminChatMessageListResponse response = adminChatService.getChatRoomMessages(chatRoomId, 29L, 2);
+
+		// then
+		assertThat(response.isHasNext()).isFalse();
+		assertThat(response.getNextCursor()).isNull();
+		assertThat(response.getMessagesList()).hasSize(1);
+	}
+
+	/**
+	 * 잘못된 커서 또는 크기 전달 시 예외 발생 테스트
+	 */
+	@Test
+	@DisplayName("커서 조회 실패 - 유효하지 않은 커서 또는 크기")
+	void getChatRoomMessages_InvalidCursor() {
+		// given
+		mockSecurityContext("ROLE_ADMIN");
+
+		// when & then
+		assertThatThrownBy(() -> adminChatService.getChatRoomMessages(1L, 0L, 50))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.COMMON_BAD_PAGINATION);
+		assertThatThrownBy(() -> adminChatService.getChatRoomMessages(1L, null, 201))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.COMMON_BAD_PAGINATION);
+	}
+
+	private AdminChatMessageResponse message(Long id) {
+		return AdminChatMessageResponse.builder()
+			.messageId(id)
+			.content("메시지 " + id)
+			.type("TEXT")
+			.writerId(7L)
+			.writerName("구매자")
+			.build();
+	}
 }
@@ -0,0 +1,189 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.MockedConstruction;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.sparta.livechat.config.AdminMonitorProperties;
+import kr.sparta.livechat.domain.event.ChatMessageSentEvent;
+import kr.sparta.livechat.domain.role.ChatRoomStatus;
+import kr.sparta.livechat.domain.role.MessageType;
+import kr.sparta.livechat.dto.admin.AdminMonitorEventResponse;
+
+/**
+ * AdminMonitorServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link AdminMonitorService}
+ * 이벤트를 Redis 채널로 발행하고, 채널에서 받은 이벤트를 구독 조건으로 필터링하며,
+ * 고정 크기 버퍼와 Last-Event-ID 기준으로 재전송하는지 검증합니다.
+ * </p>
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class AdminMonitorServiceTest {
+
+	private static final Long PRODUCT_ID = 100L;
+
+	@Mock
+	StringRedisTemplate redisTemplate;
+
+	@Mock
+	RedisMessageListenerContainer listenerContainer;
+
+	private final ObjectMapper objectMapper = new ObjectMapper().findAndRegisterModules();
+	private ExecutorService dispatcher;
+	private AdminMonitorService adminMonitorService;
+
+	@BeforeEach
+	void setUp() {
+		dispatcher = Executors.newSingleThreadExecutor();
+		adminMonitorService = new AdminMonitorService(new AdminMonitorProperties(2, 60000, 15000),
+			redisTemplate, listenerContainer, objectMapper, dispatcher);
+		SecurityContextHolder.getContext().setAuthentication(new UsernamePasswordAuthenticationToken(
+			"admin", null, List.of(new SimpleGrantedAuthority("ROLE_ADMIN"))));
+	}
+
+	@AfterEach
+	void clear() {
+		SecurityContextHolder.clearContext();
+		dispatcher.shutdownNow();
+	}
+
+	/**
+	 * 도메인 이벤트는 버퍼에 바로 넣지 않고 시퀀스 키와 함께 Redis 채널로 발행하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("이벤트 발행 - 시퀀스 발급과 함께 Redis 채널로 발행")
+	void publishThroughRedis() throws Exception {
+		// given
+		ChatMessageSentEvent event = new ChatMessageSentEvent(1L, PRODUCT_ID, ChatRoomStatus.OPEN, 10L, 2L,
+			MessageType.TEXT, LocalDateTime.now());
+
+		try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+			SseEmitter emitter = adminMonitorService.subscribe(null, null, null, 10);
+
+			// when
+			adminMonitorService.onMessageSent(event);
+			awaitDispatcher();
+
+			// then
+			verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("admin:monitor:sequence")),
+				eq("admin:monitor:events"), contains("\"type\":\"MESSAGE\""));
+			assertThat(sentEventIds(emitter)).isEmpty();
+		}
+	}
+
+	/**
+	 * 채널에서 받은 이벤트 중 구독자의 채팅방 상태와 상품 조건에 맞는 이벤트만 전달하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("실시간 전달 - 채팅방 상태와 상품 조건으로 필터링")
+	void filterByStatusAndProduct() throws Exception {
+		try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+			// given
+			SseEmitter emitter = adminMonitorService.subscribe("closed", PRODUCT_ID, null, 10);
+
+			// when
+			adminMonitorService.onRemoteEvent(body(1L, ChatRoomStatus.OPEN, PRODUCT_ID));
+			adminMonitorService.onRemoteEvent(body(2L, ChatRoomStatus.CLOSED, PRODUCT_ID));
+			adminMonitorService.onRemoteEvent(body(3L, ChatRoomStatus.CLOSED, 200L));
+			awaitDispatcher();
+
+			// then
+			assertThat(sentEventIds(emitter)).containsExactly(2L);
+		}
+	}
+
+	/**
+	 * 버퍼가 가득 차면 가장 오래된 이벤트를 버리고, 새 구독자에게는 남은 최근 이벤트만 재전송하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("재전송 - 버퍼 크기를 넘은 오래된 이벤트 제외")
+	void boundReplayBuffer() throws Exception {
+		// given
+		for (long eventId = 1; eventId <= 3; eventId++) {
+			adminMonitorService.onRemoteEvent(body(eventId, ChatRoomStatus.OPEN, PRODUCT_ID));
+		}
+
+		try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+			// when
+			SseEmitter emitter = adminMonitorService.subscribe(null, null, null, 10);
+			awaitDispatcher();
+
+			// then
+			assertThat(sentEventIds(emitter)).containsExactly(2L, 3L);
+		}
+	}
+
+	/**
+	 * Last-Event-ID 가 있으면 재전송 개수와 관계없이 그 이후 이벤트만 재전송하고, 이후 실시간 이벤트를 이어서 전달하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("재연결 - Last-Event-ID 이후 이벤트부터 이어서 전달")
+	void resumeFromLastEventId() throws Exception {
+		// given
+		adminMonitorService.onRemoteEvent(body(1L, ChatRoomStatus.OPEN, PRODUCT_ID));
+		adminMonitorService.onRemoteEvent(body(2L, ChatRoomStatus.OPEN, PRODUCT_ID));
+
+		try (MockedConstruction<SseEmitter> emitters = mockConstruction(SseEmitter.class)) {
+			// when
+			SseEmitter emitter = adminMonitorService.subscribe(null, null, 1L, 0);
+			adminMonitorService.onRemoteEvent(body(3L, ChatRoomStatus.OPEN, PRODUCT_ID));
+			awaitDispatcher();
+
+			// then
+			assertThat(sentEventIds(emitter)).containsExactly(2L, 3L);
+		}
+	}
+
+	private String body(long eventId, ChatRoomStatus status, Long productId) throws Exception {
+		return eventId + ":" + objectMapper.writeValueAsString(AdminMonitorEventResponse.builder()
+			.type("MESSAGE")
+			.chatRoomId(1L)
+			.productId(productId)
+			.status(status.name())
+			.occurredAt(LocalDateTime.now())
+			.build());
+	}
+
+	private List<Long> sentEventIds(SseEmitter emitter) throws IOException {
+		ArgumentCaptor<SseEmitter.SseEventBuilder> captor = ArgumentCaptor.forClass(SseEmitter.SseEventBuilder.class);
+		verify(emitter, atLeast(0)).send(captor.capture());
+		return captor.getAllValues().stream()
+			.map(builder -> builder.build().iterator().next().getData().toString())
+			.map(text -> Long.valueOf(text.substring("id:".length(), text.indexOf('\n'))))
+			.toList();
+	}
+
+	private void awaitDispatcher() throws InterruptedException {
+		dispatcher.shutdown();
+		assertThat(dispatcher.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+	}
+}
@@ -0,0 +1,221 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.domain.Pageable;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.sparta.livechat.archive.ArchivedMessage;
+import kr.sparta.livechat.domain.role.MessageType;
+import kr.sparta.livechat.domain.role.TranscriptFormat;
+import kr.sparta.livechat.entity.User;
+import kr.sparta.livechat.global.exception.CustomException;
+import kr.sparta.livechat.global.exception.ErrorCode;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import kr.sparta.livechat.repository.MessageRepository;
+import kr.sparta.livechat.repository.MessageRepository.MessageDocument;
+import kr.sparta.livechat.repository.UserRepository;
+
+/**
+ * 관리자 대화 내역 내보내기 서비스 단위 테스트
+ * 대상 클래스: {@link AdminTranscriptExportService}
+ * AdminTranscriptExportServiceTest.java
+ *
+ * @author kimsehyun
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class AdminTranscriptExportServiceTest {
+
+	@InjectMocks
+	private AdminTranscriptExportService adminTranscriptExportService;
+
+	@Mock
+	private ChatRoomRepository chatRoomRepository;
+
+	@Mock
+	private MessageRepository messageRepository;
+
+	@Mock
+	private MessageArchiveService messageArchiveService;
+
+	@Mock
+	private UserRepository userRepository;
+
+	@Spy
+	private ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().indentOutput(true).build();
+
+	private static final LocalDateTime SENT_AT = LocalDateTime.of(2026, 10, 19, 12, 0);
+
+	private MessageDocument document(Long id, Long writerId, String content) {
+		MessageDocument document = mock(MessageDocument.class);
+		given(document.getId()).willReturn(id);
+		given(document.getRoomId()).willReturn(1L);
+		given(document.getWriterId()).willReturn(writerId);
+		given(document.getType()).willReturn(MessageType.TEXT);
+		given(document.getContent()).willReturn(content);
+		given(document.getSentAt()).willReturn(SENT_AT);
+		return document;
+	}
+
+	private void givenWriter(Long id, String name) {
+		User user = mock(User.class);
+		given(user.getId()).willReturn(id);
+		given(user.getName()).willReturn(name);
+		given(userRepository.findAllById(any())).willReturn(List.of(user));
+	}
+
+	@Test
+	@DisplayName("JSON Lines 내보내기 - 마지막 식별자 다음부터 keyset 으로 끝까지 읽는다")
+	void writeTranscript_Jsonl_KeysetUntilEmpty() throws Exception {
+		// given
+		given(messageArchiveService.isArchived(1L)).willReturn(false);
+		given(messageRepository.findDocumentsByRoomIdAfter(eq(1L), eq(0L), any(Pageable.class)))
+			.willReturn(List.of(document(10L, 7L, "안녕하세요"), document(11L, 7L, "문의드립니다")));
+		given(messageRepository.findDocumentsByRoomIdAfter(eq(1L), eq(11L), any(Pageable.class)))
+			.willReturn(List.of());
+		givenWriter(7L, "구매자");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// when
+		adminTranscriptExportService.writeTranscript(1L, TranscriptFormat.JSONL, out);
+
+		// then
+		String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+		assertThat(lines).hasSize(2);
+		assertThat(lines[0]).startsWith("{\"messageId\":10,\"chatRoomId\":1,\"writerId\":7,\"writerName\":\"구매자\"")
+			.contains("\"sentAt\":\"2026-10-19T12:00:00\"", "\"content\":\"안녕하세요\"");
+		assertThat(lines[1]).contains("\"messageId\":11");
+		verify(messageRepository).findDocumentsByRoomIdAfter(eq(1L), eq(11L), any(Pageable.class));
+		verify(userRepository, times(1)).findAllById(any());
+	}
+
+	@Test
+	@DisplayName("CSV 내보내기 - BOM 과 헤더를 쓰고 따옴표와 줄바꿈이 있는 내용을 이스케이프한다")
+	void writeTranscript_Csv_EscapesContent() throws Exception {
+		// given
+		given(messageArchiveService.isArchived(1L)).willReturn(false);
+		given(messageRepository.findDocumentsByRoomIdAfter(eq(1L), eq(0L), any(Pageable.class)))
+			.willReturn(List.of(document(10L, 7L, "그는 \"네\"라고,\n말했다")));
+		given(messageRepository.findDocumentsByRoomIdAfter(eq(1L), eq(10L), any(Pageable.class)))
+			.willReturn(List.of());
+		givenWriter(7L, "구매자");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// when
+		adminTranscriptExportService.writeTranscript(1L, TranscriptFormat.CSV, out);
+
+		// then
+		String csv = out.toString(StandardCharsets.UTF_8);
+		assertThat(csv).isEqualTo("﻿"
+			+ "messageId,chatRoomId,writerId,writerName,type,sentAt,content\n"
+			+ "10,1,7,\"구매자\",TEXT,2026-10-19T12:00,\"그는 \"\"네\"\"라고,\n말했다\"\n");
+	}
+
+	@Test
+	@DisplayName("CSV 내보내기 - 수식으로 해석되는 문자로 시작하는 값은 ' 를 붙인다")
+	void writeTranscript_Csv_EscapesFormula() throws Exception {
+		// given
+		given(messageArchiveService.isArchived(1L)).willReturn(false);
+		given(messageRepository.findDocumentsByRoomIdAfter(eq(1L), eq(0L), any(Pageable.class)))
+			.willReturn(List.of(document(10L, 7L, "=HYPERLINK(\"http://evil\")")));
+		given(messageRepository.findDocumentsByRoomIdAfter(eq(1L), eq(10L), any(Pageable.class)))
+			.willReturn(List.of());
+		givenWriter(7L, "@구매자");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// when
+		adminTranscriptExportService.writeTranscript(1L, TranscriptFormat.CSV, out);
+
+		// then
+		assertThat(out.toString(StandardCharsets.UTF_8))
+			.endsWith("10,1,7,\"'@구매자\",TEXT,2026-10-19T12:00,\"'=HYPERLINK(\"\"http://evil\"\")\"\n");
+	}
+
+	@Test
+	@DisplayName("보관된 채팅방 - 보관 세그먼트에서 블록 단위로 읽는다")
+	@SuppressWarnings("unchecked")
+	void writeTranscript_Archived_ReadsSegments() throws Exception {
+		// given
+		given(messageArchiveService.isArchived(1L)).willReturn(true);
+		willAnswer(invocation -> {
+			Consumer<List<ArchivedMessage>> consumer = invocation.getArgument(1);
+			consumer.accept(List.of(new ArchivedMessage(3L, 7L, MessageType.TEXT, "보관됨", SENT_AT)));
+			return null;
+		}).given(messageArchiveService).readAll(eq(1L), any(Consumer.class));
+		givenWriter(7L, "구매자");
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// when
+		adminTranscriptExportService.writeTranscript(1L, TranscriptFormat.JSONL, out);
+
+		// then
+		assertThat(out.toString(StandardCharsets.UTF_8)).contains("\"messageId\":3", "\"content\":\"보관됨\"");
+		verify(messageRepository, never()).findDocumentsByRoomIdAfter(any(), any(), any());
+	}
+
+	@Test
+	@DisplayName("zip 내보내기 - 채팅방마다 하나의 파일을 담는다")
+	void writeZip_EntryPerRoom() throws Exception {
+		// given
+		given(messageArchiveService.isArchived(any())).willReturn(false);
+		given(messageRepository.findDocumentsByRoomIdAfter(any(), any(), any(Pageable.class))).willReturn(List.of());
+		ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+		// when
+		adminTranscriptExportService.writeZip(List.of(1L, 2L), TranscriptFormat.CSV, out);
+
+		// then
+		List<String> names = new ArrayList<>();
+		try (ZipInputStream zip = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+			for (ZipEntry entry = zip.getNextEntry(); entry != null; entry = zip.getNextEntry()) {
+				names.add(entry.getName());
+			}
+		}
+		assertThat(names).containsExactly("chat-room-1.csv", "chat-room-2.csv");
+	}
+
+	@Test
+	@DisplayName("여러 채팅방 검증 - 존재하지 않는 채팅방이 있으면 예외")
+	void validateRooms_NotFound() {
+		// given
+		given(chatRoomRepository.findExistingIds(List.of(1L, 2L))).willReturn(List.of(1L));
+
+		// when & then
+		assertThatThrownBy(() -> adminTranscriptExportService.validateRooms(List.of(1L, 2L, 1L)))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.CHATROOM_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("여러 채팅방 검증 - 채팅방 수가 범위를 벗어나면 예외")
+	void validateRooms_InvalidSize() {
+		// when & then
+		assertThatThrownBy(() -> adminTranscriptExportService.validateRooms(List.of()))
+			.isInstanceOf(CustomException.class)
+			.hasFieldOrPropertyWithValue("errorCode", ErrorCode.EXPORT_INVALID_ROOMS);
+	}
+}
@@ -0,0 +1,129 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import kr.sparta.livechat.domain.entity.OutboxEvent;
+import kr.sparta.livechat.domain.role.OutboxEventType;
+
+/**
+ * BrokerOutboxConsumerTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link BrokerOutboxConsumer}
+ * 아웃박스 이벤트 묶음을 한 번에 Redis 로 발행하고, 수신한 이벤트를 로컬 브로커의 채팅방 토픽으로 전송하는지 검증합니다.
+ * ROOM_CLOSED 이벤트는 전송 후 채팅방 구독 해제로 이어지는지 검증합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class BrokerOutboxConsumerTest {
+
+	@Mock
+	SimpMessagingTemplate messagingTemplate;
+
+	@Mock
+	StringRedisTemplate redisTemplate;
+
+	@Mock
+	RedisMessageListenerContainer listenerContainer;
+
+	@Mock
+	ChatRoomCloseHandler chatRoomCloseHandler;
+
+	private BrokerOutboxConsumer brokerOutboxConsumer;
+
+	@BeforeEach
+	void setUp() {
+		brokerOutboxConsumer = new BrokerOutboxConsumer(messagingTemplate, redisTemplate, listenerContainer,
+			chatRoomCloseHandler);
+	}
+
+	/**
+	 * 묶음의 이벤트를 식별자 순서 그대로 한 줄씩 이어 한 번만 발행하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("아웃박스 전송 - 묶음을 한 번의 발행으로 Redis 로 전송")
+	void publishBatchOnce() {
+		// given
+		OutboxEvent first = OutboxEvent.of(1, 1L, OutboxEventType.MESSAGE, "{\"seq\":1}");
+		OutboxEvent second = OutboxEvent.of(1, 1L, OutboxEventType.MESSAGE, "{\"seq\":2}");
+
+		// when
+		brokerOutboxConsumer.consume(List.of(first, second));
+
+		// then
+		verify(redisTemplate).convertAndSend("chat:room-events", "1:MESSAGE:{\"seq\":1}\n1:MESSAGE:{\"seq\":2}");
+		verifyNoInteractions(messagingTemplate);
+	}
+
+	/**
+	 * 한 번에 수신한 묶음을 줄 단위로 나누어 순서대로 채팅방 토픽으로 전송하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("아웃박스 수신 - 묶음을 나누어 순서대로 전송")
+	void splitRelayedBatch() {
+		// when
+		brokerOutboxConsumer.onRelayed("1:MESSAGE:{\"seq\":1}\n2:MESSAGE:{\"seq\":2}");
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+		InOrder inOrder = inOrder(messagingTemplate);
+		inOrder.verify(messagingTemplate).send(eq("/sub/chat/room/1"), captor.capture());
+		inOrder.verify(messagingTemplate).send(eq("/sub/chat/room/2"), captor.capture());
+		assertThat(captor.getAllValues())
+			.extracting(message -> new String(message.getPayload(), StandardCharsets.UTF_8))
+			.containsExactly("{\"seq\":1}", "{\"seq\":2}");
+	}
+
+	/**
+	 * 수신한 이벤트 본문을 다시 직렬화하지 않고 채팅방 토픽으로 전송하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("아웃박스 수신 - 본문 그대로 채팅방 토픽으로 전송")
+	void sendRelayedToLocalBroker() {
+		// when
+		brokerOutboxConsumer.onRelayed("7:MESSAGE:{\"event\":\"MESSAGE\"}");
+
+		// then
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+		verify(messagingTemplate).send(eq("/sub/chat/room/7"), captor.capture());
+		assertThat(new String(captor.getValue().getPayload(), StandardCharsets.UTF_8))
+			.isEqualTo("{\"event\":\"MESSAGE\"}");
+		verifyNoInteractions(chatRoomCloseHandler);
+	}
+
+	/**
+	 * ROOM_CLOSED 이벤트를 채팅방 토픽으로 전송한 뒤에 구독을 해제하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("아웃박스 수신 - ROOM_CLOSED 전송 후 구독 해제")
+	void unsubscribeAfterRoomClosed() {
+		// when
+		brokerOutboxConsumer.onRelayed("7:ROOM_CLOSED:{\"event\":\"ROOM_CLOSED\"}");
+
+		// then
+		InOrder inOrder = inOrder(messagingTemplate, chatRoomCloseHandler);
+		inOrder.verify(messagingTemplate).send(eq("/sub/chat/room/7"), any());
+		inOrder.verify(chatRoomCloseHandler).onDelivered(7L);
+	}
+}
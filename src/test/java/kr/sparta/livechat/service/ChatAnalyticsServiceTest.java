@@ -0,0 +1,180 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.sparta.livechat.config.ChatAnalyticsProperties;
+import kr.sparta.livechat.domain.entity.ChatRoomSummary;
+import kr.sparta.livechat.domain.event.ChatRoomSummarizedEvent;
+import kr.sparta.livechat.domain.role.AnalyticsDimension;
+import kr.sparta.livechat.repository.ChatAnalyticsSnapshotRepository;
+import kr.sparta.livechat.repository.ChatRoomSummaryRepository;
+
+/**
+ * ChatAnalyticsServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link ChatAnalyticsService}
+ * 요약 이벤트로 누적한 판매자/상품 지표의 백분위수, 보관 개수 제한, 초기 적재, 변경분 추출을 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatAnalyticsServiceTest {
+
+	private static final Long SELLER_ID = 10L;
+	private static final Long PRODUCT_ID = 100L;
+
+	@Mock
+	ChatRoomSummaryRepository chatRoomSummaryRepository;
+
+	@Mock
+	ChatAnalyticsSnapshotRepository chatAnalyticsSnapshotRepository;
+
+	private ChatAnalyticsService serviceWith(int maxSamples) {
+		return new ChatAnalyticsService(new ChatAnalyticsProperties(30, maxSamples, 60000, 2),
+			chatRoomSummaryRepository, chatAnalyticsSnapshotRepository);
+	}
+
+	private ChatRoomSummarizedEvent closed(long roomId, long durationSeconds, Long firstResponseSeconds) {
+		return new ChatRoomSummarizedEvent(roomId, PRODUCT_ID, SELLER_ID, 4, firstResponseSeconds, durationSeconds,
+			LocalDateTime.now());
+	}
+
+	private ChatRoomSummary summary(long id, LocalDateTime closedAt) {
+		ChatRoomSummary summary = ChatRoomSummary.of(id, PRODUCT_ID, SELLER_ID, 2, 1, 30L, 600, closedAt);
+		ReflectionTestUtils.setField(summary, "id", id);
+		return summary;
+	}
+
+	/**
+	 * 지속 시간의 중앙값/95번째 백분위수와 응답이 있는 채팅방만의 응답 시간 지표를 계산하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("지표 - 20건 누적 시 중앙값 10번째, p95 19번째 값")
+	void computePercentiles() {
+		// given
+		ChatAnalyticsService service = serviceWith(100);
+		for (int i = 1; i <= 20; i++) {
+			service.onSummarized(closed(i, i * 60L, i % 2 == 0 ? (long)i : null));
+		}
+
+		// when
+		ChatAnalyticsService.Metrics metrics = service.find(AnalyticsDimension.SELLER, SELLER_ID).orElseThrow();
+
+		// then
+		assertThat(metrics.getRoomsClosed()).isEqualTo(20);
+		assertThat(metrics.getMedianDurationSeconds()).isEqualTo(600);
+		assertThat(metrics.getP95DurationSeconds()).isEqualTo(1140);
+		assertThat(metrics.getAvgMessagesPerRoom()).isEqualTo(4.0);
+		assertThat(metrics.getMedianFirstResponseSeconds()).isEqualTo(10L);
+		assertThat(metrics.getP95FirstResponseSeconds()).isEqualTo(20L);
+	}
+
+	/**
+	 * 보관 개수를 넘으면 가장 오래된 값부터 덮어써 최근 값만 남기는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("지표 - 보관 개수 초과 시 최근 값만 유지")
+	void keepOnlyLatestSamples() {
+		// given
+		ChatAnalyticsService service = serviceWith(4);
+
+		// when
+		for (int i = 1; i <= 6; i++) {
+			service.onSummarized(closed(i, i * 60L, null));
+		}
+
+		// then
+		ChatAnalyticsService.Metrics metrics = service.find(AnalyticsDimension.PRODUCT, PRODUCT_ID).orElseThrow();
+		assertThat(metrics.getRoomsClosed()).isEqualTo(4);
+		assertThat(metrics.getMedianDurationSeconds()).isEqualTo(240);
+		assertThat(metrics.getMedianFirstResponseSeconds()).isNull();
+	}
+
+	/**
+	 * 초기 적재가 이벤트보다 늦게 오래된 값을 넣어도 종료 시각 기준으로 최근 값만 남기는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("지표 - 초기 적재 값이 늦게 들어와도 최근 값 유지")
+	void keepLatestSamplesWhenWarmUpArrivesLate() {
+		// given
+		ChatAnalyticsService service = serviceWith(2);
+		service.onSummarized(closed(1, 60L, null));
+		service.onSummarized(closed(2, 120L, null));
+		given(chatRoomSummaryRepository.findClosedBetween(any(), any(), eq(0L), any()))
+			.willReturn(List.of(summary(3L, LocalDateTime.now().minusDays(1))));
+		given(chatRoomSummaryRepository.findClosedBetween(any(), any(), eq(3L), any()))
+			.willReturn(List.of());
+
+		// when
+		service.warmUp();
+
+		// then
+		ChatAnalyticsService.Metrics metrics = service.find(AnalyticsDimension.SELLER, SELLER_ID).orElseThrow();
+		assertThat(metrics.getRoomsClosed()).isEqualTo(2);
+		assertThat(metrics.getMedianDurationSeconds()).isEqualTo(60);
+		assertThat(metrics.getP95DurationSeconds()).isEqualTo(120);
+	}
+
+	/**
+	 * 초기 적재가 요약 테이블을 식별자 순으로 나누어 읽고, 완료 후 메모리 값으로 조회되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("초기 적재 - 식별자 순으로 나누어 읽은 뒤 준비 완료")
+	void warmUpInChunks() {
+		// given
+		ChatAnalyticsService service = serviceWith(100);
+		LocalDateTime closedAt = LocalDateTime.now().minusDays(1);
+		given(chatRoomSummaryRepository.findClosedBetween(any(), any(), eq(0L), any()))
+			.willReturn(List.of(summary(1L, closedAt), summary(2L, closedAt)));
+		given(chatRoomSummaryRepository.findClosedBetween(any(), any(), eq(2L), any()))
+			.willReturn(List.of(summary(3L, closedAt)));
+		given(chatRoomSummaryRepository.findClosedBetween(any(), any(), eq(3L), any()))
+			.willReturn(List.of());
+
+		// when
+		service.warmUp();
+
+		// then
+		assertThat(service.isWarmedUp()).isTrue();
+		assertThat(service.find(AnalyticsDimension.SELLER, SELLER_ID).orElseThrow().getRoomsClosed()).isEqualTo(3);
+		assertThat(service.top(AnalyticsDimension.PRODUCT, 10)).singleElement()
+			.satisfies(metrics -> assertThat(metrics.getTargetId()).isEqualTo(PRODUCT_ID));
+	}
+
+	/**
+	 * 변경된 지표는 한 번만 추출되고, 새 이벤트가 들어오면 다시 추출되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("스냅샷 - 변경된 대상만 한 번 추출")
+	void drainOnlyChangedTargets() {
+		// given
+		ChatAnalyticsService service = serviceWith(100);
+		service.onSummarized(closed(1L, 60L, 5L));
+
+		// when
+		Map<AnalyticsDimension, List<ChatAnalyticsService.Metrics>> first = service.drainChanged();
+		Map<AnalyticsDimension, List<ChatAnalyticsService.Metrics>> second = service.drainChanged();
+		service.onSummarized(closed(2L, 120L, 5L));
+		Map<AnalyticsDimension, List<ChatAnalyticsService.Metrics>> third = service.drainChanged();
+
+		// then
+		assertThat(first).containsOnlyKeys(AnalyticsDimension.SELLER, AnalyticsDimension.PRODUCT);
+		assertThat(second).isEmpty();
+		assertThat(third.get(AnalyticsDimension.SELLER)).singleElement()
+			.satisfies(metrics -> assertThat(metrics.getRoomsClosed()).isEqualTo(2));
+	}
+}
@@ -0,0 +1,262 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.sparta.livechat.domain.entity.ChatRoom;
+import kr.sparta.livechat.domain.entity.Message;
+import kr.sparta.livechat.domain.event.ChatMessageSentEvent;
+import kr.sparta.livechat.domain.event.ChatRoomOpenedEvent;
+import kr.sparta.livechat.domain.role.ChatRoomStatus;
+import kr.sparta.livechat.domain.role.OutboxEventType;
+import kr.sparta.livechat.domain.role.RoleInRoom;
+import kr.sparta.livechat.dto.socket.MessageSendRequest;
+import kr.sparta.livechat.entity.User;
+import kr.sparta.livechat.global.exception.WsCustomException;
+import kr.sparta.livechat.global.exception.WsErrorCode;
+import kr.sparta.livechat.repository.ChatRoomParticipantRepository;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import kr.sparta.livechat.repository.ChatRoomRepository.RoomStateRow;
+import kr.sparta.livechat.repository.MessageRepository;
+import kr.sparta.livechat.repository.UserRepository;
+
+/**
+ * ChatMessageServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link ChatMessageService}
+ * 메시지 전송이 채팅방 상태 캐시로 검증되어 채팅방/사용자를 조회하지 않고 아웃박스에 기록되는지, 종료된 채팅방과 비참여자를 거부하는지 검증합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatMessageServiceTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final Long PRODUCT_ID = 100L;
+	private static final Long BUYER_ID = 10L;
+	private static final Long SELLER_ID = 20L;
+
+	@Mock
+	ChatRoomRepository chatRoomRepository;
+
+	@Mock
+	ChatRoomParticipantRepository chatRoomParticipantRepository;
+
+	@Mock
+	UserRepository userRepository;
+
+	@Mock
+	MessageRepository messageRepository;
+
+	@Mock
+	ChatRoomStatsService chatRoomStatsService;
+
+	@Mock
+	OutboxService outboxService;
+
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	ObjectProvider<ChatMessageStream> chatMessageStreamProvider;
+
+	private SocketService socketService;
+	private ChatMessageService chatMessageService;
+
+	@BeforeEach
+	void setUp() {
+		socketService = new SocketService(chatRoomRepository, chatRoomParticipantRepository);
+		ChatMessagePersister chatMessagePersister = new ChatMessagePersister(chatRoomStatsService, outboxService,
+			chatRoomRepository, userRepository, messageRepository, eventPublisher);
+		chatMessageService = new ChatMessageService(socketService, chatMessagePersister, chatMessageStreamProvider);
+		chatMessageService.init();
+	}
+
+	private MessageSendRequest request(String content) {
+		MessageSendRequest request = new MessageSendRequest();
+		ReflectionTestUtils.setField(request, "roomId", ROOM_ID);
+		ReflectionTestUtils.setField(request, "type", "TEXT");
+		ReflectionTestUtils.setField(request, "content", content);
+		return request;
+	}
+
+	private void openRoom() {
+		socketService.onRoomOpened(new ChatRoomOpenedEvent(ROOM_ID, PRODUCT_ID, BUYER_ID, SELLER_ID,
+			LocalDateTime.now()));
+	}
+
+	/**
+	 * 생성 시 기록된 채팅방 상태로 검증하여 채팅방/사용자 조회 없이 메시지를 저장하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("메시지 전송 - 채팅방/사용자 조회 없이 프록시로 저장")
+	void sendWithoutReads() {
+		// given
+		openRoom();
+		given(chatRoomRepository.getReferenceById(ROOM_ID)).willReturn(mock(ChatRoom.class));
+		given(userRepository.getReferenceById(SELLER_ID)).willReturn(mock(User.class));
+		given(messageRepository.save(any(Message.class))).willAnswer(invocation -> invocation.getArgument(0));
+		given(chatRoomRepository.lockStatusById(ROOM_ID)).willReturn(Optional.of("OPEN"));
+		given(chatRoomStatsService.recordMessage(eq(ROOM_ID), eq(RoleInRoom.SELLER), any())).willReturn(true);
+
+		// when
+		chatMessageService.sendMessage(SELLER_ID, request("안녕하세요"));
+
+		// then
+		verify(chatRoomRepository).getReferenceById(ROOM_ID);
+		verify(chatRoomRepository).lockStatusById(ROOM_ID);
+		verifyNoMoreInteractions(chatRoomRepository, chatRoomParticipantRepository);
+		verify(userRepository).getReferenceById(SELLER_ID);
+		verifyNoMoreInteractions(userRepository);
+		verify(chatRoomStatsService).recordMessage(eq(ROOM_ID), eq(RoleInRoom.SELLER), any());
+		verify(eventPublisher).publishEvent(any(ChatMessageSentEvent.class));
+		verify(outboxService).append(eq(ROOM_ID), eq(OutboxEventType.MESSAGE), any());
+	}
+
+	/**
+	 * 통계 갱신과 메시지 저장 전에 채팅방 행을 잠가 아웃박스 기록 순서를 맞추는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("메시지 전송 - 저장 전에 채팅방 행 잠금")
+	void lockRoomBeforeSave() {
+		// given
+		openRoom();
+		given(chatRoomRepository.lockStatusById(ROOM_ID)).willReturn(Optional.of("OPEN"));
+		given(messageRepository.save(any(Message.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		chatMessageService.sendMessage(SELLER_ID, request("안녕하세요"));
+
+		// then
+		InOrder inOrder = inOrder(chatRoomRepository, chatRoomStatsService, messageRepository, outboxService);
+		inOrder.verify(chatRoomRepository).lockStatusById(ROOM_ID);
+		inOrder.verify(chatRoomStatsService).recordMessage(eq(ROOM_ID), eq(RoleInRoom.SELLER), any());
+		inOrder.verify(messageRepository).save(any(Message.class));
+		inOrder.verify(outboxService).append(eq(ROOM_ID), eq(OutboxEventType.MESSAGE), any());
+	}
+
+	/**
+	 * 노드의 채팅방 상태 캐시가 종료를 아직 모르더라도 잠근 행이 종료 상태이면 저장하지 않고 거부하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("메시지 전송 - 캐시가 늦어도 잠근 채팅방이 종료 상태이면 4007")
+	void rejectClosedRoomOnLockedRow() {
+		// given
+		openRoom();
+		given(chatRoomRepository.lockStatusById(ROOM_ID)).willReturn(Optional.of("CLOSED"));
+
+		// when & then
+		assertThatThrownBy(() -> chatMessageService.sendMessage(SELLER_ID, request("안녕하세요")))
+			.isInstanceOf(WsCustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(WsErrorCode.CHAT_ROOM_CLOSED);
+		verifyNoInteractions(chatRoomStatsService, messageRepository, outboxService);
+	}
+
+	/**
+	 * 캐시에 없는 채팅방은 한 번만 조회하여 적재하고, 이후 전송은 조회하지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("메시지 전송 - 캐시에 없는 채팅방은 최초 1회만 조회")
+	void loadRoomStateOnce() {
+		// given
+		RoomStateRow buyer = stateRow(BUYER_ID, RoleInRoom.BUYER);
+		RoomStateRow seller = stateRow(SELLER_ID, RoleInRoom.SELLER);
+		given(chatRoomRepository.findRoomStateRows(ROOM_ID)).willReturn(List.of(buyer, seller));
+		given(chatRoomRepository.lockStatusById(ROOM_ID)).willReturn(Optional.of("OPEN"));
+		given(messageRepository.save(any(Message.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+		// when
+		chatMessageService.sendMessage(BUYER_ID, request("첫 번째"));
+		chatMessageService.sendMessage(BUYER_ID, request("두 번째"));
+
+		// then
+		verify(chatRoomRepository, times(1)).findRoomStateRows(ROOM_ID);
+		verify(chatRoomStatsService, times(2)).recordMessage(eq(ROOM_ID), eq(RoleInRoom.BUYER), any());
+	}
+
+	/**
+	 * 종료된 채팅방으로의 전송은 조회와 저장 없이 거부하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("메시지 전송 - 종료된 채팅방은 4007")
+	void rejectClosedRoom() {
+		// given
+		openRoom();
+		socketService.markClosed(ROOM_ID);
+
+		// when & then
+		assertThatThrownBy(() -> chatMessageService.sendMessage(BUYER_ID, request("안녕하세요")))
+			.isInstanceOf(WsCustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(WsErrorCode.CHAT_ROOM_CLOSED);
+		verifyNoInteractions(chatRoomRepository, messageRepository, outboxService);
+	}
+
+	/**
+	 * 채팅방 참여자가 아닌 사용자의 전송을 거부하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("메시지 전송 - 참여자가 아니면 4002")
+	void rejectNonParticipant() {
+		// given
+		openRoom();
+
+		// when & then
+		assertThatThrownBy(() -> chatMessageService.sendMessage(99L, request("안녕하세요")))
+			.isInstanceOf(WsCustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(WsErrorCode.FORBIDDEN);
+		verifyNoInteractions(messageRepository);
+	}
+
+	/**
+	 * Redis Stream 저장소가 활성화되면 Stream 에만 기록하고 DB 에는 저장하지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("메시지 전송 - Stream 저장소 사용 시 Stream 에만 기록")
+	void appendToStreamWhenEnabled() {
+		// given
+		ChatMessageStream chatMessageStream = mock(ChatMessageStream.class);
+		given(chatMessageStreamProvider.getIfAvailable()).willReturn(chatMessageStream);
+		chatMessageService.init();
+		openRoom();
+		ArgumentCaptor<ChatMessageStream.Entry> captor = ArgumentCaptor.forClass(ChatMessageStream.Entry.class);
+
+		// when
+		chatMessageService.sendMessage(BUYER_ID, request("안녕하세요"));
+
+		// then
+		verify(chatMessageStream).append(captor.capture());
+		assertThat(captor.getValue().productId()).isEqualTo(PRODUCT_ID);
+		assertThat(captor.getValue().role()).isEqualTo(RoleInRoom.BUYER);
+		verifyNoInteractions(messageRepository, chatRoomStatsService, outboxService);
+	}
+
+	private RoomStateRow stateRow(Long userId, RoleInRoom role) {
+		RoomStateRow row = mock(RoomStateRow.class);
+		given(row.getUserId()).willReturn(userId);
+		given(row.getRoleInRoom()).willReturn(role);
+		lenient().when(row.getProductId()).thenReturn(PRODUCT_ID);
+		lenient().when(row.getStatus()).thenReturn(ChatRoomStatus.OPEN);
+		return row;
+	}
+}
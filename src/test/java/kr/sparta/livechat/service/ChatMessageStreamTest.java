@@ -0,0 +1,145 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.ReadOffset;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import kr.sparta.livechat.domain.role.MessageType;
+import kr.sparta.livechat.domain.role.RoleInRoom;
+
+/**
+ * ChatMessageStreamTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link ChatMessageStream}
+ * 테스트용 Redis 에 Stream 저장소를 활성화하여, 기록한 메시지를 consumer group 으로 순서대로 읽고
+ * 확인(ACK) 후 미확인 목록에서 제거되는지 검증합니다.
+ * DB 저장은 이 테스트의 대상이 아니므로 저장 서비스는 mock 으로 대체합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@SpringBootTest(properties = "chatroom.stream.enabled=true")
+@ActiveProfiles("test")
+class ChatMessageStreamTest {
+
+	private static final String CONSUMER = "test-consumer";
+
+	@Autowired
+	private ChatMessageStream chatMessageStream;
+
+	@MockitoBean
+	private ChatMessagePersister chatMessagePersister;
+
+	private String group;
+
+	@BeforeEach
+	void setUp() {
+		group = "test:" + UUID.randomUUID();
+		chatMessageStream.createGroup(group, ReadOffset.latest());
+	}
+
+	@AfterEach
+	void tearDown() {
+		chatMessageStream.destroyGroup(group);
+	}
+
+	private ChatMessageStream.Entry entry(Long roomId, String content) {
+		return ChatMessageStream.Entry.of(roomId, 100L, 10L, RoleInRoom.BUYER, MessageType.TEXT, content,
+			LocalDateTime.now());
+	}
+
+	/**
+	 * 같은 채팅방의 메시지를 기록 순서대로 읽고, 항목 값이 그대로 복원되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("Stream - 같은 채팅방 메시지를 기록 순서대로 읽음")
+	void readInAppendOrder() {
+		// given
+		String firstId = chatMessageStream.append(entry(5L, "첫 번째"));
+		chatMessageStream.append(entry(5L, "두 번째"));
+		chatMessageStream.append(entry(5L, "세 번째"));
+
+		// when
+		List<ChatMessageStream.Entry> entries = chatMessageStream.read(group, CONSUMER, false).stream()
+			.map(ChatMessageStream.Entry::from)
+			.filter(entry -> entry.roomId().equals(5L))
+			.toList();
+
+		// then
+		assertThat(entries).extracting(ChatMessageStream.Entry::content)
+			.containsExactly("첫 번째", "두 번째", "세 번째");
+		assertThat(entries.get(0).streamId()).isEqualTo(firstId);
+		assertThat(entries.get(0).role()).isEqualTo(RoleInRoom.BUYER);
+		assertThat(entries.get(0).productId()).isEqualTo(100L);
+	}
+
+	/**
+	 * 읽고 확인하지 않은 항목은 미확인 목록으로 다시 읽히고, 확인 후에는 제거되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("Stream - 확인 전까지 미확인 항목으로 다시 읽힘")
+	void pendingUntilAcknowledged() {
+		// given
+		chatMessageStream.append(entry(7L, "안녕하세요"));
+		List<MapRecord<String, Object, Object>> records = chatMessageStream.read(group, CONSUMER, false);
+
+		// when
+		List<MapRecord<String, Object, Object>> pending = chatMessageStream.read(group, CONSUMER, true);
+		chatMessageStream.acknowledge(group, records);
+
+		// then
+		assertThat(pending).hasSameSizeAs(records);
+		assertThat(chatMessageStream.read(group, CONSUMER, true)).isEmpty();
+	}
+
+	/**
+	 * 다른 consumer 가 읽고 확인하지 않은 항목을 가져오면 이 consumer 의 미확인 항목으로 읽히는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("Stream - 종료된 consumer 의 미확인 항목을 가져와 다시 읽음")
+	void claimIdlePending() {
+		// given
+		chatMessageStream.append(entry(8L, "회수 대상"));
+		List<MapRecord<String, Object, Object>> records = chatMessageStream.read(group, "dead-consumer", false);
+
+		// when
+		int claimed = chatMessageStream.claim(group, CONSUMER, Duration.ZERO);
+
+		// then
+		assertThat(claimed).isEqualTo(records.size());
+		assertThat(chatMessageStream.read(group, CONSUMER, true)).extracting(MapRecord::getId)
+			.containsExactlyElementsOf(records.stream().map(MapRecord::getId).toList());
+	}
+
+	/**
+	 * Stream 을 정리해도 확인하지 않은 항목은 남아 다시 읽히는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("Stream - 정리 후에도 미확인 항목 유지")
+	void trimKeepsPending() {
+		// given
+		chatMessageStream.append(entry(9L, "저장 전"));
+		List<MapRecord<String, Object, Object>> records = chatMessageStream.read(group, CONSUMER, false);
+
+		// when
+		chatMessageStream.trim(group);
+
+		// then
+		assertThat(chatMessageStream.read(group, CONSUMER, true)).hasSameSizeAs(records);
+	}
+}
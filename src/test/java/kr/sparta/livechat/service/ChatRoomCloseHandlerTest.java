@@ -0,0 +1,95 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+
+import kr.sparta.livechat.domain.event.ChatRoomClosedEvent;
+import kr.sparta.livechat.socket.SessionRegistry;
+import kr.sparta.livechat.socket.SessionRegistry.RoomSubscription;
+
+/**
+ * ChatRoomCloseHandlerTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link ChatRoomCloseHandler}
+ * 채팅방 종료 시 종료 상태 캐시 기록과 ROOM_CLOSED 전달 이후의 브로커 구독 해제를 검증합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatRoomCloseHandlerTest {
+
+	private static final Long ROOM_ID = 1L;
+
+	@Mock
+	SocketService socketService;
+
+	@Mock
+	SessionRegistry sessionRegistry;
+
+	@Mock
+	MessageChannel brokerChannel;
+
+	private ChatRoomCloseHandler chatRoomCloseHandler;
+
+	@BeforeEach
+	void setUp() {
+		chatRoomCloseHandler = new ChatRoomCloseHandler(socketService, sessionRegistry, brokerChannel);
+	}
+
+	/**
+	 * 종료를 커밋한 노드는 아웃박스 전달을 기다리지 않고 종료 상태만 먼저 기록하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("채팅방 종료 커밋 - 종료 상태만 기록하고 구독은 유지")
+	void markClosedOnCommit() {
+		// when
+		chatRoomCloseHandler.onClosed(new ChatRoomClosedEvent(ROOM_ID, 100L, 10L, "상담 완료", LocalDateTime.now()));
+
+		// then
+		verify(socketService).markClosed(ROOM_ID);
+		verifyNoInteractions(sessionRegistry, brokerChannel);
+	}
+
+	/**
+	 * ROOM_CLOSED 전달 이후 채팅방의 모든 구독을 브로커에서 해제하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("ROOM_CLOSED 전달 - 채팅방 구독 해제")
+	void unsubscribeOnDelivered() {
+		// given
+		given(sessionRegistry.removeRoom(ROOM_ID)).willReturn(List.of(
+			new RoomSubscription("s1", "sub-0"),
+			new RoomSubscription("s2", "sub-3")));
+
+		// when
+		chatRoomCloseHandler.onDelivered(ROOM_ID);
+
+		// then
+		verify(socketService).markClosed(ROOM_ID);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Message<?>> messageCaptor = ArgumentCaptor.forClass(Message.class);
+		verify(brokerChannel, times(2)).send(messageCaptor.capture());
+		assertThat(messageCaptor.getAllValues())
+			.map(SimpMessageHeaderAccessor::wrap)
+			.allSatisfy(accessor -> assertThat(accessor.getMessageType()).isEqualTo(SimpMessageType.UNSUBSCRIBE))
+			.extracting(SimpMessageHeaderAccessor::getSessionId, SimpMessageHeaderAccessor::getSubscriptionId)
+			.containsExactly(tuple("s1", "sub-0"), tuple("s2", "sub-3"));
+	}
+}
@@ -0,0 +1,73 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import kr.sparta.livechat.domain.event.ChatRoomClosedEvent;
+import kr.sparta.livechat.domain.role.OutboxEventType;
+import kr.sparta.livechat.dto.socket.RoomClosedEventResponse;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+
+/**
+ * ChatRoomCloseRecorderTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link ChatRoomCloseRecorder}
+ * 채팅방 종료를 채팅방 행을 잠근 뒤 아웃박스에 ROOM_CLOSED 이벤트로 기록하는지 검증합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatRoomCloseRecorderTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final Long SELLER_ID = 10L;
+
+	@Mock
+	ChatRoomRepository chatRoomRepository;
+
+	@Mock
+	OutboxService outboxService;
+
+	@InjectMocks
+	ChatRoomCloseRecorder chatRoomCloseRecorder;
+
+	/**
+	 * 채팅방 행을 잠가 저장 중인 메시지를 기다린 뒤 종료 이벤트를 기록하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("채팅방 종료 - 채팅방 잠금 후 ROOM_CLOSED 아웃박스 기록")
+	void appendAfterLock() {
+		// given
+		LocalDateTime closedAt = LocalDateTime.now();
+
+		// when
+		chatRoomCloseRecorder.onClosed(new ChatRoomClosedEvent(ROOM_ID, 100L, SELLER_ID, "상담 완료", closedAt));
+
+		// then
+		ArgumentCaptor<Object> payloadCaptor = ArgumentCaptor.forClass(Object.class);
+		InOrder inOrder = inOrder(chatRoomRepository, outboxService);
+		inOrder.verify(chatRoomRepository).lockById(ROOM_ID);
+		inOrder.verify(outboxService).append(eq(ROOM_ID), eq(OutboxEventType.ROOM_CLOSED), payloadCaptor.capture());
+
+		assertThat(payloadCaptor.getValue()).isInstanceOfSatisfying(RoomClosedEventResponse.class, response -> {
+			assertThat(response.getEvent()).isEqualTo("ROOM_CLOSED");
+			assertThat(response.getRoomId()).isEqualTo(ROOM_ID);
+			assertThat(response.getClosedBy()).isEqualTo(SELLER_ID);
+			assertThat(response.getReason()).isEqualTo("상담 완료");
+			assertThat(response.getClosedAt()).isEqualTo(closedAt);
+		});
+	}
+}
@@ -14,6 +14,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -74,6 +75,12 @@ public class ChatRoomServiceTest {
 	@Mock
 	SocketService socketService;
 
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
+	@Mock
+	ChatRoomStatsService chatRoomStatsService;
+
 	@InjectMocks
 	ChatRoomService chatRoomService;
 
@@ -431,8 +438,6 @@ public class ChatRoomServiceTest {
 		chatRoom.getParticipants().add(sellerParticipant);
 
 		given(chatRoomRepository.findById(chatRoomId)).willReturn(Optional.of(chatRoom));
-		given(messageRepository.countByRoom_Id(chatRoomId)).willReturn(3L);
-		given(chatRoomSummaryRepository.existsByRoomId(chatRoomId)).willReturn(false);
 
 		// when
 		PatchChatRoomResponse response = chatRoomService.patchChatRoom(chatRoomId, sellerId, request);
@@ -446,9 +451,8 @@ public class ChatRoomServiceTest {
 		assertThat(chatRoom.getStatus()).isEqualTo(ChatRoomStatus.CLOSED);
 
 		verify(chatRoomRepository).findById(chatRoomId);
-		verify(messageRepository).countByRoom_Id(chatRoomId);
-		verify(chatRoomSummaryRepository).existsByRoomId(chatRoomId);
-		verify(chatRoomSummaryRepository).save(any());
+		verify(chatRoomStatsService).summarize(chatRoom);
+		verifyNoInteractions(messageRepository);
 	}
 
 	/**
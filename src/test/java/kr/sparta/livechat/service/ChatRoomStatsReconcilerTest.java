@@ -0,0 +1,101 @@
+package kr.sparta.livechat.service;
+
+import static org.mockito.BDDMockito.*;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import kr.sparta.livechat.config.ChatRoomStatsProperties;
+
+/**
+ * ChatRoomStatsReconcilerTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link ChatRoomStatsReconciler}
+ * lease 를 선점한 경우에만 묶음 단위로 통계를 보정하고 lease 를 해제하는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatRoomStatsReconcilerTest {
+
+	private static final String TOKEN = "token";
+
+	@Mock
+	ChatRoomStatsService chatRoomStatsService;
+
+	@Mock
+	RedisLeaseService redisLeaseService;
+
+	private ChatRoomStatsReconciler chatRoomStatsReconciler;
+
+	@BeforeEach
+	void setUp() {
+		ChatRoomStatsProperties properties = new ChatRoomStatsProperties("0 30 4 * * *", 2, 60000);
+		chatRoomStatsReconciler = new ChatRoomStatsReconciler(properties, chatRoomStatsService, redisLeaseService);
+	}
+
+	/**
+	 * 다른 노드가 lease 를 보유 중이면 보정하지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("통계 보정 - lease 선점 실패 시 실행하지 않음")
+	void skipWithoutLease() {
+		// given
+		given(redisLeaseService.tryAcquire(anyString(), any())).willReturn(null);
+
+		// when
+		chatRoomStatsReconciler.reconcileOpenRooms();
+
+		// then
+		verifyNoInteractions(chatRoomStatsService);
+		verify(redisLeaseService, never()).release(anyString(), anyString());
+	}
+
+	/**
+	 * 이전 묶음의 마지막 식별자 이후로 이어서 보정하며 묶음마다 lease 를 연장하고, 완료 후 해제하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("통계 보정 - 대상이 없을 때까지 묶음 단위 보정")
+	void reconcileInChunks() {
+		// given
+		given(redisLeaseService.tryAcquire(anyString(), any())).willReturn(TOKEN);
+		given(redisLeaseService.renew(anyString(), eq(TOKEN), any())).willReturn(true);
+		given(chatRoomStatsService.reconcile(0L, 2)).willReturn(2L);
+		given(chatRoomStatsService.reconcile(2L, 2)).willReturn(3L);
+		given(chatRoomStatsService.reconcile(3L, 2)).willReturn(null);
+
+		// when
+		chatRoomStatsReconciler.reconcileOpenRooms();
+
+		// then
+		verify(chatRoomStatsService, times(3)).reconcile(anyLong(), eq(2));
+		verify(redisLeaseService, times(2)).renew(anyString(), eq(TOKEN), any());
+		verify(redisLeaseService).release(anyString(), eq(TOKEN));
+	}
+
+	/**
+	 * lease 연장에 실패하면 남은 묶음을 보정하지 않고 중단하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("통계 보정 - lease 연장 실패 시 중단")
+	void stopWhenLeaseLost() {
+		// given
+		given(redisLeaseService.tryAcquire(anyString(), any())).willReturn(TOKEN);
+		given(redisLeaseService.renew(anyString(), eq(TOKEN), any())).willReturn(false);
+		given(chatRoomStatsService.reconcile(0L, 2)).willReturn(2L);
+
+		// when
+		chatRoomStatsReconciler.reconcileOpenRooms();
+
+		// then
+		verify(chatRoomStatsService).reconcile(0L, 2);
+		verify(chatRoomStatsService, never()).reconcile(eq(2L), anyInt());
+		verify(redisLeaseService).release(anyString(), eq(TOKEN));
+	}
+}
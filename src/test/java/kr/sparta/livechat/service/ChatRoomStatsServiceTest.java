@@ -0,0 +1,246 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import kr.sparta.livechat.domain.entity.ChatRoom;
+import kr.sparta.livechat.domain.entity.ChatRoomStats;
+import kr.sparta.livechat.domain.entity.ChatRoomSummary;
+import kr.sparta.livechat.domain.entity.Product;
+import kr.sparta.livechat.domain.event.ChatRoomSummarizedEvent;
+import kr.sparta.livechat.domain.role.ChatRoomStatus;
+import kr.sparta.livechat.domain.role.RoleInRoom;
+import kr.sparta.livechat.entity.User;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import kr.sparta.livechat.repository.ChatRoomRepository.ClosedRoomRow;
+import kr.sparta.livechat.repository.ChatRoomStatsRepository;
+import kr.sparta.livechat.repository.ChatRoomSummaryRepository;
+import kr.sparta.livechat.repository.MessageRepository;
+import kr.sparta.livechat.repository.MessageRepository.RoomRoleMessageCount;
+
+/**
+ * ChatRoomStatsServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link ChatRoomStatsService}
+ * 종료 요약이 메시지 집계 없이 통계로 생성되고, 통계가 없는 채팅방은 집계로 대체되는지 검증합니다.
+ * 보정은 통계 행을 잠근 뒤 집계하는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatRoomStatsServiceTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final Long PRODUCT_ID = 100L;
+	private static final Long SELLER_ID = 10L;
+	private static final LocalDateTime OPENED_AT = LocalDateTime.of(2026, 10, 19, 10, 0, 0);
+
+	@Mock
+	ChatRoomStatsRepository chatRoomStatsRepository;
+
+	@Mock
+	ChatRoomSummaryRepository chatRoomSummaryRepository;
+
+	@Mock
+	ChatRoomRepository chatRoomRepository;
+
+	@Mock
+	MessageRepository messageRepository;
+
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	ChatRoomStatsService chatRoomStatsService;
+
+	private ChatRoom closedRoom() {
+		ChatRoom chatRoom = mock(ChatRoom.class);
+		given(chatRoom.getId()).willReturn(ROOM_ID);
+		given(chatRoom.getOpenedAt()).willReturn(OPENED_AT);
+		given(chatRoom.getClosedAt()).willReturn(OPENED_AT.plusMinutes(10));
+
+		Product product = mock(Product.class);
+		User seller = mock(User.class);
+		given(chatRoom.getProduct()).willReturn(product);
+		given(product.getId()).willReturn(PRODUCT_ID);
+		given(product.getSeller()).willReturn(seller);
+		given(seller.getId()).willReturn(SELLER_ID);
+		return chatRoom;
+	}
+
+	private ChatRoomSummary capturedSummary() {
+		ArgumentCaptor<ChatRoomSummary> captor = ArgumentCaptor.forClass(ChatRoomSummary.class);
+		verify(chatRoomSummaryRepository).save(captor.capture());
+		return captor.getValue();
+	}
+
+	/**
+	 * 통계가 있는 채팅방은 메시지 테이블을 집계하지 않고 통계 값으로 요약을 저장하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("요약 - 통계가 있으면 메시지 집계 없이 저장")
+	void summarizeFromStats() {
+		// given
+		ChatRoom chatRoom = closedRoom();
+		ChatRoomStats stats = ChatRoomStats.empty(ROOM_ID);
+		stats.reconcile(3, 2, OPENED_AT, OPENED_AT.plusSeconds(30), OPENED_AT.plusMinutes(9));
+		given(chatRoomSummaryRepository.existsByRoomId(ROOM_ID)).willReturn(false);
+		given(chatRoomStatsRepository.findById(ROOM_ID)).willReturn(Optional.of(stats));
+
+		// when
+		chatRoomStatsService.summarize(chatRoom);
+
+		// then
+		ChatRoomSummary summary = capturedSummary();
+		assertThat(summary.getTotalMessageCount()).isEqualTo(5);
+		assertThat(summary.getBuyerMessageCount()).isEqualTo(3);
+		assertThat(summary.getSellerMessageCount()).isEqualTo(2);
+		assertThat(summary.getFirstResponseSeconds()).isEqualTo(30L);
+		assertThat(summary.getDurationSeconds()).isEqualTo(600);
+		assertThat(summary.getProductId()).isEqualTo(PRODUCT_ID);
+		assertThat(summary.getSellerId()).isEqualTo(SELLER_ID);
+		verify(eventPublisher).publishEvent(any(ChatRoomSummarizedEvent.class));
+		verifyNoInteractions(messageRepository);
+	}
+
+	/**
+	 * 통계가 없는 기존 채팅방은 메시지 테이블을 집계하여 요약을 저장하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("요약 - 통계가 없으면 메시지 집계로 대체")
+	void summarizeFallsBackToRecount() {
+		// given
+		ChatRoom chatRoom = closedRoom();
+		RoomRoleMessageCount buyer = mock(RoomRoleMessageCount.class);
+		given(buyer.getRole()).willReturn(RoleInRoom.BUYER);
+		given(buyer.getMessageCount()).willReturn(4L);
+		given(buyer.getFirstSentAt()).willReturn(OPENED_AT);
+		given(buyer.getLastSentAt()).willReturn(OPENED_AT.plusMinutes(5));
+		given(chatRoomSummaryRepository.existsByRoomId(ROOM_ID)).willReturn(false);
+		given(chatRoomStatsRepository.findById(ROOM_ID)).willReturn(Optional.empty());
+		given(messageRepository.countByRoomIdsGroupByRole(List.of(ROOM_ID))).willReturn(List.of(buyer));
+
+		// when
+		chatRoomStatsService.summarize(chatRoom);
+
+		// then
+		ChatRoomSummary summary = capturedSummary();
+		assertThat(summary.getTotalMessageCount()).isEqualTo(4);
+		assertThat(summary.getSellerMessageCount()).isZero();
+		assertThat(summary.getFirstResponseSeconds()).isNull();
+	}
+
+	/**
+	 * 이미 요약이 있는 채팅방은 다시 저장하지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("요약 - 이미 요약이 있으면 저장하지 않음")
+	void summarizeSkipsExisting() {
+		// given
+		ChatRoom chatRoom = mock(ChatRoom.class);
+		given(chatRoom.getId()).willReturn(ROOM_ID);
+		given(chatRoomSummaryRepository.existsByRoomId(ROOM_ID)).willReturn(true);
+
+		// when
+		chatRoomStatsService.summarize(chatRoom);
+
+		// then
+		verify(chatRoomSummaryRepository, never()).save(any());
+		verifyNoInteractions(chatRoomStatsRepository, messageRepository, eventPublisher);
+	}
+
+	/**
+	 * 일괄 종료된 채팅방 중 통계가 없는 채팅방만 한 번의 집계 쿼리로 대체하여 요약을 저장하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("일괄 요약 - 통계가 없는 채팅방만 한 번에 집계")
+	void summarizeAllRecountsOnlyMissing() {
+		// given
+		ClosedRoomRow withStats = mock(ClosedRoomRow.class);
+		given(withStats.getRoomId()).willReturn(1L);
+		given(withStats.getOpenedAt()).willReturn(OPENED_AT);
+		given(withStats.getClosedAt()).willReturn(OPENED_AT.plusHours(1));
+		ClosedRoomRow legacy = mock(ClosedRoomRow.class);
+		given(legacy.getRoomId()).willReturn(2L);
+		given(legacy.getOpenedAt()).willReturn(OPENED_AT);
+		given(legacy.getClosedAt()).willReturn(OPENED_AT.plusHours(1));
+
+		ChatRoomStats stats = ChatRoomStats.open(1L, OPENED_AT);
+		given(chatRoomSummaryRepository.findRoomIdsByRoomIdIn(List.of(1L, 2L))).willReturn(List.of());
+		given(chatRoomStatsRepository.findAllById(List.of(1L, 2L))).willReturn(List.of(stats));
+		given(messageRepository.countByRoomIdsGroupByRole(List.of(2L))).willReturn(List.of());
+
+		// when
+		chatRoomStatsService.summarizeAll(List.of(withStats, legacy));
+
+		// then
+		ArgumentCaptor<List<ChatRoomSummary>> captor = ArgumentCaptor.forClass(List.class);
+		verify(chatRoomSummaryRepository).saveAll(captor.capture());
+		assertThat(captor.getValue()).extracting(ChatRoomSummary::getTotalMessageCount).containsExactly(1L, 0L);
+		verify(eventPublisher, times(2)).publishEvent(any(ChatRoomSummarizedEvent.class));
+	}
+
+	/**
+	 * 판매자 메시지는 판매자 메시지 수만 증가시키는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("증분 - 판매자 메시지는 판매자 수만 증가")
+	void recordSellerMessage() {
+		// given
+		LocalDateTime sentAt = OPENED_AT.plusMinutes(1);
+		given(chatRoomStatsRepository.increment(ROOM_ID, 0, 1, sentAt)).willReturn(1);
+
+		// when
+		chatRoomStatsService.recordMessage(ROOM_ID, RoleInRoom.SELLER, sentAt);
+
+		// then
+		verify(chatRoomStatsRepository).increment(ROOM_ID, 0, 1, sentAt);
+	}
+
+	/**
+	 * 통계 행을 잠가 조회한 뒤 메시지 집계 값으로 보정하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("보정 - 통계 행을 잠근 뒤 집계 값으로 갱신")
+	void reconcileLocksStats() {
+		// given
+		ChatRoomStats stats = ChatRoomStats.empty(ROOM_ID);
+		RoomRoleMessageCount buyer = mock(RoomRoleMessageCount.class);
+		given(buyer.getRole()).willReturn(RoleInRoom.BUYER);
+		given(buyer.getMessageCount()).willReturn(4L);
+		given(buyer.getFirstSentAt()).willReturn(OPENED_AT);
+		given(buyer.getLastSentAt()).willReturn(OPENED_AT.plusMinutes(5));
+		given(chatRoomRepository.findIdsByStatusAfter(eq(ChatRoomStatus.OPEN), eq(0L), any()))
+			.willReturn(List.of(ROOM_ID));
+		given(chatRoomStatsRepository.findAllForUpdate(List.of(ROOM_ID))).willReturn(List.of(stats));
+		given(messageRepository.countByRoomIdsGroupByRole(List.of(ROOM_ID))).willReturn(List.of(buyer));
+
+		// when
+		Long lastId = chatRoomStatsService.reconcile(0L, 500);
+
+		// then
+		assertThat(lastId).isEqualTo(ROOM_ID);
+		assertThat(stats.getMessageCount()).isEqualTo(4);
+		assertThat(stats.getBuyerMessageCount()).isEqualTo(4);
+		InOrder inOrder = inOrder(chatRoomStatsRepository, messageRepository);
+		inOrder.verify(chatRoomStatsRepository).findAllForUpdate(List.of(ROOM_ID));
+		inOrder.verify(messageRepository).countByRoomIdsGroupByRole(List.of(ROOM_ID));
+		verify(chatRoomStatsRepository, never()).findAllById(any());
+	}
+}
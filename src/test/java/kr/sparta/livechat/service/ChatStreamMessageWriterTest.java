@@ -0,0 +1,128 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.connection.stream.MapRecord;
+import org.springframework.data.redis.connection.stream.RecordId;
+import org.springframework.data.redis.connection.stream.StreamRecords;
+
+import kr.sparta.livechat.config.ChatStreamProperties;
+
+/**
+ * ChatStreamMessageWriterTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link ChatStreamMessageWriter}
+ * 저장할 수 없는 항목은 dead-letter 로 옮기고 나머지 항목을 저장한 뒤 묶음 전체를 확인하는지 검증합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class ChatStreamMessageWriterTest {
+
+	@Mock
+	ChatMessageStream chatMessageStream;
+
+	@Mock
+	ChatMessagePersister chatMessagePersister;
+
+	private ChatStreamMessageWriter chatStreamMessageWriter;
+
+	@BeforeEach
+	void setUp() {
+		chatStreamMessageWriter = new ChatStreamMessageWriter(chatMessageStream, chatMessagePersister,
+			new ChatStreamProperties(true, 16, 500, 1000, "node-1", 60000));
+	}
+
+	private MapRecord<String, Object, Object> record(String id, Long roomId, String content) {
+		Map<Object, Object> fields = new HashMap<>();
+		fields.put("roomId", roomId.toString());
+		fields.put("productId", "100");
+		fields.put("writerId", "10");
+		fields.put("role", "BUYER");
+		fields.put("type", "TEXT");
+		if (content != null) {
+			fields.put("content", content);
+		}
+		fields.put("sentAt", LocalDateTime.of(2026, 10, 19, 12, 0).toString());
+		return StreamRecords.newRecord().in("chat:stream:0").withId(RecordId.of(id)).ofMap(fields);
+	}
+
+	/**
+	 * 필드가 빠진 항목은 저장하지 않고 dead-letter 로 옮기며, 나머지 항목을 저장하고 묶음 전체를 확인하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("Stream 저장 - 형식 오류 항목은 dead-letter 로 이동")
+	void deadLetterMalformed() {
+		// given
+		MapRecord<String, Object, Object> valid = record("1-0", 5L, "안녕하세요");
+		MapRecord<String, Object, Object> malformed = record("2-0", 5L, null);
+		List<MapRecord<String, Object, Object>> records = List.of(valid, malformed);
+
+		// when
+		chatStreamMessageWriter.write(records);
+
+		// then
+		verify(chatMessageStream).deadLetter(eq(malformed), anyString());
+		verify(chatMessagePersister).persistStreamed(List.of(ChatMessageStream.Entry.from(valid)));
+		verify(chatMessageStream).acknowledge(ChatStreamMessageWriter.GROUP, records);
+	}
+
+	/**
+	 * 묶음 저장이 무결성 제약으로 실패하면 항목마다 다시 저장하여 실패한 항목만 dead-letter 로 옮기는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("Stream 저장 - 제약 위반 항목만 dead-letter 로 이동하고 나머지 저장")
+	void deadLetterConstraintViolation() {
+		// given
+		MapRecord<String, Object, Object> valid = record("1-0", 5L, "안녕하세요");
+		MapRecord<String, Object, Object> orphan = record("2-0", 404L, "안녕하세요");
+		List<MapRecord<String, Object, Object>> records = List.of(valid, orphan);
+		ChatMessageStream.Entry validEntry = ChatMessageStream.Entry.from(valid);
+		ChatMessageStream.Entry orphanEntry = ChatMessageStream.Entry.from(orphan);
+		given(chatMessagePersister.persistStreamed(List.of(validEntry, orphanEntry)))
+			.willThrow(new DataIntegrityViolationException("fk"));
+		given(chatMessagePersister.persistStreamed(List.of(validEntry))).willReturn(1);
+		given(chatMessagePersister.persistStreamed(List.of(orphanEntry)))
+			.willThrow(new DataIntegrityViolationException("fk"));
+
+		// when
+		chatStreamMessageWriter.write(records);
+
+		// then
+		verify(chatMessageStream).deadLetter(eq(orphan), anyString());
+		verify(chatMessageStream, never()).deadLetter(eq(valid), anyString());
+		verify(chatMessageStream).acknowledge(ChatStreamMessageWriter.GROUP, records);
+	}
+
+	/**
+	 * 다른 노드의 미확인 항목을 가져오면 미확인 항목부터 다시 읽도록 알리고, 확인을 마친 항목을 정리하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("Stream 유지 관리 - 미확인 항목 회수 후 정리")
+	void maintainClaimsAndTrims() {
+		// given
+		given(chatMessageStream.claim(eq(ChatStreamMessageWriter.GROUP), eq("node-1"), any())).willReturn(3);
+
+		// when
+		boolean claimed = chatStreamMessageWriter.maintain();
+
+		// then
+		assertThat(claimed).isTrue();
+		verify(chatMessageStream).trim(ChatStreamMessageWriter.GROUP);
+	}
+}
@@ -0,0 +1,94 @@
+package kr.sparta.livechat.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import kr.sparta.livechat.config.ChatRoomAutoCloseProperties;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import kr.sparta.livechat.repository.ChatRoomRepository.ClosedRoomRow;
+
+/**
+ * IdleChatRoomCloserTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link IdleChatRoomCloser}
+ * lease 를 선점한 경우에만 대상이 없을 때까지 묶음 단위로 종료하고 lease 를 해제하는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class IdleChatRoomCloserTest {
+
+	private static final String TOKEN = "token";
+
+	@Mock
+	ChatRoomRepository chatRoomRepository;
+
+	@Mock
+	ChatRoomBulkCloser chatRoomBulkCloser;
+
+	@Mock
+	RedisLeaseService redisLeaseService;
+
+	private IdleChatRoomCloser idleChatRoomCloser;
+
+	@BeforeEach
+	void setUp() {
+		ChatRoomAutoCloseProperties properties = new ChatRoomAutoCloseProperties(true, 60, 300000, 2, 60000);
+		idleChatRoomCloser = new IdleChatRoomCloser(properties, chatRoomRepository, chatRoomBulkCloser,
+			redisLeaseService);
+	}
+
+	/**
+	 * 다른 노드가 lease 를 보유 중이면 채팅방을 조회하지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("자동 종료 - lease 선점 실패 시 실행하지 않음")
+	void skipWithoutLease() {
+		// given
+		given(redisLeaseService.tryAcquire(anyString(), any())).willReturn(null);
+
+		// when
+		idleChatRoomCloser.closeIdleRooms();
+
+		// then
+		verifyNoInteractions(chatRoomRepository, chatRoomBulkCloser);
+		verify(redisLeaseService, never()).release(anyString(), anyString());
+	}
+
+	/**
+	 * 이전 묶음의 마지막 식별자 이후로 이어서 조회하며 묶음마다 lease 를 연장하고, 완료 후 해제하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("자동 종료 - 대상이 없을 때까지 묶음 단위 종료")
+	void closeInChunks() {
+		// given
+		given(redisLeaseService.tryAcquire(anyString(), any())).willReturn(TOKEN);
+		given(redisLeaseService.renew(anyString(), eq(TOKEN), any())).willReturn(true);
+		given(chatRoomRepository.findIdleRoomIds(any(), eq(0L), any())).willReturn(List.of(1L, 2L));
+		given(chatRoomRepository.findIdleRoomIds(any(), eq(2L), any())).willReturn(List.of(3L));
+		given(chatRoomRepository.findIdleRoomIds(any(), eq(3L), any())).willReturn(List.of());
+
+		ClosedRoomRow room1 = mock(ClosedRoomRow.class);
+		ClosedRoomRow room3 = mock(ClosedRoomRow.class);
+		given(chatRoomBulkCloser.closeIdle(eq(List.of(1L, 2L)), any())).willReturn(List.of(room1));
+		given(chatRoomBulkCloser.closeIdle(eq(List.of(3L)), any())).willReturn(List.of(room3));
+
+		// when
+		idleChatRoomCloser.closeIdleRooms();
+
+		// then
+		verify(chatRoomBulkCloser, times(2)).closeIdle(anyList(), any());
+		verify(redisLeaseService, times(2)).renew(anyString(), eq(TOKEN), any());
+		verify(redisLeaseService).release(anyString(), eq(TOKEN));
+	}
+}
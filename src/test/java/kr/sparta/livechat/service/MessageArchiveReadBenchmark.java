@@ -0,0 +1,91 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import kr.sparta.livechat.archive.ArchivedMessage;
+import kr.sparta.livechat.archive.LocalMessageArchiveStorage;
+import kr.sparta.livechat.archive.MessageSegment;
+import kr.sparta.livechat.config.MessageArchiveProperties;
+import kr.sparta.livechat.domain.role.MessageType;
+
+/**
+ * MessageArchiveReadBenchmark 벤치마크 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link MessageArchiveService}
+ * 메시지 100만 건이 보관된 채팅방을 최신부터 끝까지 커서로 조회하는 시간을 측정합니다.
+ * 기본 테스트에서는 제외되며 {@code ./gradlew benchmark}로 실행합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+@Tag("benchmark")
+class MessageArchiveReadBenchmark {
+
+	private static final Long ROOM_ID = 1L;
+	private static final int MESSAGE_COUNT = 1_000_000;
+	private static final int PAGE_SIZE = 50;
+
+	@TempDir
+	Path archiveDir;
+
+	@Test
+	@DisplayName("벤치마크 - 100만 건 보관 채팅방 전체 페이지 조회")
+	void pageThroughArchivedRoom() {
+		// given
+		MessageArchiveProperties properties = new MessageArchiveProperties(true, 30, "local", archiveDir.toString(),
+			null, null, 256, 100, 3600000, 600000);
+		LocalMessageArchiveStorage storage = new LocalMessageArchiveStorage(properties);
+		writeSegment(storage, properties.getBlockMessages());
+		MessageArchiveService service = new MessageArchiveService(properties, storage, null, null, null);
+
+		// warm-up
+		page(service, MESSAGE_COUNT / 10);
+
+		// when
+		long started = System.nanoTime();
+		int pages = page(service, MESSAGE_COUNT);
+		long elapsed = System.nanoTime() - started;
+
+		// then
+		System.out.printf("archived room paging: messages=%d, pages=%d, totalMs=%d, usPerPage=%.1f%n",
+			MESSAGE_COUNT, pages, elapsed / 1_000_000, elapsed / 1_000.0 / pages);
+		assertThat(pages).isEqualTo(MESSAGE_COUNT / PAGE_SIZE);
+	}
+
+	private int page(MessageArchiveService service, int messages) {
+		Long cursor = null;
+		int read = 0;
+		int pages = 0;
+		while (read < messages) {
+			List<ArchivedMessage> page = service.readBefore(ROOM_ID, cursor, PAGE_SIZE);
+			if (page.isEmpty()) {
+				break;
+			}
+			read += page.size();
+			pages++;
+			cursor = page.get(page.size() - 1).id();
+		}
+		return pages;
+	}
+
+	private void writeSegment(LocalMessageArchiveStorage storage, int blockMessages) {
+		MessageSegment.Writer writer = new MessageSegment.Writer(blockMessages);
+		LocalDateTime sentAt = LocalDateTime.now().minusDays(60);
+		for (long id = 1; id <= MESSAGE_COUNT; id++) {
+			writer.add(new ArchivedMessage(id, id % 2 + 1, MessageType.TEXT,
+				"보관 메시지 " + id + " 배송 문의드립니다", sentAt.plusSeconds(id)));
+		}
+		storage.write(MessageSegment.dataKey(ROOM_ID), writer.data());
+		storage.write(MessageSegment.indexKey(ROOM_ID), writer.index().toBytes());
+	}
+}
@@ -0,0 +1,142 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.LongStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import kr.sparta.livechat.archive.ArchivedMessage;
+import kr.sparta.livechat.archive.LocalMessageArchiveStorage;
+import kr.sparta.livechat.config.MessageArchiveProperties;
+import kr.sparta.livechat.domain.entity.ChatRoomArchive;
+import kr.sparta.livechat.domain.role.MessageType;
+import kr.sparta.livechat.repository.ChatRoomArchiveRepository;
+import kr.sparta.livechat.repository.MessageReadRepository;
+import kr.sparta.livechat.repository.MessageRepository;
+import kr.sparta.livechat.repository.MessageRepository.MessageDocument;
+
+/**
+ * MessageArchiveServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link MessageArchiveService}
+ * 채팅방 메시지를 블록 단위 세그먼트로 보관한 뒤 메시지 행을 삭제하고, 커서/페이지 기준으로 최신순 조회되는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class MessageArchiveServiceTest {
+
+	private static final Long ROOM_ID = 7L;
+
+	@TempDir
+	Path archiveDir;
+
+	@Mock
+	ChatRoomArchiveRepository chatRoomArchiveRepository;
+
+	@Mock
+	MessageRepository messageRepository;
+
+	@Mock
+	MessageReadRepository messageReadRepository;
+
+	private MessageArchiveService messageArchiveService;
+
+	@BeforeEach
+	void setUp() {
+		MessageArchiveProperties properties = new MessageArchiveProperties(true, 30, "local", archiveDir.toString(),
+			null, null, 4, 100, 3600000, 600000);
+		messageArchiveService = new MessageArchiveService(properties, new LocalMessageArchiveStorage(properties),
+			chatRoomArchiveRepository, messageRepository, messageReadRepository);
+	}
+
+	@Test
+	@DisplayName("보관 - 세그먼트 저장 후 읽음 기록과 메시지 삭제")
+	void archive() {
+		// given
+		archiveTenMessages();
+
+		// then
+		ArgumentCaptor<ChatRoomArchive> captor = ArgumentCaptor.forClass(ChatRoomArchive.class);
+		verify(chatRoomArchiveRepository).save(captor.capture());
+		assertThat(captor.getValue().getMessageCount()).isEqualTo(10);
+		assertThat(captor.getValue().getBlockCount()).isEqualTo(3);
+		verify(messageReadRepository).deleteByRoomId(ROOM_ID);
+		verify(messageRepository).deleteByRoomId(ROOM_ID);
+	}
+
+	@Test
+	@DisplayName("보관 - 이미 보관된 채팅방은 건너뜀")
+	void skipArchived() {
+		// given
+		given(chatRoomArchiveRepository.existsById(ROOM_ID)).willReturn(true);
+
+		// when
+		long archived = messageArchiveService.archive(ROOM_ID);
+
+		// then
+		assertThat(archived).isZero();
+		verifyNoInteractions(messageRepository, messageReadRepository);
+	}
+
+	@Test
+	@DisplayName("조회 - 커서 이전 메시지를 블록을 넘어 최신순 조회")
+	void readBefore() {
+		// given
+		archiveTenMessages();
+
+		// when & then
+		assertThat(ids(messageArchiveService.readBefore(ROOM_ID, null, 3))).containsExactly(10L, 9L, 8L);
+		assertThat(ids(messageArchiveService.readBefore(ROOM_ID, 8L, 4))).containsExactly(7L, 6L, 5L, 4L);
+		assertThat(ids(messageArchiveService.readBefore(ROOM_ID, 3L, 10))).containsExactly(2L, 1L);
+	}
+
+	@Test
+	@DisplayName("조회 - 최신순 offset 페이지 조회")
+	void readPage() {
+		// given
+		archiveTenMessages();
+
+		// when & then
+		assertThat(ids(messageArchiveService.readPage(ROOM_ID, 3, 3))).containsExactly(7L, 6L, 5L);
+		assertThat(ids(messageArchiveService.readPage(ROOM_ID, 9, 3))).containsExactly(1L);
+		assertThat(messageArchiveService.readPage(ROOM_ID, 10, 3)).isEmpty();
+	}
+
+	private void archiveTenMessages() {
+		List<MessageDocument> documents = LongStream.rangeClosed(1, 10)
+			.mapToObj(id -> document(id, "메시지 " + id))
+			.toList();
+		given(messageRepository.findDocumentsByRoomIdAfter(eq(ROOM_ID), eq(0L), any())).willReturn(documents);
+		given(messageRepository.findDocumentsByRoomIdAfter(eq(ROOM_ID), eq(10L), any())).willReturn(List.of());
+		messageArchiveService.archive(ROOM_ID);
+	}
+
+	private List<Long> ids(List<ArchivedMessage> messages) {
+		return messages.stream().map(ArchivedMessage::id).toList();
+	}
+
+	private MessageDocument document(Long id, String content) {
+		MessageDocument document = mock(MessageDocument.class);
+		given(document.getId()).willReturn(id);
+		given(document.getWriterId()).willReturn(1L);
+		given(document.getType()).willReturn(MessageType.TEXT);
+		given(document.getContent()).willReturn(content);
+		given(document.getSentAt()).willReturn(LocalDateTime.now());
+		return document;
+	}
+}
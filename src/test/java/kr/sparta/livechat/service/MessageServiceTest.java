@@ -51,6 +51,9 @@ public class MessageServiceTest {
 	@Mock
 	private ChatRoomParticipantRepository participantRepository;
 
+	@Mock
+	private MessageArchiveService messageArchiveService;
+
 	/**
 	 * 메시지 목록 조회 케이스를 검증합니다. 최초 목록 조회 시를 기준으로 검증조건을 잘 통과하는지를 점검합니다.
 	 */
@@ -0,0 +1,149 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.sparta.livechat.config.OutboxProperties;
+import kr.sparta.livechat.domain.entity.OutboxEvent;
+import kr.sparta.livechat.domain.event.OutboxEventAppendedEvent;
+import kr.sparta.livechat.domain.role.OutboxEventType;
+import kr.sparta.livechat.repository.OutboxEventRepository;
+import kr.sparta.livechat.repository.OutboxPartitionRepository;
+
+/**
+ * OutboxServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link OutboxService}
+ * 채팅방별 파티션 기록과, 파티션 잠금을 얻은 경우에만 식별자 순 묶음을 전달한 뒤 삭제하는지 검증합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboxServiceTest {
+
+	private static final int PARTITION_NO = 3;
+
+	@Mock
+	OutboxEventRepository outboxEventRepository;
+
+	@Mock
+	OutboxPartitionRepository outboxPartitionRepository;
+
+	@Mock
+	OutboxEventConsumer firstConsumer;
+
+	@Mock
+	OutboxEventConsumer secondConsumer;
+
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
+	private OutboxService outboxService;
+
+	@BeforeEach
+	void setUp() {
+		outboxService = new OutboxService(new OutboxProperties(16, 4, 2, 1000), outboxEventRepository,
+			outboxPartitionRepository, List.of(firstConsumer, secondConsumer), eventPublisher,
+			Jackson2ObjectMapperBuilder.json().build());
+	}
+
+	private OutboxEvent event(long id) {
+		OutboxEvent event = OutboxEvent.of(PARTITION_NO, 19L, OutboxEventType.MESSAGE, "{}");
+		ReflectionTestUtils.setField(event, "id", id);
+		return event;
+	}
+
+	/**
+	 * 채팅방 식별자로 정해진 파티션에 JSON 본문을 기록하고 커밋 알림 이벤트를 발행하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("기록 - 채팅방 파티션에 JSON 본문 저장")
+	void appendToRoomPartition() {
+		// given
+		ArgumentCaptor<OutboxEvent> captor = ArgumentCaptor.forClass(OutboxEvent.class);
+
+		// when
+		outboxService.append(19L, OutboxEventType.MESSAGE, Map.of("event", "MESSAGE"));
+
+		// then
+		verify(outboxEventRepository).save(captor.capture());
+		assertThat(captor.getValue().getPartitionNo()).isEqualTo(PARTITION_NO);
+		assertThat(captor.getValue().getPayload()).isEqualTo("{\"event\":\"MESSAGE\"}");
+		verify(eventPublisher).publishEvent(any(OutboxEventAppendedEvent.class));
+	}
+
+	/**
+	 * 다른 트랜잭션이 파티션을 처리 중이면 이벤트를 읽지 않고 건너뛰는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("전송 - 파티션 잠금 실패 시 건너뜀")
+	void skipLockedPartition() {
+		// given
+		given(outboxPartitionRepository.tryLock(PARTITION_NO)).willReturn(Optional.empty());
+
+		// when
+		int relayed = outboxService.relay(PARTITION_NO);
+
+		// then
+		assertThat(relayed).isZero();
+		verifyNoInteractions(outboxEventRepository, firstConsumer, secondConsumer);
+	}
+
+	/**
+	 * 묶음을 모든 소비자에게 차례로 전달한 뒤 전달한 이벤트만 삭제하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("전송 - 소비자 전달 후 삭제")
+	void relayThenDelete() {
+		// given
+		List<OutboxEvent> events = List.of(event(1L), event(2L));
+		given(outboxPartitionRepository.tryLock(PARTITION_NO)).willReturn(Optional.of(PARTITION_NO));
+		given(outboxEventRepository.findBatch(eq(PARTITION_NO), any())).willReturn(events);
+
+		// when
+		int relayed = outboxService.relay(PARTITION_NO);
+
+		// then
+		assertThat(relayed).isEqualTo(2);
+		InOrder inOrder = inOrder(firstConsumer, secondConsumer, outboxEventRepository);
+		inOrder.verify(firstConsumer).consume(events);
+		inOrder.verify(secondConsumer).consume(events);
+		inOrder.verify(outboxEventRepository).deleteAllByIdInBatch(List.of(1L, 2L));
+	}
+
+	/**
+	 * 소비자가 실패하면 이벤트를 삭제하지 않아 다음 전송에서 다시 전달되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("전송 - 소비자 실패 시 삭제하지 않음")
+	void keepEventsWhenConsumerFails() {
+		// given
+		List<OutboxEvent> events = List.of(event(1L));
+		given(outboxPartitionRepository.tryLock(PARTITION_NO)).willReturn(Optional.of(PARTITION_NO));
+		given(outboxEventRepository.findBatch(eq(PARTITION_NO), any())).willReturn(events);
+		willThrow(new IllegalStateException("broker down")).given(firstConsumer).consume(events);
+
+		// when & then
+		assertThatThrownBy(() -> outboxService.relay(PARTITION_NO)).isInstanceOf(IllegalStateException.class);
+		verify(outboxEventRepository, never()).deleteAllByIdInBatch(any());
+		verifyNoInteractions(secondConsumer);
+	}
+}
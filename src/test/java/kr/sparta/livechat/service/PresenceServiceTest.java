@@ -0,0 +1,155 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+
+import kr.sparta.livechat.config.PresenceProperties;
+import kr.sparta.livechat.domain.role.ChatRoomStatus;
+import kr.sparta.livechat.dto.socket.PresenceEventResponse;
+import kr.sparta.livechat.repository.ChatRoomParticipantRepository;
+import kr.sparta.livechat.repository.ChatRoomParticipantRepository.RoomMember;
+import kr.sparta.livechat.socket.OutboundPriority;
+import kr.sparta.livechat.socket.SessionRegistry;
+import kr.sparta.livechat.socket.UserPresenceEvent;
+
+/**
+ * PresenceServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link PresenceService}
+ * 재연결 flapping 억제와 채팅방 단위 변경분 전송을 검증합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class PresenceServiceTest {
+
+	private static final Long USER_ID = 10L;
+	private static final Long ROOM_ID = 1L;
+
+	@Mock
+	SessionRegistry sessionRegistry;
+
+	@Mock
+	ChatRoomParticipantRepository participantRepository;
+
+	@Mock
+	SimpMessagingTemplate messagingTemplate;
+
+	@Mock
+	ObjectProvider<RedisPresenceStore> redisPresenceStoreProvider;
+
+	private PresenceService presenceServiceWith(long gracePeriodMs) {
+		PresenceProperties properties = new PresenceProperties(gracePeriodMs, 1000, false, 10000, 30000);
+		PresenceService presenceService = new PresenceService(sessionRegistry, participantRepository,
+			messagingTemplate, properties, redisPresenceStoreProvider);
+		presenceService.init();
+		return presenceService;
+	}
+
+	private RoomMember member(Long roomId, Long userId) {
+		return new RoomMember() {
+			@Override
+			public Long getRoomId() {
+				return roomId;
+			}
+
+			@Override
+			public Long getUserId() {
+				return userId;
+			}
+		};
+	}
+
+	/**
+	 * 첫 연결 시 참여 중인 채팅방에 online 변경분이 한 번에 전송되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("접속 - 참여 채팅방에 online 변경분 전송")
+	void flushOnlineDiff() {
+		// given
+		PresenceService presenceService = presenceServiceWith(5000);
+		given(participantRepository.findRoomMembersByUserIds(anyCollection(), eq(ChatRoomStatus.OPEN)))
+			.willReturn(List.of(member(ROOM_ID, USER_ID)));
+		given(sessionRegistry.countRoomSessions(ROOM_ID)).willReturn(1);
+
+		// when
+		presenceService.onUserPresence(new UserPresenceEvent(USER_ID, true));
+		presenceService.flush();
+
+		// then
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Map<String, Object>> headers = ArgumentCaptor.forClass(Map.class);
+		verify(messagingTemplate).convertAndSend(eq("/sub/chat/room/1"), captor.capture(), headers.capture());
+		PresenceEventResponse response = (PresenceEventResponse)captor.getValue();
+		assertThat(headers.getValue())
+			.containsEntry(OutboundPriority.PRIORITY_HEADER, OutboundPriority.DROPPABLE.name())
+			.containsEntry(OutboundPriority.COALESCE_KEY_HEADER, "presence:1");
+		assertThat(response.getOnline()).containsExactly(USER_ID);
+		assertThat(response.getOffline()).isEmpty();
+		assertThat(response.isSnapshot()).isFalse();
+	}
+
+	/**
+	 * 유예 시간 안에 재연결하면 오프라인/온라인 변경이 전송되지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("재연결 - 유예 시간 안의 flapping 은 전송하지 않음")
+	void suppressFlapping() {
+		// given
+		PresenceService presenceService = presenceServiceWith(5000);
+		presenceService.onUserPresence(new UserPresenceEvent(USER_ID, true));
+		given(participantRepository.findRoomMembersByUserIds(anyCollection(), eq(ChatRoomStatus.OPEN)))
+			.willReturn(List.of());
+		presenceService.flush();
+
+		// when
+		presenceService.onUserPresence(new UserPresenceEvent(USER_ID, false));
+		presenceService.onUserPresence(new UserPresenceEvent(USER_ID, true));
+		presenceService.flush();
+
+		// then
+		verify(participantRepository, times(1)).findRoomMembersByUserIds(anyCollection(), any());
+		verify(messagingTemplate, never()).convertAndSend(anyString(), any(Object.class), anyMap());
+	}
+
+	/**
+	 * 유예 시간이 지나도록 재연결하지 않으면 offline 변경분이 전송되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("연결 종료 - 유예 시간 경과 후 offline 변경분 전송")
+	void flushOfflineAfterGracePeriod() {
+		// given
+		PresenceService presenceService = presenceServiceWith(0);
+		given(participantRepository.findRoomMembersByUserIds(anyCollection(), eq(ChatRoomStatus.OPEN)))
+			.willReturn(List.of(member(ROOM_ID, USER_ID)));
+		given(sessionRegistry.countRoomSessions(ROOM_ID)).willReturn(1);
+		presenceService.onUserPresence(new UserPresenceEvent(USER_ID, true));
+		presenceService.flush();
+
+		// when
+		presenceService.onUserPresence(new UserPresenceEvent(USER_ID, false));
+		presenceService.flush();
+
+		// then
+		ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+		verify(messagingTemplate, times(2)).convertAndSend(eq("/sub/chat/room/1"), captor.capture(), anyMap());
+		PresenceEventResponse response = (PresenceEventResponse)captor.getAllValues().get(1);
+		assertThat(response.getOnline()).isEmpty();
+		assertThat(response.getOffline()).containsExactly(USER_ID);
+	}
+}
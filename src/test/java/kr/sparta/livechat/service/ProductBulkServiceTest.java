@@ -0,0 +1,234 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import kr.sparta.livechat.domain.event.ProductsChangedEvent;
+import kr.sparta.livechat.domain.role.ProductImportFormat;
+import kr.sparta.livechat.domain.role.ProductStatus;
+import kr.sparta.livechat.dto.product.BulkProductImportResponse;
+import kr.sparta.livechat.dto.product.BulkProductRowResult;
+import kr.sparta.livechat.dto.product.BulkProductStatusRequest;
+import kr.sparta.livechat.dto.product.BulkProductStatusResponse;
+import kr.sparta.livechat.entity.Role;
+import kr.sparta.livechat.entity.User;
+import kr.sparta.livechat.global.exception.CustomException;
+import kr.sparta.livechat.global.exception.ErrorCode;
+import kr.sparta.livechat.repository.ProductRepository;
+import kr.sparta.livechat.repository.UserRepository;
+import kr.sparta.livechat.service.ProductBulkWriter.ImportRow;
+
+/**
+ * ProductBulkServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link ProductBulkService}
+ * JSON/CSV 본문을 행 단위로 읽어 검증한 뒤 묶음으로 저장을 위임하는 흐름과 상태 일괄 변경을 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductBulkServiceTest {
+
+	@Mock
+	ProductBulkWriter productBulkWriter;
+
+	@Mock
+	ProductRepository productRepository;
+
+	@Mock
+	UserRepository userRepository;
+
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
+	@Spy
+	ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json().build();
+
+	@InjectMocks
+	ProductBulkService productBulkService;
+
+	private void givenSeller(Long sellerId, Role role) {
+		User seller = mock(User.class);
+		given(seller.getRole()).willReturn(role);
+		lenient().when(seller.getId()).thenReturn(sellerId);
+		given(userRepository.findById(sellerId)).willReturn(Optional.of(seller));
+	}
+
+	@SuppressWarnings("unchecked")
+	private void givenWriterCreatesAll() {
+		given(productBulkWriter.insertChunk(eq(1L), anyList())).willAnswer(inv -> ((List<ImportRow>)inv.getArgument(1))
+			.stream()
+			.map(row -> BulkProductRowResult.created(row.row(), row.request().getName(), 100L + row.row()))
+			.toList());
+	}
+
+	private InputStream body(String content) {
+		return new ByteArrayInputStream(content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	@Test
+	@DisplayName("일괄 등록 - JSON 배열의 유효한 행만 저장하고 잘못된 행은 사유와 함께 반환")
+	void importJson() {
+		// given
+		givenSeller(1L, Role.SELLER);
+		givenWriterCreatesAll();
+		String json = """
+			[
+			  {"name": "망치", "price": 1000, "description": "단단한 망치"},
+			  {"name": "", "price": 1000, "description": "이름 없음"},
+			  {"name": "방패", "price": "비쌈", "description": "가격 오류"},
+			  {"name": "도끼", "price": 3000, "description": "날카로운 도끼"}
+			]
+			""";
+
+		// when
+		BulkProductImportResponse response = productBulkService.importProducts(body(json), ProductImportFormat.JSON, 1L);
+
+		// then
+		assertThat(response.isCompleted()).isTrue();
+		assertThat(response.getTotal()).isEqualTo(4);
+		assertThat(response.getCreated()).isEqualTo(2);
+		assertThat(response.getFailed()).isEqualTo(2);
+		assertThat(response.getResults()).extracting(BulkProductRowResult::getRow).containsExactly(1, 2, 3, 4);
+		assertThat(response.getResults()).extracting(BulkProductRowResult::getProductId)
+			.containsExactly(101L, null, null, 104L);
+		assertThat(response.getResults().get(2).getErrorCode()).isEqualTo(ErrorCode.PRODUCT_INVALID_INPUT.getCode());
+		verify(productBulkWriter, times(1)).insertChunk(eq(1L), anyList());
+	}
+
+	@Test
+	@DisplayName("일괄 등록 - CSV 는 BOM 과 따옴표 필드를 읽고 묶음 크기마다 저장")
+	@SuppressWarnings("unchecked")
+	void importCsvInChunks() {
+		// given
+		givenSeller(1L, Role.SELLER);
+		givenWriterCreatesAll();
+		StringBuilder csv = new StringBuilder("\uFEFFname,price,description\n");
+		csv.append("\"망치, 대형\",1000,\"\"\"토르\"\"의 망치\"\n");
+		for (int i = 2; i <= ProductBulkService.CHUNK_SIZE + 1; i++) {
+			csv.append("상품").append(i).append(",1000,설명\n");
+		}
+
+		// when
+		BulkProductImportResponse response =
+			productBulkService.importProducts(body(csv.toString()), ProductImportFormat.CSV, 1L);
+
+		// then
+		assertThat(response.getCreated()).isEqualTo(ProductBulkService.CHUNK_SIZE + 1);
+		ArgumentCaptor<List<ImportRow>> chunks = ArgumentCaptor.forClass(List.class);
+		verify(productBulkWriter, times(2)).insertChunk(eq(1L), chunks.capture());
+		ImportRow first = chunks.getAllValues().get(0).get(0);
+		assertThat(first.request().getName()).isEqualTo("망치, 대형");
+		assertThat(first.request().getDescription()).isEqualTo("\"토르\"의 망치");
+		assertThat(chunks.getAllValues().get(1)).hasSize(1);
+	}
+
+	@Test
+	@DisplayName("일괄 등록 실패 - CSV 헤더가 없으면 저장하지 않고 예외")
+	void importCsvWithoutHeader() {
+		// given
+		givenSeller(1L, Role.SELLER);
+
+		// when
+		Throwable thrown = catchThrowable(() ->
+			productBulkService.importProducts(body("망치,1000,설명\n"), ProductImportFormat.CSV, 1L));
+
+		// then
+		assertThat(thrown).isInstanceOf(CustomException.class);
+		assertThat(((CustomException)thrown).getErrorCode()).isEqualTo(ErrorCode.PRODUCT_IMPORT_INVALID_FILE);
+		verifyNoInteractions(productBulkWriter);
+	}
+
+	@Test
+	@DisplayName("일괄 등록 - JSON 형식이 중간에 깨지면 이전 행까지만 저장하고 미완료로 반환")
+	void importMalformedJson() {
+		// given
+		givenSeller(1L, Role.SELLER);
+		givenWriterCreatesAll();
+
+		// when
+		BulkProductImportResponse response = productBulkService.importProducts(
+			body("[{\"name\": \"망치\", \"price\": 1000, \"description\": \"설명\"}, {\"name\": "),
+			ProductImportFormat.JSON, 1L);
+
+		// then
+		assertThat(response.isCompleted()).isFalse();
+		assertThat(response.getCreated()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("일괄 등록 실패 - 판매자가 아니면 본문을 읽지 않고 예외")
+	void importByBuyer() {
+		// given
+		givenSeller(2L, Role.BUYER);
+
+		// when
+		Throwable thrown = catchThrowable(() ->
+			productBulkService.importProducts(body("[]"), ProductImportFormat.JSON, 2L));
+
+		// then
+		assertThat(thrown).isInstanceOf(CustomException.class);
+		assertThat(((CustomException)thrown).getErrorCode()).isEqualTo(ErrorCode.PRODUCT_ACCESS_DENIED);
+		verifyNoInteractions(productBulkWriter);
+	}
+
+	@Test
+	@DisplayName("상태 일괄 변경 - 소유한 상품만 한 번에 변경하고 나머지는 찾을 수 없음으로 반환")
+	void updateStatus() {
+		// given
+		givenSeller(1L, Role.SELLER);
+		given(productRepository.findOwnedIds(eq(1L), anyCollection(), eq(ProductStatus.DELETED)))
+			.willReturn(List.of(10L, 12L));
+		BulkProductStatusRequest request = new BulkProductStatusRequest(List.of(10L, 11L, 12L, 10L),
+			ProductStatus.SOLDOUT);
+
+		// when
+		BulkProductStatusResponse response = productBulkService.updateStatus(request, 1L);
+
+		// then
+		assertThat(response.getUpdated()).isEqualTo(2);
+		assertThat(response.getUpdatedIds()).containsExactly(10L, 12L);
+		assertThat(response.getNotFoundIds()).containsExactly(11L);
+		verify(productRepository).updateStatusByIdIn(eq(List.of(10L, 12L)), eq(ProductStatus.SOLDOUT), any(),
+			eq(ProductStatus.DELETED));
+		ArgumentCaptor<ProductsChangedEvent> event = ArgumentCaptor.forClass(ProductsChangedEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertThat(event.getValue().getProductIds()).containsExactly(10L, 12L);
+	}
+
+	@Test
+	@DisplayName("상태 일괄 변경 실패 - 삭제 상태로는 변경할 수 없음")
+	void updateStatusToDeleted() {
+		// given
+		BulkProductStatusRequest request = new BulkProductStatusRequest(List.of(10L), ProductStatus.DELETED);
+
+		// when
+		Throwable thrown = catchThrowable(() -> productBulkService.updateStatus(request, 1L));
+
+		// then
+		assertThat(thrown).isInstanceOf(CustomException.class);
+		assertThat(((CustomException)thrown).getErrorCode()).isEqualTo(ErrorCode.PRODUCT_INVALID_INPUT);
+		verifyNoInteractions(productRepository);
+	}
+}
@@ -0,0 +1,112 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+
+import kr.sparta.livechat.domain.event.ProductsChangedEvent;
+import kr.sparta.livechat.dto.product.BulkProductRowResult;
+import kr.sparta.livechat.dto.product.CreateProductRequest;
+import kr.sparta.livechat.global.exception.ErrorCode;
+import kr.sparta.livechat.repository.ProductJdbcRepository;
+import kr.sparta.livechat.repository.ProductRepository;
+import kr.sparta.livechat.repository.ProductRepository.ProductIdName;
+import kr.sparta.livechat.service.ProductBulkWriter.ImportRow;
+
+/**
+ * ProductBulkWriterTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link ProductBulkWriter}
+ * 묶음 단위 중복 검사, 한 번의 INSERT, 생성 식별자 매핑과 이벤트 발행을 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductBulkWriterTest {
+
+	@Mock
+	ProductRepository productRepository;
+
+	@Mock
+	ProductJdbcRepository productJdbcRepository;
+
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
+	@InjectMocks
+	ProductBulkWriter productBulkWriter;
+
+	@Test
+	@DisplayName("묶음 저장 - 기존 상품명과 묶음 안 중복은 제외하고 나머지를 한 번에 저장")
+	@SuppressWarnings("unchecked")
+	void insertChunk() {
+		// given
+		List<ImportRow> rows = List.of(
+			new ImportRow(1, new CreateProductRequest("망치", 1000, "설명")),
+			new ImportRow(2, new CreateProductRequest("방패", 2000, "설명")),
+			new ImportRow(3, new CreateProductRequest("망치", 1500, "설명")),
+			new ImportRow(4, new CreateProductRequest("도끼", 3000, "설명")));
+		given(productRepository.findNamesBySellerIdAndNameIn(eq(1L), anyCollection())).willReturn(List.of("방패"));
+		given(productRepository.findIdsBySellerIdAndNameIn(eq(1L), anyCollection()))
+			.willReturn(List.of(idName(20L, "망치"), idName(21L, "도끼")));
+
+		// when
+		List<BulkProductRowResult> results = productBulkWriter.insertChunk(1L, rows);
+
+		// then
+		ArgumentCaptor<List<CreateProductRequest>> inserted = ArgumentCaptor.forClass(List.class);
+		verify(productJdbcRepository).insertAll(eq(1L), inserted.capture(), any(LocalDateTime.class));
+		assertThat(inserted.getValue()).extracting(CreateProductRequest::getName).containsExactly("망치", "도끼");
+
+		assertThat(results).extracting(BulkProductRowResult::getProductId).containsExactly(20L, null, null, 21L);
+		assertThat(results.get(1).getErrorCode()).isEqualTo(ErrorCode.PRODUCT_ALREADY_EXISTS.getCode());
+		assertThat(results.get(2).getErrorCode()).isEqualTo(ErrorCode.PRODUCT_ALREADY_EXISTS.getCode());
+
+		ArgumentCaptor<ProductsChangedEvent> event = ArgumentCaptor.forClass(ProductsChangedEvent.class);
+		verify(eventPublisher).publishEvent(event.capture());
+		assertThat(event.getValue().getProductIds()).containsExactlyInAnyOrder(20L, 21L);
+	}
+
+	@Test
+	@DisplayName("묶음 저장 - 모두 중복이면 INSERT 와 이벤트 없이 실패 결과만 반환")
+	void insertChunkAllDuplicated() {
+		// given
+		List<ImportRow> rows = List.of(new ImportRow(1, new CreateProductRequest("망치", 1000, "설명")));
+		given(productRepository.findNamesBySellerIdAndNameIn(eq(1L), anyCollection())).willReturn(List.of("망치"));
+
+		// when
+		List<BulkProductRowResult> results = productBulkWriter.insertChunk(1L, rows);
+
+		// then
+		assertThat(results).hasSize(1);
+		assertThat(results.get(0).isCreated()).isFalse();
+		verifyNoInteractions(productJdbcRepository, eventPublisher);
+	}
+
+	private ProductIdName idName(Long id, String name) {
+		return new ProductIdName() {
+			@Override
+			public Long getId() {
+				return id;
+			}
+
+			@Override
+			public String getName() {
+				return name;
+			}
+		};
+	}
+}
@@ -0,0 +1,264 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.junit.jupiter.MockitoSettings;
+import org.mockito.quality.Strictness;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.sparta.livechat.config.ProductCacheProperties;
+import kr.sparta.livechat.domain.entity.Product;
+import kr.sparta.livechat.domain.event.ProductChangedEvent;
+import kr.sparta.livechat.domain.role.ProductStatus;
+import kr.sparta.livechat.dto.product.GetProductDetailResponse;
+import kr.sparta.livechat.entity.User;
+
+/**
+ * ProductCacheTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link ProductCache}
+ * Redis 는 mock 으로 대체하고 로컬 캐시, single-flight, 무효화 동작을 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+@MockitoSettings(strictness = Strictness.LENIENT)
+class ProductCacheTest {
+
+	@Mock
+	private StringRedisTemplate redisTemplate;
+
+	@Mock
+	private ValueOperations<String, String> valueOperations;
+
+	@Mock
+	private SetOperations<String, String> setOperations;
+
+	@Mock
+	private RedisMessageListenerContainer listenerContainer;
+
+	private SimpleMeterRegistry meterRegistry;
+	private ProductCache productCache;
+
+	@BeforeEach
+	void setUp() {
+		given(redisTemplate.opsForValue()).willReturn(valueOperations);
+		given(redisTemplate.opsForSet()).willReturn(setOperations);
+		given(valueOperations.multiGet(anyList())).willReturn(Arrays.asList(null, null));
+		meterRegistry = new SimpleMeterRegistry();
+		productCache = new ProductCache(
+			new ProductCacheProperties(true, 10000, 100, 300000, 60000, 5, 100),
+			redisTemplate, listenerContainer, meterRegistry, Jackson2ObjectMapperBuilder.json().build());
+	}
+
+	private GetProductDetailResponse detail(Long productId, String name) {
+		User seller = mock(User.class);
+		given(seller.getId()).willReturn(1L);
+		Product product = mock(Product.class);
+		given(product.getId()).willReturn(productId);
+		given(product.getName()).willReturn(name);
+		given(product.getPrice()).willReturn(1000);
+		given(product.getSeller()).willReturn(seller);
+		given(product.getStatus()).willReturn(ProductStatus.ONSALE);
+		given(product.getCreatedAt()).willReturn(LocalDateTime.of(2026, 10, 19, 12, 0));
+		return GetProductDetailResponse.from(product);
+	}
+
+	private double count(String result) {
+		return meterRegistry.counter("livechat.product.cache.requests", "cache", "detail", "result", result).count();
+	}
+
+	@Test
+	@DisplayName("Redis 와 로컬 캐시가 비어 있으면 DB 에서 읽어 두 단계에 저장하고, 다음 조회는 로컬에서 반환")
+	void getDetail_MissThenLocalHit() {
+		// given
+		AtomicInteger loads = new AtomicInteger();
+		GetProductDetailResponse loaded = detail(1L, "상품");
+
+		// when
+		GetProductDetailResponse first = productCache.getDetail(1L, () -> {
+			loads.incrementAndGet();
+			return loaded;
+		});
+		GetProductDetailResponse second = productCache.getDetail(1L, () -> {
+			loads.incrementAndGet();
+			return loaded;
+		});
+
+		// then
+		assertThat(first).isSameAs(loaded);
+		assertThat(second).isSameAs(loaded);
+		assertThat(loads.get()).isEqualTo(1);
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("product:cache:version", "product:detail:1")),
+			eq("0"), anyString(), eq("300000"));
+		assertThat(count("miss")).isEqualTo(1);
+		assertThat(count("local")).isEqualTo(1);
+		assertThat(meterRegistry.get("livechat.product.cache.hit.ratio").tag("cache", "detail").gauge().value())
+			.isEqualTo(0.5);
+	}
+
+	@Test
+	@DisplayName("Redis 에 저장된 값이 있으면 DB 를 읽지 않고 JSON 을 복원해 반환")
+	void getDetail_RedisHit() throws Exception {
+		// given
+		String json = Jackson2ObjectMapperBuilder.json().build().writeValueAsString(detail(1L, "상품"));
+		given(valueOperations.multiGet(List.of("product:detail:1", "product:cache:version")))
+			.willReturn(Arrays.asList(json, "3"));
+
+		// when
+		GetProductDetailResponse result = productCache.getDetail(1L, () -> {
+			throw new AssertionError("DB 를 조회하면 안 됩니다.");
+		});
+
+		// then
+		assertThat(result.getProductId()).isEqualTo(1L);
+		assertThat(result.getName()).isEqualTo("상품");
+		assertThat(result.getCreatedAt()).isEqualTo(LocalDateTime.of(2026, 10, 19, 12, 0));
+		assertThat(count("redis")).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("같은 상품을 동시에 조회하면 DB 는 한 번만 읽고 나머지 요청은 그 결과를 공유")
+	void getDetail_SingleFlight() throws Exception {
+		// given
+		GetProductDetailResponse loaded = detail(1L, "상품");
+		AtomicInteger loads = new AtomicInteger();
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+
+		// when
+		List<Future<GetProductDetailResponse>> results = new ArrayList<>();
+		results.add(executor.submit(() -> productCache.getDetail(1L, () -> {
+			loads.incrementAndGet();
+			loading.countDown();
+			awaitQuietly(release);
+			return loaded;
+		})));
+		loading.await(5, TimeUnit.SECONDS);
+		for (int i = 0; i < 7; i++) {
+			results.add(executor.submit(() -> productCache.getDetail(1L, () -> {
+				loads.incrementAndGet();
+				return loaded;
+			})));
+		}
+		Thread.sleep(100);
+		release.countDown();
+
+		// then
+		for (Future<GetProductDetailResponse> result : results) {
+			assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(loaded);
+		}
+		assertThat(loads.get()).isEqualTo(1);
+		executor.shutdownNow();
+	}
+
+	@Test
+	@DisplayName("상품이 변경되면 로컬 캐시와 Redis 의 상세, 목록 페이지를 무효화하고 다른 노드에 알림")
+	@SuppressWarnings("unchecked")
+	void onProductChanged_Evicts() {
+		// given
+		AtomicReference<GetProductDetailResponse> current = new AtomicReference<>(detail(1L, "변경 전"));
+		productCache.getDetail(1L, current::get);
+		given(setOperations.members("product:list:keys")).willReturn(Set.of("product:list:0:20"));
+
+		// when
+		productCache.onProductChanged(new ProductChangedEvent(1L, ProductStatus.SOLDOUT));
+		current.set(detail(1L, "변경 후"));
+		GetProductDetailResponse result = productCache.getDetail(1L, current::get);
+
+		// then
+		assertThat(result.getName()).isEqualTo("변경 후");
+		ArgumentCaptor<Collection<String>> keys = ArgumentCaptor.forClass(Collection.class);
+		InOrder inOrder = inOrder(valueOperations, redisTemplate);
+		inOrder.verify(valueOperations).increment("product:cache:version");
+		inOrder.verify(redisTemplate).delete(keys.capture());
+		assertThat(keys.getValue()).containsExactlyInAnyOrder(
+			"product:list:0:20", "product:list:keys", "product:detail:1");
+		verify(redisTemplate).convertAndSend("product:cache:invalidate", "1");
+	}
+
+	@Test
+	@DisplayName("Redis 를 사용할 수 없어도 DB 조회 결과를 반환")
+	void getDetail_RedisDown() {
+		// given
+		given(valueOperations.multiGet(anyList())).willThrow(new RedisConnectionFailureException("down"));
+		GetProductDetailResponse loaded = detail(1L, "상품");
+
+		// when
+		GetProductDetailResponse result = productCache.getDetail(1L, () -> loaded);
+
+		// then
+		assertThat(result).isSameAs(loaded);
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+	}
+
+	@Test
+	@DisplayName("DB 에서 읽은 값은 Redis 를 조회할 때 함께 읽은 캐시 버전이 그대로일 때만 저장")
+	void getDetail_WritesWithReadVersion() {
+		// given
+		given(valueOperations.multiGet(List.of("product:detail:1", "product:cache:version")))
+			.willReturn(Arrays.asList(null, "7"));
+		given(redisTemplate.execute(any(RedisScript.class), anyList(), any(Object[].class))).willReturn(0L);
+		GetProductDetailResponse loaded = detail(1L, "상품");
+
+		// when
+		GetProductDetailResponse result = productCache.getDetail(1L, () -> loaded);
+
+		// then
+		assertThat(result).isSameAs(loaded);
+		verify(redisTemplate).execute(any(RedisScript.class), eq(List.of("product:cache:version", "product:detail:1")),
+			eq("7"), anyString(), eq("300000"));
+	}
+
+	@Test
+	@DisplayName("캐시 대상이 아닌 뒤쪽 목록 페이지는 캐시를 거치지 않음")
+	void getList_DeepPageBypassesCache() {
+		// when
+		productCache.getList(5, 20, () -> null);
+
+		// then
+		verifyNoInteractions(valueOperations);
+		verify(redisTemplate, never()).execute(any(RedisScript.class), anyList(), any(Object[].class));
+	}
+
+	private static void awaitQuietly(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
@@ -0,0 +1,137 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import kr.sparta.livechat.config.ChatRoomAutoCloseProperties;
+import kr.sparta.livechat.domain.event.ProductChangedEvent;
+import kr.sparta.livechat.domain.event.ProductsChangedEvent;
+import kr.sparta.livechat.domain.role.ProductStatus;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import kr.sparta.livechat.repository.ChatRoomRepository.ClosedRoomRow;
+
+/**
+ * ProductChatRoomCloserTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link ProductChatRoomCloser}
+ * 판매 완료/삭제된 상품의 OPEN 채팅방을 묶음 단위로 종료하고, 그 외 상태 변경은 무시하는지 검증합니다.
+ * </p>
+ *
+ * @author 재원
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class ProductChatRoomCloserTest {
+
+	@Mock
+	ChatRoomRepository chatRoomRepository;
+
+	@Mock
+	ChatRoomBulkCloser chatRoomBulkCloser;
+
+	private ExecutorService executor;
+	private ProductChatRoomCloser productChatRoomCloser;
+
+	@BeforeEach
+	void setUp() {
+		ChatRoomAutoCloseProperties properties = new ChatRoomAutoCloseProperties(true, 60, 300000, 2, 60000);
+		executor = Executors.newSingleThreadExecutor();
+		productChatRoomCloser = new ProductChatRoomCloser(properties, chatRoomRepository, chatRoomBulkCloser,
+			executor);
+	}
+
+	private void awaitExecutor() throws InterruptedException {
+		executor.shutdown();
+		assertThat(executor.awaitTermination(5, TimeUnit.SECONDS)).isTrue();
+	}
+
+	/**
+	 * 이전 묶음의 마지막 식별자 이후로 이어서 조회하며 대상이 없을 때까지 판매 완료 사유로 종료하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("상품 판매 완료 - OPEN 채팅방을 묶음 단위로 종료")
+	void closeInChunks_Soldout() throws Exception {
+		// given
+		given(chatRoomRepository.findOpenRoomIdsByProductIdIn(eq(List.of(1L)), eq(0L), any()))
+			.willReturn(List.of(10L, 11L));
+		given(chatRoomRepository.findOpenRoomIdsByProductIdIn(eq(List.of(1L)), eq(11L), any()))
+			.willReturn(List.of(12L));
+		given(chatRoomRepository.findOpenRoomIdsByProductIdIn(eq(List.of(1L)), eq(12L), any()))
+			.willReturn(List.of());
+		given(chatRoomBulkCloser.close(anyList(), anyString())).willReturn(List.of(mock(ClosedRoomRow.class)));
+
+		// when
+		productChatRoomCloser.onProductChanged(new ProductChangedEvent(1L, ProductStatus.SOLDOUT));
+		awaitExecutor();
+
+		// then
+		verify(chatRoomBulkCloser).close(List.of(10L, 11L), ProductChatRoomCloser.SOLDOUT_REASON);
+		verify(chatRoomBulkCloser).close(List.of(12L), ProductChatRoomCloser.SOLDOUT_REASON);
+	}
+
+	/**
+	 * 일괄 삭제 이벤트는 상품 묶음 전체를 한 번의 조회 대상으로 삼아 삭제 사유로 종료하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("상품 일괄 삭제 - 여러 상품의 OPEN 채팅방을 함께 종료")
+	void closeForProducts_Deleted() throws Exception {
+		// given
+		given(chatRoomRepository.findOpenRoomIdsByProductIdIn(eq(List.of(1L, 2L)), eq(0L), any()))
+			.willReturn(List.of(10L));
+		given(chatRoomRepository.findOpenRoomIdsByProductIdIn(eq(List.of(1L, 2L)), eq(10L), any()))
+			.willReturn(List.of());
+
+		// when
+		productChatRoomCloser.onProductsChanged(new ProductsChangedEvent(List.of(1L, 2L), ProductStatus.DELETED));
+		awaitExecutor();
+
+		// then
+		verify(chatRoomBulkCloser).close(List.of(10L), ProductChatRoomCloser.DELETED_REASON);
+	}
+
+	/**
+	 * 판매 중으로 변경되는 등 종료 대상이 아닌 상태 변경은 채팅방을 조회하지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("상품 판매 중 변경 - 채팅방을 종료하지 않음")
+	void ignoreOnSale() throws Exception {
+		// when
+		productChatRoomCloser.onProductChanged(new ProductChangedEvent(1L, ProductStatus.ONSALE));
+		awaitExecutor();
+
+		// then
+		verifyNoInteractions(chatRoomRepository, chatRoomBulkCloser);
+	}
+
+	/**
+	 * 묶음 종료 중 예외가 발생하면 남은 묶음을 처리하지 않고 중단하며 예외를 전파하지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("상품 채팅방 종료 실패 - 중단 후 다음 작업에 영향 없음")
+	void stopOnFailure() throws Exception {
+		// given
+		given(chatRoomRepository.findOpenRoomIdsByProductIdIn(eq(List.of(1L)), eq(0L), any()))
+			.willReturn(List.of(10L, 11L));
+		given(chatRoomBulkCloser.close(anyList(), anyString())).willThrow(new IllegalStateException("db"));
+
+		// when
+		productChatRoomCloser.onProductChanged(new ProductChangedEvent(1L, ProductStatus.SOLDOUT));
+		awaitExecutor();
+
+		// then
+		verify(chatRoomRepository).findOpenRoomIdsByProductIdIn(anyList(), anyLong(), any());
+		verify(chatRoomBulkCloser).close(anyList(), anyString());
+	}
+}
@@ -6,6 +6,7 @@ import static org.mockito.BDDMockito.*;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Supplier;
 
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -13,20 +14,26 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.SliceImpl;
 import org.springframework.data.domain.Sort;
 
 import kr.sparta.livechat.domain.entity.Product;
+import kr.sparta.livechat.domain.event.ProductChangedEvent;
 import kr.sparta.livechat.domain.role.ProductStatus;
 import kr.sparta.livechat.dto.product.CreateProductRequest;
 import kr.sparta.livechat.dto.product.CreateProductResponse;
 import kr.sparta.livechat.dto.product.GetProductDetailResponse;
+import kr.sparta.livechat.dto.product.GetProductFeedResponse;
 import kr.sparta.livechat.dto.product.GetProductListResponse;
 import kr.sparta.livechat.dto.product.PatchProductRequest;
 import kr.sparta.livechat.dto.product.PatchProductResponse;
+import kr.sparta.livechat.dto.product.ProductFeedCondition;
+import kr.sparta.livechat.dto.product.ProductFeedCursor;
 import kr.sparta.livechat.dto.product.ProductListItem;
 import kr.sparta.livechat.entity.Role;
 import kr.sparta.livechat.entity.User;
@@ -54,9 +61,33 @@ public class ProductServiceTest {
 	@Mock
 	UserRepository userRepository;
 
+	@Mock
+	ProductCache productCache;
+
+	@Mock
+	ApplicationEventPublisher eventPublisher;
+
 	@InjectMocks
 	ProductService productService;
 
+	/**
+	 * 상품 목록 캐시가 비어 있어 조회 함수를 그대로 실행하는 상황을 준비합니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private void givenListCacheMiss() {
+		given(productCache.getList(anyInt(), anyInt(), any(Supplier.class)))
+			.willAnswer(inv -> ((Supplier<GetProductListResponse>)inv.getArgument(2)).get());
+	}
+
+	/**
+	 * 상품 상세 캐시가 비어 있어 조회 함수를 그대로 실행하는 상황을 준비합니다.
+	 */
+	@SuppressWarnings("unchecked")
+	private void givenDetailCacheMiss() {
+		given(productCache.getDetail(anyLong(), any(Supplier.class)))
+			.willAnswer(inv -> ((Supplier<GetProductDetailResponse>)inv.getArgument(1)).get());
+	}
+
 	/**
 	 * 상품 등록 성공 시나리오를 검증합니다.
 	 * 판매자 조회 성공 -> SELLER 권한 검증 -> 중복 상품 없음 -> 저장 호출 -> 응답 DTO 반환
@@ -184,6 +215,7 @@ public class ProductServiceTest {
 	@DisplayName("상품 목록 조회 성공 케이스")
 	void SuccessCaseGetProductList() {
 		//given
+		givenListCacheMiss();
 		int page = 0;
 		int size = 20;
 
@@ -265,6 +297,7 @@ public class ProductServiceTest {
 	@DisplayName("상품 목록 조회 - 범위를 벗어난 페이지 요청 케이스 검증")
 	void GetProductList_OutOfRangePage() {
 		//given
+		givenListCacheMiss();
 		int page = 5;
 		int size = 20;
 
@@ -290,6 +323,110 @@ public class ProductServiceTest {
 		verify(productRepository).findAllByStatusNot(eq(ProductStatus.DELETED), any(Pageable.class));
 	}
 
+	private Product feedProduct(Long productId, LocalDateTime createdAt) {
+		User seller = mock(User.class);
+		given(seller.getId()).willReturn(1L);
+		Product product = mock(Product.class);
+		given(product.getId()).willReturn(productId);
+		given(product.getName()).willReturn("상품" + productId);
+		given(product.getPrice()).willReturn(1000);
+		given(product.getSeller()).willReturn(seller);
+		given(product.getStatus()).willReturn(ProductStatus.ONSALE);
+		given(product.getCreatedAt()).willReturn(createdAt);
+		return product;
+	}
+
+	/**
+	 * 상품 피드 첫 페이지 조회 시 마지막 상품으로 다음 커서를 만들고, 전체 개수는 조회하지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("상품 피드 조회 성공 - 첫 페이지와 다음 커서")
+	void GetProductFeed_FirstPage() {
+		//given
+		LocalDateTime createdAt = LocalDateTime.of(2026, 10, 19, 12, 0);
+		Product p1 = feedProduct(2L, createdAt);
+		Product p2 = feedProduct(1L, createdAt);
+		ProductFeedCondition condition = new ProductFeedCondition(ProductStatus.ONSALE, 1L, 500, 2000);
+
+		given(productRepository.findFeed(ProductStatus.DELETED, ProductStatus.ONSALE, 1L, 500, 2000,
+			PageRequest.of(0, 2)))
+			.willReturn(new SliceImpl<>(List.of(p1, p2), PageRequest.of(0, 2), true));
+
+		//when
+		GetProductFeedResponse res = productService.getProductFeed(condition, null, 2, false);
+
+		//then
+		assertThat(res.getSize()).isEqualTo(2);
+		assertThat(res.isHasNext()).isTrue();
+		assertThat(res.getTotalElements()).isNull();
+		assertThat(res.getProductList().size()).isEqualTo(2);
+		assertThat(ProductFeedCursor.decode(res.getNextCursor())).isEqualTo(new ProductFeedCursor(createdAt, 1L));
+
+		verify(productRepository, never()).countFeed(any(), any(), any(), any(), any());
+	}
+
+	/**
+	 * 커서가 주어지면 커서의 등록 시각과 식별자 이후를 조회하고, 요청 시 전체 개수를 함께 반환하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("상품 피드 조회 성공 - 커서 이후 조회와 전체 개수 포함")
+	void GetProductFeed_AfterCursor() {
+		//given
+		LocalDateTime createdAt = LocalDateTime.of(2026, 10, 19, 12, 0, 0, 123456000);
+		String cursor = new ProductFeedCursor(createdAt, 10L).encode();
+		ProductFeedCondition condition = new ProductFeedCondition(null, null, null, null);
+
+		given(productRepository.findFeedAfter(ProductStatus.DELETED, null, null, null, null, createdAt, 10L,
+			PageRequest.of(0, 20)))
+			.willReturn(new SliceImpl<>(List.of(), PageRequest.of(0, 20), false));
+		given(productRepository.countFeed(ProductStatus.DELETED, null, null, null, null)).willReturn(10L);
+
+		//when
+		GetProductFeedResponse res = productService.getProductFeed(condition, cursor, null, true);
+
+		//then
+		assertThat(res.getSize()).isEqualTo(20);
+		assertThat(res.isHasNext()).isFalse();
+		assertThat(res.getNextCursor()).isNull();
+		assertThat(res.getTotalElements()).isEqualTo(10L);
+	}
+
+	/**
+	 * 형식이 잘못된 커서는 페이징 오류로 처리하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("상품 피드 조회 실패 - 잘못된 커서")
+	void GetProductFeed_InvalidCursor() {
+		//given
+		ProductFeedCondition condition = new ProductFeedCondition(null, null, null, null);
+
+		//when
+		Throwable thrown = catchThrowable(() -> productService.getProductFeed(condition, "not-a-cursor", 20, false));
+
+		//then
+		assertThat(thrown).isInstanceOf(CustomException.class);
+		assertThat(((CustomException)thrown).getErrorCode()).isEqualTo(ErrorCode.COMMON_BAD_PAGINATION);
+		verifyNoInteractions(productRepository);
+	}
+
+	/**
+	 * 최소 가격이 최대 가격보다 크면 입력값 오류로 처리하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("상품 피드 조회 실패 - 가격 범위 오류")
+	void GetProductFeed_InvalidPriceRange() {
+		//given
+		ProductFeedCondition condition = new ProductFeedCondition(null, null, 5000, 1000);
+
+		//when
+		Throwable thrown = catchThrowable(() -> productService.getProductFeed(condition, null, 20, false));
+
+		//then
+		assertThat(thrown).isInstanceOf(CustomException.class);
+		assertThat(((CustomException)thrown).getErrorCode()).isEqualTo(ErrorCode.PRODUCT_INVALID_INPUT);
+		verifyNoInteractions(productRepository);
+	}
+
 	/**
 	 * 상품 상세 조회 성공 케이스를 검증합니다.
 	 * productId 유효성 검증 -> 응답 매핑 DTO 반환
@@ -298,6 +435,7 @@ public class ProductServiceTest {
 	@DisplayName("상품 상세 조회 성공 케이스")
 	void SuccessCaseGetProductDetail() {
 		//given
+		givenDetailCacheMiss();
 		Long productId = 1L;
 		LocalDateTime createdAt = LocalDateTime.parse("2025-12-09T14:06:47");
 
@@ -359,6 +497,7 @@ public class ProductServiceTest {
 	@DisplayName("상품 상세 조회 실패 - 상품이 존재하지 않음")
 	void FailCaseGetProductDetail_ProductNotFound() {
 		//given
+		givenDetailCacheMiss();
 		Long productId = 999L;
 		given(productRepository.findByIdAndStatusNot(productId, ProductStatus.DELETED))
 			.willReturn(Optional.empty());
@@ -422,7 +561,7 @@ public class ProductServiceTest {
 
 		verify(userRepository).findById(sellerId);
 		verify(productRepository).findById(productId);
-
+		verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
 	}
 
 	/**
@@ -567,6 +706,7 @@ public class ProductServiceTest {
 		verify(userRepository).findById(sellerId);
 		verify(productRepository).findById(productId);
 		verify(product).delete();
+		verify(eventPublisher).publishEvent(any(ProductChangedEvent.class));
 	}
 
 	/**
@@ -0,0 +1,56 @@
+package kr.sparta.livechat.service;
+
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.SessionCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import kr.sparta.livechat.config.PresenceProperties;
+
+/**
+ * RedisPresenceStoreTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link RedisPresenceStore}
+ * heartbeat 로 온라인 사용자 ZSET 에 다시 추가된 사용자만 온라인 전환을 알리는지 검증합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class RedisPresenceStoreTest {
+
+	@Mock
+	StringRedisTemplate redisTemplate;
+
+	@Mock
+	RedisMessageListenerContainer listenerContainer;
+
+	/**
+	 * 다른 노드의 정리 작업으로 제거된 사용자가 heartbeat 로 다시 추가되면 온라인을 알리는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("heartbeat - 온라인 ZSET 에 다시 추가된 사용자만 온라인 전환 전파")
+	void heartbeatPublishesReAddedUsers() {
+		// given
+		RedisPresenceStore store = new RedisPresenceStore(redisTemplate, listenerContainer,
+			new PresenceProperties(5000, 1000, true, 10000, 30000));
+		given(redisTemplate.executePipelined(any(SessionCallback.class)))
+			.willReturn(List.of(false, true, true, false, true, false));
+
+		// when
+		store.heartbeat(List.of(1L, 2L));
+
+		// then
+		verify(redisTemplate).convertAndSend("presence:events", "1:1");
+		verify(redisTemplate, never()).convertAndSend("presence:events", "2:1");
+	}
+}
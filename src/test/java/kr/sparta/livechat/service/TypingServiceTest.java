@@ -0,0 +1,111 @@
+package kr.sparta.livechat.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import kr.sparta.livechat.config.TypingProperties;
+import kr.sparta.livechat.dto.socket.TypingEventResponse;
+import kr.sparta.livechat.dto.socket.TypingRequest;
+import kr.sparta.livechat.global.exception.WsCustomException;
+import kr.sparta.livechat.global.exception.WsErrorCode;
+import kr.sparta.livechat.repository.ChatRoomParticipantRepository;
+import kr.sparta.livechat.repository.ChatRoomRepository;
+import kr.sparta.livechat.socket.OutboundPriority;
+
+/**
+ * TypingServiceTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link TypingService}
+ * 입력중 이벤트가 DB를 조회하지 않고, 사용자/채팅방 단위로 전송 간격이 제한되는지 검증합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class TypingServiceTest {
+
+	private static final Long ROOM_ID = 1L;
+	private static final Long USER_ID = 10L;
+
+	@Mock
+	ChatRoomRepository chatRoomRepository;
+
+	@Mock
+	ChatRoomParticipantRepository chatRoomParticipantRepository;
+
+	@Mock
+	SimpMessagingTemplate messagingTemplate;
+
+	private TypingService typingService;
+
+	@BeforeEach
+	void setUp() {
+		SocketService socketService = new SocketService(chatRoomRepository, chatRoomParticipantRepository);
+		socketService.addParticipant(ROOM_ID, USER_ID);
+		typingService = new TypingService(socketService, messagingTemplate, new TypingProperties(2000, 250));
+	}
+
+	private TypingRequest request(Long roomId, boolean typing) {
+		TypingRequest request = new TypingRequest();
+		ReflectionTestUtils.setField(request, "roomId", roomId);
+		ReflectionTestUtils.setField(request, "typing", typing);
+		return request;
+	}
+
+	/**
+	 * 짧은 시간에 입력중 이벤트가 대량으로 들어와도 DB 조회 없이 1건만 전송되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("입력중 - 1000건 연속 전송 시 DB 조회 0회, 브로드캐스트 1회")
+	void typingBurstWithoutDatabase() {
+		// given
+		TypingRequest request = request(ROOM_ID, true);
+
+		// when
+		for (int i = 0; i < 1000; i++) {
+			typingService.typing(USER_ID, request);
+		}
+		typingService.flushTrailing();
+
+		// then
+		verifyNoInteractions(chatRoomRepository, chatRoomParticipantRepository);
+
+		ArgumentCaptor<Object> payload = ArgumentCaptor.forClass(Object.class);
+		@SuppressWarnings("unchecked")
+		ArgumentCaptor<Map<String, Object>> headers = ArgumentCaptor.forClass(Map.class);
+		verify(messagingTemplate, times(1)).convertAndSend(eq("/sub/chat/room/1"), payload.capture(), headers.capture());
+		assertThat(((TypingEventResponse)payload.getValue()).isTyping()).isTrue();
+		assertThat(headers.getValue())
+			.containsEntry(OutboundPriority.PRIORITY_HEADER, OutboundPriority.DROPPABLE.name());
+	}
+
+	/**
+	 * 캐시에 없는 사용자의 입력중 이벤트는 DB를 조회하지 않고 거부하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("입력중 - 캐시에 없는 참여자는 DB 조회 없이 FORBIDDEN")
+	void rejectUncachedParticipant() {
+		// given
+		TypingRequest request = request(2L, true);
+
+		// when & then
+		assertThatThrownBy(() -> typingService.typing(USER_ID, request))
+			.isInstanceOf(WsCustomException.class)
+			.extracting("errorCode")
+			.isEqualTo(WsErrorCode.FORBIDDEN);
+		verifyNoInteractions(chatRoomRepository, chatRoomParticipantRepository, messagingTemplate);
+	}
+}
@@ -0,0 +1,59 @@
+package kr.sparta.livechat.socket;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.web.socket.WebSocketExtension;
+
+import kr.sparta.livechat.config.WebSocketTransportProperties;
+
+/**
+ * CompressionHandshakeHandlerTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link CompressionHandshakeHandler}
+ * 압축 설정에 따라 permessage-deflate 확장만 협상 결과에서 제외하는지 검증합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+class CompressionHandshakeHandlerTest {
+
+	private static final List<WebSocketExtension> EXTENSIONS = List.of(
+		new WebSocketExtension("permessage-deflate"),
+		new WebSocketExtension("x-custom")
+	);
+
+	private List<String> negotiate(boolean compressionEnabled) {
+		CompressionHandshakeHandler handler =
+			new CompressionHandshakeHandler(new WebSocketTransportProperties(compressionEnabled, 1024, 0.0));
+		return handler.filterRequestedExtensions(mock(ServerHttpRequest.class), EXTENSIONS, EXTENSIONS).stream()
+			.map(WebSocketExtension::getName)
+			.toList();
+	}
+
+	/**
+	 * 압축을 허용하면 요청한 확장을 그대로 협상하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("확장 협상 - 압축 허용 시 permessage-deflate 포함")
+	void negotiateDeflateWhenEnabled() {
+		// when & then
+		assertThat(negotiate(true)).containsExactly("permessage-deflate", "x-custom");
+	}
+
+	/**
+	 * 압축을 끄면 permessage-deflate 만 제외하고 나머지 확장은 유지하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("확장 협상 - 압축 비허용 시 permessage-deflate 제외")
+	void dropDeflateWhenDisabled() {
+		// when & then
+		assertThat(negotiate(false)).containsExactly("x-custom");
+	}
+}
@@ -0,0 +1,186 @@
+package kr.sparta.livechat.socket;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.sparta.livechat.config.WebSocketBackpressureProperties;
+import kr.sparta.livechat.global.exception.WsErrorCode;
+
+/**
+ * OutboundBackpressureMonitorTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link OutboundBackpressureMonitor}
+ * highWatermark 3, lowWatermark 1 기준으로 정책별 동작을 검증합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+@ExtendWith(MockitoExtension.class)
+class OutboundBackpressureMonitorTest {
+
+	private static final String SESSION_ID = "session-1";
+
+	private OutboundBackpressureMonitor monitorWith(SlowConsumerPolicy policy) {
+		WebSocketBackpressureProperties properties =
+			new WebSocketBackpressureProperties(3, 1, policy, 1000, 1024);
+		SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+		return new OutboundBackpressureMonitor(properties, new SessionRegistry(meterRegistry, event -> {
+		}), meterRegistry);
+	}
+
+	private WebSocketSession connect(OutboundBackpressureMonitor monitor, WebSocketSession rawSession)
+		throws Exception {
+		WebSocketHandler handler = mock(WebSocketHandler.class);
+		monitor.decorate(handler).afterConnectionEstablished(rawSession);
+
+		ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+		verify(handler).afterConnectionEstablished(captor.capture());
+		return captor.getValue();
+	}
+
+	private Message<byte[]> outbound(boolean droppable, String coalesceKey) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setSessionId(SESSION_ID);
+		accessor.setDestination("/sub/chat/room/1");
+		if (droppable) {
+			accessor.setNativeHeader(OutboundPriority.PRIORITY_HEADER, OutboundPriority.DROPPABLE.name());
+			accessor.setNativeHeader(OutboundPriority.COALESCE_KEY_HEADER, coalesceKey);
+		}
+		return MessageBuilder.createMessage(new byte[] {1}, accessor.getMessageHeaders());
+	}
+
+	/**
+	 * 지연 상태에서 폐기 가능한 이벤트는 버리고, 메시지 이벤트는 그대로 전송하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("DROP_NON_CRITICAL - 지연 세션의 폐기 가능 이벤트만 버림")
+	void dropNonCriticalWhenLagging() throws Exception {
+		// given
+		OutboundBackpressureMonitor monitor = monitorWith(SlowConsumerPolicy.DROP_NON_CRITICAL);
+		WebSocketSession rawSession = mock(WebSocketSession.class);
+		given(rawSession.getId()).willReturn(SESSION_ID);
+		connect(monitor, rawSession);
+		MessageChannel channel = mock(MessageChannel.class);
+
+		for (int i = 0; i < 3; i++) {
+			monitor.preSend(outbound(false, null), channel);
+		}
+
+		// when
+		Message<?> typing = monitor.preSend(outbound(true, "typing:1:10"), channel);
+		Message<?> chat = monitor.preSend(outbound(false, null), channel);
+
+		// then
+		assertThat(typing).isNull();
+		assertThat(chat).isNotNull();
+		assertThat(monitor.snapshot()).singleElement()
+			.satisfies(stats -> assertThat(stats.isLagging()).isTrue());
+	}
+
+	/**
+	 * 지연 상태에서 같은 키의 이벤트는 최신 1건만 보관했다가, 복구 시 전송하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("COALESCE - 복구 시 키별 최신 이벤트 1건만 전송")
+	void coalesceAndFlushOnRecovery() throws Exception {
+		// given
+		OutboundBackpressureMonitor monitor = monitorWith(SlowConsumerPolicy.COALESCE);
+		WebSocketSession rawSession = mock(WebSocketSession.class);
+		given(rawSession.getId()).willReturn(SESSION_ID);
+		WebSocketSession tracked = connect(monitor, rawSession);
+		MessageChannel channel = mock(MessageChannel.class);
+
+		for (int i = 0; i < 3; i++) {
+			monitor.preSend(outbound(false, null), channel);
+		}
+		Message<byte[]> older = outbound(true, "typing:1:10");
+		Message<byte[]> latest = outbound(true, "typing:1:10");
+		assertThat(monitor.preSend(older, channel)).isNull();
+		assertThat(monitor.preSend(latest, channel)).isNull();
+
+		// when
+		tracked.sendMessage(new TextMessage("a"));
+		tracked.sendMessage(new TextMessage("b"));
+
+		// then
+		verify(channel).send(latest);
+		verify(channel, never()).send(older);
+		assertThat(monitor.snapshot()).singleElement()
+			.satisfies(stats -> assertThat(stats.isLagging()).isFalse());
+	}
+
+	/**
+	 * 전송이 실패한 프레임도 미전송 수에서 빠져 세션이 지연 상태로 남지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("전송 실패 - 미전송 수를 줄이고 지연 상태에서 복구")
+	void recoverWhenSendFails() throws Exception {
+		// given
+		OutboundBackpressureMonitor monitor = monitorWith(SlowConsumerPolicy.DROP_NON_CRITICAL);
+		WebSocketSession rawSession = mock(WebSocketSession.class);
+		given(rawSession.getId()).willReturn(SESSION_ID);
+		willThrow(new IOException("broken pipe")).given(rawSession).sendMessage(any());
+		WebSocketSession tracked = connect(monitor, rawSession);
+		MessageChannel channel = mock(MessageChannel.class);
+
+		for (int i = 0; i < 3; i++) {
+			monitor.preSend(outbound(false, null), channel);
+		}
+
+		// when
+		for (int i = 0; i < 2; i++) {
+			assertThatThrownBy(() -> tracked.sendMessage(new TextMessage("a"))).isInstanceOf(IOException.class);
+		}
+
+		// then
+		assertThat(monitor.snapshot()).singleElement()
+			.satisfies(stats -> {
+				assertThat(stats.getPending()).isEqualTo(1);
+				assertThat(stats.isLagging()).isFalse();
+			});
+	}
+
+	/**
+	 * DISCONNECT 정책에서 임계값을 넘으면 WS_SLOW_CONSUMER 코드로 연결을 종료하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("DISCONNECT - 임계값 초과 시 4006 코드로 연결 종료")
+	void disconnectWhenThresholdExceeded() throws Exception {
+		// given
+		OutboundBackpressureMonitor monitor = monitorWith(SlowConsumerPolicy.DISCONNECT);
+		WebSocketSession rawSession = mock(WebSocketSession.class);
+		given(rawSession.getId()).willReturn(SESSION_ID);
+		connect(monitor, rawSession);
+		MessageChannel channel = mock(MessageChannel.class);
+
+		monitor.preSend(outbound(false, null), channel);
+		monitor.preSend(outbound(false, null), channel);
+
+		// when
+		Message<?> result = monitor.preSend(outbound(false, null), channel);
+
+		// then
+		assertThat(result).isNull();
+		WsErrorCode errorCode = WsErrorCode.SLOW_CONSUMER;
+		verify(rawSession).close(new CloseStatus(errorCode.getStatus(), errorCode.getCode()));
+	}
+}
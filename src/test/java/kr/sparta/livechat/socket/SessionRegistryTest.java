@@ -0,0 +1,211 @@
+package kr.sparta.livechat.socket;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * SessionRegistryTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link SessionRegistry}
+ * 세션 이벤트에 따른 사용자/채팅방 인덱스 갱신과 정리를 검증합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+class SessionRegistryTest {
+
+	private static final Long USER_ID = 10L;
+	private static final Long ROOM_ID = 1L;
+
+	private SessionRegistry sessionRegistry;
+	private SimpleMeterRegistry meterRegistry;
+	private List<Object> publishedEvents;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		publishedEvents = new ArrayList<>();
+		sessionRegistry = new SessionRegistry(meterRegistry, publishedEvents::add);
+	}
+
+	private Message<byte[]> frame(SimpMessageType type, String sessionId, String subscriptionId, String destination) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(type);
+		accessor.setSessionId(sessionId);
+		accessor.setSubscriptionId(subscriptionId);
+		accessor.setDestination(destination);
+		return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+	}
+
+	private void connect(String sessionId) {
+		sessionRegistry.onConnected(new SessionConnectedEvent(this,
+			frame(SimpMessageType.CONNECT_ACK, sessionId, null, null), new CustomPrincipal(USER_ID)));
+	}
+
+	private void disconnect(String sessionId) {
+		sessionRegistry.onDisconnect(new SessionDisconnectEvent(this,
+			frame(SimpMessageType.DISCONNECT, sessionId, null, null), sessionId, CloseStatus.NORMAL,
+			new CustomPrincipal(USER_ID)));
+	}
+
+	private void subscribe(String sessionId, String subscriptionId, Long roomId) {
+		sessionRegistry.onSubscribe(new SessionSubscribeEvent(this,
+			frame(SimpMessageType.SUBSCRIBE, sessionId, subscriptionId, RoomDestination.of(roomId)),
+			new CustomPrincipal(USER_ID)));
+	}
+
+	/**
+	 * 채팅방 구독 시 채팅방 인덱스와 게이지가 갱신되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("구독 - 채팅방 인덱스와 게이지 갱신")
+	void subscribeUpdatesIndexes() {
+		// given
+		connect("s1");
+		connect("s2");
+
+		// when
+		subscribe("s1", "sub-0", ROOM_ID);
+		subscribe("s2", "sub-0", ROOM_ID);
+
+		// then
+		assertThat(sessionRegistry.getUserSessionIds(USER_ID)).containsExactlyInAnyOrder("s1", "s2");
+		assertThat(sessionRegistry.countRoomSessions(ROOM_ID)).isEqualTo(2);
+		assertThat(meterRegistry.get("livechat.ws.sessions").gauge().value()).isEqualTo(2);
+		assertThat(meterRegistry.get("livechat.ws.subscriptions").gauge().value()).isEqualTo(2);
+	}
+
+	/**
+	 * 같은 채팅방을 두 번 구독한 세션은 구독이 모두 해제되어야 채팅방 인덱스에서 제거되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("구독 해제 - 같은 채팅방의 남은 구독이 없을 때만 제거")
+	void unsubscribeKeepsRoomWhileOtherSubscriptionRemains() {
+		// given
+		connect("s1");
+		subscribe("s1", "sub-0", ROOM_ID);
+		subscribe("s1", "sub-1", ROOM_ID);
+
+		// when
+		sessionRegistry.onUnsubscribe(new SessionUnsubscribeEvent(this,
+			frame(SimpMessageType.UNSUBSCRIBE, "s1", "sub-0", null), new CustomPrincipal(USER_ID)));
+
+		// then
+		assertThat(sessionRegistry.countRoomSessions(ROOM_ID)).isEqualTo(1);
+
+		sessionRegistry.onUnsubscribe(new SessionUnsubscribeEvent(this,
+			frame(SimpMessageType.UNSUBSCRIBE, "s1", "sub-1", null), new CustomPrincipal(USER_ID)));
+		assertThat(sessionRegistry.countRoomSessions(ROOM_ID)).isZero();
+		assertThat(sessionRegistry.getSubscribedRoomCount()).isZero();
+	}
+
+	/**
+	 * 연결 종료 시 사용자/채팅방 인덱스가 모두 정리되고, 중복 이벤트에도 안전한지 검증합니다.
+	 */
+	@Test
+	@DisplayName("연결 종료 - 인덱스 정리 및 중복 이벤트 무시")
+	void disconnectCleansUpIndexes() {
+		// given
+		connect("s1");
+		subscribe("s1", "sub-0", ROOM_ID);
+		SessionDisconnectEvent event = new SessionDisconnectEvent(this,
+			frame(SimpMessageType.DISCONNECT, "s1", null, null), "s1", CloseStatus.NORMAL,
+			new CustomPrincipal(USER_ID));
+
+		// when
+		sessionRegistry.onDisconnect(event);
+		sessionRegistry.onDisconnect(event);
+
+		// then
+		assertThat(sessionRegistry.isOnline(USER_ID)).isFalse();
+		assertThat(sessionRegistry.getRoomSessions(ROOM_ID)).isEmpty();
+		assertThat(sessionRegistry.getSessionCount()).isZero();
+		assertThat(sessionRegistry.getSubscriptionCount()).isZero();
+	}
+
+	/**
+	 * 채팅방 제거 시 해당 채팅방의 구독만 반환/정리하고 다른 채팅방 구독은 유지하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("채팅방 제거 - 해당 채팅방 구독만 정리")
+	void removeRoomClearsOnlyItsSubscriptions() {
+		// given
+		connect("s1");
+		connect("s2");
+		subscribe("s1", "sub-0", ROOM_ID);
+		subscribe("s1", "sub-1", 2L);
+		subscribe("s2", "sub-0", ROOM_ID);
+
+		// when
+		List<SessionRegistry.RoomSubscription> removed = sessionRegistry.removeRoom(ROOM_ID);
+
+		// then
+		assertThat(removed).containsExactlyInAnyOrder(
+			new SessionRegistry.RoomSubscription("s1", "sub-0"),
+			new SessionRegistry.RoomSubscription("s2", "sub-0"));
+		assertThat(sessionRegistry.getRoomSessions(ROOM_ID)).isEmpty();
+		assertThat(sessionRegistry.getSubscribedRoomIds("s1")).containsExactly(2L);
+		assertThat(sessionRegistry.getSubscriptionCount()).isEqualTo(1);
+		assertThat(sessionRegistry.removeRoom(ROOM_ID)).isEmpty();
+	}
+
+	/**
+	 * 사용자의 첫 세션 연결과 마지막 세션 종료 시에만 접속 상태 이벤트가 발행되는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("접속 상태 이벤트 - 첫 세션/마지막 세션에서만 발행")
+	void publishPresenceOnlyOnFirstAndLastSession() {
+		// given
+		connect("s1");
+		connect("s2");
+
+		// when
+		disconnect("s1");
+		disconnect("s2");
+
+		// then
+		assertThat(publishedEvents)
+			.map(event -> ((UserPresenceEvent)event).isOnline())
+			.containsExactly(true, false);
+	}
+
+	/**
+	 * 연결 종료 뒤 늦게 도착한 구독 이벤트가 세션을 다시 만들지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("구독 - 등록되지 않은 세션의 구독은 무시")
+	void ignoreSubscribeAfterDisconnect() {
+		// given
+		connect("s1");
+		disconnect("s1");
+
+		// when
+		subscribe("s1", "sub-0", ROOM_ID);
+
+		// then
+		assertThat(sessionRegistry.isOnline(USER_ID)).isFalse();
+		assertThat(sessionRegistry.getSessionCount()).isZero();
+		assertThat(sessionRegistry.getRoomSessions(ROOM_ID)).isEmpty();
+		assertThat(sessionRegistry.getSubscriptionCount()).isZero();
+		assertThat(publishedEvents)
+			.map(event -> ((UserPresenceEvent)event).isOnline())
+			.containsExactly(true, false);
+	}
+}
@@ -0,0 +1,124 @@
+package kr.sparta.livechat.socket;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.BDDMockito.*;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.MessageChannel;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import kr.sparta.livechat.config.WebSocketTransportProperties;
+
+/**
+ * StompFrameMetricsInterceptorTest 테스트 클래스입니다.
+ * <p>
+ * 대상 클래스: {@link StompFrameMetricsInterceptor}
+ * 압축 임계값 100 byte 기준으로 프레임 크기, 임계값 미만 프레임 수, 샘플링한 압축률 기록과
+ * 목적지 태그 정규화를 검증합니다.
+ * </p>
+ *
+ * @author 오정빈
+ * @since 2026. 10. 19.
+ */
+class StompFrameMetricsInterceptorTest {
+
+	private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+	private final MessageChannel channel = mock(MessageChannel.class);
+
+	private StompFrameMetricsInterceptor interceptorWith(double sampleRate) {
+		return new StompFrameMetricsInterceptor(StompFrameMetricsInterceptor.OUTBOUND, meterRegistry,
+			new WebSocketTransportProperties(true, 100, sampleRate));
+	}
+
+	private Message<byte[]> frame(String destination, int size) {
+		SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+		accessor.setDestination(destination);
+		byte[] payload = new byte[size];
+		Arrays.fill(payload, (byte)'a');
+		return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+	}
+
+	/**
+	 * 임계값 미만 프레임은 크기와 비압축 프레임 수만 기록하고, 목적지의 숫자 경로를 {id}로 묶는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("프레임 측정 - 임계값 미만 프레임은 압축률을 측정하지 않음")
+	void recordBelowThreshold() {
+		// given
+		StompFrameMetricsInterceptor interceptor = interceptorWith(1.0);
+
+		// when
+		interceptor.preSend(frame("/sub/chat/rooms/1", 10), channel);
+		interceptor.preSend(frame("/sub/chat/rooms/2", 20), channel);
+
+		// then
+		assertThat(meterRegistry.get("livechat.ws.frame.size")
+			.tags("direction", "outbound", "destination", "/sub/chat/rooms/{id}")
+			.summary().totalAmount()).isEqualTo(30);
+		assertThat(meterRegistry.get("livechat.ws.frame.below.threshold").counter().count()).isEqualTo(2);
+		assertThat(meterRegistry.get("livechat.ws.frame.compression.ratio").summary().count()).isZero();
+	}
+
+	/**
+	 * 임계값 이상 프레임은 샘플링 비율에 따라 deflate 압축률과 소요 시간을 기록하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("프레임 측정 - 임계값 이상 프레임의 압축률 샘플링")
+	void sampleCompressionRatio() {
+		// given
+		StompFrameMetricsInterceptor sampled = interceptorWith(1.0);
+
+		// when
+		sampled.preSend(frame("/sub/chat/rooms/1", 1000), channel);
+
+		// then
+		assertThat(meterRegistry.get("livechat.ws.frame.compression.ratio").summary().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("livechat.ws.frame.compression.ratio").summary().mean()).isLessThan(0.1);
+		assertThat(meterRegistry.get("livechat.ws.frame.compression.time").timer().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("livechat.ws.frame.below.threshold").counter().count()).isZero();
+	}
+
+	/**
+	 * 샘플링 비율이 0이면 임계값 이상 프레임도 크기만 기록하는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("프레임 측정 - 샘플링 비율 0이면 압축률 미측정")
+	void skipWithoutSampling() {
+		// given
+		StompFrameMetricsInterceptor interceptor = interceptorWith(0.0);
+
+		// when
+		interceptor.preSend(frame("/sub/chat/rooms/1", 1000), channel);
+
+		// then
+		assertThat(meterRegistry.get("livechat.ws.frame.size").summary().count()).isEqualTo(1);
+		assertThat(meterRegistry.get("livechat.ws.frame.compression.ratio").summary().count()).isZero();
+	}
+
+	/**
+	 * 목적지 태그가 상한을 넘으면 이후 목적지는 other 태그로 묶어 태그 수가 늘지 않는지 검증합니다.
+	 */
+	@Test
+	@DisplayName("프레임 측정 - 목적지 태그 상한 초과 시 other 로 기록")
+	void limitDestinationTags() {
+		// given
+		StompFrameMetricsInterceptor interceptor = interceptorWith(0.0);
+
+		// when
+		for (int i = 0; i < 40; i++) {
+			interceptor.preSend(frame("/sub/topic-" + i, 10), channel);
+		}
+
+		// then
+		assertThat(meterRegistry.get("livechat.ws.frame.size").summaries()).hasSize(33);
+		assertThat(meterRegistry.get("livechat.ws.frame.size").tag("destination", "other")
+			.summary().count()).isEqualTo(8);
+	}
+}